@@ -0,0 +1,138 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.fire.controller.FireDisplay;
+import de.mossgrabers.controller.push.controller.PushUsbDisplay;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.monochrome.MonochromeBitmap;
+import de.mossgrabers.headless.HeadlessBitmap;
+import de.mossgrabers.headless.HeadlessHost;
+import de.mossgrabers.headless.HeadlessMidiOutput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the conversion of rendered images into the device formats: RGB565 with line padding for
+ * the Push 2 and the 7-bit packed stripes of the Fire OLED from a monochrome bitmap. Two different images are
+ * sent alternately so that the Fire display always has changed stripes to send.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DisplayEncodingBenchmark
+{
+    private HeadlessHost        host;
+    private PushUsbDisplay      pushDisplay;
+    private EncodingFireDisplay fireDisplay;
+    private final IBitmap []    pushImages = new IBitmap [2];
+    private final IBitmap []    fireImages = new IBitmap [2];
+    private int                 counter;
+
+
+    /**
+     * Create the displays and render the test images.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.host = new HeadlessHost ();
+        this.pushDisplay = new PushUsbDisplay (this.host);
+        this.pushDisplay.setMaxFrameRate (0);
+        this.fireDisplay = new EncodingFireDisplay (this.host, new HeadlessMidiOutput ());
+
+        for (int i = 0; i < 2; i++)
+        {
+            this.pushImages[i] = createImage (new HeadlessBitmap (960, 160), 960, 160, i);
+            this.fireImages[i] = createImage (new MonochromeBitmap (128, 64, null), 128, 64, i);
+        }
+    }
+
+
+    /**
+     * Shutdown the displays and the host.
+     */
+    @TearDown
+    public void tearDown ()
+    {
+        this.pushDisplay.shutdown ();
+        this.fireDisplay.shutdown ();
+        this.host.shutdown ();
+    }
+
+
+    /**
+     * Encode a 960x160 image into RGB565 with padding.
+     */
+    @Benchmark
+    public void encodePush2 ()
+    {
+        this.pushDisplay.send (this.pushImages[this.counter++ % 2], true);
+    }
+
+
+    /**
+     * Pack a 128x64 image into the 8 stripes of the Fire OLED and send the changed ones.
+     */
+    @Benchmark
+    public void encodeFire ()
+    {
+        this.fireDisplay.encode (this.fireImages[this.counter++ % 2]);
+    }
+
+
+    private static IBitmap createImage (final IBitmap image, final int width, final int height, final int variant)
+    {
+        image.render (false, gc -> {
+            gc.fillRectangle (0, 0, width, height, ColorEx.BLACK);
+            final int step = width / 16;
+            for (int x = 0; x < width; x += step)
+            {
+                final ColorEx color = (x / step + variant) % 2 == 0 ? ColorEx.WHITE : ColorEx.ORANGE;
+                gc.fillRectangle (x, height / 4.0 * (variant + 1), step / 2.0, height / 4.0, color);
+            }
+        });
+        return image;
+    }
+
+
+    /**
+     * Gives access to the image encoding of the Fire display without rendering the columns.
+     */
+    private static class EncodingFireDisplay extends FireDisplay
+    {
+        EncodingFireDisplay (final IHost host, final IMidiOutput output)
+        {
+            super (host, output, 1024);
+        }
+
+
+        void encode (final IBitmap image)
+        {
+            this.send (image);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.push.PushConfiguration;
+import de.mossgrabers.controller.push.controller.Push2Display;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
+import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.headless.HeadlessHost;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures rendering and sending the Push 2 display with 8 channel or parameter columns. The
+ * values change with every invocation, therefore the image is always rendered again, either fully
+ * or only the changed columns.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GraphicDisplayBenchmark
+{
+    private static final ColorEx [] COLORS =
+    {
+        ColorEx.RED,
+        ColorEx.ORANGE,
+        ColorEx.YELLOW,
+        ColorEx.GREEN,
+        ColorEx.BLUE,
+        ColorEx.PURPLE,
+        ColorEx.PINK,
+        ColorEx.GRAY
+    };
+
+    private HeadlessHost           host;
+    private AbstractGraphicDisplay display;
+    private int                    maxValue;
+    private int                    counter;
+
+
+    /**
+     * Create the display.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.host = new HeadlessHost ();
+        final DefaultValueChanger valueChanger = new DefaultValueChanger (1024, 10);
+        this.maxValue = valueChanger.getUpperBound ();
+        final PushConfiguration configuration = new PushConfiguration (this.host, valueChanger, ArpeggiatorMode.values (), true);
+        this.display = new Push2Display (this.host, this.maxValue, configuration);
+    }
+
+
+    /**
+     * Shutdown the display and the host.
+     */
+    @TearDown
+    public void tearDown ()
+    {
+        this.display.shutdown ();
+        this.host.shutdown ();
+    }
+
+
+    /**
+     * Render and send 8 channel columns (volume, pan, VU).
+     */
+    @Benchmark
+    public void sendChannelColumns ()
+    {
+        this.counter++;
+        for (int i = 0; i < 8; i++)
+        {
+            final int volume = (this.counter * 7 + i * 100) % this.maxValue;
+            final int pan = (this.counter * 3 + i * 50) % this.maxValue;
+            this.display.addChannelElement ("Track " + (i + 1), i == 0, "Menu", ChannelType.AUDIO, COLORS[i], i == 0, volume, volume, Integer.toString (volume), pan, pan, Integer.toString (pan), volume, pan, i == 1, i == 2, i == 3, true, 1);
+        }
+        this.display.send ();
+        this.display.flush ();
+    }
+
+
+    /**
+     * Render and send 8 parameter columns.
+     */
+    @Benchmark
+    public void sendParameterColumns ()
+    {
+        this.counter++;
+        for (int i = 0; i < 8; i++)
+        {
+            final int value = (this.counter * 5 + i * 100) % this.maxValue;
+            this.display.addParameterElement ("Page " + (i + 1), i == 0, "Track " + (i + 1), ChannelType.INSTRUMENT, COLORS[i], false, "Param " + (i + 1), value, Integer.toString (value), true, value);
+        }
+        this.display.send ();
+        this.display.flush ();
+    }
+
+
+    /**
+     * Render and send 8 parameter columns of which only the first one changes, like when a single
+     * value is edited. Only the area of the changed column is rendered again.
+     */
+    @Benchmark
+    public void sendOneChangedColumn ()
+    {
+        this.counter++;
+        for (int i = 0; i < 8; i++)
+        {
+            final int value = i == 0 ? this.counter % this.maxValue : 100;
+            this.display.addParameterElement ("Page " + (i + 1), i == 0, "Track " + (i + 1), ChannelType.INSTRUMENT, COLORS[i], false, "Param " + (i + 1), value, Integer.toString (value), true, value);
+        }
+        this.display.send ();
+        this.display.flush ();
+    }
+
+
+    /**
+     * Send the same 8 parameter columns again. The image is not rendered again.
+     */
+    @Benchmark
+    public void sendUnchanged ()
+    {
+        for (int i = 0; i < 8; i++)
+            this.display.addParameterElement ("Page " + (i + 1), i == 0, "Track " + (i + 1), ChannelType.INSTRUMENT, COLORS[i], false, "Param " + (i + 1), 100, "100", true, 100);
+        this.display.send ();
+        this.display.flush ();
+    }
+}
@@ -0,0 +1,153 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.osc.OSCColorManager;
+import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.controller.osc.module.ActionModule;
+import de.mossgrabers.controller.osc.module.BrowserModule;
+import de.mossgrabers.controller.osc.module.DeviceModule;
+import de.mossgrabers.controller.osc.module.GlobalModule;
+import de.mossgrabers.controller.osc.module.LayoutModule;
+import de.mossgrabers.controller.osc.module.MarkerModule;
+import de.mossgrabers.controller.osc.module.ProjectModule;
+import de.mossgrabers.controller.osc.module.SceneModule;
+import de.mossgrabers.controller.osc.module.TrackModule;
+import de.mossgrabers.controller.osc.module.TransportModule;
+import de.mossgrabers.controller.osc.module.UserModule;
+import de.mossgrabers.controller.osc.protocol.OSCWriter;
+import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
+import de.mossgrabers.framework.daw.DataSetup;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.headless.HeadlessHost;
+import de.mossgrabers.headless.daw.ModelImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the OSC writer with all modules of the OSC controller (except MIDI) on a headless
+ * model. The model is setup like the OSC controller does it.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OSCWriterBenchmark
+{
+    private HeadlessHost host;
+    private IModel       model;
+    private OSCWriter    writer;
+    private int          counter;
+
+
+    /**
+     * Create the model, the writer and the modules.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.host = new HeadlessHost ();
+
+        final DefaultValueChanger valueChanger = new DefaultValueChanger (128, 1);
+        final OSCConfiguration configuration = new OSCConfiguration (this.host, valueChanger, ArpeggiatorMode.values ());
+        final Scales scales = new Scales (valueChanger, 0, 128, 128, 1);
+        scales.setChromatic (true);
+
+        final int bankPageSize = configuration.getBankPageSize ();
+        final ModelSetup ms = new ModelSetup ();
+        ms.enableDevice (DeviceID.FIRST_INSTRUMENT);
+        ms.enableDevice (DeviceID.EQ);
+        ms.setHasFlatTrackList (false);
+        ms.setNumTracks (bankPageSize);
+        ms.setNumScenes (bankPageSize);
+        ms.setNumSends (bankPageSize);
+        ms.setNumDevicesInBank (bankPageSize);
+        ms.setNumDeviceLayers (bankPageSize);
+        ms.setNumParams (bankPageSize);
+        ms.setNumUserPageSize (bankPageSize);
+        ms.setNumMarkers (bankPageSize);
+        this.model = new ModelImpl (ms, new DataSetup (this.host, valueChanger, new OSCColorManager ()), scales);
+
+        this.writer = new OSCWriter (this.host, this.model, this.host.getOSCClient (), configuration);
+        this.writer.registerModule (new TransportModule (this.host, this.model, null, this.writer));
+        this.writer.registerModule (new GlobalModule (this.host, this.model, null, this.writer));
+        this.writer.registerModule (new LayoutModule (this.host, this.model, this.writer));
+        this.writer.registerModule (new MarkerModule (this.host, this.model, this.writer));
+        this.writer.registerModule (new ProjectModule (this.host, this.model, this.writer));
+        this.writer.registerModule (new TrackModule (this.host, this.model, this.writer, configuration));
+        this.writer.registerModule (new SceneModule (this.host, this.model, this.writer));
+        this.writer.registerModule (new DeviceModule (this.host, this.model, this.writer, configuration));
+        this.writer.registerModule (new BrowserModule (this.host, this.model, this.writer));
+        this.writer.registerModule (new UserModule (this.host, this.model, this.writer));
+        this.writer.registerModule (new ActionModule (this.host, this.model, this.writer, configuration));
+
+        this.writer.flush (true);
+    }
+
+
+    /**
+     * Stop the host.
+     */
+    @TearDown
+    public void tearDown ()
+    {
+        this.host.shutdown ();
+    }
+
+
+    /**
+     * Send all values (the dump which is requested by a client on /refresh).
+     */
+    @Benchmark
+    public void flushDump ()
+    {
+        this.writer.flush (true);
+    }
+
+
+    /**
+     * Send only the values which changed since the last flush. Nothing has changed.
+     */
+    @Benchmark
+    public void flushUnchanged ()
+    {
+        this.writer.flush (false);
+    }
+
+
+    /**
+     * Change the volume of a track and send the changed values.
+     */
+    @Benchmark
+    public void flushVolumeChange ()
+    {
+        this.counter++;
+        final ITrack track = this.model.getTrackBank ().getItem (this.counter % 8);
+        track.setVolume (this.counter % 128);
+        this.writer.flush (false);
+    }
+}
@@ -0,0 +1,106 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.launchpad.controller.LaunchpadColorManager;
+import de.mossgrabers.controller.launchpad.controller.LaunchpadPadGrid;
+import de.mossgrabers.controller.launchpad.definition.LaunchpadMkIIControllerDefinition;
+import de.mossgrabers.controller.push.controller.PushColorManager;
+import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.headless.HeadlessMidiOutput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures lighting all 64 pads of a grid and sending the changed states to the device. The plain
+ * pad grid sends a note message per pad, the Launchpad grid collects the changes and sends them
+ * with one SysEx message.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PadGridBenchmark
+{
+    private static final int NUM_PADS = 64;
+
+    private PadGridImpl      pushGrid;
+    private LaunchpadPadGrid launchpadGrid;
+    private int              offset;
+
+
+    /**
+     * Create the pad grids.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.pushGrid = new PadGridImpl (new PushColorManager (true), new HeadlessMidiOutput ());
+        this.launchpadGrid = new LaunchpadPadGrid (new LaunchpadColorManager (), new HeadlessMidiOutput (), new LaunchpadMkIIControllerDefinition ());
+    }
+
+
+    /**
+     * Light all pads of the Push grid with a new color and send the states.
+     */
+    @Benchmark
+    public void lightAndSendPush ()
+    {
+        this.lightAndSend (this.pushGrid);
+    }
+
+
+    /**
+     * Light all pads of the Launchpad grid with a new color and flush the collected states.
+     */
+    @Benchmark
+    public void lightAndFlushLaunchpad ()
+    {
+        this.lightAndSend (this.launchpadGrid);
+        this.launchpadGrid.flush ();
+    }
+
+
+    /**
+     * Light all pads with the same colors as before. Only the comparison with the pad states is
+     * measured since nothing needs to be sent.
+     */
+    @Benchmark
+    public void lightUnchanged ()
+    {
+        final int startNote = this.pushGrid.getStartNote ();
+        for (int i = 0; i < NUM_PADS; i++)
+            this.pushGrid.light (startNote + i, i % 128);
+    }
+
+
+    private void lightAndSend (final PadGridImpl grid)
+    {
+        this.offset = (this.offset + 1) % 128;
+        final int startNote = grid.getStartNote ();
+        for (int i = 0; i < NUM_PADS; i++)
+        {
+            final int note = startNote + i;
+            grid.light (note, (this.offset + i) % 128);
+            grid.sendState (note);
+        }
+    }
+}
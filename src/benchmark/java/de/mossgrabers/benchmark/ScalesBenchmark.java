@@ -0,0 +1,99 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
+import de.mossgrabers.framework.scale.Scale;
+import de.mossgrabers.framework.scale.ScaleLayout;
+import de.mossgrabers.framework.scale.Scales;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the calculation of the note matrix of an 8x8 pad grid, which happens on every change of
+ * the scale, the layout or the octave.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScalesBenchmark
+{
+    /** The scale layout to test. */
+    @Param(
+    {
+        "FOURTH_UP",
+        "THIRD_RIGHT",
+        "EIGHT_UP_CENTER"
+    })
+    public String  layout;
+
+    /** True to test the chromatic mode. */
+    @Param(
+    {
+        "false",
+        "true"
+    })
+    public boolean chromatic;
+
+    private Scales   scales;
+    private Scale [] allScales;
+    private int      counter;
+
+
+    /**
+     * Create the scales like a controller with an 8x8 pad grid does.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.scales = new Scales (new DefaultValueChanger (128, 1), 36, 100, 8, 8);
+        this.scales.setScaleLayout (ScaleLayout.valueOf (this.layout));
+        this.scales.setChromatic (this.chromatic);
+        this.allScales = Scale.values ();
+    }
+
+
+    /**
+     * Get the note matrix of the current settings.
+     *
+     * @return The matrix
+     */
+    @Benchmark
+    public int [] getNoteMatrix ()
+    {
+        return this.scales.getNoteMatrix ();
+    }
+
+
+    /**
+     * Change the scale and get the note matrix.
+     *
+     * @return The matrix
+     */
+    @Benchmark
+    public int [] changeScaleAndGetNoteMatrix ()
+    {
+        this.scales.setScale (this.allScales[this.counter++ % this.allScales.length]);
+        return this.scales.getNoteMatrix ();
+    }
+}
@@ -0,0 +1,122 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.mcu.controller.MCUDisplay;
+import de.mossgrabers.controller.push.PushConfiguration;
+import de.mossgrabers.controller.push.controller.Push1Display;
+import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
+import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.headless.HeadlessHost;
+import de.mossgrabers.headless.HeadlessMidiOutput;
+import de.mossgrabers.headless.HeadlessTextDisplay;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures filling the cells of the text displays of the MCU and Push 1 and flushing the changed
+ * lines to the device.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextDisplayBenchmark
+{
+    private HeadlessHost        host;
+    private AbstractTextDisplay mcuDisplay;
+    private AbstractTextDisplay push1Display;
+    private int                 counter;
+
+
+    /**
+     * Create the displays.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.host = new HeadlessHost ();
+
+        this.mcuDisplay = new MCUDisplay (this.host, new HeadlessMidiOutput (), true, false, false);
+        this.mcuDisplay.setHardwareDisplay (new HeadlessTextDisplay ("MCU", 2));
+
+        final DefaultValueChanger valueChanger = new DefaultValueChanger (1024, 10);
+        final PushConfiguration configuration = new PushConfiguration (this.host, valueChanger, ArpeggiatorMode.values (), false);
+        this.push1Display = new Push1Display (this.host, valueChanger.getUpperBound (), new HeadlessMidiOutput (), configuration);
+        this.push1Display.setHardwareDisplay (new HeadlessTextDisplay ("Push 1", 4));
+    }
+
+
+    /**
+     * Stop the host.
+     */
+    @TearDown
+    public void tearDown ()
+    {
+        this.host.shutdown ();
+    }
+
+
+    /**
+     * Fill all cells of the MCU display with new content and flush it.
+     */
+    @Benchmark
+    public void flushMCUChanged ()
+    {
+        fill (this.mcuDisplay, 2, 8, this.counter++);
+        this.mcuDisplay.flush ();
+    }
+
+
+    /**
+     * Fill all cells of the MCU display with the same content as before and flush it.
+     */
+    @Benchmark
+    public void flushMCUUnchanged ()
+    {
+        fill (this.mcuDisplay, 2, 8, 0);
+        this.mcuDisplay.flush ();
+    }
+
+
+    /**
+     * Fill all cells of the Push 1 display with new content and flush it.
+     */
+    @Benchmark
+    public void flushPush1Changed ()
+    {
+        fill (this.push1Display, 4, 8, this.counter++);
+        this.push1Display.flush ();
+    }
+
+
+    private static void fill (final AbstractTextDisplay display, final int rows, final int columns, final int value)
+    {
+        for (int row = 0; row < rows; row++)
+        {
+            for (int column = 0; column < columns; column++)
+                display.setCell (row, column, Integer.toString ((value + column) % 1000));
+        }
+        display.allDone ();
+    }
+}
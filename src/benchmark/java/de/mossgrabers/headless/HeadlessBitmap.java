@@ -0,0 +1,112 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+import de.mossgrabers.framework.graphics.TextMetricsCache;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * A bitmap which is rendered with Java2D. After rendering the pixels are copied into a block of
+ * native memory with the same layout as the ARGB32 bitmaps of Bitwig (blue, green, red, alpha).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessBitmap implements IBitmap
+{
+    private final BufferedImage    image;
+    private final int []           pixels;
+    private final ByteBuffer       memory;
+    private final TextMetricsCache textMetricsCache = new TextMetricsCache ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     */
+    public HeadlessBitmap (final int width, final int height)
+    {
+        this.image = new BufferedImage (width, height, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) this.image.getRaster ().getDataBuffer ()).getData ();
+        this.memory = ByteBuffer.allocateDirect (width * height * 4).order (ByteOrder.LITTLE_ENDIAN);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void render (final boolean enableAntialias, final IRenderer renderer)
+    {
+        final Graphics2D gc = this.image.createGraphics ();
+        try
+        {
+            final Object antialias = enableAntialias ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF;
+            gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, antialias);
+            gc.setRenderingHint (RenderingHints.KEY_TEXT_ANTIALIASING, enableAntialias ? RenderingHints.VALUE_TEXT_ANTIALIAS_ON : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+            renderer.render (new HeadlessGraphicsContext (gc, enableAntialias, this.textMetricsCache));
+        }
+        finally
+        {
+            gc.dispose ();
+        }
+
+        this.memory.clear ();
+        this.memory.asIntBuffer ().put (this.pixels);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final IEncoder encoder)
+    {
+        final ByteBuffer imageBuffer = this.memory.duplicate ().clear ();
+        encoder.encode (imageBuffer, this.image.getWidth (), this.image.getHeight ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public TextMetricsCache getTextMetricsCache ()
+    {
+        return this.textMetricsCache;
+    }
+
+
+    /**
+     * Get the Java2D image.
+     *
+     * @return The image
+     */
+    public BufferedImage getImage ()
+    {
+        return this.image;
+    }
+}
@@ -0,0 +1,335 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.TextMetricsCache;
+import de.mossgrabers.framework.graphics.TextMetricsCache.ITextMeasurer;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+
+
+/**
+ * Implementation for the graphics context based on Java2D.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessGraphicsContext implements IGraphicsContext
+{
+    private static final Font      BASE_FONT = new Font (Font.SANS_SERIF, Font.PLAIN, 12);
+
+    private final Graphics2D       gc;
+    private final boolean          enableAntialias;
+    private final TextMetricsCache textMetricsCache;
+    private final ITextMeasurer    measurer  = new Measurer ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param gc The Java2D graphics context
+     * @param enableAntialias True to enable antialiasing
+     * @param textMetricsCache The cache for the text measurements
+     */
+    public HeadlessGraphicsContext (final Graphics2D gc, final boolean enableAntialias, final TextMetricsCache textMetricsCache)
+    {
+        this.gc = gc;
+        this.enableAntialias = enableAntialias;
+        this.textMetricsCache = textMetricsCache;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawLine (final double x1, final double y1, final double x2, final double y2, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.setStroke (new BasicStroke (1));
+        this.gc.draw (new Line2D.Double (x1, y1, x2, y2));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRectangle (final double x, final double y, final double width, final double height, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.fill (new Rectangle2D.Double (x, y, Math.max (0, width), Math.max (0, height)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.strokeRectangle (left, top, width, height, color, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color, final double lineWidth)
+    {
+        // Turn off antialias or otherwise we do not get a single line
+        this.gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        this.setColor (color);
+        this.gc.setStroke (new BasicStroke ((float) lineWidth));
+        this.gc.draw (new Rectangle2D.Double (left, top, width, height));
+        this.restoreAntialias ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx backgroundColor)
+    {
+        this.setColor (backgroundColor);
+        this.gc.fill (new RoundRectangle2D.Double (left, top, width, height, 2 * radius, 2 * radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillGradientRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx color1, final ColorEx color2)
+    {
+        this.gc.setPaint (new GradientPaint ((float) left, (float) top, toColor (color1), (float) left, (float) (top + height), toColor (color2)));
+        this.gc.fill (new RoundRectangle2D.Double (left, top, width, height, 2 * radius, 2 * radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx fillColor)
+    {
+        this.setColor (fillColor);
+        this.gc.fill (createTriangle (x1, y1, x2, y2, x3, y3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx lineColor)
+    {
+        this.setColor (lineColor);
+        this.gc.setStroke (new BasicStroke (1));
+        this.gc.draw (createTriangle (x1, y1, x2, y2, x3, y3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillCircle (final double x, final double y, final double radius, final ColorEx fillColor)
+    {
+        final double r = Math.max (0, radius);
+        this.setColor (fillColor);
+        this.gc.fill (new Ellipse2D.Double (x - r, y - r, 2 * r, 2 * r));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInBounds (text, x, y, width, height, alignment, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+
+        this.setFontSize (fontSize);
+
+        // Calculate the text height from a character which has no descent since the text is
+        // always drawn on the baseline of the font
+        final double h = this.textMetricsCache.getTextHeight ("T", fontSize, this.measurer);
+        final double w = this.textMetricsCache.getTextWidth (txt, fontSize, this.measurer);
+        final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
+        final double posY = y + (height + h) / 2;
+
+        final Shape oldClip = this.gc.getClip ();
+        this.gc.clip (new Rectangle2D.Double (x, y, width, height));
+
+        if (backgroundColor != null)
+        {
+            final double inset = 12.0;
+            this.fillRoundedRectangle (posX - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (txt, (float) posX, (float) posY);
+        this.gc.setClip (oldClip);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInHeight (text, x, y, height, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+
+        this.setFontSize (fontSize);
+
+        final double h = this.textMetricsCache.getTextHeight ("T", fontSize, this.measurer);
+        final double posY = y + (height + h) / 2;
+
+        if (backgroundColor != null)
+        {
+            final double w = this.textMetricsCache.getTextWidth (txt, fontSize, this.measurer);
+            final double inset = 12.0;
+            this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (txt, (float) x, (float) posY);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawImage (final IImage icon, final double x, final double y)
+    {
+        this.gc.drawImage (((HeadlessImage) icon).getImage (), (int) Math.round (x), (int) Math.round (y), null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
+    {
+        final BufferedImage image = ((HeadlessImage) icon).getImage ();
+        final BufferedImage masked = new BufferedImage (image.getWidth (), image.getHeight (), BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D maskGC = masked.createGraphics ();
+        maskGC.drawImage (image, 0, 0, null);
+        maskGC.setComposite (AlphaComposite.SrcIn);
+        maskGC.setColor (toColor (maskColor));
+        maskGC.fillRect (0, 0, image.getWidth (), image.getHeight ());
+        maskGC.dispose ();
+        this.gc.drawImage (masked, (int) Math.round (x), (int) Math.round (y), null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+    {
+        return this.textMetricsCache.calculateFontSize (text, maxHeight, maxWidth, minimumFontSize, this.measurer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.setClip (new Rectangle2D.Double (left, top, width, height));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.setClip (null);
+    }
+
+
+    private void setFontSize (final double fontSize)
+    {
+        this.gc.setFont (BASE_FONT.deriveFont ((float) fontSize));
+    }
+
+
+    private void restoreAntialias ()
+    {
+        this.gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, this.enableAntialias ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+    }
+
+
+    private void setColor (final ColorEx color)
+    {
+        this.gc.setColor (toColor (color));
+    }
+
+
+    private static Color toColor (final ColorEx color)
+    {
+        return new Color (clamp (color.getRed ()), clamp (color.getGreen ()), clamp (color.getBlue ()));
+    }
+
+
+    private static float clamp (final double value)
+    {
+        return (float) Math.max (0, Math.min (1, value));
+    }
+
+
+    private static Path2D createTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3)
+    {
+        final Path2D path = new Path2D.Double ();
+        path.moveTo (x1, y1);
+        path.lineTo (x2, y2);
+        path.lineTo (x3, y3);
+        path.closePath ();
+        return path;
+    }
+
+
+    /**
+     * Measures texts with the font of the Java2D graphics context.
+     */
+    private class Measurer implements ITextMeasurer
+    {
+        /** {@inheritDoc} */
+        @Override
+        public double getTextWidth (final String text, final double fontSize)
+        {
+            HeadlessGraphicsContext.this.setFontSize (fontSize);
+            return HeadlessGraphicsContext.this.gc.getFontMetrics ().stringWidth (text);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getTextHeight (final String text, final double fontSize)
+        {
+            HeadlessGraphicsContext.this.setFontSize (fontSize);
+            final Graphics2D g = HeadlessGraphicsContext.this.gc;
+            return g.getFont ().createGlyphVector (g.getFontRenderContext (), text).getVisualBounds ().getHeight ();
+        }
+    }
+}
@@ -0,0 +1,302 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.daw.constants.Capability;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.headless.hardware.HwSurfaceFactoryImpl;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A host which runs without Bitwig. All tasks are executed on a single thread like in the DAW.
+ * Graphics are rendered into in-memory bitmaps, OSC messages are only counted and received with an
+ * in-memory server and USB devices drop all sent data.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessHost implements IHost
+{
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor (runnable -> {
+        final Thread thread = new Thread (runnable, "Headless Host");
+        thread.setDaemon (true);
+        return thread;
+    });
+
+    private final PrintStream              out;
+    private final HeadlessOSCClient        oscClient = new HeadlessOSCClient ();
+    private final AtomicLong               errors    = new AtomicLong ();
+    private volatile String                notification;
+    private HeadlessOSCServer              oscServer;
+
+
+    /**
+     * Constructor. Writes all messages to the console.
+     */
+    public HeadlessHost ()
+    {
+        this (System.out);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param out Where to write the messages and errors to
+     */
+    public HeadlessHost (final PrintStream out)
+    {
+        this.out = out;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Headless";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean supports (final Capability capability)
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scheduleTask (final Runnable task, final long delay)
+    {
+        if (this.executor.isShutdown ())
+            return;
+        this.executor.schedule ( () -> {
+            try
+            {
+                task.run ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.error ("Could not execute task.", ex);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Execute a task on the host thread and wait until it has finished.
+     *
+     * @param task The task to execute
+     */
+    public void execute (final Runnable task)
+    {
+        try
+        {
+            this.executor.submit (task).get ();
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        catch (final Exception ex)
+        {
+            this.error ("Could not execute task.", ex);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text)
+    {
+        this.errors.incrementAndGet ();
+        this.out.println ("ERROR: " + text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text, final Throwable ex)
+    {
+        this.error (text);
+        ex.printStackTrace (this.out);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void println (final String text)
+    {
+        this.out.println (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showNotification (final String message)
+    {
+        this.notification = message;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwSurfaceFactory createSurfaceFactory (final double width, final double height)
+    {
+        return new HwSurfaceFactoryImpl (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    {
+        return this.oscClient;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
+    {
+        this.oscServer = new HeadlessOSCServer (callback);
+        return this.oscServer;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlMessage createOSCMessage (final String address, final List<Object> values)
+    {
+        return new HeadlessOSCMessage (address, values);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseOSC ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IImage loadSVG (final String imageName, final int scale)
+    {
+        return HeadlessImage.loadSVG (imageName, scale);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBitmap createBitmap (final int width, final int height)
+    {
+        return new HeadlessBitmap (width, height);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMemoryBlock createMemoryBlock (final int size)
+    {
+        return new HeadlessMemoryBlock (size);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IUsbDevice getUsbDevice (final int index) throws UsbException
+    {
+        return new HeadlessUsbDevice ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseUsbDevices ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the client which receives all sent OSC messages.
+     *
+     * @return The client
+     */
+    public HeadlessOSCClient getOSCClient ()
+    {
+        return this.oscClient;
+    }
+
+
+    /**
+     * Get the OSC server which was created last.
+     *
+     * @return The server or null if none was created
+     */
+    public HeadlessOSCServer getOSCServer ()
+    {
+        return this.oscServer;
+    }
+
+
+    /**
+     * Get the number of reported errors.
+     *
+     * @return The number of errors
+     */
+    public long getErrors ()
+    {
+        return this.errors.get ();
+    }
+
+
+    /**
+     * Get the last notification.
+     *
+     * @return The notification or null
+     */
+    public String getNotification ()
+    {
+        return this.notification;
+    }
+
+
+    /**
+     * Stop the execution of tasks.
+     */
+    public void shutdown ()
+    {
+        this.executor.shutdown ();
+        try
+        {
+            this.executor.awaitTermination (5, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.graphics.IImage;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * An image which is kept in memory. Since there is no SVG renderer available, SVG files are only
+ * read for their size and rasterized as an opaque rounded square of that size.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessImage implements IImage
+{
+    private static final Pattern WIDTH_PATTERN  = Pattern.compile ("\\swidth=\"([0-9.]+)");
+    private static final Pattern HEIGHT_PATTERN = Pattern.compile ("\\sheight=\"([0-9.]+)");
+
+    private final BufferedImage  image;
+
+
+    /**
+     * Constructor.
+     *
+     * @param image The Java2D image
+     */
+    public HeadlessImage (final BufferedImage image)
+    {
+        this.image = image;
+    }
+
+
+    /**
+     * Load a SVG image from the resources.
+     *
+     * @param imageName The path to the image relative to the images folder
+     * @param scale The scaling factor
+     * @return The image
+     */
+    public static HeadlessImage loadSVG (final String imageName, final int scale)
+    {
+        int width = 16;
+        int height = 16;
+
+        try (final InputStream in = HeadlessImage.class.getResourceAsStream ("/images/" + imageName))
+        {
+            if (in != null)
+            {
+                final String svg = new String (in.readAllBytes (), StandardCharsets.UTF_8);
+                width = parseSize (WIDTH_PATTERN, svg, width);
+                height = parseSize (HEIGHT_PATTERN, svg, height);
+            }
+        }
+        catch (final IOException ex)
+        {
+            // Use the default size
+        }
+
+        final BufferedImage image = new BufferedImage (width * scale, height * scale, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D gc = image.createGraphics ();
+        gc.setColor (Color.WHITE);
+        gc.fillRoundRect (0, 0, image.getWidth (), image.getHeight (), 4, 4);
+        gc.dispose ();
+        return new HeadlessImage (image);
+    }
+
+
+    /**
+     * Get the Java2D image.
+     *
+     * @return The image
+     */
+    public BufferedImage getImage ()
+    {
+        return this.image;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.image.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.image.getHeight ();
+    }
+
+
+    private static int parseSize (final Pattern pattern, final String svg, final int defaultValue)
+    {
+        final Matcher matcher = pattern.matcher (svg);
+        if (!matcher.find ())
+            return defaultValue;
+        return (int) Math.ceil (Double.parseDouble (matcher.group (1)));
+    }
+}
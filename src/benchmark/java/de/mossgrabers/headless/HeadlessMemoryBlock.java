@@ -0,0 +1,39 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * A block of native memory. All created byte buffers share the same memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessMemoryBlock implements IMemoryBlock
+{
+    private final ByteBuffer memory;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The size of the block in bytes
+     */
+    public HeadlessMemoryBlock (final int size)
+    {
+        this.memory = ByteBuffer.allocateDirect (size);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ByteBuffer createByteBuffer ()
+    {
+        return this.memory.duplicate ().clear ();
+    }
+}
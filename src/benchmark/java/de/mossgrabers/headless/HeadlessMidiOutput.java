@@ -0,0 +1,74 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.daw.midi.AbstractMidiOutputImpl;
+
+
+/**
+ * A MIDI output which does not send anything but counts the messages. SysEx messages given as a
+ * hex string are parsed into bytes like the DAW does it.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessMidiOutput extends AbstractMidiOutputImpl
+{
+    private volatile int lastStatus;
+    private volatile int lastData1;
+    private volatile int lastData2;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.prepareSysex (data.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        this.sendSysex (parseHex (data));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        this.lastStatus = status;
+        this.lastData1 = data1;
+        this.lastData2 = data2;
+        this.countMessage ();
+    }
+
+
+    /**
+     * Get the last sent short message.
+     *
+     * @return The status, data1 and data2 bytes
+     */
+    public int [] getLastMessage ()
+    {
+        return new int []
+        {
+            this.lastStatus,
+            this.lastData1,
+            this.lastData2
+        };
+    }
+
+
+    private static byte [] parseHex (final String data)
+    {
+        final String hex = data.replace (" ", "");
+        final byte [] bytes = new byte [hex.length () / 2];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) Integer.parseInt (hex.substring (2 * i, 2 * i + 2), 16);
+        return bytes;
+    }
+}
@@ -0,0 +1,62 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * An OSC client which only counts the sent messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessOSCClient implements IOpenSoundControlClient
+{
+    private final AtomicLong messages = new AtomicLong ();
+    private final AtomicLong bundles  = new AtomicLong ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message)
+    {
+        this.messages.incrementAndGet ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages)
+    {
+        this.bundles.incrementAndGet ();
+        this.messages.addAndGet (messages.size ());
+    }
+
+
+    /**
+     * Get the number of sent messages. Messages contained in bundles are included.
+     *
+     * @return The number of messages
+     */
+    public long getSentMessages ()
+    {
+        return this.messages.get ();
+    }
+
+
+    /**
+     * Get the number of sent bundles.
+     *
+     * @return The number of bundles
+     */
+    public long getSentBundles ()
+    {
+        return this.bundles.get ();
+    }
+}
@@ -0,0 +1,61 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.util.List;
+
+
+/**
+ * An OSC message which is kept in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessOSCMessage implements IOpenSoundControlMessage
+{
+    private final String    address;
+    private final Object [] values;
+
+
+    /**
+     * Constructor.
+     *
+     * @param address The OSC address
+     * @param values The values of the message
+     */
+    public HeadlessOSCMessage (final String address, final List<Object> values)
+    {
+        this.address = address;
+        this.values = values == null ? new Object [0] : values.toArray ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object [] getValues ()
+    {
+        return this.values;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        final StringBuilder sb = new StringBuilder (this.address);
+        for (final Object value: this.values)
+            sb.append (' ').append (value);
+        return sb.toString ();
+    }
+}
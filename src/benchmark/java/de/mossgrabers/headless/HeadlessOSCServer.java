@@ -0,0 +1,64 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+
+import java.util.List;
+
+
+/**
+ * An OSC server which does not open a network port. Messages are injected with the receive method.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessOSCServer implements IOpenSoundControlServer
+{
+    private final IOpenSoundControlCallback callback;
+    private int                             port = -1;
+
+
+    /**
+     * Constructor.
+     *
+     * @param callback The callback which handles the received messages
+     */
+    public HeadlessOSCServer (final IOpenSoundControlCallback callback)
+    {
+        this.callback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void start (final int port)
+    {
+        this.port = port;
+    }
+
+
+    /**
+     * Receive a message from a client.
+     *
+     * @param address The OSC address
+     * @param values The values of the message
+     */
+    public void receive (final String address, final List<Object> values)
+    {
+        this.callback.handle (new HeadlessOSCMessage (address, values));
+    }
+
+
+    /**
+     * Get the port on which the server was started.
+     *
+     * @return The port or -1 if it was not started
+     */
+    public int getPort ()
+    {
+        return this.port;
+    }
+}
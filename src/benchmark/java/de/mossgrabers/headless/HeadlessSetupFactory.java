@@ -0,0 +1,77 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.DataSetup;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.headless.daw.ModelImpl;
+import de.mossgrabers.headless.midi.MidiAccessImpl;
+
+
+/**
+ * Factory for the headless model and MIDI ports. All MIDI ports are created by the same MIDI
+ * access, which gives access to them for injecting input and measuring the output.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessSetupFactory implements ISetupFactory
+{
+    private final IHost          host;
+    private final MidiAccessImpl midiAccess = new MidiAccessImpl ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public HeadlessSetupFactory (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
+    {
+        return new ModelImpl (modelSetup, new DataSetup (this.host, valueChanger, colorManager), scales);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiAccess createMidiAccess ()
+    {
+        return this.midiAccess;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ArpeggiatorMode [] getArpeggiatorModes ()
+    {
+        return ArpeggiatorMode.values ();
+    }
+
+
+    /**
+     * Get the MIDI access which contains all created ports.
+     *
+     * @return The MIDI access
+     */
+    public MidiAccessImpl getMidiAccess ()
+    {
+        return this.midiAccess;
+    }
+}
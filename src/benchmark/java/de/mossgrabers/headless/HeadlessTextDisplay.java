@@ -0,0 +1,79 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+
+import java.util.Arrays;
+
+
+/**
+ * A hardware text display which keeps the lines in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessTextDisplay implements IHwTextDisplay
+{
+    private final String    label;
+    private final String [] lines;
+
+
+    /**
+     * Constructor.
+     *
+     * @param label The label of the display
+     * @param numLines The number of lines of the display
+     */
+    public HeadlessTextDisplay (final String label, final int numLines)
+    {
+        this.label = label;
+        this.lines = new String [numLines];
+        Arrays.fill (this.lines, "");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getLabel ()
+    {
+        return this.label;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void update ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLine (final int line, final String text)
+    {
+        this.lines[line] = text;
+    }
+
+
+    /**
+     * Get the text of a line.
+     *
+     * @param line The index of the line
+     * @return The text
+     */
+    public String getLine (final int line)
+    {
+        return this.lines[line];
+    }
+}
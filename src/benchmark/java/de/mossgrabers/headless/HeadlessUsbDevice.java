@@ -0,0 +1,43 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.usb.IHidDevice;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.usb.IUsbEndpoint;
+import de.mossgrabers.framework.usb.UsbException;
+
+
+/**
+ * A USB device without hardware. All endpoints accept the sent data and drop it, which allows to
+ * run the complete output path of a USB display.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessUsbDevice implements IUsbDevice
+{
+    /** {@inheritDoc} */
+    @Override
+    public IUsbEndpoint getEndpoint (final int interfaceIndex, final int endpointIndex) throws UsbException
+    {
+        return new HeadlessUsbEndpoint ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void release ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHidDevice getHidDevice () throws UsbException
+    {
+        throw new UsbException ("There are no HID devices in headless mode.");
+    }
+}
@@ -0,0 +1,33 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.IUsbCallback;
+import de.mossgrabers.framework.usb.IUsbEndpoint;
+
+
+/**
+ * A USB endpoint without hardware, which drops all sent data.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessUsbEndpoint implements IUsbEndpoint
+{
+    /** {@inheritDoc} */
+    @Override
+    public void send (final IMemoryBlock memoryBlock, final int timeout)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendAsync (final IMemoryBlock memoryBlock, final IUsbCallback callback, final int timeout)
+    {
+        callback.process (memoryBlock.createByteBuffer ().capacity ());
+    }
+}
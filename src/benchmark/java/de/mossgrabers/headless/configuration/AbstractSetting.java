@@ -0,0 +1,90 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.ISetting;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Abstract base class for all headless settings. The value is kept in memory and all observers
+ * are notified when it changes.
+ *
+ * @param <T> The type of the settings value
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractSetting<T> implements ISetting<T>
+{
+    private final List<IValueObserver<T>> observers = new ArrayList<> ();
+    protected T                           value;
+
+
+    /**
+     * Constructor.
+     *
+     * @param initialValue The initial value
+     */
+    protected AbstractSetting (final T initialValue)
+    {
+        this.value = initialValue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final T value)
+    {
+        this.value = value;
+        this.notifyObservers ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public T get ()
+    {
+        return this.value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueObserver (final IValueObserver<T> observer)
+    {
+        this.observers.add (observer);
+
+        // Directly fire the current value
+        observer.update (this.value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEnabled (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVisible (final boolean visible)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Notify all observers about the current value.
+     */
+    protected void notifyObservers ()
+    {
+        this.observers.forEach (observer -> observer.update (this.value));
+    }
+}
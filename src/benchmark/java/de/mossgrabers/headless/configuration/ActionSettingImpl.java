@@ -0,0 +1,26 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.IActionSetting;
+
+
+/**
+ * Headless implementation of an action setting. The value is the ID of the action.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ActionSettingImpl extends AbstractSetting<String> implements IActionSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param initialValue The ID of the initial action
+     */
+    public ActionSettingImpl (final String initialValue)
+    {
+        super (initialValue);
+    }
+}
@@ -0,0 +1,34 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.IBooleanSetting;
+
+
+/**
+ * Headless implementation of a boolean setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BooleanSettingImpl extends AbstractSetting<Boolean> implements IBooleanSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param initialValue The initial value
+     */
+    public BooleanSettingImpl (final Boolean initialValue)
+    {
+        super (initialValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final boolean value)
+    {
+        this.set (Boolean.valueOf (value));
+    }
+}
@@ -0,0 +1,43 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.IColorSetting;
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+
+/**
+ * Headless implementation of a color setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ColorSettingImpl extends AbstractSetting<ColorEx> implements IColorSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param initialValue The initial color
+     */
+    public ColorSettingImpl (final ColorEx initialValue)
+    {
+        super (initialValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final double red, final double green, final double blue)
+    {
+        this.set (new ColorEx (red, green, blue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final double [] rgb)
+    {
+        this.set (rgb[0], rgb[1], rgb[2]);
+    }
+}
@@ -0,0 +1,34 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.IDoubleSetting;
+
+
+/**
+ * Headless implementation of a number setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DoubleSettingImpl extends AbstractSetting<Double> implements IDoubleSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param initialValue The initial value
+     */
+    public DoubleSettingImpl (final Double initialValue)
+    {
+        super (initialValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final double value)
+    {
+        this.set (Double.valueOf (value));
+    }
+}
@@ -0,0 +1,26 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.IEnumSetting;
+
+
+/**
+ * Headless implementation of an enum setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class EnumSettingImpl extends AbstractSetting<String> implements IEnumSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param initialValue The initial value
+     */
+    public EnumSettingImpl (final String initialValue)
+    {
+        super (initialValue);
+    }
+}
@@ -0,0 +1,34 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.IIntegerSetting;
+
+
+/**
+ * Headless implementation of an integer setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class IntegerSettingImpl extends AbstractSetting<Integer> implements IIntegerSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param initialValue The initial value
+     */
+    public IntegerSettingImpl (final Integer initialValue)
+    {
+        super (initialValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final int value)
+    {
+        this.set (Integer.valueOf (value));
+    }
+}
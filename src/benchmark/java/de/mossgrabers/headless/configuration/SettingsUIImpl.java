@@ -0,0 +1,146 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.IActionSetting;
+import de.mossgrabers.framework.configuration.IBooleanSetting;
+import de.mossgrabers.framework.configuration.IColorSetting;
+import de.mossgrabers.framework.configuration.IDoubleSetting;
+import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
+import de.mossgrabers.framework.configuration.ISetting;
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.ISignalSetting;
+import de.mossgrabers.framework.configuration.IStringSetting;
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Headless implementation of the settings. The initial values of the settings can be overwritten by
+ * giving a value for the label of the setting, e.g. "Flush rate" = "60 Hz".
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SettingsUIImpl implements ISettingsUI
+{
+    private final Map<String, String>      initialValues;
+    private final Map<String, ISetting<?>> settings = new HashMap<> ();
+
+
+    /**
+     * Constructor. Uses the default values of all settings.
+     */
+    public SettingsUIImpl ()
+    {
+        this (new HashMap<> ());
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param initialValues Values which overwrite the initial values of the settings with the same
+     *            label
+     */
+    public SettingsUIImpl (final Map<String, String> initialValues)
+    {
+        this.initialValues = initialValues;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IEnumSetting getEnumSetting (final String label, final String category, final String [] options, final String initialValue)
+    {
+        String value = this.initialValues.getOrDefault (label, initialValue);
+        if (!Arrays.asList (options).contains (value))
+            value = initialValue;
+        return this.register (label, new EnumSettingImpl (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBooleanSetting getBooleanSetting (final String label, final String category, final boolean initialValue)
+    {
+        final String value = this.initialValues.get (label);
+        return this.register (label, new BooleanSettingImpl (Boolean.valueOf (value == null ? initialValue : Boolean.parseBoolean (value))));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStringSetting getStringSetting (final String label, final String category, final int numChars, final String initialText)
+    {
+        return this.register (label, new StringSettingImpl (this.initialValues.getOrDefault (label, initialText)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IIntegerSetting getRangeSetting (final String label, final String category, final int minValue, final int maxValue, final int stepResolution, final String unit, final int initialValue)
+    {
+        final String value = this.initialValues.get (label);
+        final int v = value == null ? initialValue : Integer.parseInt (value);
+        return this.register (label, new IntegerSettingImpl (Integer.valueOf (Math.max (minValue, Math.min (maxValue, v)))));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDoubleSetting getNumberSetting (final String label, final String category, final double minValue, final double maxValue, final double stepResolution, final String unit, final double initialValue)
+    {
+        final String value = this.initialValues.get (label);
+        final double v = value == null ? initialValue : Double.parseDouble (value);
+        return this.register (label, new DoubleSettingImpl (Double.valueOf (Math.max (minValue, Math.min (maxValue, v)))));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISignalSetting getSignalSetting (final String label, final String category, final String title)
+    {
+        return this.register (label, new SignalSettingImpl ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IColorSetting getColorSetting (final String label, final String category, final ColorEx defaultColor)
+    {
+        return this.register (label, new ColorSettingImpl (defaultColor));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IActionSetting getActionSetting (final String label, final String category)
+    {
+        return this.register (label, new ActionSettingImpl (this.initialValues.getOrDefault (label, "")));
+    }
+
+
+    /**
+     * Get a setting which was created before.
+     *
+     * @param label The label of the setting
+     * @return The setting or null if not found
+     */
+    public ISetting<?> getSetting (final String label)
+    {
+        return this.settings.get (label);
+    }
+
+
+    private <T extends ISetting<?>> T register (final String label, final T setting)
+    {
+        this.settings.put (label, setting);
+        return setting;
+    }
+}
@@ -0,0 +1,48 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.ISignalSetting;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Headless implementation of a signal setting. Observers are only notified when the signal is
+ * fired.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SignalSettingImpl extends AbstractSetting<Void> implements ISignalSetting
+{
+    private final List<IValueObserver<Void>> signalObservers = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     */
+    public SignalSettingImpl ()
+    {
+        super (null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final Void value)
+    {
+        this.signalObservers.forEach (observer -> observer.update (null));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueObserver (final IValueObserver<Void> observer)
+    {
+        this.signalObservers.add (observer);
+    }
+}
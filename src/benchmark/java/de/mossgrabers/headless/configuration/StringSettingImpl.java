@@ -0,0 +1,26 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.configuration;
+
+import de.mossgrabers.framework.configuration.IStringSetting;
+
+
+/**
+ * Headless implementation of a string setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StringSettingImpl extends AbstractSetting<String> implements IStringSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param initialValue The initial value
+     */
+    public StringSettingImpl (final String initialValue)
+    {
+        super (initialValue);
+    }
+}
@@ -0,0 +1,343 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.daw.IApplication;
+
+import java.util.Arrays;
+
+
+/**
+ * The application which keeps its state in memory. Editing commands are ignored.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ApplicationImpl implements IApplication
+{
+    private static final String [] PANEL_LAYOUTS  =
+    {
+        PANEL_LAYOUT_ARRANGE,
+        PANEL_LAYOUT_MIX,
+        PANEL_LAYOUT_EDIT,
+        PANEL_LAYOUT_PLAY
+    };
+
+    private String                 panelLayout    = PANEL_LAYOUT_ARRANGE;
+    private boolean                isEngineActive = true;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addAudioTrack ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addEffectTrack ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addInstrumentTrack ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPanelLayout (final String panelLayout)
+    {
+        this.panelLayout = panelLayout;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousPanelLayout ()
+    {
+        final int index = Arrays.asList (PANEL_LAYOUTS).indexOf (this.panelLayout);
+        this.panelLayout = PANEL_LAYOUTS[Math.max (0, index - 1)];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextPanelLayout ()
+    {
+        final int index = Arrays.asList (PANEL_LAYOUTS).indexOf (this.panelLayout);
+        this.panelLayout = PANEL_LAYOUTS[Math.min (PANEL_LAYOUTS.length - 1, index + 1)];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPanelLayout ()
+    {
+        return this.panelLayout;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isArrangeLayout ()
+    {
+        return PANEL_LAYOUT_ARRANGE.equals (this.panelLayout);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMixerLayout ()
+    {
+        return PANEL_LAYOUT_MIX.equals (this.panelLayout);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEditLayout ()
+    {
+        return PANEL_LAYOUT_EDIT.equals (this.panelLayout);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlayLayout ()
+    {
+        return PANEL_LAYOUT_PLAY.equals (this.panelLayout);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void redo ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void undo ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void deleteSelection ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void arrowKeyLeft ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void arrowKeyUp ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void arrowKeyRight ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void arrowKeyDown ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enter ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void escape ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleNoteEditor ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleAutomationEditor ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleDevices ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleInspector ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMixer ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleFullScreen ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleBrowserVisibility ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEngineActive ()
+    {
+        return this.isEngineActive;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleEngineActive ()
+    {
+        this.isEngineActive = !this.isEngineActive;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEngineActive (final boolean active)
+    {
+        this.isEngineActive = active;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void zoomOut ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void zoomIn ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void decTrackHeight ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void incTrackHeight ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sliceToSampler ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sliceToDrumMachine ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void invokeAction (final String id)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,144 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.daw.IArranger;
+
+
+/**
+ * The arranger which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ArrangerImpl implements IArranger
+{
+    private boolean areCueMarkersVisible;
+    private boolean isPlaybackFollowEnabled;
+    private boolean hasDoubleRowTrackHeight;
+    private boolean isClipLauncherVisible;
+    private boolean isTimelineVisible;
+    private boolean isIoSectionVisible;
+    private boolean areEffectTracksVisible;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean areCueMarkersVisible ()
+    {
+        return this.areCueMarkersVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCueMarkerVisibility ()
+    {
+        this.areCueMarkersVisible = !this.areCueMarkersVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaybackFollowEnabled ()
+    {
+        return this.isPlaybackFollowEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePlaybackFollow ()
+    {
+        this.isPlaybackFollowEnabled = !this.isPlaybackFollowEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDoubleRowTrackHeight ()
+    {
+        return this.hasDoubleRowTrackHeight;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleTrackRowHeight ()
+    {
+        this.hasDoubleRowTrackHeight = !this.hasDoubleRowTrackHeight;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isClipLauncherVisible ()
+    {
+        return this.isClipLauncherVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleClipLauncher ()
+    {
+        this.isClipLauncherVisible = !this.isClipLauncherVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTimelineVisible ()
+    {
+        return this.isTimelineVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleTimeLine ()
+    {
+        this.isTimelineVisible = !this.isTimelineVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isIoSectionVisible ()
+    {
+        return this.isIoSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleIoSection ()
+    {
+        this.isIoSectionVisible = !this.isIoSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean areEffectTracksVisible ()
+    {
+        return this.areEffectTracksVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleEffectTracks ()
+    {
+        this.areEffectTracksVisible = !this.areEffectTracksVisible;
+    }
+}
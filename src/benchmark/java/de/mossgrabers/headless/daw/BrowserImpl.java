@@ -0,0 +1,207 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.daw.AbstractBrowser;
+import de.mossgrabers.framework.daw.data.IBrowserColumn;
+import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.headless.daw.data.BrowserColumnImpl;
+
+
+/**
+ * A browser with a fixed set of filter columns and results.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserImpl extends AbstractBrowser
+{
+    private static final String [] CONTENT_TYPE_NAMES  =
+    {
+        "Device",
+        "Preset",
+        "Multi-Sample",
+        "Sample",
+        "Music"
+    };
+
+    private static final String [] FILTER_COLUMN_NAMES =
+    {
+        "Collection",
+        "Location",
+        "File Type",
+        "Category",
+        "Tags",
+        "Creator",
+        "Device Type",
+        "Device"
+    };
+
+    private final BrowserColumnImpl results;
+    private int                     contentTypeIndex;
+    private boolean                 isActive;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numFilterColumnEntries The number of entries in a filter column page
+     * @param numResults The number of entries in a results column page
+     */
+    public BrowserImpl (final int numFilterColumnEntries, final int numResults)
+    {
+        super (numFilterColumnEntries, numResults);
+
+        this.columnData = new IBrowserColumn [FILTER_COLUMN_NAMES.length];
+        for (int i = 0; i < FILTER_COLUMN_NAMES.length; i++)
+            this.columnData[i] = new BrowserColumnImpl (i, FILTER_COLUMN_NAMES[i], 10 + 5 * i, numFilterColumnEntries);
+
+        this.results = new BrowserColumnImpl (0, "Result", 100, numResults);
+        this.results.setCursorIndex (0);
+        this.resultData = this.results.getItems ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPresetContentType ()
+    {
+        return this.getSelectedContentTypeIndex () == 1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSelectedContentTypeIndex ()
+    {
+        return this.contentTypeIndex;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousContentType ()
+    {
+        if (this.hasPreviousContentType ())
+            this.contentTypeIndex--;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextContentType ()
+    {
+        if (this.hasNextContentType ())
+            this.contentTypeIndex++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSelectedContentType ()
+    {
+        return CONTENT_TYPE_NAMES[this.contentTypeIndex];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getContentTypeNames ()
+    {
+        return CONTENT_TYPE_NAMES;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void replace (final IItem item)
+    {
+        final String name = item.getName ();
+        this.browse ("Replace: " + (name.length () == 0 ? "Empty" : name));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addDevice (final IChannel channel)
+    {
+        this.browse ("Add device to: " + channel.getName ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void insertBeforeCursorDevice ()
+    {
+        this.browse ("Insert device before cursor device");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void insertAfterCursorDevice ()
+    {
+        this.browse ("Insert device after cursor device");
+    }
+
+
+    private void browse (final String infoText)
+    {
+        this.infoText = infoText;
+        this.isActive = true;
+        this.fireActiveObserver (true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stopBrowsing (final boolean commitSelection)
+    {
+        if (!this.isActive)
+            return;
+        this.isActive = false;
+        this.fireActiveObserver (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isActive ()
+    {
+        return this.isActive;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPreviousResult ()
+    {
+        this.results.selectPreviousItem ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNextResult ()
+    {
+        this.results.selectNextItem ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSelectedResult ()
+    {
+        return this.results.getCursorName ();
+    }
+}
@@ -0,0 +1,711 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.IStepInfo;
+import de.mossgrabers.framework.daw.constants.Resolution;
+import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * A note clip which keeps its steps in memory. Each page of steps is stored separately, therefore
+ * scrolling shows different content like in the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CursorClipImpl implements INoteClip
+{
+    private final IValueChanger                       valueChanger;
+    private final int                                 numSteps;
+    private final int                                 numRows;
+    private final Map<Integer, StepInfoImpl [] [] []> pages            = new HashMap<> ();
+    private ColorEx                                   color            = ColorEx.ORANGE;
+    private int                                       editPage;
+    private int                                       currentStep      = -1;
+    private double                                    stepLength       = 1.0 / 4.0;
+    private double                                    playStart;
+    private double                                    playEnd          = 4;
+    private double                                    loopStart;
+    private double                                    loopLength       = 4;
+    private double                                    accent           = 0.5;
+    private boolean                                   isLoopEnabled    = true;
+    private boolean                                   isShuffleEnabled;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param numSteps The number of steps of the clip to monitor
+     * @param numRows The number of note rows of the clip to monitor
+     */
+    public CursorClipImpl (final IValueChanger valueChanger, final int numSteps, final int numRows)
+    {
+        this.valueChanger = valueChanger;
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final ColorEx color)
+    {
+        this.color = color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ColorEx getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPlayStart ()
+    {
+        return this.playStart;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPlayStart (final double start)
+    {
+        this.playStart = Math.max (0, start);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePlayStart (final int control)
+    {
+        this.setPlayStart (this.playStart + this.valueChanger.calcKnobChange (control, -100));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPlayEnd ()
+    {
+        return this.playEnd;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPlayEnd (final double end)
+    {
+        this.playEnd = Math.max (0, end);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePlayEnd (final int control)
+    {
+        this.setPlayEnd (this.playEnd + this.valueChanger.calcKnobChange (control, -100));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPlayRange (final double start, final double end)
+    {
+        this.setPlayStart (start);
+        this.setPlayEnd (end);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getLoopStart ()
+    {
+        return this.loopStart;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLoopStart (final double start)
+    {
+        this.loopStart = Math.max (0, start);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLoopStart (final int control)
+    {
+        this.setLoopStart (this.loopStart + this.valueChanger.calcKnobChange (control, -100));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getLoopLength ()
+    {
+        return this.loopLength;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLoopLength (final int length)
+    {
+        this.loopLength = Math.max (0, length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLoopLength (final int control)
+    {
+        this.loopLength = Math.max (0, this.loopLength + this.valueChanger.calcKnobChange (control, -100));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLoopEnabled ()
+    {
+        return this.isLoopEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLoopEnabled (final boolean enable)
+    {
+        this.isLoopEnabled = enable;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isShuffleEnabled ()
+    {
+        return this.isShuffleEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setShuffleEnabled (final boolean enable)
+    {
+        this.isShuffleEnabled = enable;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getFormattedAccent ()
+    {
+        return Math.round (this.getAccent () * 200 - 100) + "%";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getAccent ()
+    {
+        return this.accent;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetAccent ()
+    {
+        this.accent = 0.5;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeAccent (final int control)
+    {
+        this.accent = Math.max (0, Math.min (1, this.accent + this.valueChanger.calcKnobChange (control, -100)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumSteps ()
+    {
+        return this.numSteps;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumRows ()
+    {
+        return this.numRows;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCurrentStep ()
+    {
+        return this.currentStep;
+    }
+
+
+    /**
+     * Set the step which is currently played to simulate playback.
+     *
+     * @param currentStep The step, -1 if the clip is not playing
+     */
+    public void setCurrentStep (final int currentStep)
+    {
+        this.currentStep = currentStep;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setStepLength (final double length)
+    {
+        this.stepLength = length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getStepLength ()
+    {
+        return this.stepLength;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStepInfo getStep (final int channel, final int step, final int row)
+    {
+        final StepInfoImpl [] [] [] stepInfos = this.getStepInfos ();
+        if (stepInfos[channel][step][row] == null)
+            return EmptyStepInfo.INSTANCE;
+        return stepInfos[channel][step][row];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleStep (final int channel, final int step, final int row, final int velocity)
+    {
+        if (this.getStep (channel, step, row).getState () == IStepInfo.NOTE_START)
+            this.clearStep (channel, step, row);
+        else
+            this.setStep (channel, step, row, velocity, this.stepLength);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setStep (final int channel, final int step, final int row, final int velocity, final double duration)
+    {
+        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        stepInfo.setState (IStepInfo.NOTE_START);
+        stepInfo.setVelocity (velocity / 127.0);
+        stepInfo.setDuration (duration);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setStep (final int channel, final int step, final int row, final IStepInfo noteStep)
+    {
+        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        stepInfo.setState (IStepInfo.NOTE_START);
+        stepInfo.setDuration (noteStep.getDuration ());
+        stepInfo.setVelocity (noteStep.getVelocity ());
+        stepInfo.setReleaseVelocity (noteStep.getReleaseVelocity ());
+        stepInfo.setPressure (noteStep.getPressure ());
+        stepInfo.setTimbre (noteStep.getTimbre ());
+        stepInfo.setPan (noteStep.getPan ());
+        stepInfo.setTranspose (noteStep.getTranspose ());
+        stepInfo.setGain (noteStep.getGain ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearStep (final int channel, final int step, final int row)
+    {
+        this.getStepInfos ()[channel][step][row] = null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeStepDuration (final int channel, final int step, final int row, final int control)
+    {
+        final IStepInfo info = this.getStep (channel, step, row);
+        final boolean increase = this.valueChanger.isIncrease (control);
+        final double res = Resolution.RES_1_32.getValue ();
+        this.updateStepDuration (channel, step, row, Math.max (0, info.getDuration () + (increase ? res : -res)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateStepDuration (final int channel, final int step, final int row, final double duration)
+    {
+        this.getUpdateableStep (channel, step, row).setDuration (duration);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeStepVelocity (final int channel, final int step, final int row, final int control)
+    {
+        final IStepInfo info = this.getStep (channel, step, row);
+        final double velocity = info.getVelocity () + this.valueChanger.toNormalizedValue ((int) this.valueChanger.calcKnobChange (control));
+        this.updateStepVelocity (channel, step, row, Math.min (1.0, Math.max (0, velocity)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateStepVelocity (final int channel, final int step, final int row, final double velocity)
+    {
+        this.getUpdateableStep (channel, step, row).setVelocity (velocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeStepReleaseVelocity (final int channel, final int step, final int row, final int control)
+    {
+        final IStepInfo info = this.getStep (channel, step, row);
+        final double releaseVelocity = info.getReleaseVelocity () + this.valueChanger.toNormalizedValue ((int) this.valueChanger.calcKnobChange (control));
+        this.updateStepReleaseVelocity (channel, step, row, Math.min (1.0, Math.max (0, releaseVelocity)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateStepReleaseVelocity (final int channel, final int step, final int row, final double releaseVelocity)
+    {
+        this.getUpdateableStep (channel, step, row).setReleaseVelocity (releaseVelocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeStepPressure (final int channel, final int step, final int row, final int control)
+    {
+        final IStepInfo info = this.getStep (channel, step, row);
+        final double pressure = info.getPressure () + this.valueChanger.toNormalizedValue ((int) this.valueChanger.calcKnobChange (control));
+        this.updateStepPressure (channel, step, row, Math.min (1.0, Math.max (0, pressure)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateStepPressure (final int channel, final int step, final int row, final double pressure)
+    {
+        this.getUpdateableStep (channel, step, row).setPressure (pressure);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeStepTimbre (final int channel, final int step, final int row, final int control)
+    {
+        final IStepInfo info = this.getStep (channel, step, row);
+        final double timbre = info.getTimbre () + 2.0 * this.valueChanger.toNormalizedValue ((int) this.valueChanger.calcKnobChange (control));
+        this.updateStepTimbre (channel, step, row, Math.min (1.0, Math.max (-1.0, timbre)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateStepTimbre (final int channel, final int step, final int row, final double timbre)
+    {
+        this.getUpdateableStep (channel, step, row).setTimbre (timbre);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeStepPan (final int channel, final int step, final int row, final int control)
+    {
+        final IStepInfo info = this.getStep (channel, step, row);
+        final double pan = info.getPan () + 2.0 * this.valueChanger.toNormalizedValue ((int) this.valueChanger.calcKnobChange (control));
+        this.updateStepPan (channel, step, row, Math.min (1.0, Math.max (-1.0, pan)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateStepPan (final int channel, final int step, final int row, final double pan)
+    {
+        this.getUpdateableStep (channel, step, row).setPan (pan);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeStepTranspose (final int channel, final int step, final int row, final int control)
+    {
+        final IStepInfo info = this.getStep (channel, step, row);
+        final double transpose = info.getTranspose () + this.valueChanger.calcKnobChange (control) / 8.0;
+        this.updateStepTranspose (channel, step, row, Math.min (24.0, Math.max (-24.0, transpose)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateStepTranspose (final int channel, final int step, final int row, final double transpose)
+    {
+        this.getUpdateableStep (channel, step, row).setTranspose (transpose);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeStepGain (final int channel, final int step, final int row, final int control)
+    {
+        final IStepInfo info = this.getStep (channel, step, row);
+        final double gain = info.getGain () + this.valueChanger.toNormalizedValue ((int) this.valueChanger.calcKnobChange (control));
+        this.updateStepGain (channel, step, row, Math.min (1.0, Math.max (0, gain)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateStepGain (final int channel, final int step, final int row, final double gain)
+    {
+        this.getUpdateableStep (channel, step, row).setGain (gain);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void startEdit (final int channel, final int step, final int row)
+    {
+        // Changes are applied immediately
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stopEdit ()
+    {
+        // Changes are applied immediately
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearAll ()
+    {
+        this.pages.clear ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearRow (final int channel, final int row)
+    {
+        final StepInfoImpl [] [] [] stepInfos = this.getStepInfos ();
+        for (int step = 0; step < this.numSteps; step++)
+            stepInfos[channel][step][row] = null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasRowData (final int channel, final int row)
+    {
+        final StepInfoImpl [] [] [] stepInfos = this.getStepInfos ();
+        for (int step = 0; step < this.numSteps; step++)
+        {
+            if (stepInfos[channel][step][row] != null && stepInfos[channel][step][row].getState () > 0)
+                return true;
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLowerRowWithData ()
+    {
+        int min = 128;
+        for (int channel = 0; channel < 16; channel++)
+        {
+            final int lower = this.getLowerRowWithData (channel);
+            if (lower >= 0 && lower < min)
+                min = lower;
+        }
+        return min == 128 ? -1 : min;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getUpperRowWithData ()
+    {
+        int max = -1;
+        for (int channel = 0; channel < 16; channel++)
+        {
+            final int upper = this.getUpperRowWithData (channel);
+            if (upper >= 0 && upper > max)
+                max = upper;
+        }
+        return max;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLowerRowWithData (final int channel)
+    {
+        for (int row = 0; row < this.numRows; row++)
+        {
+            if (this.hasRowData (channel, row))
+                return row;
+        }
+        return -1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getUpperRowWithData (final int channel)
+    {
+        for (int row = this.numRows - 1; row >= 0; row--)
+        {
+            if (this.hasRowData (channel, row))
+                return row;
+        }
+        return -1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollToPage (final int page)
+    {
+        this.editPage = Math.max (0, page);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getEditPage ()
+    {
+        return this.editPage;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollStepsPageBackwards ()
+    {
+        if (this.editPage > 0)
+            this.editPage--;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollStepsPageForward ()
+    {
+        this.editPage++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollStepsBackwards ()
+    {
+        return this.editPage > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollStepsForwards ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicateContent ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void quantize (final double amount)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void transpose (final int semitones)
+    {
+        // Intentionally empty
+    }
+
+
+    private StepInfoImpl getUpdateableStep (final int channel, final int step, final int row)
+    {
+        final StepInfoImpl [] [] [] stepInfos = this.getStepInfos ();
+        if (stepInfos[channel][step][row] == null)
+            stepInfos[channel][step][row] = new StepInfoImpl ();
+        return stepInfos[channel][step][row];
+    }
+
+
+    private StepInfoImpl [] [] [] getStepInfos ()
+    {
+        return this.pages.computeIfAbsent (Integer.valueOf (this.editPage), page -> new StepInfoImpl [16] [this.numSteps] [this.numRows]);
+    }
+}
@@ -0,0 +1,68 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IGroove;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.headless.daw.data.ParameterImpl;
+
+
+/**
+ * The groove parameters which keep their values in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class GrooveImpl implements IGroove
+{
+    private static final String [] PARAMETER_NAMES =
+    {
+        "Enabled",
+        "Shuffle Amount",
+        "Shuffle Rate",
+        "Accent Amount",
+        "Accent Rate",
+        "Accent Phase"
+    };
+
+    private final IParameter []    parameters      = new IParameter [PARAMETER_NAMES.length];
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     */
+    public GrooveImpl (final IValueChanger valueChanger)
+    {
+        for (int i = 0; i < PARAMETER_NAMES.length; i++)
+            this.parameters[i] = new ParameterImpl (valueChanger, i, PARAMETER_NAMES[i], 0, ParameterImpl.PERCENTAGE);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter [] getParameters ()
+    {
+        return this.parameters;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndication (final boolean enable)
+    {
+        for (final IParameter parameter: this.parameters)
+            parameter.setIndication (enable);
+    }
+}
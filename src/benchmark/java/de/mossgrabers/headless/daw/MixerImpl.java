@@ -0,0 +1,127 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.daw.IMixer;
+
+
+/**
+ * The mixer which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MixerImpl implements IMixer
+{
+    private boolean isClipLauncherSectionVisible;
+    private boolean isCrossFadeSectionVisible;
+    private boolean isDeviceSectionVisible;
+    private boolean isIoSectionVisible;
+    private boolean isMeterSectionVisible;
+    private boolean isSendSectionVisible;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isClipLauncherSectionVisible ()
+    {
+        return this.isClipLauncherSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleClipLauncherSectionVisibility ()
+    {
+        this.isClipLauncherSectionVisible = !this.isClipLauncherSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCrossFadeSectionVisible ()
+    {
+        return this.isCrossFadeSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCrossFadeSectionVisibility ()
+    {
+        this.isCrossFadeSectionVisible = !this.isCrossFadeSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDeviceSectionVisible ()
+    {
+        return this.isDeviceSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleDeviceSectionVisibility ()
+    {
+        this.isDeviceSectionVisible = !this.isDeviceSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isIoSectionVisible ()
+    {
+        return this.isIoSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleIoSectionVisibility ()
+    {
+        this.isIoSectionVisible = !this.isIoSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMeterSectionVisible ()
+    {
+        return this.isMeterSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMeterSectionVisibility ()
+    {
+        this.isMeterSectionVisible = !this.isMeterSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSendSectionVisible ()
+    {
+        return this.isSendSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleSendsSectionVisibility ()
+    {
+        this.isSendSectionVisible = !this.isSendSectionVisible;
+    }
+}
@@ -0,0 +1,219 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.daw.AbstractModel;
+import de.mossgrabers.framework.daw.DataSetup;
+import de.mossgrabers.framework.daw.IClip;
+import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.daw.data.ISpecificDevice;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.ISceneBank;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.headless.daw.data.CursorDeviceImpl;
+import de.mossgrabers.headless.daw.data.DrumDeviceImpl;
+import de.mossgrabers.headless.daw.data.EqualizerDeviceImpl;
+import de.mossgrabers.headless.daw.data.MasterTrackImpl;
+import de.mossgrabers.headless.daw.data.SpecificDeviceImpl;
+import de.mossgrabers.headless.daw.data.bank.MarkerBankImpl;
+import de.mossgrabers.headless.daw.data.bank.ParameterBankImpl;
+import de.mossgrabers.headless.daw.data.bank.TrackBankImpl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * The model which keeps all of its data in memory. It is filled with a project which has several
+ * pages of tracks with clips, effect tracks, a cursor device with layers and drum pads, markers and
+ * a browser, therefore all modes and views of a controller have something to display.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ModelImpl extends AbstractModel
+{
+    /** The number of pages of tracks in the track bank. */
+    public static final int                TRACK_PAGES  = 4;
+
+    private static final String []         DEVICE_NAMES =
+    {
+        "Polysynth",
+        "Filter",
+        "Chorus+",
+        "Delay-2",
+        "Reverb"
+    };
+
+    private final Map<Integer, ISceneBank> sceneBanks   = new HashMap<> (1);
+    private boolean                        isCursorTrackPinned;
+
+
+    /**
+     * Constructor.
+     *
+     * @param modelSetup The configuration parameters for the model
+     * @param dataSetup Some setup variables
+     * @param scales The scales object
+     */
+    public ModelImpl (final ModelSetup modelSetup, final DataSetup dataSetup, final Scales scales)
+    {
+        super (modelSetup, dataSetup, scales);
+
+        this.application = new ApplicationImpl ();
+        this.transport = new TransportImpl (this.valueChanger);
+        this.arranger = new ArrangerImpl ();
+        this.mixer = new MixerImpl ();
+        this.groove = new GrooveImpl (this.valueChanger);
+
+        final int numMarkers = modelSetup.getNumMarkers ();
+        if (numMarkers > 0)
+            this.markerBank = new MarkerBankImpl (this.host, numMarkers, numMarkers);
+
+        //////////////////////////////////////////////////////////////////////////////
+        // Create track banks
+
+        final int numSends = modelSetup.getNumSends ();
+        final int numScenes = modelSetup.getNumScenes ();
+        final int numTracks = modelSetup.getNumTracks ();
+        final int numFxTracks = modelSetup.getNumFxTracks ();
+
+        final String [] sendNames = new String [numFxTracks];
+        for (int i = 0; i < numFxTracks; i++)
+            sendNames[i] = "FX " + (i + 1);
+
+        this.masterTrack = new MasterTrackImpl (this.host, this.valueChanger);
+        final TrackBankImpl tb = new TrackBankImpl (this.host, this.valueChanger, numTracks, TRACK_PAGES * numTracks, numScenes, numScenes / 2, sendNames, numSends, false);
+        this.trackBank = tb;
+        this.effectTrackBank = new TrackBankImpl (this.host, this.valueChanger, numFxTracks, numFxTracks, numScenes, 0, new String [0], 0, true);
+        this.project = new ProjectImpl (this.valueChanger, tb);
+
+        //////////////////////////////////////////////////////////////////////////////
+        // Create devices
+
+        final int numDevicesInBank = modelSetup.getNumDevicesInBank ();
+        final int numParams = modelSetup.getNumParams ();
+        final int numDeviceLayers = modelSetup.getNumDeviceLayers ();
+        final int numDrumPadLayers = modelSetup.getNumDrumPadLayers ();
+
+        this.cursorDevice = new CursorDeviceImpl (this.host, this.valueChanger, DEVICE_NAMES, numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
+
+        if (modelSetup.wantsDrumDevice ())
+        {
+            this.drumDevice = new DrumDeviceImpl (this.host, this.valueChanger, numSends, numParams, numDrumPadLayers);
+            if (modelSetup.wantsDrum64Device ())
+                this.drumDevice64 = new DrumDeviceImpl (this.host, this.valueChanger, 0, 0, 64);
+        }
+
+        for (final DeviceID deviceID: modelSetup.getDeviceIDs ())
+        {
+            final ISpecificDevice specificDevice;
+            switch (deviceID)
+            {
+                case EQ:
+                    specificDevice = new EqualizerDeviceImpl (this.host, this.valueChanger, numParams);
+                    break;
+                case NI_KOMPLETE:
+                    specificDevice = new SpecificDeviceImpl (this.host, this.valueChanger, "NIKB01", "Komplete Kontrol", numSends, numParams, 0, 0);
+                    break;
+                default:
+                    specificDevice = new SpecificDeviceImpl (this.host, this.valueChanger, "", DEVICE_NAMES[0], numSends, numParams, numDeviceLayers, numDrumPadLayers);
+                    break;
+            }
+            this.specificDevices.put (deviceID, specificDevice);
+        }
+
+        final int numUserPageSize = modelSetup.getNumUserPageSize ();
+        this.userParameterBank = new ParameterBankImpl (this.host, this.valueChanger, numUserPageSize, modelSetup.getNumUserPages () * numUserPageSize);
+
+        final int numResults = modelSetup.getNumResults ();
+        if (numResults > 0)
+            this.browser = new BrowserImpl (modelSetup.getNumFilterColumnEntries (), numResults);
+
+        this.currentTrackBank = this.trackBank;
+
+        tb.getItem (0).select ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorTrackPinned ()
+    {
+        return this.isCursorTrackPinned;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCursorTrackPinned ()
+    {
+        this.isCursorTrackPinned = !this.isCursorTrackPinned;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorDeviceOnMasterTrack ()
+    {
+        return this.masterTrack.isSelected ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISceneBank createSceneBank (final int numScenes)
+    {
+        return this.sceneBanks.computeIfAbsent (Integer.valueOf (numScenes), key -> new TrackBankImpl (this.host, this.valueChanger, 1, 1, numScenes, 0, new String [0], 0, false).getSceneBank ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteClip getNoteClip (final int cols, final int rows)
+    {
+        return (INoteClip) this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.valueChanger, cols, rows));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void createNoteClip (final ITrack track, final ISlot slot, final int lengthInBeats, final boolean overdub)
+    {
+        track.createClip (slot.getIndex (), lengthInBeats);
+        slot.select ();
+        slot.launch ();
+        if (overdub)
+            this.transport.setLauncherOverdub (true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void recordNoteClip (final ITrack track, final ISlot slot)
+    {
+        if (!slot.isRecording ())
+            slot.record ();
+        slot.launch ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IClip getClip ()
+    {
+        return this.cursorClips.isEmpty () ? this.getNoteClip (0, 0) : this.cursorClips.values ().iterator ().next ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void ensureClip ()
+    {
+        this.getNoteClip (0, 0);
+    }
+}
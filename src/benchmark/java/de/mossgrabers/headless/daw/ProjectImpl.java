@@ -0,0 +1,269 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IProject;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.headless.daw.data.ParameterImpl;
+import de.mossgrabers.headless.daw.data.bank.TrackBankImpl;
+
+
+/**
+ * The project which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ProjectImpl implements IProject
+{
+    private static final String [] PROJECT_NAMES =
+    {
+        "Headless 1",
+        "Headless 2",
+        "Headless 3"
+    };
+
+    private final TrackBankImpl    trackBank;
+    private final ParameterImpl    cueVolumeParameter;
+    private final ParameterImpl    cueMixParameter;
+    private int                    projectIndex;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param trackBank The track bank whose tracks are checked for mute and solo
+     */
+    public ProjectImpl (final IValueChanger valueChanger, final TrackBankImpl trackBank)
+    {
+        this.trackBank = trackBank;
+
+        final int upperBound = valueChanger.getUpperBound ();
+        this.cueVolumeParameter = new ParameterImpl (valueChanger, 0, "Cue Volume", (int) (upperBound * 0.7937), ParameterImpl.DECIBEL);
+        this.cueMixParameter = new ParameterImpl (valueChanger, 0, "Cue Mix", upperBound / 2, ParameterImpl.PERCENTAGE);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return PROJECT_NAMES[this.projectIndex];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previous ()
+    {
+        this.projectIndex = Math.max (0, this.projectIndex - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void next ()
+    {
+        this.projectIndex = Math.min (PROJECT_NAMES.length - 1, this.projectIndex + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void createSceneFromPlayingLauncherClips ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void save ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getCueVolumeParameter ()
+    {
+        return this.cueVolumeParameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCueVolumeStr ()
+    {
+        return this.cueVolumeParameter.getDisplayedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCueVolumeStr (final int limit)
+    {
+        return this.cueVolumeParameter.getDisplayedValue (limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCueVolume ()
+    {
+        return this.cueVolumeParameter.getValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeCueVolume (final int control)
+    {
+        this.cueVolumeParameter.changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCueVolume (final int value)
+    {
+        this.cueVolumeParameter.setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetCueVolume ()
+    {
+        this.cueVolumeParameter.resetValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchCueVolume (final boolean isBeingTouched)
+    {
+        this.cueVolumeParameter.touchValue (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getCueMixParameter ()
+    {
+        return this.cueMixParameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCueMixStr ()
+    {
+        return this.cueMixParameter.getDisplayedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCueMixStr (final int limit)
+    {
+        return this.cueMixParameter.getDisplayedValue (limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCueMix ()
+    {
+        return this.cueMixParameter.getValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeCueMix (final int control)
+    {
+        this.cueMixParameter.changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCueMix (final int value)
+    {
+        this.cueMixParameter.setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetCueMix ()
+    {
+        this.cueMixParameter.resetValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchCueMix (final boolean isBeingTouched)
+    {
+        this.cueMixParameter.touchValue (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSolo ()
+    {
+        for (final ITrack track: this.trackBank.getContent ())
+        {
+            if (track.isSolo ())
+                return true;
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasMute ()
+    {
+        for (final ITrack track: this.trackBank.getContent ())
+        {
+            if (track.isMute ())
+                return true;
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearSolo ()
+    {
+        for (final ITrack track: this.trackBank.getContent ())
+            track.setSolo (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearMute ()
+    {
+        for (final ITrack track: this.trackBank.getContent ())
+            track.setMute (false);
+    }
+}
@@ -0,0 +1,198 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.daw.IStepInfo;
+import de.mossgrabers.framework.daw.constants.Resolution;
+
+
+/**
+ * Implementation for the data about a note in a sequencer step.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StepInfoImpl implements IStepInfo
+{
+    private int    state;
+    private double duration = Resolution.RES_1_16.getValue ();
+    private double velocity;
+    private double releaseVelocity;
+    private double pressure;
+    private double timbre;
+    private double pan;
+    private double transpose;
+    private double gain;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getState ()
+    {
+        return this.state;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDuration ()
+    {
+        return this.duration;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getVelocity ()
+    {
+        return this.velocity;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getReleaseVelocity ()
+    {
+        return this.releaseVelocity;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPressure ()
+    {
+        return this.pressure;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTimbre ()
+    {
+        return this.timbre;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPan ()
+    {
+        return this.pan;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTranspose ()
+    {
+        return this.transpose;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getGain ()
+    {
+        return this.gain;
+    }
+
+
+    /**
+     * Set the state.
+     *
+     * @param state The state, see the defined constants
+     */
+    public void setState (final int state)
+    {
+        this.state = state;
+    }
+
+
+    /**
+     * Set the duration.
+     *
+     * @param duration The duration
+     */
+    public void setDuration (final double duration)
+    {
+        this.duration = duration;
+    }
+
+
+    /**
+     * Set the velocity.
+     *
+     * @param velocity The velocity
+     */
+    public void setVelocity (final double velocity)
+    {
+        this.velocity = velocity;
+    }
+
+
+    /**
+     * Set the release velocity.
+     *
+     * @param releaseVelocity The release velocity
+     */
+    public void setReleaseVelocity (final double releaseVelocity)
+    {
+        this.releaseVelocity = releaseVelocity;
+    }
+
+
+    /**
+     * Set the pressure.
+     *
+     * @param pressure The pressure
+     */
+    public void setPressure (final double pressure)
+    {
+        this.pressure = pressure;
+    }
+
+
+    /**
+     * Set the timbre.
+     *
+     * @param timbre The timbre
+     */
+    public void setTimbre (final double timbre)
+    {
+        this.timbre = timbre;
+    }
+
+
+    /**
+     * Set the panorama.
+     *
+     * @param pan The panorama
+     */
+    public void setPan (final double pan)
+    {
+        this.pan = pan;
+    }
+
+
+    /**
+     * Set the transposition.
+     *
+     * @param transpose The transposition
+     */
+    public void setTranspose (final double transpose)
+    {
+        this.transpose = transpose;
+    }
+
+
+    /**
+     * Set the gain.
+     *
+     * @param gain The gain
+     */
+    public void setGain (final double gain)
+    {
+        this.gain = gain;
+    }
+}
@@ -0,0 +1,646 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.constants.AutomationMode;
+import de.mossgrabers.framework.daw.constants.TransportConstants;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.headless.daw.data.ParameterImpl;
+
+import java.text.DecimalFormat;
+
+
+/**
+ * The transport which keeps its state in memory. The play position does not advance by itself, use
+ * {@link #setPosition(double)} to simulate playback.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TransportImpl implements ITransport
+{
+    private static final AutomationMode [] AUTOMATION_MODES = new AutomationMode []
+    {
+        AutomationMode.LATCH,
+        AutomationMode.TOUCH,
+        AutomationMode.WRITE
+    };
+
+    private final IValueChanger            valueChanger;
+    private final ParameterImpl            tempoParameter;
+    private final ParameterImpl            crossfadeParameter;
+    private final ParameterImpl            metronomeVolumeParameter;
+
+    private boolean                        isPlaying;
+    private boolean                        isRecording;
+    private boolean                        isArrangerOverdub;
+    private boolean                        isLauncherOverdub;
+    private boolean                        isMetronomeOn;
+    private boolean                        isMetronomeTicksOn;
+    private boolean                        isPrerollMetronomeEnabled;
+    private boolean                        isLoop;
+    private boolean                        isWritingClipLauncherAutomation;
+    private boolean                        isWritingArrangerAutomation;
+    private boolean                        isPunchInEnabled;
+    private boolean                        isPunchOutEnabled;
+    private AutomationMode                 automationWriteMode = AutomationMode.LATCH;
+    private String                         preroll             = TransportConstants.PREROLL_NONE;
+    private double                         position;
+    private double                         tempo               = 120;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     */
+    public TransportImpl (final IValueChanger valueChanger)
+    {
+        this.valueChanger = valueChanger;
+
+        final int upperBound = valueChanger.getUpperBound ();
+        this.tempoParameter = new ParameterImpl (valueChanger, 0, "Tempo", 0, value -> this.formatTempo (this.tempo));
+        this.crossfadeParameter = new ParameterImpl (valueChanger, 0, "Crossfade", upperBound / 2, ParameterImpl.PANORAMA);
+        this.metronomeVolumeParameter = new ParameterImpl (valueChanger, 0, "Metronome Volume", upperBound / 2, ParameterImpl.DECIBEL);
+        this.setTempo (this.tempo);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void play ()
+    {
+        this.isPlaying = !this.isPlaying;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying ()
+    {
+        return this.isPlaying;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void restart ()
+    {
+        this.position = 0;
+        this.isPlaying = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        this.isPlaying = false;
+        this.isRecording = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stopAndRewind ()
+    {
+        this.stop ();
+        this.position = 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void record ()
+    {
+        this.isRecording = !this.isRecording;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecording ()
+    {
+        return this.isRecording;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isArrangerOverdub ()
+    {
+        return this.isArrangerOverdub;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleOverdub ()
+    {
+        this.isArrangerOverdub = !this.isArrangerOverdub;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLauncherOverdub ()
+    {
+        return this.isLauncherOverdub;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLauncherOverdub (final boolean on)
+    {
+        this.isLauncherOverdub = on;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLauncherOverdub ()
+    {
+        this.isLauncherOverdub = !this.isLauncherOverdub;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMetronomeOn ()
+    {
+        return this.isMetronomeOn;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMetronome ()
+    {
+        this.isMetronomeOn = !this.isMetronomeOn;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMetronome (final boolean on)
+    {
+        this.isMetronomeOn = on;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMetronomeTicksOn ()
+    {
+        return this.isMetronomeTicksOn;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMetronomeTicks ()
+    {
+        this.isMetronomeTicksOn = !this.isMetronomeTicksOn;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMetronomeTicks (final boolean on)
+    {
+        this.isMetronomeTicksOn = on;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getMetronomeVolumeParameter ()
+    {
+        return this.metronomeVolumeParameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getMetronomeVolumeStr ()
+    {
+        return this.metronomeVolumeParameter.getDisplayedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeMetronomeVolume (final int control)
+    {
+        this.metronomeVolumeParameter.changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMetronomeVolume (final int value)
+    {
+        this.metronomeVolumeParameter.setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMetronomeVolume ()
+    {
+        return this.metronomeVolumeParameter.getValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPrerollMetronomeEnabled ()
+    {
+        return this.isPrerollMetronomeEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePrerollMetronome ()
+    {
+        this.isPrerollMetronomeEnabled = !this.isPrerollMetronomeEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLoop (final boolean on)
+    {
+        this.isLoop = on;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLoop ()
+    {
+        this.isLoop = !this.isLoop;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLoop ()
+    {
+        return this.isLoop;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isWritingClipLauncherAutomation ()
+    {
+        return this.isWritingClipLauncherAutomation;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isWritingArrangerAutomation ()
+    {
+        return this.isWritingArrangerAutomation;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AutomationMode [] getAutomationWriteModes ()
+    {
+        return AUTOMATION_MODES;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AutomationMode getAutomationWriteMode ()
+    {
+        return this.automationWriteMode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAutomationWriteMode (final AutomationMode mode)
+    {
+        this.automationWriteMode = mode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleWriteArrangerAutomation ()
+    {
+        this.isWritingArrangerAutomation = !this.isWritingArrangerAutomation;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleWriteClipLauncherAutomation ()
+    {
+        this.isWritingClipLauncherAutomation = !this.isWritingClipLauncherAutomation;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetAutomationOverrides ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void returnToArrangement ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPositionText ()
+    {
+        return StringUtils.formatTimeLong (this.tempo, this.position, true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getBeatText ()
+    {
+        return StringUtils.formatMeasuresLong (this.getQuartersPerMeasure (), this.position, 1, true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPosition (final double beats)
+    {
+        this.position = Math.max (0, beats);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePosition (final boolean increase, final boolean slow)
+    {
+        final double frac = slow ? TransportConstants.INC_FRACTION_TIME_SLOW : TransportConstants.INC_FRACTION_TIME;
+        this.setPosition (this.position + (increase ? frac : -frac));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPunchIn (final boolean enable)
+    {
+        this.isPunchInEnabled = enable;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePunchIn ()
+    {
+        this.isPunchInEnabled = !this.isPunchInEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPunchInEnabled ()
+    {
+        return this.isPunchInEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPunchOut (final boolean enable)
+    {
+        this.isPunchOutEnabled = enable;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePunchOut ()
+    {
+        this.isPunchOutEnabled = !this.isPunchOutEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPunchOutEnabled ()
+    {
+        return this.isPunchOutEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getTempoParameter ()
+    {
+        return this.tempoParameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void tapTempo ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeTempo (final boolean increase, final boolean slow)
+    {
+        final double offset = slow ? 0.01 : 1;
+        this.setTempo (this.tempo + (increase ? offset : -offset));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTempo (final double tempo)
+    {
+        this.tempo = Math.max (TransportConstants.MIN_TEMPO, Math.min (TransportConstants.MAX_TEMPO, tempo));
+        this.tempoParameter.setValue ((int) Math.round (this.rescaleTempo (this.tempo, this.valueChanger.getUpperBound ())));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTempo ()
+    {
+        return this.tempo;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String formatTempo (final double tempo)
+    {
+        return new DecimalFormat ("#.00").format (tempo);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String formatTempoNoFraction (final double tempo)
+    {
+        return new DecimalFormat ("###").format (tempo);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double rescaleTempo (final double tempo, final int maxValue)
+    {
+        final double v = tempo - TransportConstants.MIN_TEMPO;
+        return v * (maxValue - 1) / (TransportConstants.MAX_TEMPO - TransportConstants.MIN_TEMPO);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTempoIndication (final boolean isTouched)
+    {
+        this.tempoParameter.setIndication (isTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getCrossfadeParameter ()
+    {
+        return this.crossfadeParameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCrossfade (final int value)
+    {
+        this.crossfadeParameter.setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCrossfade ()
+    {
+        return this.crossfadeParameter.getValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeCrossfade (final int control)
+    {
+        this.crossfadeParameter.changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPreroll ()
+    {
+        return this.preroll;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPrerollAsBars ()
+    {
+        switch (this.preroll)
+        {
+            case TransportConstants.PREROLL_1_BAR:
+                return 1;
+            case TransportConstants.PREROLL_2_BARS:
+                return 2;
+            case TransportConstants.PREROLL_4_BARS:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPreroll (final String preroll)
+    {
+        this.preroll = preroll;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPrerollAsBars (final int preroll)
+    {
+        switch (preroll)
+        {
+            case 1:
+                this.setPreroll (TransportConstants.PREROLL_1_BAR);
+                break;
+            case 2:
+                this.setPreroll (TransportConstants.PREROLL_2_BARS);
+                break;
+            case 4:
+                this.setPreroll (TransportConstants.PREROLL_4_BARS);
+                break;
+            default:
+                this.setPreroll (TransportConstants.PREROLL_NONE);
+                break;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumerator ()
+    {
+        return 4;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDenominator ()
+    {
+        return 4;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getQuartersPerMeasure ()
+    {
+        return 4 * this.getNumerator () / this.getDenominator ();
+    }
+}
@@ -0,0 +1,167 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.daw.data.IBrowserColumn;
+import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * A filter column of the browser. The visible entries are a window over all entries of the column
+ * which follows the cursor.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserColumnImpl extends ItemImpl implements IBrowserColumn
+{
+    private final BrowserColumnItemImpl [] entries;
+    private final BrowserColumnItemImpl [] visibleItems;
+    private final BrowserColumnItemImpl [] placeholders;
+    private int                            cursorIndex = -1;
+    private int                            scrollPosition;
+
+
+    /**
+     * Constructor.
+     *
+     * @param position The position of the column in the browser
+     * @param name The name of the column
+     * @param entryCount The number of entries in the column
+     * @param numItems The number of visible entries
+     */
+    public BrowserColumnImpl (final int position, final String name, final int entryCount, final int numItems)
+    {
+        super (position, name);
+
+        this.entries = new BrowserColumnItemImpl [entryCount];
+        for (int i = 0; i < entryCount; i++)
+            this.entries[i] = new BrowserColumnItemImpl (i, name + " " + (i + 1), 1 + i * 7 % 50);
+        this.visibleItems = new BrowserColumnItemImpl [numItems];
+        this.placeholders = new BrowserColumnItemImpl [numItems];
+        for (int i = 0; i < numItems; i++)
+            this.placeholders[i] = new BrowserColumnItemImpl (i, null, 0);
+        this.updateItems ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getWildcard ()
+    {
+        return "Any " + this.getName ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesCursorExist ()
+    {
+        return this.cursorIndex >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCursorName ()
+    {
+        return this.doesCursorExist () ? this.entries[this.cursorIndex].getName () : this.getWildcard ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCursorName (final int limit)
+    {
+        return StringUtils.optimizeName (this.getCursorName (), limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBrowserColumnItem [] getItems ()
+    {
+        return this.visibleItems;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollItemPageUp ()
+    {
+        this.setCursorIndex (Math.max (0, this.cursorIndex - this.visibleItems.length));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollItemPageDown ()
+    {
+        this.setCursorIndex (Math.min (this.entries.length - 1, this.cursorIndex + this.visibleItems.length));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetFilter ()
+    {
+        this.setCursorIndex (-1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPreviousItem ()
+    {
+        if (this.cursorIndex > 0)
+            this.setCursorIndex (this.cursorIndex - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNextItem ()
+    {
+        if (this.cursorIndex < this.entries.length - 1)
+            this.setCursorIndex (this.cursorIndex + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCursorIndex ()
+    {
+        return this.cursorIndex - this.scrollPosition;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCursorIndex (final int index)
+    {
+        if (this.cursorIndex >= 0)
+            this.entries[this.cursorIndex].setSelected (false);
+        this.cursorIndex = Math.min (index, this.entries.length - 1);
+        if (this.cursorIndex < 0)
+            return;
+        this.entries[this.cursorIndex].setSelected (true);
+        if (this.cursorIndex < this.scrollPosition || this.cursorIndex >= this.scrollPosition + this.visibleItems.length)
+        {
+            final int pageSize = Math.max (1, this.visibleItems.length);
+            this.scrollPosition = this.cursorIndex / pageSize * pageSize;
+            this.updateItems ();
+        }
+    }
+
+
+    private void updateItems ()
+    {
+        for (int i = 0; i < this.visibleItems.length; i++)
+        {
+            final int position = this.scrollPosition + i;
+            this.visibleItems[i] = position < this.entries.length ? this.entries[position] : this.placeholders[i];
+        }
+    }
+}
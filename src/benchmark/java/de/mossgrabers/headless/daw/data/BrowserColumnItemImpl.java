@@ -0,0 +1,41 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+
+
+/**
+ * An entry of a browser filter or result column.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserColumnItemImpl extends ItemImpl implements IBrowserColumnItem
+{
+    private final int hitCount;
+
+
+    /**
+     * Constructor.
+     *
+     * @param position The position of the entry in its column
+     * @param name The name of the entry, null if the entry does not exist
+     * @param hitCount The number of matching results
+     */
+    public BrowserColumnItemImpl (final int position, final String name, final int hitCount)
+    {
+        super (position, name);
+
+        this.hitCount = hitCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHitCount ()
+    {
+        return this.hitCount;
+    }
+}
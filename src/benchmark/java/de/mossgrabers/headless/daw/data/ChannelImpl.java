@@ -0,0 +1,394 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.data.bank.ISendBank;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.headless.daw.data.bank.SendBankImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A channel which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ChannelImpl extends ItemImpl implements IChannel
+{
+    private final List<IValueObserver<ColorEx>> colorObservers = new ArrayList<> ();
+
+    protected final IValueChanger               valueChanger;
+    private final ChannelType                   type;
+    private final ParameterImpl                 volumeParameter;
+    private final ParameterImpl                 panParameter;
+    private final SendBankImpl                  sendBank;
+    private ColorEx                             color          = ColorEx.GRAY;
+    private boolean                             isActivated    = true;
+    private boolean                             isMute;
+    private boolean                             isSolo;
+    private int                                 vuLeft;
+    private int                                 vuRight;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param position The position of the channel in its bank
+     * @param name The name of the channel, null if the channel does not exist
+     * @param type The type of the channel
+     * @param sendNames The names of the sends of the channel, might be empty
+     * @param numSends The number of sends on a page
+     */
+    public ChannelImpl (final IHost host, final IValueChanger valueChanger, final int position, final String name, final ChannelType type, final String [] sendNames, final int numSends)
+    {
+        super (position, name);
+
+        this.valueChanger = valueChanger;
+        this.type = type;
+
+        final boolean exists = name != null;
+        final int upperBound = valueChanger.getUpperBound ();
+        this.volumeParameter = new ParameterImpl (valueChanger, 0, exists ? "Volume" : null, (int) (upperBound * 0.7937), ParameterImpl.DECIBEL);
+        this.panParameter = new ParameterImpl (valueChanger, 1, exists ? "Pan" : null, upperBound / 2, ParameterImpl.PANORAMA);
+        this.sendBank = new SendBankImpl (host, valueChanger, exists ? sendNames : new String [0], numSends);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isActivated ()
+    {
+        return this.isActivated;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ChannelType getType ()
+    {
+        return this.type;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getVolumeParameter ()
+    {
+        return this.volumeParameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVolumeStr ()
+    {
+        return this.volumeParameter.getDisplayedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVolumeStr (final int limit)
+    {
+        return this.volumeParameter.getDisplayedValue (limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVolume ()
+    {
+        return this.volumeParameter.getValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeVolume (final int control)
+    {
+        this.volumeParameter.changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVolume (final int value)
+    {
+        this.volumeParameter.setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetVolume ()
+    {
+        this.volumeParameter.resetValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchVolume (final boolean isBeingTouched)
+    {
+        this.volumeParameter.touchValue (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVolumeIndication (final boolean indicate)
+    {
+        this.volumeParameter.setIndication (indicate);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedVolume ()
+    {
+        return this.volumeParameter.getModulatedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getPanParameter ()
+    {
+        return this.panParameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPanStr ()
+    {
+        return this.panParameter.getDisplayedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPanStr (final int limit)
+    {
+        return this.panParameter.getDisplayedValue (limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPan ()
+    {
+        return this.panParameter.getValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePan (final int control)
+    {
+        this.panParameter.changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPan (final int value)
+    {
+        this.panParameter.setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetPan ()
+    {
+        this.panParameter.resetValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchPan (final boolean isBeingTouched)
+    {
+        this.panParameter.touchValue (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPanIndication (final boolean indicate)
+    {
+        this.panParameter.setIndication (indicate);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedPan ()
+    {
+        return this.panParameter.getModulatedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIsActivated (final boolean value)
+    {
+        this.isActivated = value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleIsActivated ()
+    {
+        this.setIsActivated (!this.isActivated);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ColorEx getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final ColorEx color)
+    {
+        this.color = color;
+        for (final IValueObserver<ColorEx> observer: this.colorObservers)
+            observer.update (color);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMute ()
+    {
+        return this.isMute;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMute (final boolean value)
+    {
+        this.isMute = value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMute ()
+    {
+        this.setMute (!this.isMute);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSolo ()
+    {
+        return this.isSolo;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSolo (final boolean value)
+    {
+        this.isSolo = value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleSolo ()
+    {
+        this.setSolo (!this.isSolo);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVu ()
+    {
+        return (this.vuLeft + this.vuRight) / 2;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVuLeft ()
+    {
+        return this.vuLeft;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVuRight ()
+    {
+        return this.vuRight;
+    }
+
+
+    /**
+     * Set the values of the VU meters.
+     *
+     * @param vuLeft The value of the left channel
+     * @param vuRight The value of the right channel
+     */
+    public void setVu (final int vuLeft, final int vuRight)
+    {
+        this.vuLeft = vuLeft;
+        this.vuRight = vuRight;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Not supported
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISendBank getSendBank ()
+    {
+        return this.sendBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enter ()
+    {
+        // Not supported
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addColorObserver (final IValueObserver<ColorEx> observer)
+    {
+        this.colorObservers.add (observer);
+    }
+}
@@ -0,0 +1,140 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.ICursorDevice;
+import de.mossgrabers.framework.daw.data.IDevice;
+import de.mossgrabers.framework.daw.data.bank.IDeviceBank;
+import de.mossgrabers.headless.daw.data.bank.DeviceBankImpl;
+
+
+/**
+ * The cursor device which follows the selection in its device bank.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CursorDeviceImpl extends SpecificDeviceImpl implements ICursorDevice
+{
+    private final DeviceBankImpl deviceBank;
+    private boolean              isPinned;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param deviceNames The names of the devices on the cursor track
+     * @param numSends The number of sends of the layers on a page
+     * @param numParams The number of parameters on a page
+     * @param numDevicesInBank The number of devices on a page
+     * @param numDeviceLayers The number of layers on a page
+     * @param numDrumPadLayers The number of drum pads on a page
+     */
+    public CursorDeviceImpl (final IHost host, final IValueChanger valueChanger, final String [] deviceNames, final int numSends, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
+    {
+        super (host, valueChanger, "", deviceNames.length == 0 ? null : deviceNames[0], numSends, numParams, numDeviceLayers, numDrumPadLayers);
+
+        this.deviceBank = new DeviceBankImpl (host, deviceNames, Math.max (1, numDevicesInBank));
+        this.deviceBank.addSelectionObserver ( (index, isSelected) -> {
+            if (isSelected)
+                this.setName (this.deviceBank.getItem (index).getName ());
+        });
+        if (deviceNames.length > 0)
+            this.deviceBank.getItem (0).select ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectParent ()
+    {
+        // Not supported
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectChannel ()
+    {
+        // Not supported
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canSelectPreviousFX ()
+    {
+        final IDevice selected = this.deviceBank.getSelectedItem ();
+        return selected != null && selected.getPosition () > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canSelectNextFX ()
+    {
+        final IDevice selected = this.deviceBank.getSelectedItem ();
+        return selected != null && selected.getPosition () < this.deviceBank.getItemCount () - 1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPinned ()
+    {
+        return this.isPinned;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePinned ()
+    {
+        this.isPinned = !this.isPinned;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPrevious ()
+    {
+        this.deviceBank.selectPreviousItem ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNext ()
+    {
+        this.deviceBank.selectNextItem ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDeviceBank getDeviceBank ()
+    {
+        return this.deviceBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getSlotChains ()
+    {
+        return new String [0];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectSlotChain (final String slotChainName)
+    {
+        // Not supported
+    }
+}
@@ -0,0 +1,35 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.daw.data.IDevice;
+
+
+/**
+ * A device in a device bank.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DeviceImpl extends ItemImpl implements IDevice
+{
+    /**
+     * Constructor.
+     *
+     * @param position The position of the device in its bank
+     * @param name The name of the device, null if the device does not exist
+     */
+    public DeviceImpl (final int position, final String name)
+    {
+        super (position, name);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Not supported
+    }
+}
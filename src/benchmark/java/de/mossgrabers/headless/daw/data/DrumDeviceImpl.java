@@ -0,0 +1,32 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IDrumDevice;
+
+
+/**
+ * A drum machine device which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DrumDeviceImpl extends SpecificDeviceImpl implements IDrumDevice
+{
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param numSends The number of sends of the drum pads on a page
+     * @param numParams The number of parameters on a page
+     * @param numDrumPadLayers The number of drum pads on a page
+     */
+    public DrumDeviceImpl (final IHost host, final IValueChanger valueChanger, final int numSends, final int numParams, final int numDrumPadLayers)
+    {
+        super (host, valueChanger, "", "Drum Machine", numSends, numParams, 0, numDrumPadLayers);
+    }
+}
@@ -0,0 +1,33 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IDrumPad;
+
+
+/**
+ * A drum pad which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DrumPadImpl extends LayerImpl implements IDrumPad
+{
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param position The position of the drum pad in its bank
+     * @param name The name of the drum pad, null if the drum pad does not exist
+     * @param sendNames The names of the sends of the drum pad, might be empty
+     * @param numSends The number of sends on a page
+     */
+    public DrumPadImpl (final IHost host, final IValueChanger valueChanger, final int position, final String name, final String [] sendNames, final int numSends)
+    {
+        super (host, valueChanger, position, name, sendNames, numSends);
+    }
+}
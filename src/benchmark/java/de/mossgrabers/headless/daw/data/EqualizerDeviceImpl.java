@@ -0,0 +1,98 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IEqualizerDevice;
+import de.mossgrabers.framework.daw.data.IParameter;
+
+import java.util.Arrays;
+
+
+/**
+ * An equalizer device which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class EqualizerDeviceImpl extends SpecificDeviceImpl implements IEqualizerDevice
+{
+    private static final int       NUM_BANDS   = 8;
+
+    private final String []        types       = new String [NUM_BANDS];
+    private final ParameterImpl [] gains       = new ParameterImpl [NUM_BANDS];
+    private final ParameterImpl [] frequencies = new ParameterImpl [NUM_BANDS];
+    private final ParameterImpl [] qs          = new ParameterImpl [NUM_BANDS];
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param numParams The number of parameters on a page
+     */
+    public EqualizerDeviceImpl (final IHost host, final IValueChanger valueChanger, final int numParams)
+    {
+        super (host, valueChanger, "", "EQ+", 0, numParams, 0, 0);
+
+        Arrays.fill (this.types, "off");
+        final int center = valueChanger.getUpperBound () / 2;
+        for (int i = 0; i < NUM_BANDS; i++)
+        {
+            this.gains[i] = new ParameterImpl (valueChanger, i, "Gain " + (i + 1), center, ParameterImpl.DECIBEL);
+            this.frequencies[i] = new ParameterImpl (valueChanger, i, "Freq " + (i + 1), center, ParameterImpl.PERCENTAGE);
+            this.qs[i] = new ParameterImpl (valueChanger, i, "Q " + (i + 1), center, ParameterImpl.PERCENTAGE);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getBandCount ()
+    {
+        return NUM_BANDS;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getType (final int index)
+    {
+        return this.types[index];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setType (final int index, final String type)
+    {
+        this.types[index] = type;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getGain (final int index)
+    {
+        return this.gains[index];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getFrequency (final int index)
+    {
+        return this.frequencies[index];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getQ (final int index)
+    {
+        return this.qs[index];
+    }
+}
@@ -0,0 +1,153 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.daw.data.AbstractItemImpl;
+import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.headless.daw.data.bank.AbstractItemBankImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * An item which keeps its state in memory. Other than in Bitwig, items are not slots of a bank
+ * page. Instead, the bank exchanges the items on its page when it is scrolled and updates their
+ * index.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ItemImpl extends AbstractItemImpl
+{
+    private final List<IValueObserver<String>> nameObservers = new ArrayList<> ();
+
+    private AbstractItemBankImpl<?>            bank;
+    private int                                itemIndex;
+    private int                                position;
+    private boolean                            exists;
+    private String                             name          = "";
+
+
+    /**
+     * Constructor.
+     *
+     * @param position The position of the item in its bank
+     * @param name The name of the item, null if the item does not exist
+     */
+    public ItemImpl (final int position, final String name)
+    {
+        this.position = position;
+        this.itemIndex = position;
+        this.exists = name != null;
+        if (name != null)
+            this.name = name;
+    }
+
+
+    /**
+     * Set the bank to which the item belongs.
+     *
+     * @param bank The bank
+     */
+    public void setBank (final AbstractItemBankImpl<?> bank)
+    {
+        this.bank = bank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return this.exists;
+    }
+
+
+    /**
+     * Set if the item exists.
+     *
+     * @param exists True if it exists
+     */
+    public void setExists (final boolean exists)
+    {
+        this.exists = exists;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.itemIndex;
+    }
+
+
+    /**
+     * Set the index of the item on the page of its bank.
+     *
+     * @param index The index
+     */
+    public void setIndex (final int index)
+    {
+        this.itemIndex = index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPosition ()
+    {
+        return this.position;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setName (final String name)
+    {
+        this.name = name == null ? "" : name;
+        for (final IValueObserver<String> observer: this.nameObservers)
+            observer.update (this.name);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNameObserver (final IValueObserver<String> observer)
+    {
+        this.nameObservers.add (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void select ()
+    {
+        if (!this.exists)
+            return;
+        if (this.bank == null)
+            this.setSelected (true);
+        else
+            this.bank.selectItem (this);
+    }
+
+
+    /**
+     * Remove the item from its bank.
+     */
+    public void remove ()
+    {
+        this.setSelected (false);
+        this.exists = false;
+    }
+}
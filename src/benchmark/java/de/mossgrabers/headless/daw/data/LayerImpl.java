@@ -0,0 +1,42 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.ILayer;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+
+
+/**
+ * A layer of a device which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LayerImpl extends ChannelImpl implements ILayer
+{
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param position The position of the layer in its bank
+     * @param name The name of the layer, null if the layer does not exist
+     * @param sendNames The names of the sends of the layer, might be empty
+     * @param numSends The number of sends on a page
+     */
+    public LayerImpl (final IHost host, final IValueChanger valueChanger, final int position, final String name, final String [] sendNames, final int numSends)
+    {
+        super (host, valueChanger, position, name, ChannelType.LAYER, sendNames, numSends);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDevices ()
+    {
+        return this.doesExist ();
+    }
+}
@@ -0,0 +1,52 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.data.IMarker;
+
+
+/**
+ * A cue marker which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MarkerImpl extends ItemImpl implements IMarker
+{
+    /**
+     * Constructor.
+     *
+     * @param position The position of the marker in its bank
+     * @param name The name of the marker, null if the marker does not exist
+     */
+    public MarkerImpl (final int position, final String name)
+    {
+        super (position, name);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ColorEx getColor ()
+    {
+        return ColorEx.ORANGE;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void launch (final boolean quantized)
+    {
+        // Not supported
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeMarker ()
+    {
+        this.remove ();
+    }
+}
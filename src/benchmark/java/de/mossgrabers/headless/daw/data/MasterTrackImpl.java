@@ -0,0 +1,55 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IMasterTrack;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IItemSelectionObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The master track which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MasterTrackImpl extends TrackImpl implements IMasterTrack
+{
+    private final List<IItemSelectionObserver> observers = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     */
+    public MasterTrackImpl (final IHost host, final IValueChanger valueChanger)
+    {
+        super (host, valueChanger, -1, "Master", ChannelType.MASTER, new String [0], 0, 0, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addSelectionObserver (final IItemSelectionObserver observer)
+    {
+        this.observers.add (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSelected (final boolean isSelected)
+    {
+        super.setSelected (isSelected);
+        for (final IItemSelectionObserver observer: this.observers)
+            observer.call (-1, isSelected);
+    }
+}
@@ -0,0 +1,181 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.function.DoubleFunction;
+
+
+/**
+ * A parameter which keeps its value in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ParameterImpl extends ItemImpl implements IParameter
+{
+    /** Formats the value as a percentage. */
+    public static final DoubleFunction<String> PERCENTAGE = value -> Math.round (value * 100) + " %";
+    /** Formats the value as a volume in dB. */
+    public static final DoubleFunction<String> DECIBEL    = value -> value <= 0 ? "-inf dB" : Math.round (200 * Math.log10 (value / 0.7937)) / 10.0 + " dB";
+    /** Formats the value as a panorama. */
+    public static final DoubleFunction<String> PANORAMA   = ParameterImpl::formatPanorama;
+
+    protected final IValueChanger              valueChanger;
+    private final DoubleFunction<String>       formatter;
+    private final int                          defaultValue;
+    private int                                value;
+    private boolean                            isTouched;
+    private boolean                            isIndicated;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param position The position of the parameter in its bank
+     * @param name The name of the parameter, null if the parameter does not exist
+     * @param defaultValue The default value in the range of the value changer
+     * @param formatter Formats the normalized value for display
+     */
+    public ParameterImpl (final IValueChanger valueChanger, final int position, final String name, final int defaultValue, final DoubleFunction<String> formatter)
+    {
+        super (position, name);
+
+        this.valueChanger = valueChanger;
+        this.formatter = formatter;
+        this.defaultValue = defaultValue;
+        this.value = defaultValue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void inc (final double increment)
+    {
+        this.setValue ((int) Math.round (this.value + increment));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDisplayedValue ()
+    {
+        return this.doesExist () ? this.formatter.apply (this.valueChanger.toNormalizedValue (this.value)) : "";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDisplayedValue (final int limit)
+    {
+        return StringUtils.optimizeName (this.getDisplayedValue (), limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getValue ()
+    {
+        return this.value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setValue (final int value)
+    {
+        this.value = Math.max (0, Math.min (this.valueChanger.getUpperBound () - 1, value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setNormalizedValue (final double value)
+    {
+        this.setValue (this.valueChanger.fromNormalizedValue (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setValueImmediatly (final int value)
+    {
+        this.setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeValue (final int control)
+    {
+        this.setValue (this.valueChanger.changeValue (control, this.value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetValue ()
+    {
+        this.setValue (this.defaultValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchValue (final boolean isBeingTouched)
+    {
+        this.isTouched = isBeingTouched;
+    }
+
+
+    /**
+     * Is the parameter touched?
+     *
+     * @return True if touched
+     */
+    public boolean isTouched ()
+    {
+        return this.isTouched;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedValue ()
+    {
+        return this.value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndication (final boolean enable)
+    {
+        this.isIndicated = enable;
+    }
+
+
+    /**
+     * Is the parameter indicated?
+     *
+     * @return True if indicated
+     */
+    public boolean isIndicated ()
+    {
+        return this.isIndicated;
+    }
+
+
+    private static String formatPanorama (final double value)
+    {
+        final long pan = Math.round ((value - 0.5) * 200);
+        if (pan == 0)
+            return "C";
+        return pan < 0 ? -pan + " % L" : pan + " % R";
+    }
+}
@@ -0,0 +1,70 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.data.IScene;
+
+import java.util.function.IntConsumer;
+
+
+/**
+ * A scene which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SceneImpl extends ItemImpl implements IScene
+{
+    private final IntConsumer launchHandler;
+    private ColorEx           color = ColorEx.DARK_GRAY;
+
+
+    /**
+     * Constructor.
+     *
+     * @param position The position of the scene in its bank
+     * @param name The name of the scene, null if the scene does not exist
+     * @param launchHandler Launches all clips at the given scene position
+     */
+    public SceneImpl (final int position, final String name, final IntConsumer launchHandler)
+    {
+        super (position, name);
+
+        this.launchHandler = launchHandler;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ColorEx getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final ColorEx color)
+    {
+        this.color = color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void launch ()
+    {
+        if (this.doesExist ())
+            this.launchHandler.accept (this.getPosition ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Not supported
+    }
+}
@@ -0,0 +1,29 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.data.ISend;
+
+
+/**
+ * A send which keeps its value in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SendImpl extends ParameterImpl implements ISend
+{
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param position The position of the send in its bank
+     * @param name The name of the send, null if the send does not exist
+     */
+    public SendImpl (final IValueChanger valueChanger, final int position, final String name)
+    {
+        super (valueChanger, position, name, 0, DECIBEL);
+    }
+}
@@ -0,0 +1,177 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.data.ISlot;
+
+import java.util.function.Consumer;
+
+
+/**
+ * A clip slot which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SlotImpl extends ItemImpl implements ISlot
+{
+    private final Consumer<SlotImpl> launchHandler;
+    private boolean                  hasContent;
+    private boolean                  isRecording;
+    private boolean                  isPlaying;
+    private ColorEx                  color = ColorEx.BLACK;
+
+
+    /**
+     * Constructor.
+     *
+     * @param position The position of the slot in its bank
+     * @param exists True if the slot exists
+     * @param launchHandler Called when the slot was launched or started recording
+     */
+    public SlotImpl (final int position, final boolean exists, final Consumer<SlotImpl> launchHandler)
+    {
+        super (position, exists ? "" : null);
+
+        this.launchHandler = launchHandler;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasContent ()
+    {
+        return this.hasContent;
+    }
+
+
+    /**
+     * Set if the slot contains a clip.
+     *
+     * @param hasContent True if it contains a clip
+     */
+    public void setHasContent (final boolean hasContent)
+    {
+        this.hasContent = hasContent;
+        if (!hasContent)
+            this.stop ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecording ()
+    {
+        return this.isRecording;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying ()
+    {
+        return this.isPlaying;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlayingQueued ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecordingQueued ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isStopQueued ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ColorEx getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final ColorEx color)
+    {
+        this.color = color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void launch ()
+    {
+        if (!this.doesExist ())
+            return;
+        this.launchHandler.accept (this);
+        this.isPlaying = this.hasContent;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void record ()
+    {
+        if (!this.doesExist ())
+            return;
+        this.launchHandler.accept (this);
+        this.hasContent = true;
+        this.isRecording = true;
+        this.isPlaying = true;
+    }
+
+
+    /**
+     * Stop playback and recording of the slot.
+     */
+    public void stop ()
+    {
+        this.isPlaying = false;
+        this.isRecording = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove ()
+    {
+        this.setHasContent (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Not supported
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void paste (final ISlot slot)
+    {
+        this.setHasContent (slot.hasContent ());
+        this.setColor (slot.getColor ());
+        this.setName (slot.getName ());
+    }
+}
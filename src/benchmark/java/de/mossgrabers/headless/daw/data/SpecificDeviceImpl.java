@@ -0,0 +1,245 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.ISpecificDevice;
+import de.mossgrabers.framework.daw.data.bank.IChannelBank;
+import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
+import de.mossgrabers.framework.daw.data.bank.ILayerBank;
+import de.mossgrabers.framework.daw.data.bank.IParameterBank;
+import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
+import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.headless.daw.data.bank.DrumPadBankImpl;
+import de.mossgrabers.headless.daw.data.bank.LayerBankImpl;
+import de.mossgrabers.headless.daw.data.bank.ParameterBankImpl;
+import de.mossgrabers.headless.daw.data.bank.ParameterPageBankImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A device which keeps its state in memory. It provides parameter pages and optionally layers or
+ * drum pads.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SpecificDeviceImpl extends DeviceImpl implements ISpecificDevice
+{
+    private static final int                    NUM_PAGES                     = 4;
+
+    private final List<IValueObserver<Boolean>> hasDrumPadsObservers          = new ArrayList<> ();
+
+    private final String                        id;
+    private final ParameterPageBankImpl         parameterPageBank;
+    private final ParameterBankImpl             parameterBank;
+    private final LayerBankImpl                 layerBank;
+    private final DrumPadBankImpl               drumPadBank;
+    private boolean                             isEnabled                     = true;
+    private boolean                             isExpanded                    = true;
+    private boolean                             isParameterPageSectionVisible = true;
+    private boolean                             isWindowOpen;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param id The ID of the device
+     * @param name The name of the device, null if the device does not exist
+     * @param numSends The number of sends of the layers on a page
+     * @param numParams The number of parameters on a page
+     * @param numDeviceLayers The number of layers on a page, 0 if the device has no layers
+     * @param numDrumPadLayers The number of drum pads on a page, 0 if the device has no drum pads
+     */
+    public SpecificDeviceImpl (final IHost host, final IValueChanger valueChanger, final String id, final String name, final int numSends, final int numParams, final int numDeviceLayers, final int numDrumPadLayers)
+    {
+        super (0, name);
+
+        this.id = id;
+
+        final int pageSize = Math.max (0, numParams);
+        this.parameterBank = new ParameterBankImpl (host, valueChanger, pageSize, NUM_PAGES * pageSize);
+        final String [] pageNames = new String [pageSize == 0 ? 0 : NUM_PAGES];
+        for (int i = 0; i < pageNames.length; i++)
+            pageNames[i] = "Page " + (i + 1);
+        this.parameterPageBank = new ParameterPageBankImpl (host, pageNames, pageSize, page -> this.parameterBank.scrollTo (page * pageSize));
+
+        final String [] sendNames = new String [0];
+        this.layerBank = new LayerBankImpl (host, valueChanger, Math.max (0, numDeviceLayers), numDeviceLayers > 0 ? 2 : 0, sendNames, numSends);
+        this.drumPadBank = new DrumPadBankImpl (host, valueChanger, Math.max (0, numDrumPadLayers), numDrumPadLayers > 0 ? 16 : 0, sendNames, numSends);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID ()
+    {
+        return this.id;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleEnabledState ()
+    {
+        this.isEnabled = !this.isEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlugin ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isExpanded ()
+    {
+        return this.isExpanded;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleExpanded ()
+    {
+        this.isExpanded = !this.isExpanded;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isParameterPageSectionVisible ()
+    {
+        return this.isParameterPageSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleParameterPageSectionVisible ()
+    {
+        this.isParameterPageSectionVisible = !this.isParameterPageSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isWindowOpen ()
+    {
+        return this.isWindowOpen;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleWindowOpen ()
+    {
+        this.isWindowOpen = !this.isWindowOpen;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNested ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDrumPads ()
+    {
+        return this.drumPadBank.getItemCount () > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addHasDrumPadsObserver (final IValueObserver<Boolean> observer)
+    {
+        this.hasDrumPadsObservers.add (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeHasDrumPadsObserver (final IValueObserver<Boolean> observer)
+    {
+        this.hasDrumPadsObservers.remove (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasLayers ()
+    {
+        return this.layerBank.getItemCount () > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSlots ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameterPageBank getParameterPageBank ()
+    {
+        return this.parameterPageBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameterBank getParameterBank ()
+    {
+        return this.parameterBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ILayerBank getLayerBank ()
+    {
+        return this.layerBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDrumPadBank getDrumPadBank ()
+    {
+        return this.drumPadBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IChannelBank<?> getLayerOrDrumPadBank ()
+    {
+        return this.hasDrumPads () ? this.drumPadBank : this.layerBank;
+    }
+}
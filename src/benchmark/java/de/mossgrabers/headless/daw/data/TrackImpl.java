@@ -0,0 +1,304 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.constants.RecordQuantization;
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.ISlotBank;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.headless.daw.data.bank.SlotBankImpl;
+
+
+/**
+ * A track which keeps its state in memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TrackImpl extends ChannelImpl implements ITrack
+{
+    private static final String [] CROSSFADE_MODES                = new String []
+    {
+        "A",
+        "B",
+        "AB"
+    };
+
+    private final SlotBankImpl     slotBank;
+    private boolean                isRecArm;
+    private boolean                isMonitor;
+    private boolean                isAutoMonitor                  = true;
+    private int                    crossfadeMode                  = 2;
+    private boolean                isRecordQuantizationNoteLength;
+    private RecordQuantization     recordQuantization             = RecordQuantization.RES_OFF;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param position The position of the track in its bank
+     * @param name The name of the track, null if the track does not exist
+     * @param type The type of the track
+     * @param sendNames The names of the sends of the track, might be empty
+     * @param numSends The number of sends on a page
+     * @param numScenes The number of clip slots on a page
+     * @param numClips The number of clip slots which contain a clip
+     */
+    public TrackImpl (final IHost host, final IValueChanger valueChanger, final int position, final String name, final ChannelType type, final String [] sendNames, final int numSends, final int numScenes, final int numClips)
+    {
+        super (host, valueChanger, position, name, type, sendNames, numSends);
+
+        this.slotBank = new SlotBankImpl (host, numScenes, name == null ? 0 : numScenes, numClips);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isGroup ()
+    {
+        return this.getType () == ChannelType.GROUP;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasParent ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecArm ()
+    {
+        return this.isRecArm;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setRecArm (final boolean value)
+    {
+        this.isRecArm = value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleRecArm ()
+    {
+        this.setRecArm (!this.isRecArm);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMonitor ()
+    {
+        return this.isMonitor;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMonitor (final boolean value)
+    {
+        this.isMonitor = value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMonitor ()
+    {
+        this.setMonitor (!this.isMonitor);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isAutoMonitor ()
+    {
+        return this.isAutoMonitor;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAutoMonitor (final boolean value)
+    {
+        this.isAutoMonitor = value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleAutoMonitor ()
+    {
+        this.setAutoMonitor (!this.isAutoMonitor);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canHoldNotes ()
+    {
+        final ChannelType type = this.getType ();
+        return type == ChannelType.INSTRUMENT || type == ChannelType.HYBRID;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canHoldAudioData ()
+    {
+        final ChannelType type = this.getType ();
+        return type == ChannelType.AUDIO || type == ChannelType.HYBRID;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCrossfadeMode ()
+    {
+        return CROSSFADE_MODES[this.crossfadeMode];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeCrossfadeModeAsNumber (final int control)
+    {
+        this.setCrossfadeModeAsNumber (this.valueChanger.changeValue (control, this.crossfadeMode, -100, 3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCrossfadeMode (final String mode)
+    {
+        for (int i = 0; i < CROSSFADE_MODES.length; i++)
+        {
+            if (CROSSFADE_MODES[i].equals (mode))
+                this.crossfadeMode = i;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCrossfadeModeAsNumber ()
+    {
+        return this.crossfadeMode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCrossfadeModeAsNumber (final int modeValue)
+    {
+        this.crossfadeMode = Math.max (0, Math.min (CROSSFADE_MODES.length - 1, modeValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCrossfadeMode ()
+    {
+        this.crossfadeMode = (this.crossfadeMode + 1) % CROSSFADE_MODES.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISlotBank getSlotBank ()
+    {
+        return this.slotBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void createClip (final int slotIndex, final int lengthInBeats)
+    {
+        final ISlot slot = this.slotBank.getItem (slotIndex);
+        if (slot instanceof SlotImpl)
+            ((SlotImpl) slot).setHasContent (true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying ()
+    {
+        for (final ISlot slot: this.slotBank.getContent ())
+        {
+            if (slot.isPlaying ())
+                return true;
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        this.slotBank.stop ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void returnToArrangement ()
+    {
+        this.stop ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecordQuantizationNoteLength ()
+    {
+        return this.isRecordQuantizationNoteLength;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleRecordQuantizationNoteLength ()
+    {
+        this.isRecordQuantizationNoteLength = !this.isRecordQuantizationNoteLength;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public RecordQuantization getRecordQuantizationGrid ()
+    {
+        return this.recordQuantization;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setRecordQuantizationGrid (final RecordQuantization recordQuantization)
+    {
+        this.recordQuantization = recordQuantization;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addEqualizerDevice ()
+    {
+        // Not supported
+    }
+}
@@ -0,0 +1,76 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.daw.DAWColor;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.bank.IChannelBank;
+import de.mossgrabers.framework.daw.data.bank.ISceneBank;
+
+
+/**
+ * Base class for banks which contain channels.
+ *
+ * @param <T> The specific channel type of the bank item
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractChannelBankImpl<T extends IChannel> extends AbstractItemBankImpl<T> implements IChannelBank<T>
+{
+    protected SceneBankImpl sceneBank;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param numChannels The number of channels in a page of the bank
+     */
+    public AbstractChannelBankImpl (final IHost host, final int numChannels)
+    {
+        super (host, numChannels);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSelectedChannelColorEntry ()
+    {
+        final T sel = this.getSelectedItem ();
+        if (sel == null)
+            return DAWColor.COLOR_OFF.name ();
+        return DAWColor.getColorIndex (sel.getColor ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        if (this.sceneBank != null)
+            this.sceneBank.stop ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISceneBank getSceneBank ()
+    {
+        return this.sceneBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndication (final boolean enable)
+    {
+        for (final T channel: this.items)
+        {
+            channel.setVolumeIndication (enable);
+            channel.setPanIndication (enable);
+        }
+    }
+}
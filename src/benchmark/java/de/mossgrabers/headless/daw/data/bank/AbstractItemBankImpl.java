@@ -0,0 +1,268 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.framework.daw.data.bank.AbstractItemBank;
+import de.mossgrabers.headless.daw.data.ItemImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A bank which keeps all of its items in memory. The page contains the items starting at the
+ * scroll position. If there are less items than fit on the page, the page is filled up with items
+ * which do not exist.
+ *
+ * @param <T> The specific item type of the bank item
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractItemBankImpl<T extends IItem> extends AbstractItemBank<T>
+{
+    protected final List<T> content      = new ArrayList<> ();
+    private final List<T>   placeholders = new ArrayList<> ();
+    private int             scrollPosition;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param pageSize The number of elements in a page of the bank
+     */
+    public AbstractItemBankImpl (final IHost host, final int pageSize)
+    {
+        super (host, pageSize);
+    }
+
+
+    /**
+     * Create an item of the bank.
+     *
+     * @param position The position of the item in the bank
+     * @param exists True if the item should exist
+     * @return The item
+     */
+    protected abstract T createItem (int position, boolean exists);
+
+
+    /**
+     * Add items to the end of the bank.
+     *
+     * @param count The number of items to add
+     */
+    public void addItems (final int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            final T item = this.createItem (this.content.size (), true);
+            ((ItemImpl) item).setBank (this);
+            this.content.add (item);
+        }
+        this.updatePage ();
+    }
+
+
+    /**
+     * Get all items of the bank.
+     *
+     * @return The items
+     */
+    public List<T> getContent ()
+    {
+        return this.content;
+    }
+
+
+    /**
+     * Select the given item and deselect all others.
+     *
+     * @param item The item to select
+     */
+    public void selectItem (final IItem item)
+    {
+        for (final T other: this.content)
+        {
+            if (other == item || !other.isSelected ())
+                continue;
+            other.setSelected (false);
+            if (this.isOnPage (other))
+                this.notifySelectionObservers (other.getIndex (), false);
+        }
+        item.setSelected (true);
+        if (this.isOnPage (item))
+            this.notifySelectionObservers (item.getIndex (), true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getItemCount ()
+    {
+        int count = 0;
+        for (final T item: this.content)
+        {
+            if (item.doesExist ())
+                count++;
+        }
+        return count;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getScrollPosition ()
+    {
+        return this.scrollPosition;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollPageBackwards ()
+    {
+        return this.scrollPosition > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollPageForwards ()
+    {
+        return this.scrollPosition + this.pageSize < this.getItemCount ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollBackwards ()
+    {
+        this.scrollTo (this.scrollPosition - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollForwards ()
+    {
+        this.scrollTo (this.scrollPosition + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTo (final int position)
+    {
+        this.scrollTo (position, true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTo (final int position, final boolean adjustPage)
+    {
+        if (position < 0 || position >= this.getItemCount () || position == this.scrollPosition)
+            return;
+        this.scrollPosition = position;
+        this.updatePage ();
+        this.firePageObserver ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNextItem ()
+    {
+        final T sel = this.getSelectedItem ();
+        final int index = sel == null ? 0 : sel.getIndex () + 1;
+        if (index == this.getPageSize ())
+            this.selectNextPage ();
+        else
+            this.getItem (index).select ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPreviousItem ()
+    {
+        final T sel = this.getSelectedItem ();
+        final int index = sel == null ? 0 : sel.getIndex () - 1;
+        if (index == -1)
+            this.selectPreviousPage ();
+        else
+            this.getItem (index).select ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPreviousPage ()
+    {
+        if (!this.canScrollPageBackwards ())
+            return;
+        this.scrollTo (Math.max (0, this.scrollPosition - this.pageSize));
+        this.getItem (this.getPageSize () - 1).select ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNextPage ()
+    {
+        if (!this.canScrollPageForwards ())
+            return;
+        this.scrollTo (this.scrollPosition + this.pageSize);
+        this.getItem (0).select ();
+    }
+
+
+    /**
+     * Update the items on the current page.
+     */
+    protected void updatePage ()
+    {
+        this.items.clear ();
+        for (int i = 0; i < this.pageSize; i++)
+        {
+            final int position = this.scrollPosition + i;
+            final T item = position < this.content.size () ? this.content.get (position) : this.getPlaceholder (i);
+            ((ItemImpl) item).setIndex (i);
+            this.items.add (item);
+        }
+    }
+
+
+    private T getPlaceholder (final int index)
+    {
+        while (this.placeholders.size () <= index)
+            this.placeholders.add (this.createItem (-1, false));
+        return this.placeholders.get (index);
+    }
+
+
+    /**
+     * Check if the item is on the current page.
+     *
+     * @param item The item to check
+     * @return True if it is on the page
+     */
+    protected boolean isOnPage (final IItem item)
+    {
+        final int index = item.getIndex ();
+        return index >= 0 && index < this.items.size () && this.items.get (index) == item;
+    }
+}
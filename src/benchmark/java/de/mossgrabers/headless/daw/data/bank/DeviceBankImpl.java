@@ -0,0 +1,46 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IDevice;
+import de.mossgrabers.framework.daw.data.bank.IDeviceBank;
+import de.mossgrabers.headless.daw.data.DeviceImpl;
+
+
+/**
+ * The devices of the cursor track.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DeviceBankImpl extends AbstractItemBankImpl<IDevice> implements IDeviceBank
+{
+    private final String [] deviceNames;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param deviceNames The names of the devices
+     * @param numDevices The number of devices in a page of the bank
+     */
+    public DeviceBankImpl (final IHost host, final String [] deviceNames, final int numDevices)
+    {
+        super (host, numDevices);
+
+        this.deviceNames = deviceNames;
+
+        this.addItems (deviceNames.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected IDevice createItem (final int position, final boolean exists)
+    {
+        return new DeviceImpl (position, exists ? this.deviceNames[position] : null);
+    }
+}
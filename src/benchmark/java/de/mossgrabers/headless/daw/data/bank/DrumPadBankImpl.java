@@ -0,0 +1,85 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IDrumPad;
+import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
+import de.mossgrabers.headless.daw.data.DrumPadImpl;
+
+
+/**
+ * The drum pads of a drum machine device.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DrumPadBankImpl extends AbstractChannelBankImpl<IDrumPad> implements IDrumPadBank
+{
+    private final IValueChanger valueChanger;
+    private final String []     sendNames;
+    private final int           numSends;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param numDrumPads The number of drum pads in a page of the bank
+     * @param drumPadCount The number of existing drum pads
+     * @param sendNames The names of the sends of the drum pads
+     * @param numSends The number of sends in a page of the send bank of a drum pad
+     */
+    public DrumPadBankImpl (final IHost host, final IValueChanger valueChanger, final int numDrumPads, final int drumPadCount, final String [] sendNames, final int numSends)
+    {
+        super (host, numDrumPads);
+
+        this.valueChanger = valueChanger;
+        this.sendNames = sendNames;
+        this.numSends = numSends;
+
+        this.addItems (drumPadCount);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected IDrumPad createItem (final int position, final boolean exists)
+    {
+        return new DrumPadImpl (this.host, this.valueChanger, position, exists ? "Pad " + (position + 1) : null, this.sendNames, this.numSends);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearMute ()
+    {
+        for (final IDrumPad pad: this.content)
+            pad.setMute (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearSolo ()
+    {
+        for (final IDrumPad pad: this.content)
+            pad.setSolo (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSoloedPads ()
+    {
+        for (final IDrumPad pad: this.content)
+        {
+            if (pad.isSolo ())
+                return true;
+        }
+        return false;
+    }
+}
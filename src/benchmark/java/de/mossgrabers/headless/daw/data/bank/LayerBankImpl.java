@@ -0,0 +1,62 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.ILayer;
+import de.mossgrabers.framework.daw.data.bank.ILayerBank;
+import de.mossgrabers.headless.daw.data.LayerImpl;
+
+
+/**
+ * The layers of a device.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LayerBankImpl extends AbstractChannelBankImpl<ILayer> implements ILayerBank
+{
+    private final IValueChanger valueChanger;
+    private final String []     sendNames;
+    private final int           numSends;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param numLayers The number of layers in a page of the bank
+     * @param layerCount The number of existing layers
+     * @param sendNames The names of the sends of the layers
+     * @param numSends The number of sends in a page of the send bank of a layer
+     */
+    public LayerBankImpl (final IHost host, final IValueChanger valueChanger, final int numLayers, final int layerCount, final String [] sendNames, final int numSends)
+    {
+        super (host, numLayers);
+
+        this.valueChanger = valueChanger;
+        this.sendNames = sendNames;
+        this.numSends = numSends;
+
+        this.addItems (layerCount);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected ILayer createItem (final int position, final boolean exists)
+    {
+        return new LayerImpl (this.host, this.valueChanger, position, exists ? "Layer " + (position + 1) : null, this.sendNames, this.numSends);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasZeroLayers ()
+    {
+        return this.getItemCount () == 0;
+    }
+}
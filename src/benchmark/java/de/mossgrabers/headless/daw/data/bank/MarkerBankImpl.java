@@ -0,0 +1,49 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IMarker;
+import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
+import de.mossgrabers.headless.daw.data.MarkerImpl;
+
+
+/**
+ * The markers of the arranger.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MarkerBankImpl extends AbstractItemBankImpl<IMarker> implements IMarkerBank
+{
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param numMarkers The number of markers in a page of the bank
+     * @param markerCount The number of existing markers
+     */
+    public MarkerBankImpl (final IHost host, final int numMarkers, final int markerCount)
+    {
+        super (host, numMarkers);
+
+        this.addItems (markerCount);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected IMarker createItem (final int position, final boolean exists)
+    {
+        return new MarkerImpl (position, exists ? "Marker " + (position + 1) : null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addMarker ()
+    {
+        this.addItems (1);
+    }
+}
@@ -0,0 +1,50 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.data.bank.IParameterBank;
+import de.mossgrabers.headless.daw.data.ParameterImpl;
+
+
+/**
+ * The parameters of a device. A page of the bank contains the parameters of one parameter page.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ParameterBankImpl extends AbstractItemBankImpl<IParameter> implements IParameterBank
+{
+    private final IValueChanger valueChanger;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param numParams The number of parameters in a page of the bank
+     * @param paramCount The number of existing parameters
+     */
+    public ParameterBankImpl (final IHost host, final IValueChanger valueChanger, final int numParams, final int paramCount)
+    {
+        super (host, numParams);
+
+        this.valueChanger = valueChanger;
+
+        this.addItems (paramCount);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected IParameter createItem (final int position, final boolean exists)
+    {
+        final String name = exists ? "Param " + (position + 1) : null;
+        final int value = exists ? position * this.valueChanger.getUpperBound () / Math.max (1, this.pageSize * 4) : 0;
+        return new ParameterImpl (this.valueChanger, position, name, value, ParameterImpl.PERCENTAGE);
+    }
+}
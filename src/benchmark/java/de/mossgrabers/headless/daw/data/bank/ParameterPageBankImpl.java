@@ -0,0 +1,210 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.bank.AbstractBank;
+import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+
+/**
+ * The parameter pages of a device. Like in the DAW, there is no banking of the pages, this is
+ * calculated from the selected page.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ParameterPageBankImpl extends AbstractBank<String> implements IParameterPageBank
+{
+    private final IntConsumer selectHandler;
+    private int               selectedPage;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param pageNames The names of the parameter pages
+     * @param numParameterPages The number of parameter pages in the page of the bank
+     * @param selectHandler Called with the index of a newly selected parameter page
+     */
+    public ParameterPageBankImpl (final IHost host, final String [] pageNames, final int numParameterPages, final IntConsumer selectHandler)
+    {
+        super (host, numParameterPages);
+
+        this.selectHandler = selectHandler;
+        this.items.addAll (Arrays.asList (pageNames));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getItem (final int index)
+    {
+        final int start = this.getScrollPosition () + index;
+        return start >= 0 && start < this.getItemCount () ? this.items.get (start) : "";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollBackwards ()
+    {
+        return this.canScrollPageBackwards ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollForwards ()
+    {
+        return this.selectedPage < this.getItemCount ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollPageBackwards ()
+    {
+        return this.selectedPage > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollPageForwards ()
+    {
+        final int ps = this.getPageSize ();
+        return this.selectedPage / ps * ps + ps < this.getItemCount ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollBackwards ()
+    {
+        this.scrollTo (this.selectedPage - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollForwards ()
+    {
+        this.scrollTo (this.selectedPage + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPreviousPage ()
+    {
+        this.scrollTo (this.selectedPage - this.getPageSize ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNextPage ()
+    {
+        this.scrollTo (this.selectedPage + this.getPageSize ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTo (final int position)
+    {
+        if (this.items.isEmpty ())
+            return;
+        this.selectedPage = Math.max (Math.min (position, this.getItemCount () - 1), 0);
+        this.selectHandler.accept (this.selectedPage);
+        this.firePageObserver ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTo (final int position, final boolean adjustPage)
+    {
+        // Not supported
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSelectedItemPosition ()
+    {
+        return this.selectedPage;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSelectedItemIndex ()
+    {
+        return this.selectedPage % this.getPageSize ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSelectedItem ()
+    {
+        return this.selectedPage < this.getItemCount () ? this.items.get (this.selectedPage) : "";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> getSelectedItems ()
+    {
+        return Collections.singletonList (this.getSelectedItem ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPage (final int index)
+    {
+        this.scrollTo (this.getScrollPosition () + index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getScrollPosition ()
+    {
+        return this.selectedPage / this.getPageSize () * this.getPageSize ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectItemAtPosition (final int position)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPositionOfLastItem ()
+    {
+        return Math.min (this.getScrollPosition () + this.getPageSize (), this.getItemCount ()) - 1;
+    }
+}
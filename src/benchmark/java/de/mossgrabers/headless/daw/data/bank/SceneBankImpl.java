@@ -0,0 +1,60 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IScene;
+import de.mossgrabers.framework.daw.data.bank.ISceneBank;
+import de.mossgrabers.headless.daw.data.SceneImpl;
+
+import java.util.function.IntConsumer;
+
+
+/**
+ * The scenes of a track bank.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SceneBankImpl extends AbstractItemBankImpl<IScene> implements ISceneBank
+{
+    private final IntConsumer launchHandler;
+    private final Runnable    stopHandler;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param numScenes The number of scenes in a page of the bank
+     * @param sceneCount The number of existing scenes
+     * @param launchHandler Launches all clips at the given scene position
+     * @param stopHandler Stops all clips
+     */
+    public SceneBankImpl (final IHost host, final int numScenes, final int sceneCount, final IntConsumer launchHandler, final Runnable stopHandler)
+    {
+        super (host, numScenes);
+
+        this.launchHandler = launchHandler;
+        this.stopHandler = stopHandler;
+
+        this.addItems (sceneCount);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected IScene createItem (final int position, final boolean exists)
+    {
+        return new SceneImpl (position, exists ? "Scene " + (position + 1) : null, this.launchHandler);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        this.stopHandler.run ();
+    }
+}
@@ -0,0 +1,50 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.ISend;
+import de.mossgrabers.framework.daw.data.bank.ISendBank;
+import de.mossgrabers.headless.daw.data.SendImpl;
+
+
+/**
+ * The sends of a channel.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SendBankImpl extends AbstractItemBankImpl<ISend> implements ISendBank
+{
+    private final IValueChanger valueChanger;
+    private final String []     sendNames;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param sendNames The names of the sends (the effect tracks)
+     * @param numSends The number of sends in a page of the bank
+     */
+    public SendBankImpl (final IHost host, final IValueChanger valueChanger, final String [] sendNames, final int numSends)
+    {
+        super (host, numSends);
+
+        this.valueChanger = valueChanger;
+        this.sendNames = sendNames;
+
+        this.addItems (sendNames.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected ISend createItem (final int position, final boolean exists)
+    {
+        return new SendImpl (this.valueChanger, position, exists ? this.sendNames[position] : null);
+    }
+}
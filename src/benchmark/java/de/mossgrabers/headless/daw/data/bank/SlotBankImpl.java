@@ -0,0 +1,78 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.daw.data.bank.ISlotBank;
+import de.mossgrabers.headless.daw.data.SlotImpl;
+
+
+/**
+ * The clip slots of a track. Launching a slot stops all other slots of the track.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SlotBankImpl extends AbstractItemBankImpl<ISlot> implements ISlotBank
+{
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param numSlots The number of slots in a page of the bank
+     * @param slotCount The number of existing slots
+     * @param numClips The number of slots, starting from the first one, which contain a clip
+     */
+    public SlotBankImpl (final IHost host, final int numSlots, final int slotCount, final int numClips)
+    {
+        super (host, numSlots);
+
+        this.addItems (slotCount);
+
+        for (int i = 0; i < Math.min (numClips, slotCount); i++)
+            ((SlotImpl) this.content.get (i)).setHasContent (true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected ISlot createItem (final int position, final boolean exists)
+    {
+        return new SlotImpl (position, exists, this::handleLaunch);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISlot getEmptySlot (final int startFrom)
+    {
+        final int start = startFrom >= 0 ? startFrom : 0;
+        final int size = this.items.size ();
+        for (int i = 0; i < size; i++)
+        {
+            final ISlot item = this.items.get ((start + i) % size);
+            if (item.doesExist () && !item.hasContent ())
+                return item;
+        }
+        return null;
+    }
+
+
+    /**
+     * Stop all slots.
+     */
+    public void stop ()
+    {
+        for (final ISlot slot: this.content)
+            ((SlotImpl) slot).stop ();
+    }
+
+
+    private void handleLaunch (final SlotImpl slot)
+    {
+        this.stop ();
+        this.selectItem (slot);
+    }
+}
@@ -0,0 +1,206 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.daw.data.bank;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.DAWColor;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.ISlotBank;
+import de.mossgrabers.framework.daw.data.bank.ITrackBank;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IIndexedValueObserver;
+import de.mossgrabers.framework.observer.INoteObserver;
+import de.mossgrabers.headless.daw.data.TrackImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A flat bank of tracks. Audio and instrument tracks alternate, an effect track bank contains only
+ * effect tracks which have no sends.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TrackBankImpl extends AbstractChannelBankImpl<ITrack> implements ITrackBank
+{
+    private static final DAWColor []                  COLORS        = DAWColor.values ();
+
+    private final List<IIndexedValueObserver<String>> nameObservers = new ArrayList<> ();
+    private final List<INoteObserver>                 noteObservers = new ArrayList<> ();
+    private final IValueChanger                       valueChanger;
+    private final boolean                             isEffectBank;
+    private final String []                           sendNames;
+    private final int                                 numSends;
+    private final int                                 numScenes;
+    private final int                                 numClips;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The DAW host
+     * @param valueChanger The value changer
+     * @param numTracks The number of tracks in a page of the bank
+     * @param trackCount The number of existing tracks
+     * @param numScenes The number of scenes in a page of the bank
+     * @param numClips The number of clips on each track
+     * @param sendNames The names of the sends, empty for an effect track bank
+     * @param numSends The number of sends in a page of the send bank of a track
+     * @param isEffectBank True to create effect tracks
+     */
+    public TrackBankImpl (final IHost host, final IValueChanger valueChanger, final int numTracks, final int trackCount, final int numScenes, final int numClips, final String [] sendNames, final int numSends, final boolean isEffectBank)
+    {
+        super (host, numTracks);
+
+        this.valueChanger = valueChanger;
+        this.isEffectBank = isEffectBank;
+        this.sendNames = sendNames;
+        this.numSends = numSends;
+        this.numScenes = numScenes;
+        this.numClips = numClips;
+
+        this.addItems (trackCount);
+
+        this.sceneBank = new SceneBankImpl (host, numScenes, numScenes, this::launchScene, this::stopAllClips);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected ITrack createItem (final int position, final boolean exists)
+    {
+        final String name = exists ? (this.isEffectBank ? "FX " : "Track ") + (position + 1) : null;
+        final ChannelType type = this.isEffectBank ? ChannelType.EFFECT : position % 2 == 0 ? ChannelType.INSTRUMENT : ChannelType.AUDIO;
+        final TrackImpl track = new TrackImpl (this.host, this.valueChanger, position, name, type, this.sendNames, this.numSends, this.numScenes, this.numClips);
+        if (exists)
+        {
+            track.setColor (COLORS[1 + position % (COLORS.length - 1)].getColor ());
+            track.addNameObserver (value -> this.notifyNameObservers (track, value));
+        }
+        return track;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectParent ()
+    {
+        // The bank is flat
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasParent ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isClipRecording ()
+    {
+        for (final ITrack track: this.items)
+        {
+            final ISlotBank slotBank = track.getSlotBank ();
+            for (int s = 0; s < slotBank.getPageSize (); s++)
+            {
+                if (slotBank.getItem (s).isRecording ())
+                    return true;
+            }
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canEditSend (final int sendIndex)
+    {
+        return !this.isEffectBank && this.getItem (0).getSendBank ().getItem (sendIndex).doesExist ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getEditSendName (final int sendIndex)
+    {
+        return this.isEffectBank ? "" : this.getItem (0).getSendBank ().getItem (sendIndex).getName ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNameObserver (final IIndexedValueObserver<String> observer)
+    {
+        this.nameObservers.add (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNoteObserver (final INoteObserver observer)
+    {
+        this.noteObservers.add (observer);
+    }
+
+
+    /**
+     * Simulate a note played on a track of the page, e.g. coming from a clip.
+     *
+     * @param trackIndex The index of the track on the page
+     * @param note The note
+     * @param velocity The velocity, 0 for a note off
+     */
+    public void playNote (final int trackIndex, final int note, final int velocity)
+    {
+        for (final INoteObserver observer: this.noteObservers)
+            observer.call (trackIndex, note, velocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void updatePage ()
+    {
+        super.updatePage ();
+
+        for (final ITrack track: this.items)
+            this.notifyNameObservers (track, track.getName ());
+    }
+
+
+    private void notifyNameObservers (final ITrack track, final String name)
+    {
+        if (!this.isOnPage (track))
+            return;
+        for (final IIndexedValueObserver<String> observer: this.nameObservers)
+            observer.update (track.getIndex (), name);
+    }
+
+
+    private void launchScene (final int position)
+    {
+        for (final ITrack track: this.content)
+        {
+            final ISlot slot = track.getSlotBank ().getItem (position);
+            if (slot.hasContent ())
+                slot.launch ();
+            else
+                track.stop ();
+        }
+    }
+
+
+    private void stopAllClips ()
+    {
+        for (final ITrack track: this.content)
+            track.stop ();
+    }
+}
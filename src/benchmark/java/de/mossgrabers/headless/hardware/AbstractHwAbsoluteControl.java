@@ -0,0 +1,103 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.hardware;
+
+import de.mossgrabers.framework.controller.hardware.AbstractHwContinuousControl;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteControl;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * Headless implementation of a proxy to an absolute control (fader or knob) on a hardware
+ * controller.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractHwAbsoluteControl extends AbstractHwContinuousControl implements IHwAbsoluteControl
+{
+    private IParameter parameter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param label The label of the control
+     */
+    protected AbstractHwAbsoluteControl (final IHost host, final String label)
+    {
+        super (host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IParameter parameter)
+    {
+        this.parameter = parameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        input.bind (this, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleValue (final double value)
+    {
+        // A bound parameter replaces the command like in the DAW
+        if (this.parameter != null)
+        {
+            this.parameter.setNormalizedValue (value);
+            return;
+        }
+
+        if (this.command != null)
+        {
+            this.command.execute ((int) Math.round (value * 127.0));
+            return;
+        }
+
+        if (this.pitchbendCommand != null)
+        {
+            final double v = value * 16383.0;
+            final int data1 = (int) Math.min (127, Math.round (v % 128.0));
+            final int data2 = (int) Math.min (127, Math.round (v / 128.0));
+            this.pitchbendCommand.onPitchbend (data1, data2);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndexInGroup (final int index)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void disableTakeOver ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,39 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.hardware;
+
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * Headless implementation of a proxy to a absolute knob on a hardware controller.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HwAbsoluteKnobImpl extends AbstractHwAbsoluteControl implements IHwAbsoluteKnob
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param label The label of the absolute knob
+     */
+    public HwAbsoluteKnobImpl (final IHost host, final String label)
+    {
+        super (host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final TriggerCommand command, final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        // No touch on absolute knob
+    }
+}
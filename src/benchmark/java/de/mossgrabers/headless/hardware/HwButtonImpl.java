@@ -0,0 +1,90 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.hardware;
+
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.hardware.AbstractHwButton;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * Headless implementation of a proxy to a button on a hardware controller. The button is triggered
+ * by the MIDI input it is bound to.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HwButtonImpl extends AbstractHwButton
+{
+    private final ButtonID buttonID;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param buttonID The ID of the button
+     * @param label The label of the button
+     */
+    public HwButtonImpl (final IHost host, final ButtonID buttonID, final String label)
+    {
+        super (host, label);
+
+        this.buttonID = buttonID;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final TriggerCommand command)
+    {
+        this.command = command;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        input.bind (this, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input, final BindType type, final int channel, final int control, final int value)
+    {
+        input.bind (this, type, channel, control, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unbind (final IMidiInput input)
+    {
+        input.unbind (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the ID of the button.
+     *
+     * @return The ID
+     */
+    public ButtonID getButtonID ()
+    {
+        return this.buttonID;
+    }
+}
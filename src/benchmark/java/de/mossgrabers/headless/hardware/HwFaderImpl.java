@@ -0,0 +1,41 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.hardware;
+
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * Headless implementation of a proxy to a fader on a hardware controller.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HwFaderImpl extends AbstractHwAbsoluteControl implements IHwFader
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param label The label of the fader
+     */
+    public HwFaderImpl (final IHost host, final String label)
+    {
+        super (host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final TriggerCommand command, final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        this.touchCommand = command;
+
+        input.bindTouch (this, type, channel, control);
+    }
+}
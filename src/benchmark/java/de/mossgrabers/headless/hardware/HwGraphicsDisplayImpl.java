@@ -0,0 +1,52 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.hardware;
+
+import de.mossgrabers.framework.controller.hardware.AbstractHwControl;
+import de.mossgrabers.framework.controller.hardware.IHwGraphicsDisplay;
+import de.mossgrabers.framework.graphics.IBitmap;
+
+
+/**
+ * Headless implementation of a proxy to a graphics display on a hardware controller.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HwGraphicsDisplayImpl extends AbstractHwControl implements IHwGraphicsDisplay
+{
+    private final IBitmap bitmap;
+
+
+    /**
+     * Constructor.
+     *
+     * @param bitmap The bitmap which contains the display content
+     */
+    public HwGraphicsDisplayImpl (final IBitmap bitmap)
+    {
+        super (null, null);
+
+        this.bitmap = bitmap;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the bitmap which contains the display content.
+     *
+     * @return The bitmap
+     */
+    public IBitmap getBitmap ()
+    {
+        return this.bitmap;
+    }
+}
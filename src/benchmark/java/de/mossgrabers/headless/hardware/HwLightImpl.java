@@ -0,0 +1,88 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.hardware;
+
+import de.mossgrabers.framework.controller.hardware.AbstractHwControl;
+import de.mossgrabers.framework.controller.hardware.IHwLight;
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * Headless implementation of a proxy to a light on a hardware controller. Like in the DAW, the
+ * state is only sent to the device if it has changed since the last update.
+ *
+ * @param <T> The type of the light state
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HwLightImpl<T> extends AbstractHwControl implements IHwLight
+{
+    private final Supplier<T> supplier;
+    private final Consumer<T> sendValueConsumer;
+    private final T           offState;
+    private boolean           isOff;
+    private boolean           isCached;
+    private T                 sentState;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param supplier Supplies the current state of the light
+     * @param sendValueConsumer Sends the state to the device
+     * @param offState The state which is sent when the light is turned off
+     */
+    public HwLightImpl (final IHost host, final Supplier<T> supplier, final Consumer<T> sendValueConsumer, final T offState)
+    {
+        super (host, null);
+
+        this.supplier = supplier;
+        this.sendValueConsumer = sendValueConsumer;
+        this.offState = offState;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void update ()
+    {
+        final T state = this.isOff ? this.offState : this.supplier.get ();
+        if (this.isCached && Objects.equals (state, this.sentState))
+            return;
+        this.sentState = state;
+        this.isCached = true;
+        this.sendValueConsumer.accept (state);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void turnOff ()
+    {
+        this.isOff = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearCache ()
+    {
+        this.isOff = false;
+        this.isCached = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
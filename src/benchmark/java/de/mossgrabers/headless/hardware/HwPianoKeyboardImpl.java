@@ -0,0 +1,43 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.hardware;
+
+import de.mossgrabers.framework.controller.hardware.AbstractHwControl;
+import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * Headless implementation of a proxy to a piano keyboard on a hardware controller. The notes are
+ * handled by the note input of the MIDI input.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HwPianoKeyboardImpl extends AbstractHwControl implements IHwPianoKeyboard
+{
+    /**
+     * Constructor.
+     */
+    public HwPianoKeyboardImpl ()
+    {
+        super (null, "Keyboard");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
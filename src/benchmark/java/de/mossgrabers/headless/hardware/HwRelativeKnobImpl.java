@@ -0,0 +1,109 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.hardware;
+
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.controller.hardware.AbstractHwContinuousControl;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+
+
+/**
+ * Headless implementation of a proxy to a relative knob on a hardware controller. The MIDI input
+ * decodes the value with the encoding of the knob and hands it on normalized like the DAW does.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HwRelativeKnobImpl extends AbstractHwContinuousControl implements IHwRelativeKnob
+{
+    private final RelativeEncoding encoding;
+    private IParameter             parameter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param label The label of the knob
+     * @param encoding The encoding of the relative value
+     */
+    public HwRelativeKnobImpl (final IHost host, final String label, final RelativeEncoding encoding)
+    {
+        super (host, label);
+
+        this.encoding = encoding;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IParameter parameter)
+    {
+        this.parameter = parameter;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        input.bind (this, type, channel, control, this.encoding);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final TriggerCommand command, final IMidiInput input, final BindType type, final int channel, final int control)
+    {
+        this.touchCommand = command;
+
+        input.bindTouch (this, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleValue (final double value)
+    {
+        // Convert the value back from the default 2s relative matcher, because we do the conversion
+        // our own way
+        final double a = value * 61.0;
+        final int v = (int) (a > 0 ? Math.ceil (a) : Math.floor (a));
+
+        // A bound parameter replaces the command like in the DAW
+        if (this.parameter != null)
+            this.parameter.changeValue (v);
+        else if (this.command != null)
+            this.command.execute (v < 0 ? v + 128 : v);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndexInGroup (final int index)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSensitivity (final double sensitivity)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBounds (final double x, final double y, final double width, final double height)
+    {
+        // Intentionally empty
+    }
+}
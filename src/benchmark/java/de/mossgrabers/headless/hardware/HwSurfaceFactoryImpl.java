@@ -0,0 +1,157 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.hardware;
+
+import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.ContinuousID;
+import de.mossgrabers.framework.controller.OutputID;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.controller.hardware.IHwGraphicsDisplay;
+import de.mossgrabers.framework.controller.hardware.IHwLight;
+import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
+import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.headless.HeadlessTextDisplay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+
+/**
+ * Factory for creating headless hardware elements. Like in the DAW, the lights are only sent to the
+ * device on a flush if their state has changed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
+{
+    private final IHost                host;
+    private final List<HwLightImpl<?>> lights = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public HwSurfaceFactoryImpl (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwButton createButton (final int surfaceID, final ButtonID buttonID, final String label)
+    {
+        return new HwButtonImpl (this.host, buttonID, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwLight createLight (final int surfaceID, final OutputID outputID, final Supplier<ColorEx> supplier, final Consumer<ColorEx> sendValueConsumer)
+    {
+        final HwLightImpl<ColorEx> light = new HwLightImpl<> (this.host, supplier, sendValueConsumer, ColorEx.BLACK);
+        this.lights.add (light);
+        return light;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwLight createLight (final int surfaceID, final OutputID outputID, final IntSupplier supplier, final IntConsumer sendValueConsumer, final IntFunction<ColorEx> stateToColorFunction, final IHwButton button)
+    {
+        final HwLightImpl<Integer> light = new HwLightImpl<> (this.host, () -> Integer.valueOf (supplier.getAsInt ()), state -> sendValueConsumer.accept (state.intValue ()), Integer.valueOf (0));
+        this.lights.add (light);
+        if (button != null)
+            button.addLight (light);
+        return light;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwFader createFader (final int surfaceID, final ContinuousID faderID, final String label, final boolean isVertical)
+    {
+        return new HwFaderImpl (this.host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwAbsoluteKnob createAbsoluteKnob (final int surfaceID, final ContinuousID knobID, final String label)
+    {
+        return new HwAbsoluteKnobImpl (this.host, label);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwRelativeKnob createRelativeKnob (final int surfaceID, final ContinuousID knobID, final String label)
+    {
+        return this.createRelativeKnob (surfaceID, knobID, label, RelativeEncoding.TWOS_COMPLEMENT);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwRelativeKnob createRelativeKnob (final int surfaceID, final ContinuousID knobID, final String label, final RelativeEncoding encoding)
+    {
+        return new HwRelativeKnobImpl (this.host, label, encoding);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwTextDisplay createTextDisplay (final int surfaceID, final OutputID outputID, final int numLines)
+    {
+        return new HeadlessTextDisplay (outputID.name (), numLines);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwGraphicsDisplay createGraphicsDisplay (final int surfaceID, final OutputID outputID, final IBitmap bitmap)
+    {
+        return new HwGraphicsDisplayImpl (bitmap);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHwPianoKeyboard createPianoKeyboard (final int surfaceID, final int numKeys)
+    {
+        return new HwPianoKeyboardImpl ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        this.lights.forEach (HwLightImpl::update);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearCache ()
+    {
+        this.lights.forEach (HwLightImpl::clearCache);
+    }
+}
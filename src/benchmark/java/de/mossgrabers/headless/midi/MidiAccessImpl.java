@@ -0,0 +1,94 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.midi;
+
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.headless.HeadlessMidiOutput;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * Headless implementation of the MIDI access. Keeps all created ports, so that input can be
+ * injected and the output can be measured.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiAccessImpl implements IMidiAccess
+{
+    private final Map<Integer, MidiInputImpl>      inputs  = new TreeMap<> ();
+    private final Map<Integer, HeadlessMidiOutput> outputs = new TreeMap<> ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput ()
+    {
+        return this.createOutput (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput (final int index)
+    {
+        return this.outputs.computeIfAbsent (Integer.valueOf (index), key -> new HeadlessMidiOutput ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final String name, final String... filters)
+    {
+        return this.createInput (0, name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final int index, final String name, final String... filters)
+    {
+        final MidiInputImpl input = new MidiInputImpl (name, filters);
+        this.inputs.put (Integer.valueOf (index), input);
+        return input;
+    }
+
+
+    /**
+     * Get the input with the given index.
+     *
+     * @param index The index of the input port
+     * @return The input or null if it was not created
+     */
+    public MidiInputImpl getInput (final int index)
+    {
+        return this.inputs.get (Integer.valueOf (index));
+    }
+
+
+    /**
+     * Get all created inputs.
+     *
+     * @return The inputs sorted by their port index
+     */
+    public Map<Integer, MidiInputImpl> getInputs ()
+    {
+        return this.inputs;
+    }
+
+
+    /**
+     * Get all created outputs.
+     *
+     * @return The outputs sorted by their port index
+     */
+    public Map<Integer, HeadlessMidiOutput> getOutputs ()
+    {
+        return this.outputs;
+    }
+}
@@ -0,0 +1,104 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.midi;
+
+import de.mossgrabers.framework.daw.midi.MidiOutputQueue;
+
+
+/**
+ * A table which maps the address of a short MIDI message (the status byte and the first data byte)
+ * to a handler, e.g. a bound hardware control. The table is filled when the controls are bound and
+ * looking up an incoming message takes constant time without any allocation.
+ *
+ * The addresses are the same as the default ones of the MIDI output queue, see
+ * {@link MidiOutputQueue#getAddress(int, int)}.
+ *
+ * @param <T> The type of the handlers
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiDispatchTable<T>
+{
+    private static final int NUM_ADDRESSES = MidiOutputQueue.NUM_ADDRESSES;
+
+    private final Object []  handlers      = new Object [NUM_ADDRESSES];
+
+
+    /**
+     * Set the handler of an address.
+     *
+     * @param status The status byte including the MIDI channel
+     * @param data1 The first data byte, ignored for program change, channel aftertouch and
+     *            pitchbend
+     * @param handler The handler, null to remove it
+     */
+    public void put (final int status, final int data1, final T handler)
+    {
+        this.handlers[MidiOutputQueue.getAddress (status, data1)] = handler;
+    }
+
+
+    /**
+     * Get the handler of the address of a message.
+     *
+     * @param status The status byte including the MIDI channel
+     * @param data1 The first data byte
+     * @return The handler or null if none is registered or the status is not a channel message
+     */
+    @SuppressWarnings("unchecked")
+    public T get (final int status, final int data1)
+    {
+        if (status < 0x80 || status > 0xEF)
+            return null;
+        return (T) this.handlers[MidiOutputQueue.getAddress (status, data1)];
+    }
+
+
+    /**
+     * Remove all handlers.
+     */
+    public void clear ()
+    {
+        for (int i = 0; i < NUM_ADDRESSES; i++)
+            this.handlers[i] = null;
+    }
+
+
+    /**
+     * Calls the consumer for all registered handlers. The status byte of note addresses is the one
+     * of note on.
+     *
+     * @param consumer The consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach (final AddressConsumer<T> consumer)
+    {
+        for (int address = 0; address < NUM_ADDRESSES; address++)
+        {
+            final Object handler = this.handlers[address];
+            if (handler != null)
+                consumer.accept (0x80 + address / 128, address % 128, (T) handler);
+        }
+    }
+
+
+    /**
+     * Consumes a registered handler together with its address.
+     *
+     * @param <T> The type of the handler
+     */
+    @FunctionalInterface
+    public interface AddressConsumer<T>
+    {
+        /**
+         * Consume a handler.
+         *
+         * @param status The status byte including the MIDI channel
+         * @param data1 The first data byte
+         * @param handler The handler
+         */
+        void accept (int status, int data1, T handler);
+    }
+}
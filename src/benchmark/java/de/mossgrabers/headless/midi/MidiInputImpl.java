@@ -0,0 +1,399 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.midi;
+
+import de.mossgrabers.framework.controller.hardware.BindException;
+import de.mossgrabers.framework.controller.hardware.BindType;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteControl;
+import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
+import de.mossgrabers.framework.controller.hardware.IHwButton;
+import de.mossgrabers.framework.controller.hardware.IHwContinuousControl;
+import de.mossgrabers.framework.controller.hardware.IHwFader;
+import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.controller.valuechanger.Relative2ValueChanger;
+import de.mossgrabers.framework.controller.valuechanger.Relative3ValueChanger;
+import de.mossgrabers.framework.controller.valuechanger.Relative4ValueChanger;
+import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.utils.ButtonEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Headless implementation of a MIDI input. Messages are injected with the receive methods. Like in
+ * the DAW, messages which match a bound hardware control are handled by the control, all others
+ * are sent to the MIDI callback. The note inputs receive all messages which match their filters.
+ * The bound controls are looked up in a dispatch table which is filled when binding.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiInputImpl implements IMidiInput
+{
+    private final MidiDispatchTable<List<Binding>> bindings   = new MidiDispatchTable<> ();
+    private final List<NoteInputImpl>              noteInputs = new ArrayList<> ();
+    private final NoteInputImpl                    defaultNoteInput;
+    private MidiShortCallback                      midiCallback;
+    private MidiSysExCallback                      sysexCallback;
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the default note input, if null no default note input is created
+     * @param filters The filters for the default note input
+     */
+    public MidiInputImpl (final String name, final String... filters)
+    {
+        this.defaultNoteInput = name == null ? null : (NoteInputImpl) this.createNoteInput (name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput createNoteInput (final String name, final String... filters)
+    {
+        final NoteInputImpl noteInput = new NoteInputImpl (filters);
+        this.noteInputs.add (noteInput);
+        return noteInput;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput getDefaultNoteInput ()
+    {
+        return this.defaultNoteInput;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        if (this.defaultNoteInput != null)
+            this.defaultNoteInput.handleMidi (status, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control)
+    {
+        switch (type)
+        {
+            case CC:
+                this.addBinding (button, BindType.CC, channel, control, value -> {
+                    if (value > 0)
+                        triggerButton (button, ButtonEvent.DOWN, value);
+                    else
+                        triggerButton (button, ButtonEvent.UP, 0);
+                });
+                break;
+
+            case NOTE:
+                this.addBinding (button, BindType.NOTE, channel, control, value -> triggerButton (button, value > 0 ? ButtonEvent.DOWN : ButtonEvent.UP, value));
+                break;
+
+            default:
+                throw new BindException (type);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unbind (final IHwButton button)
+    {
+        this.bindings.forEach ( (status, data1, list) -> {
+            list.removeIf (binding -> binding.control == button);
+            if (list.isEmpty ())
+                this.bindings.put (status, data1, null);
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwButton button, final BindType type, final int channel, final int control, final int value)
+    {
+        if (type != BindType.CC)
+            throw new BindException (type);
+
+        this.addBinding (button, BindType.CC, channel, control, v -> {
+            if (v == value)
+                triggerButton (button, ButtonEvent.DOWN, v);
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.bindAbsolute (fader, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteKnob absoluteKnob, final BindType type, final int channel, final int control)
+    {
+        this.bindAbsolute (absoluteKnob, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwAbsoluteControl absoluteControl, final BindType type, final int channel, final int control)
+    {
+        this.bindAbsolute (absoluteControl, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bind (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control, final RelativeEncoding encoding)
+    {
+        if (type != BindType.CC)
+            throw new BindException (type);
+
+        final IValueChanger decoder = createDecoder (encoding);
+        this.addBinding (relativeKnob, BindType.CC, channel, control, value -> relativeKnob.handleValue (decoder.decode (value) / 61.0));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwRelativeKnob relativeKnob, final BindType type, final int channel, final int control)
+    {
+        this.bindTouch ((IHwContinuousControl) relativeKnob, type, channel, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTouch (final IHwFader fader, final BindType type, final int channel, final int control)
+    {
+        this.bindTouch ((IHwContinuousControl) fader, type, channel, control);
+    }
+
+
+    /**
+     * Receive a short MIDI message from the device.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void receive (final int status, final int data1, final int data2)
+    {
+        for (final NoteInputImpl noteInput: this.noteInputs)
+            noteInput.handleMidi (status, data1, data2);
+
+        final List<Binding> matches = this.bindings.get (status, data1);
+        if (matches != null)
+        {
+            final int value;
+            switch (status & 0xF0)
+            {
+                // Note off is a release independent of the velocity
+                case 0x80:
+                    value = 0;
+                    break;
+                case 0xE0:
+                    value = data2 * 128 + data1;
+                    break;
+                default:
+                    value = data2;
+                    break;
+            }
+            for (int i = 0; i < matches.size (); i++)
+                matches.get (i).handler.handle (value);
+            return;
+        }
+
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+    }
+
+
+    /**
+     * Receive a system exclusive message from the device.
+     *
+     * @param data The data formatted as a hex string
+     */
+    public void receiveSysex (final String data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+    }
+
+
+    /**
+     * Get the first MIDI bytes (status and data1) of all messages which are bound to hardware
+     * controls. Pitchbend messages have a data1 of 0.
+     *
+     * @return The bound messages, each array contains the status byte and the first data byte
+     */
+    public List<int []> getBoundMessages ()
+    {
+        final List<int []> messages = new ArrayList<> ();
+        this.bindings.forEach ( (status, data1, list) -> messages.add (new int []
+        {
+            status,
+            data1
+        }));
+        return messages;
+    }
+
+
+    /**
+     * Get all note inputs.
+     *
+     * @return The note inputs
+     */
+    public List<NoteInputImpl> getNoteInputs ()
+    {
+        return this.noteInputs;
+    }
+
+
+    private void bindAbsolute (final IHwContinuousControl control, final BindType type, final int channel, final int number)
+    {
+        switch (type)
+        {
+            case CC:
+                this.addBinding (control, BindType.CC, channel, number, value -> control.handleValue (value / 127.0));
+                break;
+            case PITCHBEND:
+                this.addBinding (control, BindType.PITCHBEND, channel, 0, value -> control.handleValue (value / 16383.0));
+                break;
+            default:
+                throw new BindException (type);
+        }
+    }
+
+
+    private void bindTouch (final IHwContinuousControl control, final BindType type, final int channel, final int number)
+    {
+        switch (type)
+        {
+            case CC:
+                this.addBinding (control, BindType.CC, channel, number, value -> {
+                    if (value == 127)
+                        control.triggerTouch (true);
+                    else if (value == 0)
+                        control.triggerTouch (false);
+                });
+                break;
+            case NOTE:
+                this.addBinding (control, BindType.NOTE, channel, number, value -> control.triggerTouch (value > 0));
+                break;
+            default:
+                throw new BindException (type);
+        }
+    }
+
+
+    private void addBinding (final Object control, final BindType type, final int channel, final int number, final BindingHandler handler)
+    {
+        final int status = getStatus (type) + channel;
+        List<Binding> list = this.bindings.get (status, number);
+        if (list == null)
+        {
+            list = new ArrayList<> ();
+            this.bindings.put (status, number, list);
+        }
+        list.add (new Binding (control, handler));
+    }
+
+
+    private static int getStatus (final BindType type)
+    {
+        switch (type)
+        {
+            case NOTE:
+                return 0x90;
+            case PITCHBEND:
+                return 0xE0;
+            default:
+                return 0xB0;
+        }
+    }
+
+
+    private static void triggerButton (final IHwButton button, final ButtonEvent event, final int velocity)
+    {
+        // Like in the DAW, buttons without a command do not react
+        if (button.isBound ())
+            button.trigger (event, velocity / 127.0);
+    }
+
+
+    private static IValueChanger createDecoder (final RelativeEncoding encoding)
+    {
+        switch (encoding)
+        {
+            case OFFSET_BINARY:
+                return new Relative3ValueChanger (128, 1);
+            case SIGNED_BIT:
+                return new Relative2ValueChanger (128, 1);
+            case SIGNED_BIT2:
+                return new Relative4ValueChanger (128, 1);
+            default:
+                return new DefaultValueChanger (128, 1);
+        }
+    }
+
+
+    /**
+     * Handles the value of a matched MIDI message.
+     */
+    @FunctionalInterface
+    private interface BindingHandler
+    {
+        void handle (int value);
+    }
+
+
+    /**
+     * A hardware control bound to a MIDI message.
+     */
+    private static class Binding
+    {
+        final Object         control;
+        final BindingHandler handler;
+
+
+        Binding (final Object control, final BindingHandler handler)
+        {
+            this.control = control;
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.midi;
+
+import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.INoteRepeat;
+
+import java.util.Locale;
+
+
+/**
+ * Headless implementation of a note input. Counts the messages which match the filters and would
+ * be played by the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NoteInputImpl implements INoteInput
+{
+    private final int []      filterMasks;
+    private final int []      filterValues;
+    private final INoteRepeat noteRepeat = new NoteRepeatImpl ();
+    private Integer []        keyTranslationTable;
+    private long              playedNotes;
+    private long              receivedMessages;
+
+
+    /**
+     * Constructor.
+     *
+     * @param filters The filters for the MIDI messages, e.g. "80????" for all note off messages on
+     *            channel 1. If empty all messages pass
+     */
+    public NoteInputImpl (final String... filters)
+    {
+        // Convert the filters into bit masks of the nibbles which need to match
+        this.filterMasks = new int [filters.length];
+        this.filterValues = new int [filters.length];
+        for (int i = 0; i < filters.length; i++)
+        {
+            final String filter = filters[i].toUpperCase (Locale.US);
+            for (int n = 0; n < Math.min (6, filter.length ()); n++)
+            {
+                final char c = filter.charAt (n);
+                if (c == '?')
+                    continue;
+                final int shift = 20 - 4 * n;
+                this.filterMasks[i] |= 0xF << shift;
+                this.filterValues[i] |= Character.digit (c, 16) << shift;
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setKeyTranslationTable (final Integer [] table)
+    {
+        this.keyTranslationTable = table;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVelocityTranslationTable (final Integer [] table)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteRepeat getNoteRepeat ()
+    {
+        return this.noteRepeat;
+    }
+
+
+    /**
+     * Handle a MIDI message if it matches the filters.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void handleMidi (final int status, final int data1, final int data2)
+    {
+        if (!this.matches (status, data1, data2))
+            return;
+
+        this.receivedMessages++;
+
+        final int code = status & 0xF0;
+        if (code != 0x90 && code != 0x80)
+            return;
+        // Notes which are translated to -1 are not played
+        if (this.keyTranslationTable != null && this.keyTranslationTable[data1].intValue () < 0)
+            return;
+        if (code == 0x90 && data2 > 0)
+            this.playedNotes++;
+    }
+
+
+    /**
+     * Get the number of received messages, which matched the filters.
+     *
+     * @return The number of messages
+     */
+    public long getReceivedMessages ()
+    {
+        return this.receivedMessages;
+    }
+
+
+    /**
+     * Get the number of played notes (note on messages which are not filtered by the key
+     * translation table).
+     *
+     * @return The number of notes
+     */
+    public long getPlayedNotes ()
+    {
+        return this.playedNotes;
+    }
+
+
+    private boolean matches (final int status, final int data1, final int data2)
+    {
+        if (this.filterMasks.length == 0)
+            return true;
+
+        final int message = status << 16 | data1 << 8 | data2;
+        for (int i = 0; i < this.filterMasks.length; i++)
+        {
+            if ((message & this.filterMasks[i]) == this.filterValues[i])
+                return true;
+        }
+        return false;
+    }
+}
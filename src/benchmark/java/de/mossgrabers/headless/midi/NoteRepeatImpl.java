@@ -0,0 +1,170 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.midi;
+
+import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
+import de.mossgrabers.framework.daw.midi.INoteRepeat;
+
+
+/**
+ * Headless implementation of the note repeat. Only the settings are stored.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NoteRepeatImpl implements INoteRepeat
+{
+    private boolean         isActive;
+    private double          period     = 1.0;
+    private double          noteLength = 1.0;
+    private boolean         isShuffle;
+    private boolean         usePressure;
+    private int             octaves;
+    private ArpeggiatorMode mode       = ArpeggiatorMode.UP;
+    private boolean         isFreeRunning;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleActive ()
+    {
+        this.isActive = !this.isActive;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isActive ()
+    {
+        return this.isActive;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setActive (final boolean active)
+    {
+        this.isActive = active;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPeriod (final double period)
+    {
+        this.period = period;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPeriod ()
+    {
+        return this.period;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setNoteLength (final double length)
+    {
+        this.noteLength = length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getNoteLength ()
+    {
+        return this.noteLength;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isShuffle ()
+    {
+        return this.isShuffle;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleShuffle ()
+    {
+        this.isShuffle = !this.isShuffle;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean usePressure ()
+    {
+        return this.usePressure;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleUsePressure ()
+    {
+        this.usePressure = !this.usePressure;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getOctaves ()
+    {
+        return this.octaves;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setOctaves (final int octaves)
+    {
+        this.octaves = octaves;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ArpeggiatorMode getMode ()
+    {
+        return this.mode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMode (final ArpeggiatorMode mode)
+    {
+        this.mode = mode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFreeRunning ()
+    {
+        return this.isFreeRunning;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleIsFreeRunning ()
+    {
+        this.isFreeRunning = !this.isFreeRunning;
+    }
+}
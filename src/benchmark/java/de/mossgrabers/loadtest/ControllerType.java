@@ -0,0 +1,98 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.loadtest;
+
+import de.mossgrabers.controller.generic.GenericFlexiControllerSetup;
+import de.mossgrabers.controller.launchpad.LaunchpadControllerSetup;
+import de.mossgrabers.controller.launchpad.definition.LaunchpadMkIIControllerDefinition;
+import de.mossgrabers.controller.launchpad.definition.LaunchpadProControllerDefinition;
+import de.mossgrabers.controller.launchpad.definition.LaunchpadXControllerDefinition;
+import de.mossgrabers.controller.mcu.MCUControllerSetup;
+import de.mossgrabers.controller.osc.OSCControllerSetup;
+import de.mossgrabers.controller.push.PushControllerSetup;
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Locale;
+
+
+/**
+ * The controller setups which can be simulated.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ControllerType
+{
+    /** Ableton Push 1. */
+    PUSH1((host, factory, globalSettings, documentSettings) -> new PushControllerSetup (host, factory, globalSettings, documentSettings, false)),
+    /** Ableton Push 2. */
+    PUSH2((host, factory, globalSettings, documentSettings) -> new PushControllerSetup (host, factory, globalSettings, documentSettings, true)),
+    /** Novation Launchpad MkII. */
+    LAUNCHPAD_MK2((host, factory, globalSettings, documentSettings) -> new LaunchpadControllerSetup (host, factory, globalSettings, documentSettings, new LaunchpadMkIIControllerDefinition ())),
+    /** Novation Launchpad Pro. */
+    LAUNCHPAD_PRO((host, factory, globalSettings, documentSettings) -> new LaunchpadControllerSetup (host, factory, globalSettings, documentSettings, new LaunchpadProControllerDefinition ())),
+    /** Novation Launchpad X. */
+    LAUNCHPAD_X((host, factory, globalSettings, documentSettings) -> new LaunchpadControllerSetup (host, factory, globalSettings, documentSettings, new LaunchpadXControllerDefinition ())),
+    /** Mackie Control Universal without extenders. */
+    MCU((host, factory, globalSettings, documentSettings) -> new MCUControllerSetup (host, factory, globalSettings, documentSettings, 1)),
+    /** Open Sound Control. */
+    OSC((host, factory, globalSettings, documentSettings) -> new OSCControllerSetup (host, factory, globalSettings, documentSettings)),
+    /** Generic Flexi. */
+    GENERIC_FLEXI((host, factory, globalSettings, documentSettings) -> new GenericFlexiControllerSetup (host, factory, globalSettings, documentSettings));
+
+
+    private final SetupCreator creator;
+
+
+    /**
+     * Constructor.
+     *
+     * @param creator Creates the setup
+     */
+    ControllerType (final SetupCreator creator)
+    {
+        this.creator = creator;
+    }
+
+
+    /**
+     * Create the controller setup.
+     *
+     * @param host The host
+     * @param factory The setup factory
+     * @param globalSettings The global settings
+     * @param documentSettings The document (project) specific settings
+     * @return The setup
+     */
+    public IControllerSetup<?, ?> createSetup (final IHost host, final ISetupFactory factory, final ISettingsUI globalSettings, final ISettingsUI documentSettings)
+    {
+        return this.creator.create (host, factory, globalSettings, documentSettings);
+    }
+
+
+    /**
+     * Get a controller type by its name, e.g. "push2" or "launchpad-mk2".
+     *
+     * @param name The name, case and hyphens are ignored
+     * @return The type
+     * @throws IllegalArgumentException If there is no type with that name
+     */
+    public static ControllerType getByName (final String name)
+    {
+        return ControllerType.valueOf (name.toUpperCase (Locale.US).replace ('-', '_'));
+    }
+
+
+    /**
+     * Creates a controller setup.
+     */
+    @FunctionalInterface
+    private interface SetupCreator
+    {
+        IControllerSetup<?, ?> create (IHost host, ISetupFactory factory, ISettingsUI globalSettings, ISettingsUI documentSettings);
+    }
+}
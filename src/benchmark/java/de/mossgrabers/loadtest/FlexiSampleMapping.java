@@ -0,0 +1,78 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.loadtest;
+
+import de.mossgrabers.controller.generic.CommandSlot;
+import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.controller.generic.controller.FlexiCommand;
+
+
+/**
+ * A small mapping for the generic Flexi setup which resembles a typical 8 channel mixer controller:
+ * CC 0-7 set the volume, CC 8-15 the panorama and CC 16-23 the mute state of the tracks 1-8 and CC
+ * 24 the master volume, all on the first MIDI channel. All values are reflected to the device.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class FlexiSampleMapping
+{
+    private static final String [] TRACK_COMMANDS =
+    {
+        "_SET_VOLUME",
+        "_SET_PANORAMA",
+        "_SET_MUTE"
+    };
+
+
+    /**
+     * Private due to utility class.
+     */
+    private FlexiSampleMapping ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Replace the command slots of the configuration with the sample mapping.
+     *
+     * @param configuration The configuration of the generic Flexi setup
+     */
+    public static void apply (final GenericFlexiConfiguration configuration)
+    {
+        final CommandSlot [] slots = configuration.getCommandSlots ();
+        int index = 0;
+        for (final String command: TRACK_COMMANDS)
+        {
+            for (int i = 0; i < 8; i++)
+            {
+                set (slots[index], index, FlexiCommand.valueOf ("TRACK_" + (i + 1) + command));
+                index++;
+            }
+        }
+        set (slots[index], index, FlexiCommand.MASTER_SET_VOLUME);
+        index++;
+
+        for (int i = index; i < slots.length; i++)
+        {
+            slots[i].setType (CommandSlot.TYPE_OFF);
+            slots[i].setCommand (FlexiCommand.OFF);
+        }
+
+        configuration.clearNoteMap ();
+    }
+
+
+    private static void set (final CommandSlot slot, final int cc, final FlexiCommand command)
+    {
+        slot.setType (CommandSlot.TYPE_CC);
+        slot.setNumber (cc);
+        slot.setMidiChannel (0);
+        slot.setKnobMode (0);
+        slot.setCommand (command);
+        slot.setSendValue (true);
+        slot.setSendValueWhenReceived (false);
+    }
+}
@@ -0,0 +1,21 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.loadtest;
+
+/**
+ * A message which is injected into a simulated controller.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface LoadEvent
+{
+    /**
+     * Inject the message. Called on the host thread.
+     *
+     * @param controller The controller
+     */
+    void fire (SimulatedController controller);
+}
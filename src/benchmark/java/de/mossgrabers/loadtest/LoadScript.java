@@ -0,0 +1,308 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.loadtest;
+
+import de.mossgrabers.headless.midi.MidiInputImpl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * A list of messages which are injected into a simulated controller in a loop. Scripts are either
+ * generated from the MIDI bindings of the controller or loaded from a text file. Each line of the
+ * file contains one message, empty lines and lines starting with # are ignored:
+ *
+ * <pre>
+ * midi  [port] [status] [data1] [data2]   e.g. midi 0 B0 47 01
+ * sysex [port] [bytes]                    e.g. sysex 0 F0 47 7F 15 F7
+ * osc   [address] [values]                e.g. osc /track/1/volume 64
+ * </pre>
+ *
+ * MIDI bytes are hexadecimal. OSC values are sent as integers, doubles or strings, depending on
+ * what they can be parsed to.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LoadScript
+{
+    private static final int [] SWEEP_VALUES =
+    {
+        127,
+        64,
+        1,
+        0
+    };
+
+    private final String          name;
+    private final List<LoadEvent> events;
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the script
+     * @param events The events of the script
+     */
+    public LoadScript (final String name, final List<LoadEvent> events)
+    {
+        if (events.isEmpty ())
+            throw new IllegalArgumentException ("Script '" + name + "' does not contain any events.");
+
+        this.name = name;
+        this.events = events;
+    }
+
+
+    /**
+     * Get the name of the script.
+     *
+     * @return The name
+     */
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /**
+     * Get the number of events of one loop of the script.
+     *
+     * @return The number of events
+     */
+    public int size ()
+    {
+        return this.events.size ();
+    }
+
+
+    /**
+     * Get an event. The script is repeated endlessly.
+     *
+     * @param index The index of the event, may be larger than the size of the script
+     * @return The event
+     */
+    public LoadEvent get (final long index)
+    {
+        return this.events.get ((int) (index % this.events.size ()));
+    }
+
+
+    /**
+     * Create a script which moves all hardware controls bound to CC and pitchbend messages through
+     * several values. If nothing is bound (e.g. Generic Flexi without a configuration) all CCs of
+     * the first channel are sent to the first input instead.
+     *
+     * @param controller The controller
+     * @return The script
+     */
+    public static LoadScript createControls (final SimulatedController controller)
+    {
+        final List<LoadEvent> events = new ArrayList<> ();
+        for (final Map.Entry<Integer, MidiInputImpl> entry: controller.getMidiInputs ().entrySet ())
+        {
+            final int port = entry.getKey ().intValue ();
+            for (final int [] message: entry.getValue ().getBoundMessages ())
+            {
+                final int code = message[0] & 0xF0;
+                if (code == 0xB0)
+                    addSweep (events, port, message[0], message[1]);
+                else if (code == 0xE0)
+                {
+                    for (final int value: SWEEP_VALUES)
+                        events.add (createMidi (port, message[0], 0, value));
+                }
+            }
+        }
+
+        if (events.isEmpty ())
+        {
+            for (int cc = 0; cc < 128; cc++)
+                addSweep (events, 0, 0xB0, cc);
+        }
+
+        return new LoadScript ("controls", events);
+    }
+
+
+    /**
+     * Create a script which presses and releases all buttons and pads bound to note messages. If
+     * nothing is bound all notes of the first channel are played on the first input instead.
+     *
+     * @param controller The controller
+     * @return The script
+     */
+    public static LoadScript createPads (final SimulatedController controller)
+    {
+        final List<LoadEvent> events = new ArrayList<> ();
+        for (final Map.Entry<Integer, MidiInputImpl> entry: controller.getMidiInputs ().entrySet ())
+        {
+            final int port = entry.getKey ().intValue ();
+            for (final int [] message: entry.getValue ().getBoundMessages ())
+            {
+                if ((message[0] & 0xF0) == 0x90)
+                {
+                    events.add (createMidi (port, message[0], message[1], 127));
+                    events.add (createMidi (port, message[0], message[1], 0));
+                }
+            }
+        }
+
+        if (events.isEmpty ())
+        {
+            for (int note = 0; note < 128; note++)
+            {
+                events.add (createMidi (0, 0x90, note, 127));
+                events.add (createMidi (0, 0x80, note, 0));
+            }
+        }
+
+        return new LoadScript ("pads", events);
+    }
+
+
+    /**
+     * Create a script which changes volume, panorama and the first send of all tracks of the page,
+     * the parameters of the selected device and selects the tracks.
+     *
+     * @param pageSize The number of tracks and parameters on a page
+     * @return The script
+     */
+    public static LoadScript createOSC (final int pageSize)
+    {
+        final List<LoadEvent> events = new ArrayList<> ();
+        for (final int value: SWEEP_VALUES)
+        {
+            for (int i = 1; i <= pageSize; i++)
+            {
+                final Object v = Integer.valueOf (value);
+                events.add (createOSC ("/track/" + i + "/volume", v));
+                events.add (createOSC ("/track/" + i + "/pan", v));
+                events.add (createOSC ("/track/" + i + "/send/1/volume", v));
+                events.add (createOSC ("/device/param/" + i + "/value", v));
+            }
+        }
+        for (int i = 1; i <= pageSize; i++)
+            events.add (createOSC ("/track/" + i + "/select", Integer.valueOf (1)));
+        return new LoadScript ("osc", events);
+    }
+
+
+    /**
+     * Load a script from a text file.
+     *
+     * @param file The file
+     * @return The script
+     * @throws IOException Could not read the file or it contains a malformed line
+     */
+    public static LoadScript load (final Path file) throws IOException
+    {
+        final List<LoadEvent> events = new ArrayList<> ();
+        final List<String> lines = Files.readAllLines (file, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size (); i++)
+        {
+            final String line = lines.get (i).trim ();
+            if (line.isEmpty () || line.startsWith ("#"))
+                continue;
+
+            try
+            {
+                events.add (parse (line.split ("\\s+")));
+            }
+            catch (final IllegalArgumentException | IndexOutOfBoundsException ex)
+            {
+                throw new IOException (file + ":" + (i + 1) + ": Malformed line '" + line + "'.", ex);
+            }
+        }
+        return new LoadScript (file.getFileName ().toString (), events);
+    }
+
+
+    private static LoadEvent parse (final String [] parts)
+    {
+        switch (parts[0].toLowerCase (Locale.US))
+        {
+            case "midi":
+                if (parts.length != 5)
+                    throw new IllegalArgumentException ("A MIDI message requires a port and 3 bytes.");
+                return createMidi (Integer.parseInt (parts[1]), parseByte (parts[2]), parseByte (parts[3]), parseByte (parts[4]));
+
+            case "sysex":
+                final int port = Integer.parseInt (parts[1]);
+                final StringBuilder data = new StringBuilder ();
+                for (int i = 2; i < parts.length; i++)
+                    data.append (String.format ("%02X", Integer.valueOf (parseByte (parts[i]))));
+                final String sysex = data.toString ();
+                return controller -> controller.sendSysex (port, sysex);
+
+            case "osc":
+                final List<Object> values = new ArrayList<> ();
+                for (int i = 2; i < parts.length; i++)
+                    values.add (parseValue (parts[i]));
+                final String address = parts[1];
+                return controller -> controller.sendOSC (address, values);
+
+            default:
+                throw new IllegalArgumentException ("Unknown message type: " + parts[0]);
+        }
+    }
+
+
+    private static int parseByte (final String text)
+    {
+        final int value = Integer.parseInt (text, 16);
+        if (value < 0 || value > 255)
+            throw new IllegalArgumentException ("Not a byte: " + text);
+        return value;
+    }
+
+
+    private static Object parseValue (final String text)
+    {
+        try
+        {
+            return Integer.valueOf (text);
+        }
+        catch (final NumberFormatException ex)
+        {
+            // Not an integer
+        }
+        try
+        {
+            return Double.valueOf (text);
+        }
+        catch (final NumberFormatException ex)
+        {
+            return text;
+        }
+    }
+
+
+    private static void addSweep (final List<LoadEvent> events, final int port, final int status, final int data1)
+    {
+        for (final int value: SWEEP_VALUES)
+            events.add (createMidi (port, status, data1, value));
+    }
+
+
+    private static LoadEvent createMidi (final int port, final int status, final int data1, final int data2)
+    {
+        return controller -> controller.sendMidi (port, status, data1, data2);
+    }
+
+
+    private static LoadEvent createOSC (final String address, final Object value)
+    {
+        final List<Object> values = Collections.singletonList (value);
+        return controller -> controller.sendOSC (address, values);
+    }
+}
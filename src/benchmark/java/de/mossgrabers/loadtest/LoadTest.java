@@ -0,0 +1,341 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.loadtest;
+
+import de.mossgrabers.framework.controller.FlushStatistics;
+import de.mossgrabers.framework.utils.LatencyHistogram;
+import de.mossgrabers.headless.HeadlessHost;
+import de.mossgrabers.headless.HeadlessMidiOutput;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Starts a controller setup on the headless host, injects the messages of a script at a fixed rate
+ * and reports the throughput, the latencies of handling the messages and flushing the surface and
+ * the amount of data which was sent to the device. The process exits with 1 if an error was
+ * reported by the setup or a latency limit was exceeded, which makes it usable in a build pipeline.
+ *
+ * <pre>
+ * LoadTest --controller push2 [--script controls|pads|osc|file] [--rate events/s] [--duration s]
+ *          [--warmup s] [--set "Label=Value"]... [--max-p95 us]
+ * </pre>
+ *
+ * A rate of 0 injects the events as fast as the host can handle them.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LoadTest
+{
+    private static final int          EXIT_FAILED    = 1;
+    private static final int          EXIT_USAGE     = 2;
+
+    private final Map<String, String> settings       = new HashMap<> ();
+    private final LatencyHistogram    eventLatency   = new LatencyHistogram ();
+    private final LatencyHistogram    handleDuration = new LatencyHistogram ();
+    private final AtomicLong          handled        = new AtomicLong ();
+    private final PrintStream         out;
+    private ControllerType            type;
+    private String                    scriptName;
+    private int                       rate           = 1000;
+    private double                    duration       = 10;
+    private double                    warmup         = 2;
+    private long                      maxP95         = -1;
+
+
+    /**
+     * Constructor.
+     *
+     * @param out Where to write the report to
+     */
+    public LoadTest (final PrintStream out)
+    {
+        this.out = out;
+    }
+
+
+    /**
+     * Run a load test.
+     *
+     * @param args The command line arguments, see the class description
+     */
+    public static void main (final String [] args)
+    {
+        final LoadTest loadTest = new LoadTest (System.out);
+        try
+        {
+            loadTest.parseArguments (args);
+        }
+        catch (final IllegalArgumentException ex)
+        {
+            System.err.println (ex.getMessage ());
+            System.err.println ("Usage: LoadTest --controller push1|push2|launchpad-mk2|launchpad-pro|launchpad-x|mcu|osc|generic-flexi [--script controls|pads|osc|file] [--rate events/s] [--duration s] [--warmup s] [--set \"Label=Value\"]... [--max-p95 us]");
+            System.exit (EXIT_USAGE);
+        }
+
+        try
+        {
+            System.exit (loadTest.run () ? 0 : EXIT_FAILED);
+        }
+        catch (final IOException ex)
+        {
+            System.err.println (ex.getMessage ());
+            System.exit (EXIT_USAGE);
+        }
+    }
+
+
+    /**
+     * Parse the command line arguments.
+     *
+     * @param args The arguments
+     * @throws IllegalArgumentException An argument is unknown or has an illegal value
+     */
+    public void parseArguments (final String [] args)
+    {
+        for (int i = 0; i < args.length; i++)
+        {
+            final String name = args[i];
+            if (i + 1 >= args.length)
+                throw new IllegalArgumentException ("Missing value for " + name);
+
+            final String value = args[++i];
+            try
+            {
+                switch (name)
+                {
+                    case "--controller":
+                        this.type = ControllerType.getByName (value);
+                        break;
+                    case "--script":
+                        this.scriptName = value;
+                        break;
+                    case "--rate":
+                        this.rate = Integer.parseInt (value);
+                        break;
+                    case "--duration":
+                        this.duration = Double.parseDouble (value);
+                        break;
+                    case "--warmup":
+                        this.warmup = Double.parseDouble (value);
+                        break;
+                    case "--set":
+                        final int pos = value.indexOf ('=');
+                        if (pos <= 0)
+                            throw new IllegalArgumentException ("Setting must be formatted as Label=Value: " + value);
+                        this.settings.put (value.substring (0, pos), value.substring (pos + 1));
+                        break;
+                    case "--max-p95":
+                        this.maxP95 = Long.parseLong (value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException ("Unknown argument: " + name);
+                }
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException ("Not a number: " + value, ex);
+            }
+        }
+
+        if (this.type == null)
+            throw new IllegalArgumentException ("The controller is missing.");
+        if (this.rate < 0 || this.duration <= 0 || this.warmup < 0)
+            throw new IllegalArgumentException ("Rate, duration and warmup must not be negative.");
+    }
+
+
+    /**
+     * Start the controller, run the warmup and the measurement and print the report.
+     *
+     * @return True if the test passed
+     * @throws IOException Could not load the script
+     */
+    public boolean run () throws IOException
+    {
+        // Messages of the controller go to the error stream to keep the report readable
+        final SimulatedController controller = new SimulatedController (this.type, this.settings, System.err);
+        final HeadlessHost host = controller.getHost ();
+        controller.start ();
+
+        final LoadScript script = this.createScript (controller);
+
+        this.inject (controller, script, 0, toNanos (this.warmup));
+
+        host.execute ( () -> controller.getFlushStatistics ().forEach (FlushStatistics::reset));
+        this.eventLatency.reset ();
+        this.handleDuration.reset ();
+        this.handled.set (0);
+        final Map<Integer, long []> output = getMidiOutput (controller);
+        final long oscMessages = host.getOSCClient ().getSentMessages ();
+        final long oscBundles = host.getOSCClient ().getSentBundles ();
+
+        final long start = System.nanoTime ();
+        final long sent = this.inject (controller, script, start, toNanos (this.duration));
+        final double seconds = (System.nanoTime () - start) / 1_000_000_000.0;
+
+        host.execute ( () -> this.report (controller, script, sent, seconds, output, oscMessages, oscBundles));
+        controller.stop ();
+
+        // Errors during the start and the warmup fail the test as well
+        final long errors = host.getErrors ();
+        this.out.println ("Errors: " + errors);
+        final boolean isTooSlow = this.maxP95 >= 0 && this.handleDuration.getPercentile (95) > this.maxP95;
+        if (isTooSlow)
+            this.out.println ("FAILED: 95th percentile of the event handling exceeds " + this.maxP95 + "us.");
+        return errors == 0 && !isTooSlow;
+    }
+
+
+    private LoadScript createScript (final SimulatedController controller) throws IOException
+    {
+        final String name = this.scriptName == null ? controller.getType () == ControllerType.OSC ? "osc" : "controls" : this.scriptName;
+        switch (name)
+        {
+            case "controls":
+                return LoadScript.createControls (controller);
+            case "pads":
+                return LoadScript.createPads (controller);
+            case "osc":
+                return LoadScript.createOSC (8);
+            default:
+                return LoadScript.load (Paths.get (name));
+        }
+    }
+
+
+    /**
+     * Inject the events of the script at the configured rate. Each event is handled on the host
+     * thread and followed by a flush of the setup like in the DAW.
+     *
+     * @param controller The controller
+     * @param script The script
+     * @param startTime The start of the injection, 0 to start now
+     * @param length The length of the injection in nanoseconds
+     * @return The number of injected events
+     */
+    private long inject (final SimulatedController controller, final LoadScript script, final long startTime, final long length)
+    {
+        final HeadlessHost host = controller.getHost ();
+        final long start = startTime == 0 ? System.nanoTime () : startTime;
+        final long end = start + length;
+        final long interval = this.rate == 0 ? 0 : TimeUnit.SECONDS.toNanos (1) / this.rate;
+
+        long count = 0;
+        while (true)
+        {
+            final long due = this.rate == 0 ? System.nanoTime () : start + count * interval;
+            if (due >= end)
+                break;
+            waitUntil (due);
+
+            final LoadEvent event = script.get (count);
+            final Runnable task = () -> this.handle (controller, event, due);
+            if (this.rate == 0)
+                host.execute (task);
+            else
+                host.scheduleTask (task, 0);
+            count++;
+        }
+
+        // Wait for all pending events and the flushes they triggered
+        host.execute ( () -> {
+            // Intentionally empty
+        });
+        LockSupport.parkNanos (TimeUnit.MILLISECONDS.toNanos (100));
+        host.execute ( () -> {
+            // Intentionally empty
+        });
+        return count;
+    }
+
+
+    private void handle (final SimulatedController controller, final LoadEvent event, final long due)
+    {
+        final long start = System.nanoTime ();
+        try
+        {
+            event.fire (controller);
+            controller.flush ();
+        }
+        finally
+        {
+            final long end = System.nanoTime ();
+            this.handleDuration.record (end - start);
+            this.eventLatency.record (end - due);
+            this.handled.incrementAndGet ();
+        }
+    }
+
+
+    private void report (final SimulatedController controller, final LoadScript script, final long sent, final double seconds, final Map<Integer, long []> outputBefore, final long oscMessagesBefore, final long oscBundlesBefore)
+    {
+        final HeadlessHost host = controller.getHost ();
+
+        this.out.println ("Controller: " + controller.getType ());
+        this.out.println ("Script: " + script.getName () + " (" + script.size () + " events per loop)");
+        this.out.println ("Rate: " + (this.rate == 0 ? "unlimited" : this.rate + " events/s") + ", Duration: " + String.format ("%.2f", Double.valueOf (seconds)) + "s");
+        this.out.println ("Events: " + sent + " sent, " + this.handled.get () + " handled, " + String.format ("%.1f", Double.valueOf (this.handled.get () / seconds)) + " events/s");
+        this.out.println ("Event latency (due to handled): " + this.eventLatency);
+        this.out.println ("Event handling (incl. flush request): " + this.handleDuration);
+
+        for (final FlushStatistics statistics: controller.getFlushStatistics ())
+            statistics.format ().forEach (this.out::println);
+
+        for (final Map.Entry<Integer, long []> entry: getMidiOutput (controller).entrySet ())
+        {
+            final long [] before = outputBefore.getOrDefault (entry.getKey (), new long [2]);
+            final long messages = entry.getValue ()[0] - before[0];
+            final long bytes = entry.getValue ()[1] - before[1];
+            this.out.println ("MIDI output " + entry.getKey () + ": " + messages + " messages (" + String.format ("%.1f", Double.valueOf (messages / seconds)) + "/s), " + bytes + " Sysex bytes (" + String.format ("%.1f", Double.valueOf (bytes / seconds)) + "/s)");
+        }
+
+        final long oscMessages = host.getOSCClient ().getSentMessages () - oscMessagesBefore;
+        final long oscBundles = host.getOSCClient ().getSentBundles () - oscBundlesBefore;
+        if (oscMessages > 0 || oscBundles > 0)
+            this.out.println ("OSC output: " + oscMessages + " messages (" + String.format ("%.1f", Double.valueOf (oscMessages / seconds)) + "/s), " + oscBundles + " bundles");
+    }
+
+
+    private static Map<Integer, long []> getMidiOutput (final SimulatedController controller)
+    {
+        final Map<Integer, long []> output = new TreeMap<> ();
+        for (final Map.Entry<Integer, HeadlessMidiOutput> entry: controller.getMidiOutputs ().entrySet ())
+        {
+            final HeadlessMidiOutput midiOutput = entry.getValue ();
+            output.put (entry.getKey (), new long []
+            {
+                midiOutput.getSentMessages (),
+                midiOutput.getSentSysexBytes ()
+            });
+        }
+        return output;
+    }
+
+
+    private static void waitUntil (final long time)
+    {
+        long remaining = time - System.nanoTime ();
+        while (remaining > 0)
+        {
+            LockSupport.parkNanos (remaining);
+            remaining = time - System.nanoTime ();
+        }
+    }
+
+
+    private static long toNanos (final double seconds)
+    {
+        return (long) (seconds * 1_000_000_000.0);
+    }
+}
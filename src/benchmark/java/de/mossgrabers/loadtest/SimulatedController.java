@@ -0,0 +1,188 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.loadtest;
+
+import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.framework.controller.FlushStatistics;
+import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.headless.HeadlessHost;
+import de.mossgrabers.headless.HeadlessMidiOutput;
+import de.mossgrabers.headless.HeadlessOSCServer;
+import de.mossgrabers.headless.HeadlessSetupFactory;
+import de.mossgrabers.headless.configuration.SettingsUIImpl;
+import de.mossgrabers.headless.midi.MidiInputImpl;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Runs a controller setup on the headless host like the DAW does: initialise it, start it up,
+ * inject the messages of the device and flush it after each of them. All methods which access the
+ * setup must be called on the host thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatedController
+{
+    private final ControllerType         type;
+    private final HeadlessHost           host;
+    private final HeadlessSetupFactory   factory;
+    private final IControllerSetup<?, ?> setup;
+
+
+    /**
+     * Constructor.
+     *
+     * @param type The controller to simulate
+     * @param settings Values for settings of the controller, mapped by the label of the setting
+     * @param out Where to write the messages of the host to
+     */
+    public SimulatedController (final ControllerType type, final Map<String, String> settings, final PrintStream out)
+    {
+        this.type = type;
+        this.host = new HeadlessHost (out);
+        this.factory = new HeadlessSetupFactory (this.host);
+        this.setup = type.createSetup (this.host, this.factory, new SettingsUIImpl (settings), new SettingsUIImpl (settings));
+    }
+
+
+    /**
+     * Initialise and start up the setup. Blocks until both have finished. The generic Flexi setup
+     * gets a sample mapping since it does nothing without one.
+     */
+    public void start ()
+    {
+        this.host.execute (this.setup::init);
+        if (this.type == ControllerType.GENERIC_FLEXI)
+            this.host.execute ( () -> FlexiSampleMapping.apply ((GenericFlexiConfiguration) this.setup.getConfiguration ()));
+        this.host.execute (this.setup::startup);
+        this.host.execute (this.setup::flush);
+    }
+
+
+    /**
+     * Shut down the setup and stop the host. Blocks until both have finished.
+     */
+    public void stop ()
+    {
+        this.host.execute (this.setup::exit);
+        this.host.shutdown ();
+    }
+
+
+    /**
+     * Inject a short MIDI message as if it was sent by the device.
+     *
+     * @param port The index of the MIDI input port
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void sendMidi (final int port, final int status, final int data1, final int data2)
+    {
+        final MidiInputImpl input = this.factory.getMidiAccess ().getInput (port);
+        if (input != null)
+            input.receive (status, data1, data2);
+    }
+
+
+    /**
+     * Inject a system exclusive message as if it was sent by the device.
+     *
+     * @param port The index of the MIDI input port
+     * @param data The data formatted as a hex string
+     */
+    public void sendSysex (final int port, final String data)
+    {
+        final MidiInputImpl input = this.factory.getMidiAccess ().getInput (port);
+        if (input != null)
+            input.receiveSysex (data);
+    }
+
+
+    /**
+     * Inject an OSC message as if it was sent by a client.
+     *
+     * @param address The OSC address
+     * @param values The values of the message
+     */
+    public void sendOSC (final String address, final List<Object> values)
+    {
+        final HeadlessOSCServer server = this.host.getOSCServer ();
+        if (server != null)
+            server.receive (address, values);
+    }
+
+
+    /**
+     * Flush the setup like the DAW does after it has handled incoming messages and model changes.
+     */
+    public void flush ()
+    {
+        this.setup.flush ();
+    }
+
+
+    /**
+     * Get the simulated controller.
+     *
+     * @return The controller type
+     */
+    public ControllerType getType ()
+    {
+        return this.type;
+    }
+
+
+    /**
+     * Get the host on which the setup runs.
+     *
+     * @return The host
+     */
+    public HeadlessHost getHost ()
+    {
+        return this.host;
+    }
+
+
+    /**
+     * Get the MIDI input ports of the setup.
+     *
+     * @return The ports mapped by their index
+     */
+    public Map<Integer, MidiInputImpl> getMidiInputs ()
+    {
+        return this.factory.getMidiAccess ().getInputs ();
+    }
+
+
+    /**
+     * Get the MIDI output ports of the setup.
+     *
+     * @return The ports mapped by their index
+     */
+    public Map<Integer, HeadlessMidiOutput> getMidiOutputs ()
+    {
+        return this.factory.getMidiAccess ().getOutputs ();
+    }
+
+
+    /**
+     * Get the flush statistics of all surfaces of the setup.
+     *
+     * @return The statistics
+     */
+    public List<FlushStatistics> getFlushStatistics ()
+    {
+        final List<FlushStatistics> statistics = new ArrayList<> ();
+        for (final IControlSurface<?> surface: this.setup.getSurfaces ())
+            statistics.add (surface.getFlushStatistics ());
+        return statistics;
+    }
+}
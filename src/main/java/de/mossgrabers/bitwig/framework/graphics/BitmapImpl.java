@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.graphics;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IEncoder;
 import de.mossgrabers.framework.graphics.IRenderer;
+import de.mossgrabers.framework.graphics.TextMetricsCache;
 
 import com.bitwig.extension.api.graphics.Bitmap;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
@@ -21,7 +22,8 @@ import java.nio.ByteBuffer;
  */
 public class BitmapImpl implements IBitmap
 {
-    private Bitmap bitmap;
+    private final TextMetricsCache textMetricsCache = new TextMetricsCache ();
+    private Bitmap                 bitmap;
 
 
     /**
@@ -55,7 +57,7 @@ public class BitmapImpl implements IBitmap
     @Override
     public void render (final boolean enableAntialias, final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc)));
+        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc, this.textMetricsCache)));
     }
 
 
@@ -68,6 +70,14 @@ public class BitmapImpl implements IBitmap
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public TextMetricsCache getTextMetricsCache ()
+    {
+        return this.textMetricsCache;
+    }
+
+
     /**
      * Get the Bitwig bitmap.
      *
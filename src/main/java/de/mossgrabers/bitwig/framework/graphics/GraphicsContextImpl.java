@@ -8,6 +8,8 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.TextMetricsCache;
+import de.mossgrabers.framework.graphics.TextMetricsCache.ITextMeasurer;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.api.graphics.GradientPattern;
@@ -23,7 +25,9 @@ import com.bitwig.extension.api.graphics.Image;
  */
 public class GraphicsContextImpl implements IGraphicsContext
 {
-    private GraphicsOutput gc;
+    private GraphicsOutput         gc;
+    private final TextMetricsCache textMetricsCache;
+    private final ITextMeasurer    measurer = new Measurer ();
 
 
     /**
@@ -31,11 +35,13 @@ public class GraphicsContextImpl implements IGraphicsContext
      *
      * @param antialiasMode The antialias mode to apply
      * @param gc The Bitwig graphics context
+     * @param textMetricsCache The cache for the text measurements
      */
-    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc)
+    public GraphicsContextImpl (final AntialiasMode antialiasMode, final GraphicsOutput gc, final TextMetricsCache textMetricsCache)
     {
         gc.setAntialias (antialiasMode);
         this.gc = gc;
+        this.textMetricsCache = textMetricsCache;
     }
 
 
@@ -174,8 +180,8 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
-        final double w = this.gc.getTextExtents (txt).getWidth ();
+        final double h = this.textMetricsCache.getTextHeight ("T", fontSize, this.measurer);
+        final double w = this.textMetricsCache.getTextWidth (txt, fontSize, this.measurer);
         final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
         final double posY = y + (height + h) / 2;
 
@@ -218,12 +224,12 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
+        final double h = this.textMetricsCache.getTextHeight ("T", fontSize, this.measurer);
         final double posY = y + (height + h) / 2;
 
         if (backgroundColor != null)
         {
-            final double w = this.gc.getTextExtents (txt).getWidth ();
+            final double w = this.textMetricsCache.getTextWidth (txt, fontSize, this.measurer);
             final double inset = 12.0;
             this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
         }
@@ -266,18 +272,25 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
     {
-        double size = minimumFontSize;
-        double fittingSize = -1;
-        while (size < maxHeight)
-        {
-            this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (text).getWidth ();
-            if (width > maxWidth)
-                break;
-            fittingSize = size;
-            size += 1.0;
-        }
-        return fittingSize;
+        return this.textMetricsCache.calculateFontSize (text, maxHeight, maxWidth, minimumFontSize, this.measurer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.resetClip ();
+        this.gc.rectangle (left, top, width, height);
+        this.gc.clip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.resetClip ();
     }
 
 
@@ -285,4 +298,28 @@ public class GraphicsContextImpl implements IGraphicsContext
     {
         this.gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
     }
+
+
+    /**
+     * Measures texts with the font of the Bitwig graphics context.
+     */
+    private class Measurer implements ITextMeasurer
+    {
+        /** {@inheritDoc} */
+        @Override
+        public double getTextWidth (final String text, final double fontSize)
+        {
+            GraphicsContextImpl.this.gc.setFontSize (fontSize);
+            return GraphicsContextImpl.this.gc.getTextExtents (text).getWidth ();
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getTextHeight (final String text, final double fontSize)
+        {
+            GraphicsContextImpl.this.gc.setFontSize (fontSize);
+            return GraphicsContextImpl.this.gc.getTextExtents (text).getHeight ();
+        }
+    }
 }
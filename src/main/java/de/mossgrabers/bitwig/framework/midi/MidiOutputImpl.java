@@ -47,6 +47,7 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
     @Override
     public void sendSysex (final byte [] data)
     {
+        this.prepareSysex (data.length);
         this.port.sendSysex (data);
     }
 
@@ -55,6 +56,7 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
     @Override
     public void sendSysex (final String data)
     {
+        this.prepareSysex (data);
         this.port.sendSysex (data);
     }
 
@@ -64,5 +66,6 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
     protected void sendMidiShort (final int status, final int data1, final int data2)
     {
         this.port.sendMidi (status, data1, data2);
+        this.countMessage ();
     }
 }
\ No newline at end of file
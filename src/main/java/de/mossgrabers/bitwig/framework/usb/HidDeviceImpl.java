@@ -26,6 +26,7 @@ public class HidDeviceImpl implements IHidDevice
 {
     private HidDevice hidDevice;
     private boolean   isOpen;
+    private byte []   outputBuffer = new byte [0];
 
 
     /**
@@ -65,36 +66,31 @@ public class HidDeviceImpl implements IHidDevice
 
     /** {@inheritDoc} */
     @Override
-    public int sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
+    public synchronized int sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
 
         // purehid documentation says otherwise but MAC also needs the report ID in
         // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
-        if (OperatingSystem.get () == OperatingSystem.MAC)
-        {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
-        }
+        final boolean isMac = OperatingSystem.get () == OperatingSystem.MAC;
+        final int offset = isMac ? 1 : 0;
+        final int length = this.toBuffer (memoryBlock, offset);
+        if (isMac)
+            this.outputBuffer[0] = reportID;
 
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
+        return this.hidDevice.setOutputReport (reportID, this.outputBuffer, length);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public int sendFeatureReport (final byte reportID, final IMemoryBlock memoryBlock)
+    public synchronized int sendFeatureReport (final byte reportID, final IMemoryBlock memoryBlock)
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
-        return this.hidDevice.setFeatureReport (reportID, data, data.length);
+        final int length = this.toBuffer (memoryBlock, 0);
+        return this.hidDevice.setFeatureReport (reportID, this.outputBuffer, length);
     }
 
 
@@ -133,13 +129,22 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
-    private static byte [] toBuffer (final IMemoryBlock memoryBlock)
+    /**
+     * Copy the content of the memory block into the output buffer. The buffer is only re-allocated
+     * if it is too small.
+     *
+     * @param memoryBlock The memory block to copy
+     * @param offset The position in the output buffer at which to start
+     * @return The number of bytes in the output buffer
+     */
+    private int toBuffer (final IMemoryBlock memoryBlock, final int offset)
     {
         final ByteBuffer buffer = memoryBlock.createByteBuffer ();
-        final int size = buffer.capacity ();
-        final byte [] data = new byte [size];
+        final int length = offset + buffer.capacity ();
+        if (this.outputBuffer.length < length)
+            this.outputBuffer = new byte [length];
         buffer.rewind ();
-        buffer.get (data);
-        return data;
+        buffer.get (this.outputBuffer, offset, buffer.capacity ());
+        return length;
     }
 }
@@ -55,5 +55,10 @@ public class APCConfiguration extends AbstractConfiguration
         this.activateBehaviourOnStopSetting (globalSettings);
         this.activateSelectClipOnLaunchSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
+
+        ///////////////////////////
+        // Hardware
+
+        this.activateMidiOutputLimitSetting (globalSettings);
     }
 }
@@ -89,5 +89,12 @@ public class FireConfiguration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+
+        ///////////////////////////
+        // Hardware
+
+        this.activateFlushRateSetting (globalSettings);
+        this.activateMidiOutputLimitSetting (globalSettings);
+        this.activateFlushStatisticsSetting (globalSettings);
     }
 }
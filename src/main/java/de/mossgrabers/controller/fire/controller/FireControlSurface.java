@@ -109,10 +109,8 @@ public class FireControlSurface extends AbstractControlSurface<FireConfiguration
 
     /** {@inheritDoc} */
     @Override
-    protected void flushHardware ()
+    protected void flushPadGrid ()
     {
-        super.flushHardware ();
-
         ((FirePadGrid) this.pads).flush ();
     }
 
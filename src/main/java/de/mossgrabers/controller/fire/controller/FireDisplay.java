@@ -10,12 +10,14 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.monochrome.MonochromeBitmap;
 
 import java.util.Arrays;
 
 
 /**
- * The display of the Akai Fire.
+ * The display of the Akai Fire. The image is rendered into a monochrome bitmap whose bits are
+ * directly packed into the stripes of the OLED.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -36,14 +38,39 @@ public class FireDisplay extends AbstractGraphicDisplay
     // @formatter:on
 
     private static final int       STRIPE_SIZE   = 147;
-    private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+    /** Each group of 7 columns of a stripe is packed into 8 bytes. */
+    private static final int       GROUP_COLUMNS = 7;
+    private static final int       GROUP_SIZE    = 8;
+    private static final int       NUM_GROUPS    = (128 + GROUP_COLUMNS - 1) / GROUP_COLUMNS;
+    private static final int       KEEP_ALIVE    = 3000;
+
+    /**
+     * The byte index (upper bits) and bit (lower 3 bits) in the stripe of each pixel of a stripe of
+     * 128x8 pixels. The pixel index is the row in the stripe multiplied by 128 plus the column.
+     */
+    private static final int []    PIXEL_MAP     = new int [128 * 8];
+
+    static
+    {
+        for (int y = 0; y < 8; y++)
+        {
+            for (int x = 0; x < 128; x++)
+            {
+                // Remap by tiling 7x8 block of translated pixels
+                final int remapBit = BIT_MUTATE[y][x % 7];
+                final int idx = x / 7 * 8 + remapBit / 7;
+                PIXEL_MAP[y * 128 + x] = idx << 3 | remapBit % 7;
+            }
+        }
+    }
 
     private final IMidiOutput      output;
-    private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
-    private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
-    private final byte []          data          = new byte [12 + STRIPE_SIZE];
+    private final byte [] []       oledBitmap    = new byte [8] [STRIPE_SIZE];
+    private final byte [] []       oldOledBitmap = new byte [8] [STRIPE_SIZE];
+    private final byte [] []       messages      = new byte [STRIPE_SIZE + 1] [];
 
     private long                   lastSend      = System.currentTimeMillis ();
+    private long                   sentBytes;
 
 
     /**
@@ -56,27 +83,11 @@ public class FireDisplay extends AbstractGraphicDisplay
      */
     public FireDisplay (final IHost host, final IMidiOutput output, final int maxParameterValue)
     {
-        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display");
+        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display", new MonochromeBitmap (128, 64, host.createBitmap (128, 64)));
 
         this.output = output;
 
-        this.data[0] = (byte) 0xF0;
-        this.data[1] = 0x47; // AKAI
-        this.data[2] = 0x7F; // All-Call
-        this.data[3] = 0x43; // Fire
-        this.data[4] = 0x0E; // WRITE OLED
-
-        // Payload length high
-        this.data[5] = (byte) (PACKET_SIZE / 128);
-        // Payload length low
-        this.data[6] = (byte) (PACKET_SIZE % 128);
-
-        // Start colum of update
-        this.data[9] = 0x00;
-        // End column of update
-        this.data[10] = 0x7f;
-
-        this.data[this.data.length - 1] = (byte) 0xF7;
+        this.addCounter ("SYSEX_BYTES_SENT", this::getSentBytes);
     }
 
 
@@ -95,59 +106,147 @@ public class FireDisplay extends AbstractGraphicDisplay
     @Override
     protected void send (final IBitmap image)
     {
-        synchronized (this.data)
+        synchronized (this.oledBitmap)
         {
-            image.encode ( (imageBuffer, width, height) -> {
+            // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels, only the set bits
+            // need to be visited
+            final long [] pixels = ((MonochromeBitmap) image).getPixels ();
+            for (int stripe = 0; stripe < 8; stripe++)
+            {
+                final byte [] stripeBitmap = this.oledBitmap[stripe];
+                Arrays.fill (stripeBitmap, (byte) 0);
+                for (int i = 0; i < 16; i++)
+                {
+                    // 2 longs per row, 8 rows per stripe
+                    long bits = pixels[stripe * 16 + i];
+                    final int pixelOffset = i / 2 * 128 + i % 2 * 64;
+                    while (bits != 0)
+                    {
+                        final int position = PIXEL_MAP[pixelOffset + Long.numberOfTrailingZeros (bits)];
+                        stripeBitmap[position >> 3] |= 1 << (position & 7);
+                        bits &= bits - 1;
+                    }
+                }
+            }
+
+            // Send if content has change or every 3 seconds if there was no change to keep the
+            // display from going into sleep mode
+            final long now = System.currentTimeMillis ();
+            final boolean keepAlive = now - this.lastSend >= KEEP_ALIVE;
+
+            // Convert to sysex and send only the changed columns to the device to not flood the
+            // device controller
+            for (int stripe = 0; stripe < 8; stripe++)
+            {
+                final byte [] stripeBitmap = this.oledBitmap[stripe];
+                final byte [] oldStripeBitmap = this.oldOledBitmap[stripe];
 
-                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels
-                for (int stripe = 0; stripe < 8; stripe++)
+                int firstGroup = 0;
+                int lastGroup = NUM_GROUPS - 1;
+                if (!keepAlive)
                 {
-                    for (int y = 0; y < height / 8; y++)
+                    firstGroup = -1;
+                    for (int group = 0; group < NUM_GROUPS; group++)
                     {
-                        for (int x = 0; x < width; x++)
+                        if (hasGroupChanged (stripeBitmap, oldStripeBitmap, group))
                         {
-                            final int blue = imageBuffer.get ();
-                            final int green = imageBuffer.get ();
-                            final int red = imageBuffer.get ();
-                            imageBuffer.get (); // Drop unused Alpha
-
-                            final int xpos = x + 128 * (y / 8);
-                            final int ypos = y % 8;
-
-                            // Remap by tiling 7x8 block of translated pixels
-                            final int remapBit = BIT_MUTATE[ypos][xpos % 7];
-                            final int idx = xpos / 7 * 8 + remapBit / 7;
-                            if (blue + green + red < 0)
-                                this.oledBitmap[stripe][idx] |= 1 << remapBit % 7;
-                            else
-                                this.oledBitmap[stripe][idx] &= ~(1 << remapBit % 7);
+                            if (firstGroup < 0)
+                                firstGroup = group;
+                            lastGroup = group;
                         }
                     }
+                    if (firstGroup < 0)
+                        continue;
                 }
-            });
 
-            // Convert to sysex and send to device
-            for (int stripe = 0; stripe < 8; stripe++)
-            {
-                // Start 8-pixel band of update
-                this.data[7] = (byte) stripe;
-                // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
-                this.data[8] = (byte) stripe;
-
-                for (int i = 0; i < STRIPE_SIZE; i++)
-                    this.data[11 + i] = (byte) this.oledBitmap[stripe][i];
-
-                // Slow down display updates to not flood the device controller
-                // Send if content has change or every 3 seconds if there was no change to keep
-                // the display from going into sleep mode
-                final long now = System.currentTimeMillis ();
-                if (Arrays.compare (this.oledBitmap[stripe], this.oldOledBitmap[stripe]) == 0 && now - this.lastSend < 3000)
-                    continue;
-                System.arraycopy (this.oledBitmap[stripe], 0, this.oldOledBitmap[stripe], 0, STRIPE_SIZE);
+                final int start = firstGroup * GROUP_SIZE;
+                final int end = Math.min (STRIPE_SIZE, (lastGroup + 1) * GROUP_SIZE);
+                System.arraycopy (stripeBitmap, start, oldStripeBitmap, start, end - start);
+
+                final byte [] message = this.getMessage (end - start);
+                // Start and end 8-pixel band of update
+                message[7] = (byte) stripe;
+                message[8] = (byte) stripe;
+                // Start and end column of update
+                message[9] = (byte) (firstGroup * GROUP_COLUMNS);
+                message[10] = (byte) Math.min (0x7F, (lastGroup + 1) * GROUP_COLUMNS - 1);
+                System.arraycopy (stripeBitmap, start, message, 11, end - start);
+
+                this.output.sendSysex (message);
+                this.sentBytes += message.length;
                 this.lastSend = now;
-
-                this.output.sendSysex (this.data);
             }
         }
     }
+
+
+    /**
+     * Get the bitmap of the host into which the monochrome bitmap is mirrored. It is shown in the
+     * display window and on the hardware simulator.
+     *
+     * @return The bitmap
+     */
+    @Override
+    public IBitmap getImage ()
+    {
+        return ((MonochromeBitmap) super.getImage ()).getPreview ();
+    }
+
+
+    /**
+     * Get the number of bytes of the system exclusive messages sent to the display.
+     *
+     * @return The number of bytes
+     */
+    public long getSentBytes ()
+    {
+        synchronized (this.oledBitmap)
+        {
+            return this.sentBytes;
+        }
+    }
+
+
+    /**
+     * Get the message to send a number of bytes of a stripe. The header and the payload length are
+     * already filled in.
+     *
+     * @param payloadSize The number of bytes of the stripe
+     * @return The message
+     */
+    private byte [] getMessage (final int payloadSize)
+    {
+        byte [] message = this.messages[payloadSize];
+        if (message != null)
+            return message;
+
+        message = new byte [12 + payloadSize];
+        message[0] = (byte) 0xF0;
+        message[1] = 0x47; // AKAI
+        message[2] = 0x7F; // All-Call
+        message[3] = 0x43; // Fire
+        message[4] = 0x0E; // WRITE OLED
+
+        // Payload length high and low
+        final int packetSize = 4 + payloadSize;
+        message[5] = (byte) (packetSize / 128);
+        message[6] = (byte) (packetSize % 128);
+
+        message[message.length - 1] = (byte) 0xF7;
+
+        this.messages[payloadSize] = message;
+        return message;
+    }
+
+
+    private static boolean hasGroupChanged (final byte [] stripeBitmap, final byte [] oldStripeBitmap, final int group)
+    {
+        final int end = Math.min (STRIPE_SIZE, (group + 1) * GROUP_SIZE);
+        for (int i = group * GROUP_SIZE; i < end; i++)
+        {
+            if (stripeBitmap[i] != oldStripeBitmap[i])
+                return true;
+        }
+        return false;
+    }
 }
\ No newline at end of file
@@ -258,6 +258,11 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                 = 200;
 
+    private static final int []                      NO_SLOTS                  = new int [0];
+
+    /** The minimum time in milliseconds between two updates of the learn settings. */
+    private static final int                         LEARN_DISPLAY_INTERVAL    = 100;
+
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
@@ -278,10 +283,14 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private Object                                   syncMapUpdate             = new Object ();
     private int []                                   keyMap;
+    private int [] []                                slotIndex;
+    private int []                                   reflectedSlots;
     private int                                      seleIndexctedSlot         = 0;
     private String                                   learnTypeValue            = null;
     private String                                   learnNumberValue          = null;
     private String                                   learnMidiChannelValue     = null;
+    private boolean                                  isLearning                = false;
+    private boolean                                  isLearnDisplayScheduled   = false;
     private AtomicBoolean                            doNotFire                 = new AtomicBoolean (false);
     private AtomicBoolean                            commandIsUpdating         = new AtomicBoolean (false);
     private String []                                assignableFunctionActions = new String [8];
@@ -366,6 +375,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         category = "Use a knob/fader/button then click Set...";
 
+        final IEnumSetting learnSetting = globalSettings.getEnumSetting ("Learn:", category, AbstractConfiguration.ON_OFF_OPTIONS, AbstractConfiguration.ON_OFF_OPTIONS[0]);
+        learnSetting.addValueObserver (value -> this.isLearning = AbstractConfiguration.ON_OFF_OPTIONS[1].equals (value));
         this.learnTypeSetting = globalSettings.getEnumSetting ("Type:", category, OPTIONS_TYPE, OPTIONS_TYPE[0]);
         this.learnNumberSetting = globalSettings.getEnumSetting ("Number:", category, NUMBER_NAMES, NUMBER_NAMES[0]);
         this.learnMidiChannelSetting = globalSettings.getEnumSetting ("Midi channel:", category, OPTIONS_MIDI_CHANNEL, OPTIONS_MIDI_CHANNEL[0]);
@@ -436,7 +447,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             this.getSelectedSlot ().setKnobMode (AbstractConfiguration.lookupIndex (OPTIONS_KNOBMODE, value));
             this.fixKnobMode ();
         });
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
+        this.sendValueSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.clearSlotIndex ();
+        });
         this.sendValueWhenReceivedSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
 
         ///////////////////////////////////////////////
@@ -500,6 +514,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = selectedSlot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         selectedSlot.setCommand (newCommand);
+        if (oldCommand != newCommand)
+            this.clearNoteMap ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -534,7 +550,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Set a received CC value.
+     * Set a received CC value. Ignored if learning is off. The learn settings are updated at most
+     * every 100ms, in between only the latest values are kept.
      *
      * @param type The CC, Note or Program Change
      * @param number The number
@@ -542,11 +559,28 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public void setLearnValues (final String type, final int number, final int midiChannel)
     {
+        if (!this.isLearning)
+            return;
+
         this.learnTypeValue = type;
         this.learnNumberValue = NUMBER_NAMES[number];
-        this.learnMidiChannelValue = Integer.toString (midiChannel + 1);
+        this.learnMidiChannelValue = OPTIONS_MIDI_CHANNEL[midiChannel];
+
+        if (this.isLearnDisplayScheduled)
+            return;
+        this.isLearnDisplayScheduled = true;
+        this.host.scheduleTask (this::updateLearnDisplay, LEARN_DISPLAY_INTERVAL);
+    }
+
 
-        this.learnTypeSetting.set (type);
+    /**
+     * Display the latest learned values.
+     */
+    private void updateLearnDisplay ()
+    {
+        this.isLearnDisplayScheduled = false;
+
+        this.learnTypeSetting.set (this.learnTypeValue);
         this.learnNumberSetting.set (this.learnNumberValue);
         this.learnMidiChannelSetting.set (this.learnMidiChannelValue);
     }
@@ -562,13 +596,111 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        final int [] slots = this.getSlotCommands (type, number, midiChannel);
+        return slots.length == 0 ? -1 : slots[0];
+    }
+
+
+    /**
+     * Get all configured slot commands which match a MIDI message. The slots are looked up in an
+     * index which is rebuilt after a slot has changed.
+     *
+     * @param type The type
+     * @param number The number
+     * @param midiChannel The midi channel
+     * @return The slot indices in ascending order, empty if none is found. Do not modify.
+     */
+    public int [] getSlotCommands (final int type, final int number, final int midiChannel)
+    {
+        final int key = getSlotKey (type, number, midiChannel);
+        if (key < 0)
+            return NO_SLOTS;
+        final int [] slots = this.getSlotIndex ()[key];
+        return slots == null ? NO_SLOTS : slots;
+    }
+
+
+    /**
+     * Get the index of all slots which have a command assigned. Builds it, if necessary.
+     *
+     * @return The slot indices for each key of the MIDI message, null if there are none
+     */
+    private int [] [] getSlotIndex ()
+    {
+        synchronized (this.syncMapUpdate)
         {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-                return i;
+            if (this.slotIndex == null)
+            {
+                final int [] [] index = new int [(CommandSlot.TYPE_MMC + 1) * 16 * 128] [];
+                for (int i = 0; i < this.commandSlots.length; i++)
+                {
+                    final CommandSlot slot = this.commandSlots[i];
+                    if (slot.getCommand () == FlexiCommand.OFF)
+                        continue;
+                    final int key = getSlotKey (slot.getType (), slot.getNumber (), slot.getMidiChannel ());
+                    if (key < 0)
+                        continue;
+                    final int [] slots = index[key];
+                    if (slots == null)
+                        index[key] = new int []
+                        {
+                            i
+                        };
+                    else
+                    {
+                        index[key] = Arrays.copyOf (slots, slots.length + 1);
+                        index[key][slots.length] = i;
+                    }
+                }
+                this.slotIndex = index;
+            }
+            return this.slotIndex;
+        }
+    }
+
+
+    /**
+     * Get all slots which have a command assigned and send its value back to the device. Built
+     * lazily like the slot index.
+     *
+     * @return The slot indices in ascending order. Do not modify.
+     */
+    public int [] getReflectedSlots ()
+    {
+        synchronized (this.syncMapUpdate)
+        {
+            if (this.reflectedSlots == null)
+            {
+                final int [] slots = new int [this.commandSlots.length];
+                int count = 0;
+                for (int i = 0; i < this.commandSlots.length; i++)
+                {
+                    final CommandSlot slot = this.commandSlots[i];
+                    if (slot.getCommand () != FlexiCommand.OFF && slot.isSendValue ())
+                        slots[count++] = i;
+                }
+                this.reflectedSlots = Arrays.copyOf (slots, count);
+            }
+            return this.reflectedSlots;
         }
-        return -1;
+    }
+
+
+    /**
+     * Get the key of a MIDI message in the slot index.
+     *
+     * @param type The type
+     * @param number The number
+     * @param midiChannel The midi channel
+     * @return The key or -1 if the message cannot be mapped to a slot
+     */
+    private static int getSlotKey (final int type, final int number, final int midiChannel)
+    {
+        if (type < CommandSlot.TYPE_CC || type > CommandSlot.TYPE_MMC || midiChannel < 0 || midiChannel > 15 || number < 0 || number > 127)
+            return -1;
+        // The number is not relevant for pitch bend
+        final int n = type == CommandSlot.TYPE_PITCH_BEND ? 0 : number;
+        return (type * 16 + midiChannel) * 128 + n;
     }
 
 
@@ -600,7 +732,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Clear the note map.
+     * Clear the note map and the slot index.
      */
     public void clearNoteMap ()
     {
@@ -608,10 +740,24 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         {
             this.keyMap = null;
         }
+        this.clearSlotIndex ();
         this.notifyObservers (SLOT_CHANGE);
     }
 
 
+    /**
+     * Clear the slot index and the reflected slots.
+     */
+    private void clearSlotIndex ()
+    {
+        synchronized (this.syncMapUpdate)
+        {
+            this.slotIndex = null;
+            this.reflectedSlots = null;
+        }
+    }
+
+
     /**
      * Get all command slots.
      *
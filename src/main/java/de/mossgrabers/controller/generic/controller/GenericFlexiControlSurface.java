@@ -8,6 +8,7 @@ import de.mossgrabers.controller.generic.CommandSlot;
 import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
 import de.mossgrabers.controller.generic.flexihandler.IFlexiCommandHandler;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
+import de.mossgrabers.framework.controller.FlushStatistics;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
@@ -29,7 +30,10 @@ import java.util.Map;
  */
 public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFlexiConfiguration>
 {
+    private static final int                              VALUE_UNKNOWN   = Integer.MIN_VALUE;
+
     private final int []                                  valueCache      = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final int []                                  commandValues   = new int [FlexiCommand.values ().length];
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers        = new EnumMap<> (FlexiCommand.class);
 
     private boolean                                       isShiftPressed  = false;
@@ -72,18 +76,46 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     /** {@inheritDoc} */
     @Override
     public void flush ()
+    {
+        final long sentMessages = this.output.getSentMessages ();
+        final long sentSysexBytes = this.output.getSentSysexBytes ();
+        final long start = System.nanoTime ();
+
+        this.reflectValues ();
+
+        this.flushStatistics.record (FlushStatistics.Phase.UPDATE_VIEW_CONTROLS, this.modeManager.getActiveID (), System.nanoTime () - start);
+        this.flushStatistics.recordOutput (this.output.getSentMessages () - sentMessages, this.output.getSentSysexBytes () - sentSysexBytes);
+    }
+
+
+    /**
+     * Send the values of all slots which reflect their value to the device, if they have changed.
+     * The values are polled since the model does not offer value observers and Bitwig only allows
+     * to register observers during initialisation but the mapping can be changed at any time. This
+     * is cheap since the model caches all values.
+     */
+    private void reflectValues ()
     {
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
-        for (int i = 0; i < slots.length; i++)
+
+        // The value of a command which is mapped to several slots is only retrieved once
+        Arrays.fill (this.commandValues, VALUE_UNKNOWN);
+        for (final int i: this.configuration.getReflectedSlots ())
         {
             final FlexiCommand command = slots[i].getCommand ();
-            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
+            if (command == FlexiCommand.OFF)
                 continue;
 
-            if (this.isUpdatingValue && !(slots[i].getCommand ().isTrigger () && slots[i].isSendValueWhenReceived ()))
+            if (this.isUpdatingValue && !(command.isTrigger () && slots[i].isSendValueWhenReceived ()))
                 continue;
 
-            final int value = this.getCommandValue (command);
+            final int ordinal = command.ordinal ();
+            int value = this.commandValues[ordinal];
+            if (value == VALUE_UNKNOWN)
+            {
+                value = this.getCommandValue (command);
+                this.commandValues[ordinal] = value;
+            }
             if (this.valueCache[i] == value)
                 continue;
             this.valueCache[i] = value;
@@ -151,38 +183,38 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             // Note on/off
             case 0x90:
                 this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_NOTE + 1], data1, channel);
-                this.handleCommand (this.configuration.getSlotCommand (CommandSlot.TYPE_NOTE, data1, channel), data2);
+                this.handleCommands (this.configuration.getSlotCommands (CommandSlot.TYPE_NOTE, data1, channel), data2);
                 break;
 
             // Program Change
             case 0xC0:
                 this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_PROGRAM_CHANGE + 1], data1, channel);
-                final int slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_PROGRAM_CHANGE, data1, channel);
-                if (slotIndex < 0)
-                    return;
-                final CommandSlot commandSlot = this.configuration.getCommandSlots ()[slotIndex];
-                if (commandSlot.getCommand ().isTrigger ())
-                {
-                    this.handleCommand (slotIndex, 127);
-                    this.handleCommand (slotIndex, 0);
-                }
-                else
+                for (final int slotIndex: this.configuration.getSlotCommands (CommandSlot.TYPE_PROGRAM_CHANGE, data1, channel))
                 {
-                    // Note: there is no data2 value for PC
-                    this.handleCommand (slotIndex, data1);
+                    final CommandSlot commandSlot = this.configuration.getCommandSlots ()[slotIndex];
+                    if (commandSlot.getCommand ().isTrigger ())
+                    {
+                        this.handleCommand (slotIndex, 127);
+                        this.handleCommand (slotIndex, 0);
+                    }
+                    else
+                    {
+                        // Note: there is no data2 value for PC
+                        this.handleCommand (slotIndex, data1);
+                    }
                 }
                 break;
 
             // CC
             case 0xB0:
                 this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_CC + 1], data1, channel);
-                this.handleCommand (this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel), data2);
+                this.handleCommands (this.configuration.getSlotCommands (CommandSlot.TYPE_CC, data1, channel), data2);
                 break;
 
             // Pitchbend
             case 0xE0:
                 this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_PITCH_BEND + 1], data1, channel);
-                this.handleCommand (this.configuration.getSlotCommand (CommandSlot.TYPE_PITCH_BEND, data1, channel), data2);
+                this.handleCommands (this.configuration.getSlotCommands (CommandSlot.TYPE_PITCH_BEND, data1, channel), data2);
                 break;
 
             default:
@@ -208,11 +240,11 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         final int number = data[4];
 
         this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_MMC + 1], number, channel);
-        final int slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_MMC, number, channel);
-        if (slotIndex == -1)
-            return;
-        this.handleCommand (slotIndex, 127);
-        this.handleCommand (slotIndex, 0);
+        for (final int slotIndex: this.configuration.getSlotCommands (CommandSlot.TYPE_MMC, number, channel))
+        {
+            this.handleCommand (slotIndex, 127);
+            this.handleCommand (slotIndex, 0);
+        }
     }
 
 
@@ -297,6 +329,19 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
+    /**
+     * Handle the commands of several slots which are mapped to the same MIDI message.
+     *
+     * @param slotIndices The indices of the slots where the commands are stored
+     * @param value The received parameter value to handle
+     */
+    private void handleCommands (final int [] slotIndices, final int value)
+    {
+        for (final int slotIndex: slotIndices)
+            this.handleCommand (slotIndex, value);
+    }
+
+
     /**
      * Handle a command.
      *
@@ -104,6 +104,8 @@ public class HUIConfiguration extends AbstractConfiguration
 
         this.activateHardwareSettings (globalSettings);
         this.activateEnableVUMetersSetting (globalSettings, CATEGORY_HARDWARE_SETUP);
+        this.activateVuMeterSettings (globalSettings, CATEGORY_HARDWARE_SETUP);
+        this.activateFlushStatisticsSetting (globalSettings);
 
         ///////////////////////////
         // Assignable buttons
@@ -49,7 +49,9 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
+import de.mossgrabers.framework.controller.FlushStatistics;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.VuMeterPipeline;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
@@ -94,9 +96,8 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     /** State for button LED off. */
     public static final int HUI_BUTTON_STATE_OFF = 0;
 
-    private final int []    vuValuesL            = new int [8];
-    private final int []    vuValuesR            = new int [8];
-    private final int []    faderValues          = new int [36];
+    private final int []          faderValues          = new int [36];
+    private final VuMeterPipeline vuMeters             = new VuMeterPipeline (16, 12, this::sendVuMeter);
 
 
     /**
@@ -111,8 +112,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     {
         super (factory, host, globalSettings, documentSettings);
 
-        Arrays.fill (this.vuValuesL, -1);
-        Arrays.fill (this.vuValuesR, -1);
         Arrays.fill (this.faderValues, -1);
 
         this.colorManager = new ColorManager ();
@@ -134,7 +133,7 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
         this.updateMode (this.getSurface ().getModeManager ().getActiveID ());
 
-        this.updateVUandFaders ();
+        this.updateFaders ();
         this.updateSegmentDisplay ();
     }
 
@@ -174,6 +173,10 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         surface.addTextDisplay (new HUIDisplay (this.host, output));
         surface.addTextDisplay (new HUISegmentDisplay (this.host, output));
         surface.getModeManager ().setDefaultID (Modes.VOLUME);
+
+        final FlushStatistics flushStatistics = surface.getFlushStatistics ();
+        flushStatistics.addCounter ("VU_METERS/SENT", this.vuMeters::getSentUpdates);
+        flushStatistics.addCounter ("VU_METERS/SUPPRESSED", this.vuMeters::getSuppressedUpdates);
     }
 
 
@@ -210,6 +213,7 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         surface.getModeManager ().addChangeListener ( (oldMode, newMode) -> this.updateMode (newMode));
 
         this.configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, () -> {
+            this.vuMeters.invalidate ();
             final IMode activeMode = surface.getModeManager ().getActive ();
             if (activeMode != null)
                 activeMode.updateDisplay ();
@@ -628,6 +632,7 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         surface.getModeManager ().setActive (Modes.PAN);
 
         this.sendPing ();
+        this.updateVUMetersTick ();
     }
 
 
@@ -650,47 +655,61 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     }
 
 
-    private void updateVUandFaders ()
+    /**
+     * Updates the VU meters with the configured rate, independent of the flush.
+     */
+    private void updateVUMetersTick ()
     {
-        final double upperBound = this.valueChanger.getUpperBound ();
-        final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
-        final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
+        this.updateVUMeters ();
+        this.host.scheduleTask (this::updateVUMetersTick, 1000 / this.configuration.getVuMeterRate ());
+    }
+
 
+    private void updateVUMeters ()
+    {
+        if (!this.configuration.isEnableVUMeters ())
+            return;
+
+        final double upperBound = this.valueChanger.getUpperBound ();
         final ITrackBank tb = this.model.getCurrentTrackBank ();
-        IMidiOutput output;
-        final HUIControlSurface surface = this.getSurface ();
-        output = surface.getMidiOutput ();
         for (int channel = 0; channel < 8; channel++)
         {
             final ITrack track = tb.getItem (channel);
+            this.vuMeters.setLevel (channel, (int) Math.floor (track.getVuLeft () * 12 / upperBound));
+            this.vuMeters.setLevel (8 + channel, (int) Math.floor (track.getVuRight () * 12 / upperBound));
+        }
 
-            // Update VU LEDs of channel
-            if (enableVUMeters)
-            {
-                final int vuLeft = track.getVuLeft ();
-                if (vuLeft != this.vuValuesL[channel])
-                {
-                    this.vuValuesL[channel] = vuLeft;
-                    final int scaledValue = (int) Math.floor (vuLeft * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (channel, scaledValue);
-                }
-                final int vuRight = track.getVuRight ();
-                if (vuRight != this.vuValuesR[channel])
-                {
-                    this.vuValuesR[channel] = vuRight;
-                    final int scaledValue = (int) Math.floor (vuRight * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (0x10 + channel, scaledValue);
-                }
-            }
+        this.vuMeters.setPeakHold (this.configuration.isVuPeakHold ());
+        this.vuMeters.update (System.currentTimeMillis ());
+    }
 
-            // Update motor fader of channel
-            if (hasMotorFaders)
-                this.updateFaders (output, channel, track);
-        }
+
+    /**
+     * Send the level of a meter to the device.
+     *
+     * @param meter The index of the meter, 0-7 are the left meters, 8-15 the right meters
+     * @param segment The level 0-12
+     */
+    private void sendVuMeter (final int meter, final int segment)
+    {
+        final int channel = meter % 8;
+        this.getSurface ().getMidiOutput ().sendPolyphonicAftertouch ((meter < 8 ? 0 : 0x10) + channel, segment);
+    }
+
+
+    private void updateFaders ()
+    {
+        if (!this.configuration.hasMotorFaders ())
+            return;
+
+        final ITrackBank tb = this.model.getCurrentTrackBank ();
+        final IMidiOutput output = this.getSurface ().getMidiOutput ();
+        for (int channel = 0; channel < 8; channel++)
+            this.updateFader (output, channel, tb.getItem (channel));
     }
 
 
-    private void updateFaders (final IMidiOutput output, final int channel, final ITrack track)
+    private void updateFader (final IMidiOutput output, final int channel, final ITrack track)
     {
         final int value = track.getVolume ();
         if (value != this.faderValues[channel])
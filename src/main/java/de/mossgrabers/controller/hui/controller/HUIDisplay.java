@@ -7,24 +7,35 @@ package de.mossgrabers.controller.hui.controller;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
  * The HUI main display. Note that the original HUI display uses a modified ASCII set (e.g. it
  * supports umlauts) but since emulations do not support it this implementation sticks to basic
- * ASCII.
+ * ASCII. Only the cells which differ from the content last sent to the device are sent.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class HUIDisplay extends AbstractTextDisplay
 {
-    private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
+    private static final int []      SYSEX_DISPLAY_HEADER =
+    {
+        0x00,
+        0x00,
+        0x66,
+        0x05,
+        0x00,
+        0x10
+    };
 
     private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final char []            sentText             = new char [36];
+    private final AtomicBoolean      isSentTextValid      = new AtomicBoolean ();
 
 
     /**
@@ -59,23 +70,51 @@ public class HUIDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        this.isSentTextValid.set (false);
+    }
+
+
     /**
-     * Send a line to the display
+     * Send the changed cells of a line to the display. Only called from the executor.
      *
      * @param text The text to send
      */
     private void sendDisplayLine (final String text)
     {
-        final String t = text;
+        final boolean isValid = this.isSentTextValid.getAndSet (true);
 
-        final int [] array = new int [5];
         for (int cell = 0; cell < this.noOfCells; cell++)
         {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
+            final int start = cell * 4;
+            if (isValid && !this.hasCellChanged (text, start))
+                continue;
+
+            final SysexBuilder sysex = this.output.startSysex ().add (SYSEX_DISPLAY_HEADER).add (cell);
+            for (int i = start; i < start + 4; i++)
+            {
+                final char c = text.charAt (i);
+                this.sentText[i] = c;
+                sysex.add (c);
+            }
+            sysex.send ();
+        }
+    }
+
+
+    private boolean hasCellChanged (final String text, final int start)
+    {
+        for (int i = start; i < start + 4; i++)
+        {
+            if (this.sentText[i] != text.charAt (i))
+                return true;
         }
+        return false;
     }
 
 
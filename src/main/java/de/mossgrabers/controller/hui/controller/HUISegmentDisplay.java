@@ -7,7 +7,7 @@ package de.mossgrabers.controller.hui.controller;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.Arrays;
 
@@ -19,7 +19,15 @@ import java.util.Arrays;
  */
 public class HUISegmentDisplay extends AbstractTextDisplay
 {
-    private static final String SYSEX_HDR          = "F0 00 00 66 05 00 11 ";
+    private static final int [] SYSEX_HDR          =
+    {
+        0x00,
+        0x00,
+        0x66,
+        0x05,
+        0x00,
+        0x11
+    };
 
     private int []              transportBuffer    = new int [8];
     private int []              oldtransportBuffer = new int [8];
@@ -82,10 +90,10 @@ public class HUISegmentDisplay extends AbstractTextDisplay
         System.arraycopy (this.transportBuffer, 0, this.oldtransportBuffer, 0, pos + 1);
 
         // Create and send the message with changed digits
-        final int [] data = new int [pos + 1];
-        System.arraycopy (this.transportBuffer, 0, data, 0, data.length);
-        final String msg = SYSEX_HDR + StringUtils.toHexStr (data) + "F7";
-        this.output.sendSysex (msg);
+        final SysexBuilder sysex = this.output.startSysex ().add (SYSEX_HDR);
+        for (int i = 0; i <= pos; i++)
+            sysex.add (this.transportBuffer[i]);
+        sysex.send ();
     }
 
 
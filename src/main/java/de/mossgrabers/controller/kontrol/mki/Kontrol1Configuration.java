@@ -67,6 +67,11 @@ public class Kontrol1Configuration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateEnableVUMetersSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+
+        ///////////////////////////
+        // Hardware
+
+        this.activateFlushStatisticsSetting (globalSettings);
     }
 
 
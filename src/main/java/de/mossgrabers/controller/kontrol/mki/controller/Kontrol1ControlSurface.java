@@ -15,6 +15,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.LatencyHistogram;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -169,6 +170,13 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
 
         this.usbDevice = usbDevice;
 
+        final LatencyHistogram sendLatency = usbDevice.getSendLatency ();
+        if (sendLatency != null)
+            this.flushStatistics.addHistogram ("HID/SEND", sendLatency);
+        this.flushStatistics.addCounter ("HID/REPORTS_SENT", usbDevice::getSentReports);
+        this.flushStatistics.addCounter ("HID/REPORTS_COALESCED", usbDevice::getCoalescedReports);
+        this.flushStatistics.addCounter ("HID/SEND_FAILURES", usbDevice::getFailedReports);
+
         this.lightGuide = new Kontrol1LightGuide (colorManager, usbDevice);
         this.createLightGuide ();
     }
@@ -194,7 +202,7 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
                 final int note = firstNote + index;
                 if (note >= 128)
                     return -1;
-                return this.lightGuide.getLightInfo (note).getEncoded ();
+                return this.lightGuide.getEncodedState (note);
 
             }, state -> {
 
@@ -17,6 +17,7 @@ import de.mossgrabers.framework.controller.grid.LightGuideImpl;
 public class Kontrol1LightGuide extends LightGuideImpl
 {
     private final Kontrol1UsbDevice usbDevice;
+    private int                     translatedFirstNote = -1;
 
 
     /**
@@ -48,6 +49,21 @@ public class Kontrol1LightGuide extends LightGuideImpl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void sendState (final int note)
+    {
+        // The keys are addressed relative to the first note, which changes with octave transpose
+        final int firstNote = this.usbDevice.getFirstNote ();
+        if (firstNote != this.translatedFirstNote)
+        {
+            this.translatedFirstNote = firstNote;
+            this.clearControllerAddresses ();
+        }
+        super.sendState (note);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void sendNoteState (final int channel, final int note, final int color)
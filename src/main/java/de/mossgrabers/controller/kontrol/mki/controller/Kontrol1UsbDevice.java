@@ -5,19 +5,20 @@
 package de.mossgrabers.controller.kontrol.mki.controller;
 
 import de.mossgrabers.framework.daw.IHost;
-import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.HidReportWriter;
+import de.mossgrabers.framework.usb.HidReportWriter.Report;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.LatencyHistogram;
 
-import java.nio.ByteBuffer;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 
 /**
- * USB connection for display and UI controls of Kontrol 1.
+ * USB connection for display and UI controls of Kontrol 1. The output reports are sent by a HID
+ * writer. Only changed reports are sent.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -325,6 +326,12 @@ public class Kontrol1UsbDevice
         (byte) 129
     };
 
+    private static final byte []               EMPTY_CHARACTER           = new byte []
+    {
+        0,
+        0
+    };
+
     private static final int []                BYTE_0                    =
     {
         Kontrol1ControlSurface.BUTTON_MAIN_ENCODER,
@@ -408,10 +415,6 @@ public class Kontrol1UsbDevice
     private static final int                   SIZE_BUTTON_LEDS          = 25;
 
     private final int                          sizeKeyLEDs;
-    private final IMemoryBlock                 displayBlock;
-    private final IMemoryBlock                 ledBlock;
-    private final IMemoryBlock                 keyLedBlock;
-    private final IMemoryBlock                 initBlock;
 
     private static final Map<Integer, Integer> LED_MAPPING               = new HashMap<> (21);
 
@@ -419,6 +422,11 @@ public class Kontrol1UsbDevice
     private final IHost                        host;
     private IUsbDevice                         usbDevice;
     private IHidDevice                         hidDevice;
+    private HidReportWriter                    writer;
+    private Report []                          displayReports;
+    private Report                             ledReport;
+    private Report                             keyLedReport;
+    private Report                             initReport;
 
     private UIChangeCallback                   callback;
 
@@ -427,17 +435,14 @@ public class Kontrol1UsbDevice
     private int                                firstNote                 = 48;
 
     private byte []                            buttonStates              = new byte [21];
-    private byte []                            oldButtonStates           = new byte [21];
 
     private byte []                            keyColors                 = new byte [88 * 3];
-    private byte []                            oldKeyColors              = new byte [88 * 3];
 
     private final boolean [] []                dots                      = new boolean [2] [72];
     private final int [] []                    bars                      = new int [9] [9];
     private final char [] []                   texts                     = new char [2] [72];
-    private final char [] []                   oldTexts                  = new char [2] [72];
 
-    private final byte []                      line0                     = new byte [SIZE_DISPLAY];
+    private final byte []                      displayData               = new byte [SIZE_DISPLAY];
 
     private boolean                            isFirstStateMsg           = true;
 
@@ -494,13 +499,21 @@ public class Kontrol1UsbDevice
 
         this.sizeKeyLEDs = KEY_SIZES[modelIndex] * 3;
 
-        this.displayBlock = host.createMemoryBlock (SIZE_DISPLAY);
-        this.ledBlock = host.createMemoryBlock (SIZE_BUTTON_LEDS);
-        this.keyLedBlock = host.createMemoryBlock (this.sizeKeyLEDs);
-        this.initBlock = host.createMemoryBlock (2);
+        if (this.hidDevice == null)
+            return;
+
+        this.writer = new HidReportWriter (host, this.hidDevice);
+        // Must be the first, the device needs to be initialized before anything else is sent
+        this.initReport = this.writer.addReport (REPORT_ID_OUTPUT_INIT, 2);
+        // The bars and dots and the 2 text rows
+        this.displayReports = new Report [3];
+        for (int i = 0; i < this.displayReports.length; i++)
+            this.displayReports[i] = this.writer.addReport (REPORT_ID_OUTPUT_DISPLAY, SIZE_DISPLAY);
+        this.ledReport = this.writer.addReport (REPORT_ID_OUTPUT_LEDS, SIZE_BUTTON_LEDS);
+        this.keyLedReport = this.writer.addReport (REPORT_ID_OUTPUT_KEY_LEDS, this.sizeKeyLEDs);
 
         // To send black LEDs on startup
-        this.oldKeyColors[0] = -1;
+        this.keyLedReport.invalidate ();
     }
 
 
@@ -531,15 +544,11 @@ public class Kontrol1UsbDevice
      */
     public void init ()
     {
-        if (this.hidDevice == null)
+        if (this.writer == null)
             return;
 
-        synchronized (this.initBlock)
-        {
-            final ByteBuffer buffer = this.initBlock.createByteBuffer ();
-            padBuffer (buffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_INIT, this.initBlock);
-        }
+        this.initReport.invalidate ();
+        this.writer.flush ();
     }
 
 
@@ -658,71 +667,113 @@ public class Kontrol1UsbDevice
      */
     public void sendDisplayData ()
     {
-        if (this.hidDevice == null)
+        if (this.writer == null)
             return;
 
-        synchronized (this.displayBlock)
+        synchronized (this.displayData)
         {
-            final ByteBuffer displayBuffer = this.displayBlock.createByteBuffer ();
-            fillHeader (displayBuffer, 0);
+            int pos = fillHeader (this.displayData, 0);
             for (int j = 0; j < 72; j++)
             {
                 final int col = j / 8;
-                displayBuffer.put ((byte) this.bars[col][j - col * 8]);
+                this.displayData[pos++] = (byte) this.bars[col][j - col * 8];
 
                 if (j % 8 == 7)
-                    displayBuffer.put ((byte) this.bars[col][8]);
+                    this.displayData[pos++] = (byte) this.bars[col][8];
                 else
                 {
                     if (this.dots[0][j] && this.dots[1][j])
-                        displayBuffer.put ((byte) 255);
+                        this.displayData[pos++] = (byte) 255;
                     else if (this.dots[0][j])
-                        displayBuffer.put ((byte) 253);
+                        this.displayData[pos++] = (byte) 253;
                     else if (this.dots[1][j])
-                        displayBuffer.put ((byte) 254);
+                        this.displayData[pos++] = (byte) 254;
                     else
-                        displayBuffer.put ((byte) 0);
+                        this.displayData[pos++] = (byte) 0;
                 }
             }
-            padBuffer (displayBuffer);
-
-            final byte [] l0 = new byte [SIZE_DISPLAY];
-            displayBuffer.rewind ();
-            displayBuffer.get (l0);
-
-            if (!Arrays.equals (this.line0, l0))
-            {
-                System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
-            }
+            boolean hasChanged = this.displayReports[0].update (this.displayData, pos);
 
             for (int row = 1; row < 3; row++)
             {
-                if (!Arrays.equals (this.oldTexts[row - 1], this.texts[row - 1]))
+                pos = fillHeader (this.displayData, row);
+                for (int j = 0; j < 72; j++)
                 {
-                    System.arraycopy (this.texts[row - 1], 0, this.oldTexts[row - 1], 0, this.oldTexts[row - 1].length);
-
-                    fillHeader (displayBuffer, row);
-                    for (int j = 0; j < 72; j++)
-                        displayBuffer.put (this.getCharacter (row - 1, j));
-
-                    padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
+                    final byte [] character = this.getCharacter (row - 1, j);
+                    this.displayData[pos++] = character[0];
+                    this.displayData[pos++] = character[1];
                 }
+                hasChanged |= this.displayReports[row].update (this.displayData, pos);
             }
+
+            if (hasChanged)
+                this.writer.flush ();
         }
     }
 
 
     /**
-     * Stop sending USB data.
+     * Stop sending USB data. Changes which are not yet sent are sent before.
      */
     public void shutdown ()
     {
+        if (this.writer != null)
+        {
+            this.writer.shutdown ();
+            this.writer = null;
+        }
         this.hidDevice = null;
     }
 
 
+    /**
+     * Get the latencies of sending a HID report.
+     *
+     * @return The latency histogram, null if there is no connection to the device
+     */
+    public LatencyHistogram getSendLatency ()
+    {
+        final HidReportWriter w = this.writer;
+        return w == null ? null : w.getSendLatency ();
+    }
+
+
+    /**
+     * Get the number of HID reports sent to the device.
+     *
+     * @return The number of reports
+     */
+    public long getSentReports ()
+    {
+        final HidReportWriter w = this.writer;
+        return w == null ? 0 : w.getSentReports ();
+    }
+
+
+    /**
+     * Get the number of HID report updates which replaced content which was not yet sent.
+     *
+     * @return The number of updates
+     */
+    public long getCoalescedReports ()
+    {
+        final HidReportWriter w = this.writer;
+        return w == null ? 0 : w.getCoalescedReports ();
+    }
+
+
+    /**
+     * Get the number of HID reports which the device did not accept.
+     *
+     * @return The number of reports
+     */
+    public long getFailedReports ()
+    {
+        final HidReportWriter w = this.writer;
+        return w == null ? 0 : w.getFailedReports ();
+    }
+
+
     /**
      * Set a button LED.
      *
@@ -742,21 +793,12 @@ public class Kontrol1UsbDevice
      */
     public void updateButtonLEDs ()
     {
-        if (this.hidDevice == null)
+        if (this.writer == null)
             return;
 
-        synchronized (this.ledBlock)
-        {
-            if (Arrays.equals (this.oldButtonStates, this.buttonStates))
-                return;
-            System.arraycopy (this.buttonStates, 0, this.oldButtonStates, 0, this.oldButtonStates.length);
-
-            final ByteBuffer ledBuffer = this.ledBlock.createByteBuffer ();
-            ledBuffer.clear ();
-            ledBuffer.put (this.buttonStates);
-            padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
-        }
+        // Also wake up the writer to send reports again, which could not be sent before
+        if (this.ledReport.update (this.buttonStates, this.buttonStates.length) || this.writer.hasUnsentReports ())
+            this.writer.flush ();
     }
 
 
@@ -775,7 +817,7 @@ public class Kontrol1UsbDevice
         if (key < 0 || key >= 88)
             return;
         final int pos = 3 * key;
-        synchronized (this.keyLedBlock)
+        synchronized (this.keyColors)
         {
             this.keyColors[pos] = (byte) red;
             this.keyColors[pos + 1] = (byte) green;
@@ -789,40 +831,37 @@ public class Kontrol1UsbDevice
      */
     public void updateKeyLEDs ()
     {
-        if (this.hidDevice == null)
+        if (this.writer == null)
             return;
 
-        synchronized (this.keyLedBlock)
+        final boolean hasChanged;
+        synchronized (this.keyColors)
         {
-            if (Arrays.equals (this.oldKeyColors, this.keyColors))
-                return;
-            System.arraycopy (this.keyColors, 0, this.oldKeyColors, 0, this.oldKeyColors.length);
-            final ByteBuffer keyLedBuffer = this.keyLedBlock.createByteBuffer ();
-            keyLedBuffer.clear ();
-            keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
-            padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            hasChanged = this.keyLedReport.update (this.keyColors, this.sizeKeyLEDs);
         }
+        if (hasChanged)
+            this.writer.flush ();
     }
 
 
     /**
-     * Fill the display buffer with the header data
+     * Fill the display data with the header data
      *
-     * @param displayBuffer The display buffer to which to add the header
+     * @param displayData The display data to which to add the header
      * @param row The row number (0-3)
+     * @return The position after the header
      */
-    private static void fillHeader (final ByteBuffer displayBuffer, final int row)
-    {
-        displayBuffer.clear ();
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) row);
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x48);
-        displayBuffer.put ((byte) 0x00);
-        displayBuffer.put ((byte) 0x01);
-        displayBuffer.put ((byte) 0x00);
+    private static int fillHeader (final byte [] displayData, final int row)
+    {
+        displayData[0] = 0x00;
+        displayData[1] = 0x00;
+        displayData[2] = (byte) row;
+        displayData[3] = 0x00;
+        displayData[4] = 0x48;
+        displayData[5] = 0x00;
+        displayData[6] = 0x01;
+        displayData[7] = 0x00;
+        return 8;
     }
 
 
@@ -938,11 +977,7 @@ public class Kontrol1UsbDevice
                 return BWD_SLASH;
 
             default:
-                return new byte []
-                {
-                    0,
-                    0
-                };
+                return EMPTY_CHARACTER;
         }
     }
 
@@ -982,11 +1017,4 @@ public class Kontrol1UsbDevice
     {
         return this.firstNote;
     }
-
-
-    private static void padBuffer (final ByteBuffer buffer)
-    {
-        while (buffer.position () < buffer.capacity ())
-            buffer.put ((byte) 0x00);
-    }
 }
@@ -124,6 +124,11 @@ public class KontrolProtocolConfiguration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+
+        ///////////////////////////
+        // Hardware
+
+        this.activateFlushStatisticsSetting (globalSettings);
     }
 
 
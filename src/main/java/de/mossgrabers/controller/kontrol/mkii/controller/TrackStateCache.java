@@ -0,0 +1,176 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.kontrol.mkii.controller;
+
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * Caches the values and info data of the track states which are sent to the Komplete Kontrol. A
+ * state is identified by the track and the state ID. Each state has a value and info data which is
+ * stored as encoded bytes. Changed states are collected and sent track by track with
+ * {@link #send(IMidiOutput, int[])}. If a state changes several times before it is sent, only the
+ * latest content is sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TrackStateCache
+{
+    private static final int     NUM_TRACKS   = 8;
+    private static final int     NUM_STATES   = 128;
+
+    private final int [] []      values       = new int [NUM_TRACKS] [NUM_STATES];
+    private final byte [] [] []  data         = new byte [NUM_TRACKS] [NUM_STATES] [];
+    private final int [] []      lengths      = new int [NUM_TRACKS] [NUM_STATES];
+    private final boolean [] []  isStored     = new boolean [NUM_TRACKS] [NUM_STATES];
+    private final boolean [] []  isDirty      = new boolean [NUM_TRACKS] [NUM_STATES];
+    private final boolean []     isTrackDirty = new boolean [NUM_TRACKS];
+    private byte []              encoded      = new byte [64];
+    private int                  encodedLength;
+    private long                 sentStates;
+    private long                 unchangedStates;
+
+
+    /**
+     * Store the value and info text of a state. The text is converted to ASCII.
+     *
+     * @param track The track index (0-7)
+     * @param stateID The state ID (command)
+     * @param value The value
+     * @param info The info text
+     */
+    public synchronized void store (final int track, final int stateID, final int value, final String info)
+    {
+        this.encodedLength = 0;
+        final int length = info == null ? 0 : info.length ();
+        for (int i = 0; i < length; i++)
+        {
+            final char c = info.charAt (i);
+            if (c > 127)
+            {
+                final String replacement = StringUtils.fixASCII (c);
+                for (int j = 0; j < replacement.length (); j++)
+                    this.addEncoded (replacement.charAt (j));
+            }
+            else
+                this.addEncoded (c);
+        }
+        this.storeEncoded (track, stateID, value);
+    }
+
+
+    /**
+     * Store the value and info data of a state.
+     *
+     * @param track The track index (0-7)
+     * @param stateID The state ID (command)
+     * @param value The value
+     * @param info Further info data, only the lower 8 bits of each value are used
+     */
+    public synchronized void store (final int track, final int stateID, final int value, final int [] info)
+    {
+        this.encodedLength = 0;
+        for (final int v: info)
+            this.addEncoded (v);
+        this.storeEncoded (track, stateID, value);
+    }
+
+
+    /**
+     * Send all changed states. The states are sent ordered by track and state ID.
+     *
+     * @param output The output to send to
+     * @param header The header of the system exclusive messages (without F0)
+     */
+    public synchronized void send (final IMidiOutput output, final int [] header)
+    {
+        for (int track = 0; track < NUM_TRACKS; track++)
+        {
+            if (!this.isTrackDirty[track])
+                continue;
+            this.isTrackDirty[track] = false;
+
+            for (int stateID = 0; stateID < NUM_STATES; stateID++)
+            {
+                if (!this.isDirty[track][stateID])
+                    continue;
+                this.isDirty[track][stateID] = false;
+
+                output.startSysex ().add (header).add (stateID).add (this.values[track][stateID]).add (track).add (this.data[track][stateID], 0, this.lengths[track][stateID]).send ();
+                this.sentStates++;
+            }
+        }
+    }
+
+
+    /**
+     * Forget all stored states, which forces sending all states again. States which are not yet
+     * sent are discarded.
+     */
+    public synchronized void clear ()
+    {
+        for (int track = 0; track < NUM_TRACKS; track++)
+        {
+            Arrays.fill (this.isStored[track], false);
+            Arrays.fill (this.isDirty[track], false);
+        }
+        Arrays.fill (this.isTrackDirty, false);
+    }
+
+
+    /**
+     * Get the number of states which have been sent.
+     *
+     * @return The number of states
+     */
+    public synchronized long getSentStates ()
+    {
+        return this.sentStates;
+    }
+
+
+    /**
+     * Get the number of states which were not sent since they did not change.
+     *
+     * @return The number of states
+     */
+    public synchronized long getUnchangedStates ()
+    {
+        return this.unchangedStates;
+    }
+
+
+    private void addEncoded (final int value)
+    {
+        if (this.encodedLength == this.encoded.length)
+            this.encoded = Arrays.copyOf (this.encoded, this.encoded.length * 2);
+        this.encoded[this.encodedLength++] = (byte) value;
+    }
+
+
+    private void storeEncoded (final int track, final int stateID, final int value)
+    {
+        final byte [] stored = this.data[track][stateID];
+        final int length = this.encodedLength;
+        if (this.isStored[track][stateID] && this.values[track][stateID] == value && this.lengths[track][stateID] == length && Arrays.equals (stored, 0, length, this.encoded, 0, length))
+        {
+            this.unchangedStates++;
+            return;
+        }
+
+        if (stored == null || stored.length < length)
+            this.data[track][stateID] = Arrays.copyOf (this.encoded, Math.max (length, 16));
+        else
+            System.arraycopy (this.encoded, 0, stored, 0, length);
+        this.values[track][stateID] = value;
+        this.lengths[track][stateID] = length;
+        this.isStored[track][stateID] = true;
+        this.isDirty[track][stateID] = true;
+        this.isTrackDirty[track] = true;
+    }
+}
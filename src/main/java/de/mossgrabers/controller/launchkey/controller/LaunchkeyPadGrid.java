@@ -141,6 +141,9 @@ public class LaunchkeyPadGrid extends PadGridImpl
      */
     public void setView (final Views view)
     {
+        if (this.activeView == view)
+            return;
         this.activeView = view;
+        this.clearControllerAddresses ();
     }
 }
\ No newline at end of file
@@ -92,5 +92,11 @@ public class LaunchpadConfiguration extends AbstractConfiguration
         // Pad Sensitivity
 
         this.activateConvertAftertouchSetting (globalSettings);
+
+        ///////////////////////////
+        // Hardware
+
+        this.activateFlushRateSetting (globalSettings);
+        this.activateFlushStatisticsSetting (globalSettings);
     }
 }
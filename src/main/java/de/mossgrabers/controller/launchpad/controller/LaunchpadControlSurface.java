@@ -247,10 +247,8 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
 
     /** {@inheritDoc} */
     @Override
-    protected void flushHardware ()
+    protected void flushPadGrid ()
     {
-        super.flushHardware ();
-
         ((LaunchpadPadGrid) this.pads).flush ();
     }
 
@@ -262,7 +260,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      */
     public void sendLaunchpadSysEx (final String data)
     {
-        this.output.sendSysex (this.definition.getSysExHeader () + data + " F7");
+        this.output.sendSysex ("F0 " + StringUtils.toHexStr (this.definition.getSysExHeader ()) + data + " F7");
     }
 
 
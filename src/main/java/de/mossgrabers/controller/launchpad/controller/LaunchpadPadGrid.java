@@ -6,13 +6,11 @@ package de.mossgrabers.controller.launchpad.controller;
 
 import de.mossgrabers.controller.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.PadStates;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 
 /**
@@ -36,15 +34,17 @@ public class LaunchpadPadGrid extends PadGridImpl
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
+    private static final int []                  INVERSE_TRANSLATE_MATRIX = new int [NUM_NOTES];
     static
     {
+        Arrays.fill (INVERSE_TRANSLATE_MATRIX, -1);
         for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
-            INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
+            INVERSE_TRANSLATE_MATRIX[TRANSLATE_MATRIX[i]] = 36 + i;
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    // The states to send with the next flush, indexed by the controller note
+    private final PadStates                      pendingStates            = new PadStates (NUM_NOTES);
 
 
     /**
@@ -66,8 +66,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     public int translateToGrid (final int note)
     {
-        final Integer value = INVERSE_TRANSLATE_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
+        return note >= 0 && note < NUM_NOTES ? INVERSE_TRANSLATE_MATRIX[note] : -1;
     }
 
 
@@ -89,13 +88,12 @@ public class LaunchpadPadGrid extends PadGridImpl
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
+        synchronized (this.pendingStates)
         {
-            if (this.padInfos.isEmpty ())
+            if (!this.pendingStates.hasDirty ())
                 return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
-            this.padInfos.clear ();
+            this.definition.sendLEDUpdate (this.output, this.pendingStates);
+            this.pendingStates.clearDirty ();
         }
     }
 
@@ -104,9 +102,9 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     protected void sendNoteState (final int channel, final int note, final int color)
     {
-        synchronized (this.padInfos)
+        synchronized (this.pendingStates)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.pendingStates.setColor (note, color);
         }
     }
 
@@ -115,11 +113,9 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
     {
-        synchronized (this.padInfos)
+        synchronized (this.pendingStates)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.pendingStates.setBlink (note, blinkColor, fast);
         }
     }
 }
\ No newline at end of file
@@ -8,13 +8,10 @@ import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.controller.grid.PadStates;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -110,35 +107,36 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void sendLEDUpdate (final IMidiOutput output, final PadStates padStates)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        final SysexBuilder sysex = output.startSysex ().add (this.getSysExHeader ()).add (0x03);
+        for (int note = padStates.nextDirty (0); note >= 0; note = padStates.nextDirty (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int state = padStates.get (note);
+            final int color = PadStates.getColor (state);
+            final int blinkColor = PadStates.getBlinkColor (state);
 
-            if (info.getBlinkColor () <= 0)
+            if (blinkColor <= 0)
             {
                 // 00h: Static colour from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                sysex.add (0x00).add (note).add (color);
             }
             else
             {
-                if (info.isFast ())
+                if (PadStates.isFast (state))
                 {
                     // 01h: Flashing colour, Lighting data is 2 bytes specifying Colour B and
                     // Colour A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sysex.add (0x01).add (note).add (blinkColor).add (color);
                 }
                 else
                 {
                     // 02h: Pulsing colour, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sysex.add (0x02).add (note).add (color);
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        sysex.send ();
     }
 }
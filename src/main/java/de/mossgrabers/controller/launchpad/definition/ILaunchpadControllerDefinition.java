@@ -6,10 +6,8 @@ package de.mossgrabers.controller.launchpad.definition;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-
-import java.util.List;
-import java.util.Map;
+import de.mossgrabers.framework.controller.grid.PadStates;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
 
 /**
@@ -38,9 +36,9 @@ public interface ILaunchpadControllerDefinition
     /**
      * Get the MIDI system exclusive header of the specific Launchpad.
      *
-     * @return The hader as formatted string with hex values
+     * @return The bytes of the header following the system exclusive start byte (F0)
      */
-    String getSysExHeader ();
+    int [] getSysExHeader ();
 
 
     /**
@@ -93,10 +91,10 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update sysex string for all given pads.
+     * Send the sysex messages which update all dirty pads.
      *
-     * @param padInfos The info how to update the pads
-     * @return The sysex string
+     * @param output The output to send the messages to
+     * @param padStates The states of the pads, indexed by the controller note
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    void sendLEDUpdate (IMidiOutput output, PadStates padStates);
 }
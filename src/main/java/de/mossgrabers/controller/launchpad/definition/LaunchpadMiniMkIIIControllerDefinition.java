@@ -19,7 +19,14 @@ import java.util.UUID;
 public class LaunchpadMiniMkIIIControllerDefinition extends AbstractLaunchpadDefinition
 {
     private static final UUID   EXTENSION_ID = UUID.fromString ("A17B269D-2641-452F-B5A2-81BBACDA0D17");
-    private static final String SYSEX_HEADER = "F0 00 20 29 02 0D ";
+    private static final int [] SYSEX_HEADER =
+    {
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x0D
+    };
 
 
     /**
@@ -60,7 +67,7 @@ public class LaunchpadMiniMkIIIControllerDefinition extends AbstractLaunchpadDef
 
     /** {@inheritDoc} */
     @Override
-    public String getSysExHeader ()
+    public int [] getSysExHeader ()
     {
         return SYSEX_HEADER;
     }
@@ -6,15 +6,14 @@ package de.mossgrabers.controller.launchpad.definition;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.launchpad.definition.button.LaunchpadButton;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadStates;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -26,7 +25,14 @@ import java.util.UUID;
 public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinition
 {
     private static final UUID   EXTENSION_ID = UUID.fromString ("80B63970-64F1-11E5-A837-0800200C9A66");
-    private static final String SYSEX_HEADER = "F0 00 20 29 02 10 ";
+    private static final int [] SYSEX_HEADER =
+    {
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x10
+    };
 
 
     /**
@@ -96,7 +102,7 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
 
     /** {@inheritDoc} */
     @Override
-    public String getSysExHeader ()
+    public int [] getSysExHeader ()
     {
         return SYSEX_HEADER;
     }
@@ -144,36 +150,53 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void sendLEDUpdate (final IMidiOutput output, final PadStates padStates)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
+        if (!padStates.hasDirty ())
+            return;
 
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        boolean hasFlash = false;
+        boolean hasPulse = false;
+        final SysexBuilder sysex = output.startSysex ().add (this.getSysExHeader ()).add (0x0A);
+        for (int note = padStates.nextDirty (0); note >= 0; note = padStates.nextDirty (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+            final int state = padStates.get (note);
+            sysex.add (note).add (PadStates.getColor (state));
 
-            if (info.getBlinkColor () > 0)
+            if (PadStates.getBlinkColor (state) > 0)
             {
-                if (info.isFast ())
-                    sbFlash.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                if (PadStates.isFast (state))
+                    hasFlash = true;
                 else
-                    sbPulse.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                    hasPulse = true;
             }
         }
+        sysex.send ();
+
+        if (hasFlash)
+            this.sendBlinkUpdate (output, padStates, 0x23, true);
+        if (hasPulse)
+            this.sendBlinkUpdate (output, padStates, 0x28, false);
+    }
+
 
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
+    /**
+     * Send the blink colors of all pads which flash or pulse.
+     *
+     * @param output The output to send the message to
+     * @param padStates The states of the pads, indexed by the controller note
+     * @param command The sysex command for flashing or pulsing
+     * @param fast True to send the flashing pads, false for the pulsing ones
+     */
+    private void sendBlinkUpdate (final IMidiOutput output, final PadStates padStates, final int command, final boolean fast)
+    {
+        final SysexBuilder sysex = output.startSysex ().add (this.getSysExHeader ()).add (command);
+        for (int note = padStates.nextDirty (0); note >= 0; note = padStates.nextDirty (note + 1))
+        {
+            final int state = padStates.get (note);
+            if (PadStates.getBlinkColor (state) > 0 && PadStates.isFast (state) == fast)
+                sysex.add (note).add (PadStates.getBlinkColor (state));
+        }
+        sysex.send ();
     }
 }
@@ -22,7 +22,14 @@ import java.util.UUID;
 public class LaunchpadProMk3ControllerDefinition extends AbstractLaunchpadDefinition
 {
     private static final UUID   EXTENSION_ID = UUID.fromString ("4EDED44C-7817-4C66-A334-66A9E342AAA0");
-    private static final String SYSEX_HEADER = "F0 00 20 29 02 0E ";
+    private static final int [] SYSEX_HEADER =
+    {
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x0E
+    };
 
 
     /**
@@ -108,7 +115,7 @@ public class LaunchpadProMk3ControllerDefinition extends AbstractLaunchpadDefini
 
     /** {@inheritDoc} */
     @Override
-    public String getSysExHeader ()
+    public int [] getSysExHeader ()
     {
         return SYSEX_HEADER;
     }
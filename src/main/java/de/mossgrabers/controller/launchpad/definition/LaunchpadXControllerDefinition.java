@@ -22,7 +22,14 @@ import java.util.UUID;
 public class LaunchpadXControllerDefinition extends AbstractLaunchpadDefinition
 {
     private static final UUID   EXTENSION_ID = UUID.fromString ("CD196CCF-DF98-4AB0-9ABC-F0F29A60ACED");
-    private static final String SYSEX_HEADER = "F0 00 20 29 02 0C ";
+    private static final int [] SYSEX_HEADER =
+    {
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x0C
+    };
 
 
     /**
@@ -63,7 +70,7 @@ public class LaunchpadXControllerDefinition extends AbstractLaunchpadDefinition
 
     /** {@inheritDoc} */
     @Override
-    public String getSysExHeader ()
+    public int [] getSysExHeader ()
     {
         return SYSEX_HEADER;
     }
@@ -32,6 +32,9 @@ public class NoteViewSelectView extends AbstractView<LaunchpadControlSurface, La
     public NoteViewSelectView (final LaunchpadControlSurface surface, final IModel model)
     {
         super ("View select", surface, model);
+
+        // Views are only switched together with a full repaint
+        this.enableDependencyTracking ();
     }
 
 
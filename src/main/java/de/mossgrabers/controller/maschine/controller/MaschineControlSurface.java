@@ -137,10 +137,8 @@ public class MaschineControlSurface extends AbstractControlSurface<MaschineConfi
 
     /** {@inheritDoc} */
     @Override
-    protected void flushHardware ()
+    protected void flushPadGrid ()
     {
-        super.flushHardware ();
-
         ((MaschinePadGrid) this.pads).flush ();
     }
 
@@ -227,6 +227,9 @@ public class MCUConfiguration extends AbstractConfiguration
 
         this.activateHardwareSettings (globalSettings);
         this.activateExtenderSettings (globalSettings);
+        this.activateFlushRateSetting (globalSettings);
+        this.activateMidiOutputLimitSetting (globalSettings);
+        this.activateFlushStatisticsSetting (globalSettings);
 
         ///////////////////////////
         // Segment display
@@ -408,6 +411,7 @@ public class MCUConfiguration extends AbstractConfiguration
         });
 
         this.activateEnableVUMetersSetting (settingsUI, CATEGORY_HARDWARE_SETUP);
+        this.activateVuMeterSettings (settingsUI, CATEGORY_HARDWARE_SETUP);
 
         this.masterVuMeterSetting = settingsUI.getEnumSetting ("Master VU Meter (iCON extension)", CATEGORY_HARDWARE_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
         this.masterVuMeterSetting.addValueObserver (value -> {
@@ -70,8 +70,10 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
+import de.mossgrabers.framework.controller.FlushStatistics;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.OutputID;
+import de.mossgrabers.framework.controller.VuMeterPipeline;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwFader;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
@@ -89,6 +91,7 @@ import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.MidiOutputQueue;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
@@ -137,13 +140,13 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         MODE_ACRONYMS.put (Modes.MARKERS, "MK");
     }
 
-    private static final Set<Modes> VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS);
+    private static final Set<Modes>         VALUE_MODES          = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS);
 
-    private final int []            masterVuValues   = new int [2];
-    private int                     masterFaderValue = -1;
-    private final int []            vuValues         = new int [36];
-    private final int []            faderValues      = new int [36];
-    private final int               numMCUDevices;
+    private int                             masterFaderValue     = -1;
+    private final int []                    faderValues          = new int [36];
+    private final int                       numMCUDevices;
+    private final VuMeterPipeline           vuMeters;
+    private int                             masterVuDevice       = -1;
 
 
     /**
@@ -161,9 +164,10 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
         Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
+
+        // 8 channel meters per device and the stereo master meter
+        this.vuMeters = new VuMeterPipeline (numMCUDevices * 8 + 2, 12, this::sendVuMeter);
 
         this.colorManager = new MCUColorManager ();
         this.valueChanger = new DefaultValueChanger (16241 + 1, 500);
@@ -185,7 +189,6 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             if (mode == null)
                 return;
 
-            this.updateVUMeters ();
             this.updateFaders (surface.isShiftPressed ());
             this.updateSegmentDisplay ();
 
@@ -244,6 +247,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             final boolean isMainDevice = deviceType == MCUDeviceType.MAIN;
 
             final IMidiOutput output = midiAccess.createOutput (i);
+            output.setQueueAddressFunction (MCUControllerSetup::getQueueAddress);
             final IMidiInput input = midiAccess.createInput (i, null);
             final MCUControlSurface surface = new MCUControlSurface (this.surfaces, this.host, this.colorManager, this.configuration, output, input, 8 * i, isMainDevice);
             this.surfaces.add (surface);
@@ -253,6 +257,11 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             surface.addTextDisplay (new MCUAssignmentDisplay (this.host, output));
             surface.getModeManager ().setDefaultID (Modes.VOLUME);
         }
+
+        // One pipeline sends the meters of all devices
+        final FlushStatistics flushStatistics = this.getSurface ().getFlushStatistics ();
+        flushStatistics.addCounter ("VU_METERS/SENT", this.vuMeters::getSentUpdates);
+        flushStatistics.addCounter ("VU_METERS/SUPPRESSED", this.vuMeters::getSuppressedUpdates);
     }
 
 
@@ -302,6 +311,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         });
 
         this.configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, () -> {
+            this.vuMeters.invalidate ();
             for (int index = 0; index < this.numMCUDevices; index++)
             {
                 final MCUControlSurface surface = this.getSurface (index);
@@ -313,6 +323,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             }
         });
 
+        this.configuration.addSettingObserver (MCUConfiguration.MASTER_VU_METER, this.vuMeters::invalidate);
+
         this.configuration.addSettingObserver (MCUConfiguration.USE_FADERS_AS_KNOBS, () -> {
             for (int index = 0; index < this.numMCUDevices; index++)
             {
@@ -675,6 +687,18 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             surface.getViewManager ().setActive (Views.CONTROL);
             surface.getModeManager ().setActive (Modes.PAN);
         }
+
+        this.updateVUMetersTick ();
+    }
+
+
+    /**
+     * Updates the VU meters of all devices with the configured rate, independent of the flush.
+     */
+    private void updateVUMetersTick ()
+    {
+        this.updateVUMeters ();
+        this.host.scheduleTask (this::updateVUMetersTick, 1000 / this.configuration.getVuMeterRate ());
     }
 
 
@@ -720,50 +744,74 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         final boolean shouldPinFXTracksToLastController = this.configuration.shouldPinFXTracksToLastController ();
 
+        this.masterVuDevice = -1;
         for (int index = 0; index < this.numMCUDevices; index++)
         {
             final MCUControlSurface surface = this.getSurface (index);
-            final IMidiOutput output = surface.getMidiOutput ();
             final boolean pinLastDevice = shouldPinFXTracksToLastController && index == this.numMCUDevices - 1;
             final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
             final ITrackBank trackBank = pinLastDevice && effectTrackBank != null ? effectTrackBank : tb;
             final int extenderOffset = pinLastDevice ? 0 : surface.getExtenderOffset ();
             for (int i = 0; i < 8; i++)
             {
-                final int channel = extenderOffset + i;
-                final ITrack track = trackBank.getItem (channel);
-
-                final int vu = track.getVu ();
-                if (vu != this.vuValues[channel])
-                {
-                    this.vuValues[channel] = vu;
-                    final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                    output.sendChannelAftertouch (0x10 * i + scaledValue, 0);
-                }
+                final ITrack track = trackBank.getItem (extenderOffset + i);
+                this.vuMeters.setLevel (index * 8 + i, this.vuMeters.quantize (track.getVu (), upperBound));
             }
 
             // Stereo VU of master channel
-            if (this.configuration.getDeviceType (index) == MCUDeviceType.MAIN && this.configuration.hasMasterVU ())
-            {
-                final IMasterTrack masterTrack = this.model.getMasterTrack ();
+            if (this.masterVuDevice < 0 && this.configuration.getDeviceType (index) == MCUDeviceType.MAIN && this.configuration.hasMasterVU ())
+                this.masterVuDevice = index;
+        }
 
-                int vu = masterTrack.getVuLeft ();
-                if (vu != this.masterVuValues[0])
-                {
-                    this.masterVuValues[0] = vu;
-                    final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                    output.sendChannelAftertouch (1, scaledValue, 0);
-                }
+        final int masterMeter = this.numMCUDevices * 8;
+        if (this.masterVuDevice >= 0)
+        {
+            final IMasterTrack masterTrack = this.model.getMasterTrack ();
+            this.vuMeters.setLevel (masterMeter, this.vuMeters.quantize (masterTrack.getVuLeft (), upperBound));
+            this.vuMeters.setLevel (masterMeter + 1, this.vuMeters.quantize (masterTrack.getVuRight (), upperBound));
+        }
 
-                vu = masterTrack.getVuRight ();
-                if (vu != this.masterVuValues[1])
-                {
-                    this.masterVuValues[1] = vu;
-                    final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                    output.sendChannelAftertouch (1, 0x10 + scaledValue, 0);
-                }
-            }
+        this.vuMeters.setPeakHold (this.configuration.isVuPeakHold ());
+        this.vuMeters.update (System.currentTimeMillis ());
+    }
+
+
+    /**
+     * Get the address of a queued message. The meters use the upper 4 bits of channel aftertouch as
+     * the index of the meter, therefore each meter gets its own address. The address of a channel
+     * has room for 128 numbers.
+     *
+     * @param status The status byte including the MIDI channel
+     * @param data1 The first data byte
+     * @return The address
+     */
+    private static int getQueueAddress (final int status, final int data1)
+    {
+        final int address = MidiOutputQueue.getAddress (status, data1);
+        return (status & 0xF0) == 0xD0 ? address + (data1 >> 4 & 0x07) : address;
+    }
+
+
+    /**
+     * Send the level of a meter to the device which displays it.
+     *
+     * @param meter The index of the meter, 8 per device followed by the 2 master meters
+     * @param segment The level 0-12
+     */
+    private void sendVuMeter (final int meter, final int segment)
+    {
+        final int masterMeter = this.numMCUDevices * 8;
+        if (meter < masterMeter)
+        {
+            final int channel = meter % 8;
+            this.getSurface (meter / 8).getMidiOutput ().sendChannelAftertouch (0x10 * channel + segment, 0);
+            return;
         }
+
+        if (this.masterVuDevice < 0)
+            return;
+        final IMidiOutput output = this.getSurface (this.masterVuDevice).getMidiOutput ();
+        output.sendChannelAftertouch (1, (meter == masterMeter ? 0x00 : 0x10) + segment, 0);
     }
 
 
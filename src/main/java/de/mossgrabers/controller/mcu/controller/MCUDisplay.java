@@ -8,28 +8,60 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * The MCU main display.
+ * The MCU main display. Each row is compared to the content which was last sent to the device and
+ * only the changed characters are sent by using the offset of the display message.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final int []         SYSEX_DISPLAY_HEADER1_MAIN     =
+    {
+        0x00,
+        0x00,
+        0x66,
+        0x14,
+        0x12
+    };
+    private static final int []         SYSEX_DISPLAY_HEADER1_EXTENDER =
+    {
+        0x00,
+        0x00,
+        0x66,
+        0x15,
+        0x12
+    };
+    private static final int []         SYSEX_DISPLAY_HEADER2          =
+    {
+        0x00,
+        0x00,
+        0x67,
+        0x15,
+        0x13
+    };
+
+    /**
+     * Changed characters with a gap up to this are sent in one message. This is the size of a
+     * message without text, therefore sending the gap is not more expensive than a new message.
+     */
+    private static final int            MAX_GAP                        = 8;
 
     private final boolean               isFirstDisplay;
     private final boolean               isExtender;
     private final boolean               hasMaster;
 
     private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final char [] []            sentLines;
+    private final AtomicBoolean []      isSentLineValid;
 
 
     /**
@@ -52,6 +84,12 @@ public class MCUDisplay extends AbstractTextDisplay
 
         for (int i = 0; i < 4; i++)
             this.executors[i] = new LatestTaskExecutor ();
+
+        // Each row is only accessed from the executor of the row
+        this.sentLines = new char [this.noOfLines] [this.noOfCharacters];
+        this.isSentLineValid = new AtomicBoolean [this.noOfLines];
+        for (int i = 0; i < this.noOfLines; i++)
+            this.isSentLineValid[i] = new AtomicBoolean ();
     }
 
 
@@ -98,11 +136,7 @@ public class MCUDisplay extends AbstractTextDisplay
         executor.execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.sendChanges (row, text);
             }
             catch (final RuntimeException ex)
             {
@@ -112,7 +146,72 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
-    private String getHeader ()
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        for (final AtomicBoolean isValid: this.isSentLineValid)
+            isValid.set (false);
+    }
+
+
+    /**
+     * Sends the characters of a row which differ from the content last sent. Changed spans which
+     * are close together are merged into one message.
+     *
+     * @param row The row
+     * @param text The text of the row
+     */
+    private void sendChanges (final int row, final String text)
+    {
+        final char [] sentLine = this.sentLines[row];
+        final int length = Math.min (text.length (), sentLine.length);
+        final boolean isValid = this.isSentLineValid[row].getAndSet (true);
+
+        int spanStart = -1;
+        int spanEnd = -1;
+        for (int i = 0; i < length; i++)
+        {
+            final char c = text.charAt (i);
+            if (isValid && sentLine[i] == c)
+                continue;
+            sentLine[i] = c;
+
+            if (spanStart >= 0 && i - spanEnd > MAX_GAP)
+            {
+                this.sendSpan (row, text, spanStart, spanEnd);
+                spanStart = -1;
+            }
+            if (spanStart < 0)
+                spanStart = i;
+            spanEnd = i + 1;
+        }
+
+        if (spanStart >= 0)
+            this.sendSpan (row, text, spanStart, spanEnd);
+    }
+
+
+    /**
+     * Send a part of a row.
+     *
+     * @param row The row
+     * @param text The text of the row
+     * @param start The index of the first character to send
+     * @param end The index after the last character to send
+     */
+    private void sendSpan (final int row, final String text, final int start, final int end)
+    {
+        final SysexBuilder builder = this.output.startSysex ().add (this.getHeader ()).add ((row == 0 ? 0x00 : 0x38) + start);
+        for (int i = start; i < end; i++)
+            builder.add (text.charAt (i));
+        builder.send ();
+    }
+
+
+    private int [] getHeader ()
     {
         if (this.isFirstDisplay)
             return this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN;
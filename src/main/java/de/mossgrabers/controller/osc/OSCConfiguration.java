@@ -147,6 +147,7 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         // Debug
 
         this.activateOSCLogging (globalSettings);
+        this.activateFlushStatisticsSetting (globalSettings);
     }
 
 
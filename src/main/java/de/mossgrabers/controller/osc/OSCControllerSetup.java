@@ -21,6 +21,7 @@ import de.mossgrabers.controller.osc.protocol.OSCParser;
 import de.mossgrabers.controller.osc.protocol.OSCWriter;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
+import de.mossgrabers.framework.controller.FlushStatistics;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.display.DummyDisplay;
@@ -75,7 +76,13 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void flush ()
     {
+        final long start = System.nanoTime ();
         this.writer.flush (false);
+
+        // There is no MIDI output, only the flush itself is counted
+        final FlushStatistics flushStatistics = this.getSurface ().getFlushStatistics ();
+        flushStatistics.record (FlushStatistics.Phase.FLUSH_HARDWARE, null, System.nanoTime () - start);
+        flushStatistics.recordOutput (0, 0);
     }
 
 
@@ -188,7 +195,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
 
         final List<IModule> modules = new ArrayList<> ();
         modules.add (new TransportModule (this.host, this.model, surface, this.writer));
-        modules.add (new GlobalModule (this.host, this.model, this.writer));
+        modules.add (new GlobalModule (this.host, this.model, surface, this.writer));
         modules.add (new LayoutModule (this.host, this.model, this.writer));
         modules.add (new MarkerModule (this.host, this.model, this.writer));
         modules.add (new ProjectModule (this.host, this.model, this.writer));
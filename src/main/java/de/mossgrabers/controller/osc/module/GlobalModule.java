@@ -4,14 +4,18 @@
 
 package de.mossgrabers.controller.osc.module;
 
+import de.mossgrabers.controller.osc.OSCControlSurface;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.controller.FlushStatistics;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.utils.LatencyHistogram;
 
 import java.util.LinkedList;
+import java.util.Map;
 
 
 /**
@@ -21,16 +25,22 @@ import java.util.LinkedList;
  */
 public class GlobalModule extends AbstractModule
 {
+    private final OSCControlSurface surface;
+
+
     /**
      * Constructor.
      *
      * @param host The host
      * @param model The model
+     * @param surface The surface
      * @param writer The writer
      */
-    public GlobalModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
+    public GlobalModule (final IHost host, final IModel model, final OSCControlSurface surface, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.surface = surface;
     }
 
 
@@ -41,7 +51,8 @@ public class GlobalModule extends AbstractModule
         return new String []
         {
             "undo",
-            "redo"
+            "redo",
+            "statistics"
         };
     }
 
@@ -60,8 +71,40 @@ public class GlobalModule extends AbstractModule
                 this.model.getApplication ().redo ();
                 break;
 
+            case "statistics":
+                this.sendFlushStatistics ();
+                break;
+
             default:
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /**
+     * Send the flush statistics of the OSC surface.
+     */
+    private void sendFlushStatistics ()
+    {
+        final FlushStatistics stats = this.surface.getFlushStatistics ();
+        final String address = "/statistics/";
+        this.writer.sendOSC (address + "name", stats.getName (), true);
+        this.writer.sendOSC (address + "flushes", (int) stats.getFlushes (), true);
+        this.writer.sendOSC (address + "midiMessages", (int) stats.getMidiMessages (), true);
+        this.writer.sendOSC (address + "sysexBytes", (int) stats.getSysexBytes (), true);
+
+        for (final Map.Entry<String, LatencyHistogram> entry: stats.getHistograms ().entrySet ())
+        {
+            final String histogramAddress = address + entry.getKey () + "/";
+            final LatencyHistogram histogram = entry.getValue ();
+            this.writer.sendOSC (histogramAddress + "count", (int) histogram.getCount (), true);
+            this.writer.sendOSC (histogramAddress + "average", (int) histogram.getAverage (), true);
+            this.writer.sendOSC (histogramAddress + "p95", (int) histogram.getPercentile (95), true);
+            this.writer.sendOSC (histogramAddress + "max", (int) histogram.getMax (), true);
+        }
+
+        for (final Map.Entry<String, Long> entry: stats.getCounters ().entrySet ())
+            this.writer.sendOSC (address + entry.getKey (), entry.getValue ().intValue (), true);
+        this.writer.flush (false);
+    }
 }
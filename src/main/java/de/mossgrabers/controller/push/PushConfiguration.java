@@ -100,6 +100,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     public static final Integer     SESSION_VIEW                    = Integer.valueOf (81);
     /** Display scenes or clips. */
     public static final Integer     DISPLAY_SCENES_CLIPS            = Integer.valueOf (82);
+    /** Setting for the maximum frame rate of the display. */
+    public static final Integer     DISPLAY_FRAME_RATE              = Integer.valueOf (83);
 
     /** Use ribbon for pitch bend. */
     public static final int         RIBBON_MODE_PITCH               = 0;
@@ -145,6 +147,22 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         "Scenes"
     };
 
+    private static final String []  DISPLAY_FRAME_RATE_VALUES       =
+    {
+        "60 fps",
+        "30 fps",
+        "20 fps",
+        "10 fps"
+    };
+
+    private static final int []     DISPLAY_FRAME_RATES             =
+    {
+        60,
+        30,
+        20,
+        10
+    };
+
     /** Debug modes. */
     private static final Set<Modes> DEBUG_MODES                     = EnumSet.noneOf (Modes.class);
 
@@ -228,6 +246,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     // Only Push 2
     private boolean         sendsAreToggled             = false;
     private int             displayBrightness           = 255;
+    private int             displayFrameRate            = 60;
     private int             ledBrightness               = 127;
     private int             padSensitivity              = 5;
     private int             padGain                     = 5;
@@ -372,11 +391,13 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
 
         this.activatePush2HardwareSettings (globalSettings);
         this.activatePush2DisplayColorsSettings (globalSettings);
+        this.activateFlushRateSetting (globalSettings);
 
         ///////////////////////////
         // Debugging
 
         this.activateDebugSettings (globalSettings);
+        this.activateFlushStatisticsSetting (globalSettings);
     }
 
 
@@ -593,6 +614,17 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     }
 
 
+    /**
+     * Get the maximum number of frames per second which are sent to the display.
+     *
+     * @return The frame rate
+     */
+    public int getDisplayFrameRate ()
+    {
+        return this.displayFrameRate;
+    }
+
+
     /**
      * Set the display brightness.
      *
@@ -1127,6 +1159,12 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             this.ledBrightness = value.intValue ();
             this.notifyObservers (LED_BRIGHTNESS);
         });
+
+        final IEnumSetting displayFrameRateSetting = settingsUI.getEnumSetting ("Display max. frame rate", CATEGORY_HARDWARE_SETUP, DISPLAY_FRAME_RATE_VALUES, DISPLAY_FRAME_RATE_VALUES[0]);
+        displayFrameRateSetting.addValueObserver (value -> {
+            this.displayFrameRate = DISPLAY_FRAME_RATES[lookupIndex (DISPLAY_FRAME_RATE_VALUES, value)];
+            this.notifyObservers (DISPLAY_FRAME_RATE);
+        });
     }
 
 
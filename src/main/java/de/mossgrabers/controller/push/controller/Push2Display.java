@@ -34,6 +34,13 @@ public class Push2Display extends AbstractGraphicDisplay
         super (host, configuration, new DefaultGraphicsDimensions (960, 160, maxParameterValue), "Push 2 Display");
 
         this.usbDisplay = new PushUsbDisplay (host);
+        this.usbDisplay.setMaxFrameRate (configuration.getDisplayFrameRate ());
+        configuration.addSettingObserver (PushConfiguration.DISPLAY_FRAME_RATE, () -> this.usbDisplay.setMaxFrameRate (configuration.getDisplayFrameRate ()));
+
+        this.addCounter ("FRAMES_ENCODED", this.usbDisplay::getEncodedFrames);
+        this.addCounter ("FRAMES_SENT", this.usbDisplay::getSentFrames);
+        this.addCounter ("FRAMES_DROPPED", this.usbDisplay::getDroppedFrames);
+        this.addCounter ("FRAMES_SKIPPED", this.usbDisplay::getSkippedFrames);
     }
 
 
@@ -54,6 +61,7 @@ public class Push2Display extends AbstractGraphicDisplay
     {
         this.setMessage (3, "Please start " + this.host.getName () + " to play...");
         this.send ();
+        this.flush ();
         if (this.usbDisplay != null)
             this.usbDisplay.shutdown ();
 
@@ -66,6 +74,6 @@ public class Push2Display extends AbstractGraphicDisplay
     protected void send (final IBitmap image)
     {
         if (this.usbDisplay != null)
-            this.usbDisplay.send (image);
+            this.usbDisplay.send (image, this.isImageChanged ());
     }
 }
\ No newline at end of file
@@ -10,15 +10,27 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.LatestTaskExecutor;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
- * Connects to the display of the Push 2 via USB.
+ * Connects to the display of the Push 2 via USB. A frame is only encoded if the image has changed
+ * and not more often than the maximum frame rate allows. If the transfer of a frame is still
+ * pending when the next one is encoded, only the latest frame is sent. To keep the display from
+ * going dark, the image is sent again after a second without changes.
+ *
+ * The image is encoded line by line into RGB565 directly into one of two USB memory blocks. The
+ * other block can be transferred at the same time. The line padding is written only once. While
+ * encoding, the lines are compared with the previously encoded frame, a frame which is identical to
+ * the previous one is not sent.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -29,6 +41,9 @@ public class PushUsbDisplay
 
     private static final int               TIMEOUT          = 1000;
 
+    /** Send the image again after 1 second without changes. */
+    private static final long              KEEP_ALIVE       = 1000;
+
     private static final byte []           DISPLAY_HEADER   =
     {
         (byte) 0xef,
@@ -53,12 +68,33 @@ public class PushUsbDisplay
     private IUsbEndpoint                   usbEndpoint;
     private final IHost                    host;
     private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+    private final IMemoryBlock []          imageBlocks      = new IMemoryBlock [2];
+    private final ShortBuffer []           imageBuffers     = new ShortBuffer [2];
+    private int []                         sourceLine       = new int [0];
+    private short []                       encodedLine      = new short [0];
+    private short []                       previousLine     = new short [0];
 
     private Object                         sendLock         = new Object ();
     private Object                         bufferUpdateLock = new Object ();
-    private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
+    private final LatestTaskExecutor       sendExecutor     = new LatestTaskExecutor ();
+
+    // Indices of the image blocks, guarded by the buffer update lock
+    private int                            readyIndex       = -1;
+    private int                            sendingIndex     = -1;
+    // The index of the image block which contains the last encoded frame
+    private int                            lastIndex        = -1;
+    private boolean                        frameChanged;
+
+    private int                            maxFrameRate     = 60;
+    private IBitmap                        lastImage;
+    private boolean                        imageChanged;
+    private long                           lastEncode;
+    private boolean                        isSendScheduled;
+
+    private final AtomicLong               encodedFrames    = new AtomicLong ();
+    private final AtomicLong               sentFrames       = new AtomicLong ();
+    private final AtomicLong               droppedFrames    = new AtomicLong ();
+    private final AtomicLong               skippedFrames    = new AtomicLong ();
 
 
     /**
@@ -84,80 +120,233 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        for (int i = 0; i < this.imageBlocks.length; i++)
+        {
+            this.imageBlocks[i] = host.createMemoryBlock (DATA_SZ);
+            final ByteBuffer buffer = this.imageBlocks[i].createByteBuffer ();
+            // Clears the line padding which is never written again
+            buffer.put (new byte [DATA_SZ]);
+            buffer.clear ();
+            this.imageBuffers[i] = buffer.order (ByteOrder.LITTLE_ENDIAN).asShortBuffer ();
+        }
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Set the maximum number of frames to encode and send per second.
+     *
+     * @param maxFrameRate The number of frames per second, 0 for no limit
+     */
+    public void setMaxFrameRate (final int maxFrameRate)
+    {
+        this.maxFrameRate = Math.max (0, maxFrameRate);
+    }
+
+
+    /**
+     * Send the buffered image to the screen. The image is not encoded if it has not changed since
+     * the last encoded frame or if the maximum frame rate is exceeded. In the latter case the
+     * change is kept and encoded on the next call, which is scheduled for the time when the frame
+     * rate allows it, if there is no other call before.
      *
      * @param image An image of size 960 x 160 pixel
+     * @param hasChanged True if the image has changed since the last call
      */
-    public void send (final IBitmap image)
+    public void send (final IBitmap image, final boolean hasChanged)
     {
-        // Copy to the buffer
+        this.lastImage = image;
+        if (hasChanged)
+            this.imageChanged = true;
+
+        final long now = System.currentTimeMillis ();
+        final long elapsed = now - this.lastEncode;
+        if (this.imageChanged ? this.maxFrameRate > 0 && elapsed < 1000 / this.maxFrameRate : elapsed < KEEP_ALIVE)
+        {
+            this.skippedFrames.incrementAndGet ();
+            // Make sure that the last change is displayed even if there is no further flush
+            if (this.imageChanged && !this.isSendScheduled)
+            {
+                this.isSendScheduled = true;
+                this.host.scheduleTask (this::sendHeldBackFrame, 1000 / this.maxFrameRate - elapsed);
+            }
+            return;
+        }
+        // Without a change the frame is only sent to keep the display alive
+        final boolean keepAlive = !this.imageChanged;
+        this.imageChanged = false;
+        this.lastEncode = now;
+
+        final int index;
+        final boolean replacesReadyFrame;
+        synchronized (this.bufferUpdateLock)
+        {
+            // Never write into the block which is currently transferred
+            index = this.sendingIndex == 0 ? 1 : 0;
+            replacesReadyFrame = this.readyIndex == index;
+            if (replacesReadyFrame)
+                this.readyIndex = -1;
+        }
+
+        image.encode ( (imageBuffer, width, height) -> this.encodeFrame (imageBuffer, width, height, index));
+        this.lastIndex = index;
+        this.encodedFrames.incrementAndGet ();
+
+        // A not yet sent frame in the same block must be sent even if it is identical
+        if (!this.frameChanged && !keepAlive && !replacesReadyFrame)
+        {
+            this.skippedFrames.incrementAndGet ();
+            return;
+        }
+
         synchronized (this.bufferUpdateLock)
         {
-            image.encode ( (imageBuffer, width, height) -> {
+            // The previous frame was not sent yet and is replaced by this one
+            if (this.readyIndex >= 0 || replacesReadyFrame && this.frameChanged)
+                this.droppedFrames.incrementAndGet ();
+            this.readyIndex = index;
+        }
 
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
+        // Do not wait for a running transfer, the executor sends only the latest frame
+        if (!this.sendExecutor.isShutdown ())
+            this.sendExecutor.execute (this::sendData);
+    }
 
-                for (int y = 0; y < height; y++)
-                {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
 
-                        final int pixel = sPixelFromRGB (red, green, blue);
+    /**
+     * Get the number of encoded frames.
+     *
+     * @return The number of frames
+     */
+    public long getEncodedFrames ()
+    {
+        return this.encodedFrames.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were sent to the device.
+     *
+     * @return The number of frames
+     */
+    public long getSentFrames ()
+    {
+        return this.sentFrames.get ();
+    }
+
+
+    /**
+     * Get the number of encoded frames which were replaced by a newer frame before they could be
+     * sent.
+     *
+     * @return The number of frames
+     */
+    public long getDroppedFrames ()
+    {
+        return this.droppedFrames.get ();
+    }
 
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
 
-                        counter += 2;
-                    }
+    /**
+     * Get the number of frames which were not encoded since the image did not change or the
+     * maximum frame rate was exceeded.
+     *
+     * @return The number of frames
+     */
+    public long getSkippedFrames ()
+    {
+        return this.skippedFrames.get ();
+    }
 
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
-                }
 
-                imageBuffer.rewind ();
-            });
+    /**
+     * Encodes the BGRA image into RGB565 and writes it into an image block. The pixels are read and
+     * written line by line in bulk. Sets the frame changed flag if the frame differs from the
+     * previously encoded one.
+     *
+     * @param imageBuffer The BGRA pixels of the image
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param index The index of the image block to write to
+     */
+    private void encodeFrame (final ByteBuffer imageBuffer, final int width, final int height, final int index)
+    {
+        if (this.sourceLine.length != width)
+        {
+            this.sourceLine = new int [width];
+            this.encodedLine = new short [width];
+            this.previousLine = new short [width];
         }
 
-        synchronized (this.sendLock)
+        // The 4 bytes of a pixel (blue, green, red, alpha) read as one little endian integer
+        final IntBuffer source = imageBuffer.duplicate ().order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+        final ShortBuffer target = this.imageBuffers[index];
+        final ShortBuffer previous = this.lastIndex < 0 ? null : this.imageBuffers[this.lastIndex];
+        // The line includes the padding
+        final int lineLength = DATA_SZ / height / 2;
+
+        boolean changed = previous == null;
+        for (int y = 0; y < height; y++)
         {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
+            source.get (this.sourceLine, 0, width);
+            for (int x = 0; x < width; x++)
+                this.encodedLine[x] = (short) pixelFromBGRA (this.sourceLine[x]);
+
+            final int offset = y * lineLength;
+            if (!changed)
+            {
+                previous.position (offset);
+                previous.get (this.previousLine, 0, width);
+                changed = !Arrays.equals (this.encodedLine, this.previousLine);
+            }
+            target.position (offset);
+            target.put (this.encodedLine, 0, width);
         }
+        this.frameChanged = changed;
+    }
+
+
+    /**
+     * Send a changed frame which was held back by the maximum frame rate.
+     */
+    private void sendHeldBackFrame ()
+    {
+        this.isSendScheduled = false;
+        if (this.imageChanged && this.lastImage != null && !this.sendExecutor.isShutdown ())
+            this.send (this.lastImage, false);
     }
 
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
+        final int index;
         synchronized (this.bufferUpdateLock)
         {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            index = this.readyIndex;
+            if (index < 0)
+                return;
+            this.readyIndex = -1;
+            this.sendingIndex = index;
         }
 
-        // Send the data
-        synchronized (this.sendLock)
+        try
         {
-            if (this.usbDevice == null || this.usbEndpoint == null)
-                return;
+            synchronized (this.sendLock)
+            {
+                if (this.usbDevice == null || this.usbEndpoint == null)
+                    return;
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+                this.usbEndpoint.send (this.headerBlock, TIMEOUT);
+                this.usbEndpoint.send (this.imageBlocks[index], TIMEOUT);
+            }
+            this.sentFrames.incrementAndGet ();
+        }
+        finally
+        {
+            synchronized (this.bufferUpdateLock)
+            {
+                this.sendingIndex = -1;
+            }
         }
     }
 
@@ -167,31 +356,40 @@ public class PushUsbDisplay
      */
     public void shutdown ()
     {
+        // Send a change which was held back by the frame rate limit
+        if (this.imageChanged && this.lastImage != null)
+        {
+            this.lastEncode = 0;
+            this.send (this.lastImage, true);
+        }
+
+        // Let the pending frame be sent before closing the device
+        this.sendExecutor.shutdown ();
+        try
+        {
+            this.sendExecutor.awaitTermination (5, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("USB Send executor did not end in 10 seconds. Interrupted.", ex);
+        }
+
         synchronized (this.sendLock)
         {
             this.usbDevice = null;
             this.usbEndpoint = null;
-
-            this.sendExecutor.shutdown ();
-            try
-            {
-                this.sendExecutor.awaitTermination (5, TimeUnit.SECONDS);
-            }
-            catch (final InterruptedException ex)
-            {
-                this.host.error ("USB Send executor did not end in 10 seconds. Interrupted.", ex);
-            }
         }
     }
 
 
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    /**
+     * Converts a pixel to RGB565 with blue in the upper 5 bits and red in the lower 5 bits.
+     *
+     * @param bgra The pixel with blue in the lowest byte, followed by green, red and alpha
+     * @return The 16 bit pixel
+     */
+    private static int pixelFromBGRA (final int bgra)
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        return (bgra & 0xF8) << 8 | (bgra & 0xFC00) >> 5 | (bgra & 0xF80000) >> 19;
     }
 }
@@ -63,6 +63,9 @@ public class NoteViewSelectMode extends BaseMode
     public NoteViewSelectMode (final PushControlSurface surface, final IModel model)
     {
         super ("Note View Select", surface, model);
+
+        // Views are only switched together with a full repaint
+        this.enableDependencyTracking ();
     }
 
 
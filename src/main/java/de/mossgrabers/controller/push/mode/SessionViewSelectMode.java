@@ -7,6 +7,7 @@ package de.mossgrabers.controller.push.mode;
 import de.mossgrabers.controller.push.PushConfiguration;
 import de.mossgrabers.controller.push.controller.Push1Display;
 import de.mossgrabers.controller.push.controller.PushControlSurface;
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
@@ -56,6 +57,8 @@ public class SessionViewSelectMode extends BaseMode
     public SessionViewSelectMode (final PushControlSurface surface, final IModel model)
     {
         super ("Session View", surface, model);
+
+        this.dependsOnSettings (AbstractConfiguration.FLIP_SESSION);
     }
 
 
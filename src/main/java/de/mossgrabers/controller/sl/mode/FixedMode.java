@@ -7,6 +7,7 @@ package de.mossgrabers.controller.sl.mode;
 import de.mossgrabers.controller.sl.SLConfiguration;
 import de.mossgrabers.controller.sl.controller.SLControlSurface;
 import de.mossgrabers.controller.sl.controller.SLDisplay;
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
@@ -41,6 +42,8 @@ public class FixedMode extends AbstractMode<SLControlSurface, SLConfiguration>
     public FixedMode (final SLControlSurface surface, final IModel model)
     {
         super ("Fixed", surface, model);
+
+        this.dependsOnSettings (AbstractConfiguration.NEW_CLIP_LENGTH);
     }
 
 
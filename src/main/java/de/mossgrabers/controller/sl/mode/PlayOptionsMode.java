@@ -27,6 +27,8 @@ public class PlayOptionsMode extends AbstractMode<SLControlSurface, SLConfigurat
     public PlayOptionsMode (final SLControlSurface surface, final IModel model)
     {
         super ("Play options", surface, model);
+
+        this.enableDependencyTracking ();
     }
 
 
@@ -30,6 +30,9 @@ public class ViewSelectMode extends AbstractMode<SLControlSurface, SLConfigurati
     public ViewSelectMode (final SLControlSurface surface, final IModel model)
     {
         super ("View select", surface, model);
+
+        // Views are only switched together with a full repaint
+        this.enableDependencyTracking ();
     }
 
 
@@ -10,35 +10,53 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
- * The displays of SL MkIII.
+ * The displays of SL MkIII. Changed text, color and value properties are collected and sent with
+ * the flush of the display. Several property changes are combined into one message.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class SLMkIIIDisplay extends AbstractTextDisplay
 {
-    private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
-
-    private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+    private static final int [] MKIII_SYSEX_HEADER               =
+    {
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x0A,
+        0x01
+    };
+    private static final int    MKIII_SYSEX_LAYOUT_COMMAND       = 0x01;
+    private static final int    MKIII_SYSEX_PROPERTY_COMMAND     = 0x02;
+    private static final int    MKIII_SYSEX_LED_COMMAND          = 0x03;
+
+    private static final int    MKIII_SYSEX_NOTIFICATION_COMMAND = 0x04;
 
     /** The empty layout. */
-    public static final Integer  SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
+    public static final Integer SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
     /** The layout with knobs. */
-    public static final Integer  SCREEN_LAYOUT_KNOB               = Integer.valueOf (1);
+    public static final Integer SCREEN_LAYOUT_KNOB               = Integer.valueOf (1);
     /** The layout with larger selection boxes. */
-    public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
+    public static final Integer SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
+
+    private static final int    PROPERTY_TEXT                    = 1;
+    private static final int    PROPERTY_COLOR                   = 2;
+    private static final int    PROPERTY_VALUE                   = 3;
+
+    /** The maximum number of bytes of the property changes in one message. */
+    private static final int    MAX_PROPERTY_BATCH_SIZE          = 256;
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    private final String []     ledCache                         = new String [8];
+    private final int [] []     displayColorCache                = new int [9] [4];
+    private final int [] []     displayValueCache                = new int [9] [4];
+    private final String [] []  displayTextCache                 = new String [9] [4];
 
-    private final String []      ledCache                         = new String [8];
-    private final int [] []      displayColorCache                = new int [9] [4];
-    private final int [] []      displayValueCache                = new int [9] [4];
+    private final byte []       propertyBatch                    = new byte [MAX_PROPERTY_BATCH_SIZE];
+    private int                 propertyBatchLength;
 
 
     /**
@@ -77,7 +95,9 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     public void setDisplayLayout (final Integer layout)
     {
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
+        // The collected properties belong to the previous layout
+        this.sendProperties ();
+        this.output.startSysex ().add (MKIII_SYSEX_HEADER).add (MKIII_SYSEX_LAYOUT_COMMAND).add (layout.intValue ()).send ();
         this.clearDisplayCache ();
         this.forceFlush ();
     }
@@ -105,7 +125,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
         final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        this.output.startSysex ().add (MKIII_SYSEX_HEADER).add (MKIII_SYSEX_LED_COMMAND).add (led).add (0x01).add (rgb).send ();
     }
 
 
@@ -122,7 +142,11 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        synchronized (this.propertyBatch)
+        {
+            this.startProperty (PROPERTY_COLOR, hPosition, vPosition, 1);
+            this.addProperty (color);
+        }
     }
 
 
@@ -136,11 +160,21 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     private void setPropertyText (final int hPosition, final int vPosition, final String text)
     {
+        if (text.equals (this.displayTextCache[hPosition][vPosition]))
+            return;
+        this.displayTextCache[hPosition][vPosition] = text;
+
         String ascii = StringUtils.fixASCII (text);
         if (ascii.length () > 9)
             ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+
+        synchronized (this.propertyBatch)
+        {
+            this.startProperty (PROPERTY_TEXT, hPosition, vPosition, ascii.length () + 1);
+            for (int i = 0; i < ascii.length (); i++)
+                this.addProperty (ascii.charAt (i));
+            this.addProperty (0x00);
+        }
     }
 
 
@@ -157,22 +191,73 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        synchronized (this.propertyBatch)
+        {
+            this.startProperty (PROPERTY_VALUE, hPosition, vPosition, 1);
+            this.addProperty (value);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        super.flush ();
+
+        this.sendProperties ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        for (final String [] texts: this.displayTextCache)
+            Arrays.fill (texts, null);
     }
 
 
     /**
-     * Set a display property.
+     * Add a property change to the collected ones. The values of the property need to be added
+     * afterwards. If the property does not fit into the current message, the collected properties
+     * are sent before. Must be called while holding the lock of the property batch.
      *
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
      * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @param valueLength The number of bytes of the values of the property
+     */
+    private void startProperty (final int property, final int hPosition, final int vPosition, final int valueLength)
+    {
+        if (this.propertyBatchLength + 3 + valueLength > MAX_PROPERTY_BATCH_SIZE)
+            this.sendProperties ();
+        this.addProperty (hPosition);
+        this.addProperty (property);
+        this.addProperty (vPosition);
+    }
+
+
+    private void addProperty (final int value)
+    {
+        this.propertyBatch[this.propertyBatchLength++] = (byte) value;
+    }
+
+
+    /**
+     * Send all collected property changes in one message.
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private void sendProperties ()
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        synchronized (this.propertyBatch)
+        {
+            if (this.propertyBatchLength == 0)
+                return;
+            this.output.startSysex ().add (MKIII_SYSEX_HEADER).add (MKIII_SYSEX_PROPERTY_COMMAND).add (this.propertyBatch, 0, this.propertyBatchLength).send ();
+            this.propertyBatchLength = 0;
+        }
     }
 
 
@@ -195,14 +280,12 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             text2 = "";
         }
 
-        final String content = StringUtils.asciiToHex (text1) + "00 " + StringUtils.asciiToHex (text2) + "00";
-        final String msg = String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content);
-        this.output.sendSysex (msg);
+        this.output.startSysex ().add (MKIII_SYSEX_HEADER).add (MKIII_SYSEX_NOTIFICATION_COMMAND).addText (text1).add (0x00).addText (text2).add (0x00).send ();
     }
 
 
     /**
-     * Clear the cache of the display colors and values.
+     * Clear the cache of the display texts, colors and values.
      */
     private void clearDisplayCache ()
     {
@@ -212,6 +295,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             {
                 this.displayColorCache[i][j] = -1;
                 this.displayValueCache[i][j] = -1;
+                this.displayTextCache[i][j] = null;
             }
         }
     }
@@ -106,6 +106,16 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      MIDI_EDIT_CHANNEL                 = Integer.valueOf (34);
     /** Setting for excluding deactivated tracks. */
     public static final Integer      EXCLUDE_DEACTIVATED_ITEMS         = Integer.valueOf (35);
+    /** Setting for the maximum number of flushes per second. */
+    public static final Integer      FLUSH_RATE                        = Integer.valueOf (36);
+    /** Signal for dumping the flush statistics to the console. */
+    public static final Integer      DUMP_FLUSH_STATISTICS             = Integer.valueOf (37);
+    /** Setting for queueing and limiting the MIDI output. */
+    public static final Integer      MIDI_OUTPUT_LIMIT                 = Integer.valueOf (38);
+    /** Setting for the refresh rate of the VU meters. */
+    public static final Integer      VU_METER_RATE                     = Integer.valueOf (39);
+    /** Setting for the peak hold of the VU meters. */
+    public static final Integer      VU_PEAK_HOLD                      = Integer.valueOf (40);
 
     // Implementation IDs start at 50
 
@@ -269,6 +279,54 @@ public abstract class AbstractConfiguration implements Configuration
         "Show"
     };
 
+    private static final String []                    FLUSH_RATE_VALUES           =
+    {
+        "Immediate",
+        "60 Hz",
+        "30 Hz",
+        "15 Hz"
+    };
+
+    private static final int []                       FLUSH_RATES                 =
+    {
+        0,
+        60,
+        30,
+        15
+    };
+
+    private static final String []                    MIDI_OUTPUT_LIMIT_VALUES    =
+    {
+        "Off",
+        "Coalesce only",
+        "3000 bytes/s",
+        "1500 bytes/s",
+        "750 bytes/s"
+    };
+
+    private static final int []                       MIDI_OUTPUT_LIMITS          =
+    {
+        -1,
+        0,
+        3000,
+        1500,
+        750
+    };
+
+    private static final String []                    VU_METER_RATE_VALUES        =
+    {
+        "30 Hz",
+        "20 Hz",
+        "10 Hz"
+    };
+
+    private static final int []                       VU_METER_RATES              =
+    {
+        30,
+        20,
+        10
+    };
+
     /** The Off/On option. */
     protected static final String []                  ON_OFF_OPTIONS              =
     {
@@ -343,6 +401,10 @@ public abstract class AbstractConfiguration implements Configuration
 
     private boolean                                   includeMaster               = true;
     private boolean                                   excludeDeactivatedItems     = false;
+    private int                                       flushRate                   = 0;
+    private int                                       midiOutputLimit             = -1;
+    private int                                       vuMeterRate                 = VU_METER_RATES[0];
+    private boolean                                   isVuPeakHold                = false;
     private final String []                           userPageNames               = new String [8];
 
     private boolean                                   isDeleteActive              = false;
@@ -794,6 +856,38 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getFlushRate ()
+    {
+        return this.flushRate;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMidiOutputLimit ()
+    {
+        return this.midiOutputLimit;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVuMeterRate ()
+    {
+        return this.vuMeterRate;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isVuPeakHold ()
+    {
+        return this.isVuPeakHold;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setMidiEditChannel (final int midiChannel)
@@ -908,6 +1002,28 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the settings for the refresh rate and the peak hold of the VU meters.
+     *
+     * @param settingsUI The settings
+     * @param category The name for the category
+     */
+    protected void activateVuMeterSettings (final ISettingsUI settingsUI, final String category)
+    {
+        final IEnumSetting vuMeterRateSetting = settingsUI.getEnumSetting ("VU meter rate", category, VU_METER_RATE_VALUES, VU_METER_RATE_VALUES[0]);
+        vuMeterRateSetting.addValueObserver (value -> {
+            this.vuMeterRate = VU_METER_RATES[lookupIndex (VU_METER_RATE_VALUES, value)];
+            this.notifyObservers (VU_METER_RATE);
+        });
+
+        final IEnumSetting vuPeakHoldSetting = settingsUI.getEnumSetting ("VU peak hold", category, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        vuPeakHoldSetting.addValueObserver (value -> {
+            this.isVuPeakHold = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (VU_PEAK_HOLD);
+        });
+    }
+
+
     /**
      * Activate the behaviour on stop setting.
      *
@@ -1070,6 +1186,47 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the flush rate setting.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateFlushRateSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting flushRateSetting = settingsUI.getEnumSetting ("Flush rate", CATEGORY_HARDWARE_SETUP, FLUSH_RATE_VALUES, FLUSH_RATE_VALUES[0]);
+        flushRateSetting.addValueObserver (value -> {
+            this.flushRate = FLUSH_RATES[lookupIndex (FLUSH_RATE_VALUES, value)];
+            this.notifyObservers (FLUSH_RATE);
+        });
+    }
+
+
+    /**
+     * Activate the setting for queueing and limiting the MIDI output.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateMidiOutputLimitSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting midiOutputLimitSetting = settingsUI.getEnumSetting ("MIDI output limit", CATEGORY_HARDWARE_SETUP, MIDI_OUTPUT_LIMIT_VALUES, MIDI_OUTPUT_LIMIT_VALUES[0]);
+        midiOutputLimitSetting.addValueObserver (value -> {
+            this.midiOutputLimit = MIDI_OUTPUT_LIMITS[lookupIndex (MIDI_OUTPUT_LIMIT_VALUES, value)];
+            this.notifyObservers (MIDI_OUTPUT_LIMIT);
+        });
+    }
+
+
+    /**
+     * Activate the setting for dumping the flush statistics.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateFlushStatisticsSetting (final ISettingsUI settingsUI)
+    {
+        settingsUI.getSignalSetting ("Flush statistics", CATEGORY_DEBUG, "Dump to console").addValueObserver (value -> this.notifyObservers (DUMP_FLUSH_STATISTICS));
+    }
+
+
     /**
      * Activate the accent value setting.
      *
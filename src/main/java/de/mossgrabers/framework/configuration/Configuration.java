@@ -393,6 +393,42 @@ public interface Configuration
     int getMidiEditChannel ();
 
 
+    /**
+     * Get the maximum number of flushes per second. Flush requests are coalesced into ticks of
+     * this rate.
+     *
+     * @return The number of flushes per second or 0 if a flush is executed immediately
+     */
+    int getFlushRate ();
+
+
+    /**
+     * Get the limit for the MIDI output. Queued messages to the same address are coalesced and
+     * sent with the next flush.
+     *
+     * @return -1 if messages are sent immediately, 0 if messages are only coalesced, otherwise the
+     *         maximum number of bytes to send per second
+     */
+    int getMidiOutputLimit ();
+
+
+    /**
+     * Get the number of updates per second of the VU meters which are sent independently of the
+     * flush.
+     *
+     * @return The number of updates per second
+     */
+    int getVuMeterRate ();
+
+
+    /**
+     * Should the VU meters hold their peak and decay slowly?
+     *
+     * @return True if enabled
+     */
+    boolean isVuPeakHold ();
+
+
     /**
      * Set the MIDI channel for editing.
      *
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller;
 
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
@@ -28,16 +29,21 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.view.Views;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
@@ -57,6 +63,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected static final int                      BUTTON_STATE_INTERVAL    = 400;
     protected static final int                      NUM_NOTES                = 128;
     protected static final int                      NUM_INFOS                = 256;
+    private static final int                        QUEUE_DRAIN_DELAY        = 10;
 
     protected final IHost                           host;
     protected final IHwSurfaceFactory               surfaceFactory;
@@ -89,6 +96,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     private final Object                            updateCounterLock        = new Object ();
     private int                                     updateCounter            = 0;
+    private boolean                                 isTickScheduled          = false;
+    private long                                    nextTickTime             = 0;
+    private boolean                                 isQueueDrainScheduled    = false;
+    private int                                     midiOutputLimit          = -1;
+    private long                                    mergedMessages           = 0;
+    private long                                    deferredMessages         = 0;
+    private final Set<FlushPriority>                deferredWork             = EnumSet.noneOf (FlushPriority.class);
+    protected final FlushStatistics                 flushStatistics;
 
     private boolean                                 knobSensitivityIsSlow    = false;
     private final List<ISensitivityCallback>        knobSensitivityObservers = new ArrayList<> ();
@@ -159,6 +174,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         this.dummyDisplay = new DummyDisplay (host);
 
+        this.flushStatistics = new FlushStatistics (this.getClass ().getSimpleName () + " " + (surfaceID + 1));
+        configuration.addSettingObserver (AbstractConfiguration.DUMP_FLUSH_STATISTICS, () -> this.flushStatistics.format ().forEach (this.host::println));
+
         this.output = output;
         this.input = input;
         if (this.input != null)
@@ -166,6 +184,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         this.createPads ();
         this.createLightGuide ();
+
+        // Switching a view or mode requires a full repaint
+        this.viewManager.addChangeListener ( (previousID, activeID) -> this.invalidateFeatureGroups ());
+        this.modeManager.addChangeListener ( (previousID, activeID) -> this.invalidateFeatureGroups ());
     }
 
 
@@ -185,7 +207,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD1, i);
             final IHwButton pad = this.createButton (buttonID, "P " + (i + 1));
-            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.pads.getLightInfo (note).getEncoded (), state -> this.pads.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), pad));
+            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.pads.getEncodedState (note), state -> this.pads.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), pad));
             final int [] translated = this.pads.translateToController (note);
             pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
@@ -205,7 +227,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         for (int i = 0; i < size; i++)
         {
             final int note = this.lightGuide.getStartNote () + i;
-            this.createLight (OutputID.get (OutputID.LIGHT_GUIDE1, i), () -> this.lightGuide.getLightInfo (note).getEncoded (), state -> this.lightGuide.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, null), null);
+            this.createLight (OutputID.get (OutputID.LIGHT_GUIDE1, i), () -> this.lightGuide.getEncodedState (note), state -> this.lightGuide.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, null), null);
         }
     }
 
@@ -245,6 +267,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public FlushStatistics getFlushStatistics ()
+    {
+        return this.flushStatistics;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ViewManager getViewManager ()
@@ -328,6 +358,12 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         final IBitmap bitmap = display.getImage ();
         display.setHardwareDisplay (this.surfaceFactory.createGraphicsDisplay (this.surfaceID, OutputID.DISPLAY1, bitmap));
+
+        final int index = this.graphicsDisplays.size () + 1;
+        this.flushStatistics.addHistogram ("GRAPHICS_DISPLAY" + index + "/RENDER", display.getRenderLatency ());
+        this.flushStatistics.addHistogram ("GRAPHICS_DISPLAY" + index + "/SEND", display.getSendLatency ());
+        display.getCounters ().forEach ( (name, counter) -> this.flushStatistics.addCounter ("GRAPHICS_DISPLAY" + index + "/" + name, counter));
+
         this.graphicsDisplays.add (display);
     }
 
@@ -677,8 +713,43 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         synchronized (this.updateCounterLock)
         {
             this.updateCounter++;
+            this.scheduleFlush ();
+        }
+    }
+
+
+    /**
+     * Schedules the execution of the flush handler. If a flush rate is configured, all requests
+     * are coalesced into the next tick. Must be called while holding the update counter lock.
+     */
+    private void scheduleFlush ()
+    {
+        final int flushRate = this.configuration.getFlushRate ();
+        if (flushRate <= 0)
+        {
             this.scheduleTask (this::flushHandler, 1);
+            return;
         }
+
+        if (this.isTickScheduled)
+            return;
+        this.isTickScheduled = true;
+        final long delay = Math.max (1, this.nextTickTime - System.currentTimeMillis ());
+        this.scheduleTask (this::flushTick, delay);
+    }
+
+
+    /**
+     * Executes one tick of a paced flush.
+     */
+    private void flushTick ()
+    {
+        synchronized (this.updateCounterLock)
+        {
+            this.isTickScheduled = false;
+            this.nextTickTime = System.currentTimeMillis () + this.getTickDuration ();
+        }
+        this.flushHandler ();
     }
 
 
@@ -686,15 +757,36 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         synchronized (this.updateCounterLock)
         {
-            if (this.updateCounter == 0)
+            if (this.updateCounter == 0 && this.deferredWork.isEmpty ())
                 return;
         }
 
         try
         {
-            this.updateViewControls ();
-            this.updateGrid ();
-            this.flushHardware ();
+            this.updateMidiOutputLimit ();
+
+            final long sentMessages = this.output == null ? 0 : this.output.getSentMessages ();
+            final long sentSysexBytes = this.output == null ? 0 : this.output.getSentSysexBytes ();
+
+            if (this.configuration.getFlushRate () <= 0)
+            {
+                this.deferredWork.clear ();
+                this.measuredUpdateViewControls ();
+                this.measuredUpdateGrid ();
+
+                final long start = System.nanoTime ();
+                this.flushHardware ();
+                this.flushStatistics.record (FlushStatistics.Phase.FLUSH_HARDWARE, this.viewManager.getActiveID (), System.nanoTime () - start);
+            }
+            else
+                this.flushPrioritized ();
+
+            if (this.output != null)
+            {
+                this.flushOutputQueue ();
+                this.flushStatistics.recordOutput (this.output.getSentMessages () - sentMessages, this.output.getSentSysexBytes () - sentSysexBytes);
+                this.recordQueueStatistics ();
+            }
         }
         catch (final RuntimeException ex)
         {
@@ -703,10 +795,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         synchronized (this.updateCounterLock)
         {
-            if (this.updateCounter > 1)
+            if (this.updateCounter > 1 || !this.deferredWork.isEmpty ())
             {
                 this.updateCounter = 1;
-                this.scheduleTask (this::flushHandler, 1);
+                this.scheduleFlush ();
             }
             else
                 this.updateCounter = 0;
@@ -714,20 +806,194 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Enables, changes or disables the queue of the MIDI output if the setting has changed.
+     */
+    private void updateMidiOutputLimit ()
+    {
+        final int limit = this.configuration.getMidiOutputLimit ();
+        if (this.output == null || limit == this.midiOutputLimit)
+            return;
+        this.midiOutputLimit = limit;
+        this.output.setQueueLimit (limit);
+        this.mergedMessages = 0;
+        this.deferredMessages = 0;
+    }
+
+
+    /**
+     * Sends the queued MIDI messages. If the limit of bytes per second does not allow to send all of
+     * them, another attempt is scheduled.
+     */
+    private void flushOutputQueue ()
+    {
+        if (!this.output.flushQueue ())
+            return;
+
+        synchronized (this.updateCounterLock)
+        {
+            if (this.isQueueDrainScheduled)
+                return;
+            this.isQueueDrainScheduled = true;
+        }
+        this.scheduleTask (this::drainOutputQueue, QUEUE_DRAIN_DELAY);
+    }
+
+
+    /**
+     * Sends the messages which were left in the queue of the MIDI output by the last flush.
+     */
+    private void drainOutputQueue ()
+    {
+        synchronized (this.updateCounterLock)
+        {
+            this.isQueueDrainScheduled = false;
+        }
+
+        this.flushOutputQueue ();
+        this.recordQueueStatistics ();
+    }
+
+
+    /**
+     * Records the messages which were merged or deferred by the queue of the MIDI output since the
+     * last call. This includes messages which were queued outside of a flush.
+     */
+    private void recordQueueStatistics ()
+    {
+        final long merged = this.output.getMergedMessages ();
+        final long deferred = this.output.getDeferredMessages ();
+        this.flushStatistics.recordQueue (merged - this.mergedMessages, deferred - this.deferredMessages);
+        this.mergedMessages = merged;
+        this.deferredMessages = deferred;
+    }
+
+
+    /**
+     * Flushes all changes in the order of their priority. If the tick runs over its budget, the
+     * remaining deferrable work is moved to the next tick. Work is deferred only once to prevent
+     * starvation.
+     */
+    private void flushPrioritized ()
+    {
+        final long start = System.nanoTime ();
+        final long budget = this.getTickDuration () * 1000000L;
+
+        // Updating the view controls sets the state which is read when drawing the grid (e.g. if a
+        // sequencer is active), therefore it must be executed first. Only rendering and sending the
+        // images of the graphics displays is deferred
+        this.measuredUpdateViewControls ();
+        this.measuredUpdateGrid ();
+
+        long hardwareStart = System.nanoTime ();
+        this.surfaceFactory.flush ();
+        this.flushPadGrid ();
+        this.continuous.values ().forEach (IHwContinuousControl::update);
+        long hardwareDuration = System.nanoTime () - hardwareStart;
+
+        if (!this.graphicsDisplays.isEmpty () && this.isWithinBudget (FlushPriority.GRAPHIC_DISPLAYS, start, budget))
+            this.graphicsDisplays.forEach (IGraphicDisplay::flush);
+
+        if (this.isWithinBudget (FlushPriority.TEXT_DISPLAYS, start, budget))
+        {
+            hardwareStart = System.nanoTime ();
+            this.textDisplays.forEach (ITextDisplay::flush);
+            hardwareDuration += System.nanoTime () - hardwareStart;
+        }
+
+        hardwareStart = System.nanoTime ();
+        this.flushCollectedMessages ();
+        hardwareDuration += System.nanoTime () - hardwareStart;
+
+        this.flushStatistics.record (FlushStatistics.Phase.FLUSH_HARDWARE, this.viewManager.getActiveID (), hardwareDuration);
+    }
+
+
+    /**
+     * Update the view controls and record the duration for the active mode (or view if there is no
+     * active mode).
+     */
+    private void measuredUpdateViewControls ()
+    {
+        final Modes modeID = this.modeManager.getActiveID ();
+        final Enum<?> id = modeID == null ? this.viewManager.getActiveID () : modeID;
+        final long start = System.nanoTime ();
+        this.updateViewControls ();
+        this.flushStatistics.record (FlushStatistics.Phase.UPDATE_VIEW_CONTROLS, id, System.nanoTime () - start);
+    }
+
+
+    /**
+     * Update the grid and record the duration for the active view.
+     */
+    private void measuredUpdateGrid ()
+    {
+        final Views viewID = this.viewManager.getActiveID ();
+        final long start = System.nanoTime ();
+        this.updateGrid ();
+        this.flushStatistics.record (FlushStatistics.Phase.UPDATE_GRID, viewID, System.nanoTime () - start);
+    }
+
+
+    /**
+     * Checks if the work of the given priority class can be executed in the current tick.
+     * Otherwise, it is deferred to the next tick.
+     *
+     * @param priority The priority class of the work
+     * @param start The start time of the tick in nanoseconds
+     * @param budget The budget of a tick in nanoseconds
+     * @return True if the work should be executed now
+     */
+    private boolean isWithinBudget (final FlushPriority priority, final long start, final long budget)
+    {
+        if (!priority.isDeferrable () || this.deferredWork.remove (priority) || System.nanoTime () - start < budget)
+            return true;
+        this.deferredWork.add (priority);
+        return false;
+    }
+
+
+    /**
+     * Get the duration of a flush tick.
+     *
+     * @return The duration in milliseconds
+     */
+    private long getTickDuration ()
+    {
+        final int flushRate = this.configuration.getFlushRate ();
+        return flushRate <= 0 ? 1 : 1000 / flushRate;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void clearCache ()
     {
+        this.invalidateFeatureGroups ();
         this.surfaceFactory.clearCache ();
     }
 
 
+    /**
+     * Mark all views and modes as dirty to force a full repaint with the next flush.
+     */
+    protected void invalidateFeatureGroups ()
+    {
+        this.viewManager.invalidateAll ();
+        this.modeManager.invalidateAll ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public final synchronized void shutdown ()
     {
         this.internalShutdown ();
         this.flushHardware ();
+
+        // Send all queued messages and stop queueing
+        if (this.output != null)
+            this.output.setQueueLimit (-1);
     }
 
 
@@ -795,6 +1061,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
                 this.handlePitchbend (data1, data2);
                 break;
 
+            // System common and real-time messages (e.g. clock or active sensing) are not used
+            case 0xF0:
+                break;
+
             default:
                 this.host.error ("Unhandled midi status: " + status);
                 break;
@@ -988,24 +1258,32 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
 
     /**
-     * Delayed flush.
+     * Delayed flush. Only executed if the active view or mode is dirty.
      */
     protected void updateViewControls ()
     {
         final IView view = this.viewManager.getActive ();
-        if (view != null)
+        if (view == null)
+            return;
+        final IMode mode = this.modeManager.getActive ();
+        if (view.isDirty () || mode != null && mode.isDirty ())
+        {
+            view.clearDirty ();
             view.updateControlSurface ();
+        }
     }
 
 
     /**
-     * Redraws the grid for the active view.
+     * Redraws the grid for the active view. Only executed if the view is dirty.
      */
     protected void updateGrid ()
     {
         final IView view = this.viewManager.getActive ();
-        if (view != null)
-            view.drawGrid ();
+        if (view == null || !view.isGridDirty ())
+            return;
+        view.clearGridDirty ();
+        view.drawGrid ();
     }
 
 
@@ -1015,7 +1293,29 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected void flushHardware ()
     {
         this.textDisplays.forEach (ITextDisplay::flush);
+        this.graphicsDisplays.forEach (IGraphicDisplay::flush);
         this.surfaceFactory.flush ();
         this.continuous.values ().forEach (IHwContinuousControl::update);
+        this.flushPadGrid ();
+        this.flushCollectedMessages ();
+    }
+
+
+    /**
+     * Overwrite to flush pad grids which buffer their updates, e.g. to send them via sysex.
+     */
+    protected void flushPadGrid ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Overwrite to send messages which were collected while updating the views and modes. Called
+     * at the end of each flush, after all views and modes have been updated.
+     */
+    protected void flushCollectedMessages ()
+    {
+        // Intentionally empty
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+/**
+ * The priority classes of the work which is executed on a flush of a control surface, ordered by
+ * descending priority. If a paced flush runs over its budget, the deferrable classes are moved to
+ * the next tick.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum FlushPriority
+{
+    /** Drawing the pad grid. */
+    PAD_GRID(false),
+    /** Sending the button and pad LEDs. */
+    BUTTON_LEDS(false),
+    /** Sending the feedback of continuous controls, e.g. motor faders or LED rings. */
+    CONTINUOUS_FEEDBACK(false),
+    /** Updating text displays. */
+    TEXT_DISPLAYS(true),
+    /** Rendering and sending graphic displays. */
+    GRAPHIC_DISPLAYS(true);
+
+
+    private final boolean isDeferrable;
+
+
+    /**
+     * Constructor.
+     *
+     * @param isDeferrable True if the work can be deferred to the next tick
+     */
+    FlushPriority (final boolean isDeferrable)
+    {
+        this.isDeferrable = isDeferrable;
+    }
+
+
+    /**
+     * Can the work be deferred to the next tick if the tick is over budget?
+     *
+     * @return True if deferrable
+     */
+    public boolean isDeferrable ()
+    {
+        return this.isDeferrable;
+    }
+}
@@ -0,0 +1,261 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.utils.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Collects timing and output statistics of the flushes of a control surface. The latencies of
+ * each phase are recorded separately for the active view or mode.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushStatistics
+{
+    /** The measured phases of a flush. */
+    public enum Phase
+    {
+        /** Updating the controls of the view and the display of the mode. */
+        UPDATE_VIEW_CONTROLS,
+        /** Drawing the pad grid. */
+        UPDATE_GRID,
+        /** Sending all changes to the hardware. */
+        FLUSH_HARDWARE
+    }
+
+
+    private final String                                       name;
+    private final Map<Phase, Map<Enum<?>, LatencyHistogram>>   phases     = new EnumMap<> (Phase.class);
+    private final Map<String, LatencyHistogram>                additional = new LinkedHashMap<> ();
+    private final Map<String, LongSupplier>                    counters   = new LinkedHashMap<> ();
+
+    private long                                               flushes;
+    private long                                               midiMessages;
+    private long                                               sysexBytes;
+    private long                                               maxMidiMessages;
+    private long                                               maxSysexBytes;
+    private long                                               mergedMessages;
+    private long                                               deferredMessages;
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the statistics, e.g. the name of the control surface
+     */
+    public FlushStatistics (final String name)
+    {
+        this.name = name;
+
+        for (final Phase phase: Phase.values ())
+            this.phases.put (phase, new HashMap<> ());
+    }
+
+
+    /**
+     * Get the name of the statistics.
+     *
+     * @return The name
+     */
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /**
+     * Record the latency of a flush phase.
+     *
+     * @param phase The phase
+     * @param featureGroupID The ID of the active view or mode, might be null
+     * @param nanos The latency in nanoseconds
+     */
+    public synchronized void record (final Phase phase, final Enum<?> featureGroupID, final long nanos)
+    {
+        this.phases.get (phase).computeIfAbsent (featureGroupID, id -> new LatencyHistogram ()).record (nanos);
+    }
+
+
+    /**
+     * Record the output of one flush.
+     *
+     * @param messages The number of sent MIDI messages including sysex messages
+     * @param bytes The number of sent sysex bytes
+     */
+    public synchronized void recordOutput (final long messages, final long bytes)
+    {
+        this.flushes++;
+        this.midiMessages += messages;
+        this.sysexBytes += bytes;
+        this.maxMidiMessages = Math.max (this.maxMidiMessages, messages);
+        this.maxSysexBytes = Math.max (this.maxSysexBytes, bytes);
+    }
+
+
+    /**
+     * Record the work of the MIDI output queue during one flush.
+     *
+     * @param merged The number of queued messages which were replaced by a newer message
+     * @param deferred The number of queued messages which had to wait for the next flush
+     */
+    public synchronized void recordQueue (final long merged, final long deferred)
+    {
+        this.mergedMessages += merged;
+        this.deferredMessages += deferred;
+    }
+
+
+    /**
+     * Add a histogram which is recorded by someone else, e.g. a graphics display.
+     *
+     * @param histogramName The name of the histogram
+     * @param histogram The histogram
+     */
+    public synchronized void addHistogram (final String histogramName, final LatencyHistogram histogram)
+    {
+        this.additional.put (histogramName, histogram);
+    }
+
+
+    /**
+     * Add a counter which is maintained by someone else, e.g. the number of frames sent by a
+     * graphics display. The counter is not cleared on a reset.
+     *
+     * @param counterName The name of the counter
+     * @param counter Provides the current value of the counter
+     */
+    public synchronized void addCounter (final String counterName, final LongSupplier counter)
+    {
+        this.counters.put (counterName, counter);
+    }
+
+
+    /**
+     * Get the current values of all additional counters.
+     *
+     * @return The values by the name of the counter
+     */
+    public synchronized Map<String, Long> getCounters ()
+    {
+        final Map<String, Long> values = new LinkedHashMap<> ();
+        this.counters.forEach ( (key, counter) -> values.put (key, Long.valueOf (counter.getAsLong ())));
+        return values;
+    }
+
+
+    /**
+     * Get all histograms. The key is built from the phase and the view or mode ID.
+     *
+     * @return The histograms
+     */
+    public synchronized Map<String, LatencyHistogram> getHistograms ()
+    {
+        final Map<String, LatencyHistogram> histograms = new LinkedHashMap<> ();
+        this.phases.forEach ( (phase, map) -> map.forEach ( (id, histogram) -> histograms.put (phase.name () + "/" + (id == null ? "NONE" : id.name ()), histogram)));
+        histograms.putAll (this.additional);
+        return histograms;
+    }
+
+
+    /**
+     * Get the number of measured flushes.
+     *
+     * @return The number
+     */
+    public synchronized long getFlushes ()
+    {
+        return this.flushes;
+    }
+
+
+    /**
+     * Get the number of sent MIDI messages.
+     *
+     * @return The number
+     */
+    public synchronized long getMidiMessages ()
+    {
+        return this.midiMessages;
+    }
+
+
+    /**
+     * Get the number of sent sysex bytes.
+     *
+     * @return The number
+     */
+    public synchronized long getSysexBytes ()
+    {
+        return this.sysexBytes;
+    }
+
+
+    /**
+     * Get the number of queued MIDI messages which were replaced by a newer message.
+     *
+     * @return The number
+     */
+    public synchronized long getMergedMessages ()
+    {
+        return this.mergedMessages;
+    }
+
+
+    /**
+     * Get the number of queued MIDI messages which had to wait for the next flush.
+     *
+     * @return The number
+     */
+    public synchronized long getDeferredMessages ()
+    {
+        return this.deferredMessages;
+    }
+
+
+    /**
+     * Clear all statistics.
+     */
+    public synchronized void reset ()
+    {
+        this.phases.values ().forEach (Map::clear);
+        this.additional.values ().forEach (LatencyHistogram::reset);
+        this.flushes = 0;
+        this.midiMessages = 0;
+        this.sysexBytes = 0;
+        this.maxMidiMessages = 0;
+        this.maxSysexBytes = 0;
+        this.mergedMessages = 0;
+        this.deferredMessages = 0;
+    }
+
+
+    /**
+     * Format the statistics for printing to the console.
+     *
+     * @return The lines of text
+     */
+    public synchronized List<String> format ()
+    {
+        final List<String> lines = new ArrayList<> ();
+        lines.add ("Flush statistics of " + this.name + ":");
+        final long average = this.flushes == 0 ? 0 : this.midiMessages / this.flushes;
+        final long averageBytes = this.flushes == 0 ? 0 : this.sysexBytes / this.flushes;
+        lines.add ("  Flushes: " + this.flushes + ", MIDI messages: " + this.midiMessages + " (avg " + average + ", max " + this.maxMidiMessages + " per flush), Sysex bytes: " + this.sysexBytes + " (avg " + averageBytes + ", max " + this.maxSysexBytes + " per flush)");
+        if (this.mergedMessages > 0 || this.deferredMessages > 0)
+            lines.add ("  MIDI output queue: merged " + this.mergedMessages + ", deferred " + this.deferredMessages);
+        this.getHistograms ().forEach ( (key, histogram) -> lines.add ("  " + key + ": " + histogram));
+        this.getCounters ().forEach ( (key, value) -> lines.add ("  " + key + ": " + value));
+        return lines;
+    }
+}
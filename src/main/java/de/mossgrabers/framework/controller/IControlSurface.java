@@ -52,6 +52,14 @@ public interface IControlSurface<C extends Configuration>
     int getSurfaceID ();
 
 
+    /**
+     * Get the timing and output statistics of the flushes of the surface.
+     *
+     * @return The statistics
+     */
+    FlushStatistics getFlushStatistics ();
+
+
     /**
      * Get the view manager.
      *
@@ -0,0 +1,175 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.Arrays;
+
+
+/**
+ * Sends the levels of VU meters to LED meters which only display a few segments. The levels are
+ * quantized to the segments of the meter before they are compared to the last sent level, therefore
+ * a level is only sent if the displayed segment changes. The pipeline is meant to be updated with a
+ * fixed rate, independent of the flush of the surface.
+ *
+ * Optionally, a peak hold is applied: a rising level is displayed immediately, a falling level is
+ * held for some time and then decays smoothly.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterPipeline
+{
+    /** The time to hold a peak in milliseconds. */
+    private static final long    PEAK_HOLD_TIME   = 1000;
+    /** The number of segments a level falls per second after the hold time. */
+    private static final double  DECAY_PER_SECOND = 24;
+
+    private final int            numSegments;
+    private final IMeterSender   sender;
+    private final int []         levels;
+    private final double []      displayedLevels;
+    private final long []        holdUntil;
+    private final int []         sentLevels;
+    private boolean              isPeakHold;
+    private long                 lastUpdate       = -1;
+    private long                 sentUpdates;
+    private long                 suppressedUpdates;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numMeters The number of meters
+     * @param numSegments The number of segments of a meter, e.g. 12
+     * @param sender Sends a quantized level to the device
+     */
+    public VuMeterPipeline (final int numMeters, final int numSegments, final IMeterSender sender)
+    {
+        this.numSegments = numSegments;
+        this.sender = sender;
+
+        this.levels = new int [numMeters];
+        this.displayedLevels = new double [numMeters];
+        this.holdUntil = new long [numMeters];
+        this.sentLevels = new int [numMeters];
+        this.invalidate ();
+    }
+
+
+    /**
+     * Quantize a VU value to the segments of a meter.
+     *
+     * @param value The VU value
+     * @param upperBound The upper bound of the VU value
+     * @return The segment 0 to number of segments
+     */
+    public int quantize (final int value, final double upperBound)
+    {
+        return Math.max (0, Math.min (this.numSegments, (int) Math.round (value * this.numSegments / upperBound)));
+    }
+
+
+    /**
+     * Set the current level of a meter. It is sent with the next update.
+     *
+     * @param meter The index of the meter
+     * @param segment The quantized level, see {@link #quantize(int, double)}
+     */
+    public void setLevel (final int meter, final int segment)
+    {
+        this.levels[meter] = segment;
+    }
+
+
+    /**
+     * Enable or disable the peak hold.
+     *
+     * @param isPeakHold True to enable
+     */
+    public void setPeakHold (final boolean isPeakHold)
+    {
+        this.isPeakHold = isPeakHold;
+    }
+
+
+    /**
+     * Apply the peak hold and send all meters whose displayed segment has changed.
+     *
+     * @param now The current time in milliseconds
+     */
+    public void update (final long now)
+    {
+        final double decay = this.lastUpdate < 0 ? 0 : (now - this.lastUpdate) * DECAY_PER_SECOND / 1000.0;
+        this.lastUpdate = now;
+
+        for (int meter = 0; meter < this.levels.length; meter++)
+        {
+            final int level = this.levels[meter];
+            if (!this.isPeakHold || level >= this.displayedLevels[meter])
+            {
+                this.displayedLevels[meter] = level;
+                this.holdUntil[meter] = now + PEAK_HOLD_TIME;
+            }
+            else if (now >= this.holdUntil[meter])
+                this.displayedLevels[meter] = Math.max (level, this.displayedLevels[meter] - decay);
+
+            final int segment = (int) Math.round (this.displayedLevels[meter]);
+            if (segment == this.sentLevels[meter])
+            {
+                this.suppressedUpdates++;
+                continue;
+            }
+            this.sentLevels[meter] = segment;
+            this.sender.send (meter, segment);
+            this.sentUpdates++;
+        }
+    }
+
+
+    /**
+     * Send all meters with the next update, e.g. after the meters have been turned on again.
+     */
+    public void invalidate ()
+    {
+        Arrays.fill (this.sentLevels, -1);
+    }
+
+
+    /**
+     * Get the number of levels which have been sent.
+     *
+     * @return The number of levels
+     */
+    public long getSentUpdates ()
+    {
+        return this.sentUpdates;
+    }
+
+
+    /**
+     * Get the number of levels which were not sent since the displayed segment did not change.
+     *
+     * @return The number of levels
+     */
+    public long getSuppressedUpdates ()
+    {
+        return this.suppressedUpdates;
+    }
+
+
+    /**
+     * Sends the level of a meter to the device.
+     */
+    @FunctionalInterface
+    public interface IMeterSender
+    {
+        /**
+         * Send the level of a meter.
+         *
+         * @param meter The index of the meter
+         * @param segment The quantized level
+         */
+        void send (int meter, int segment);
+    }
+}
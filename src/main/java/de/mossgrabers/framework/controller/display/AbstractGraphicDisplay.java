@@ -16,9 +16,11 @@ import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
+import de.mossgrabers.framework.graphics.TextMetricsCache;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelSelectComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ClipListComponent;
@@ -32,16 +34,21 @@ import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.utils.LatencyHistogram;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 
 
 /**
@@ -52,40 +59,46 @@ import java.util.concurrent.atomic.AtomicReference;
 public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 {
     /** Display only a channel name for selection. */
-    public static final int                GRID_ELEMENT_CHANNEL_SELECTION  = 0;
+    public static final int                 GRID_ELEMENT_CHANNEL_SELECTION  = 0;
     /** Display a channel, edit volume. */
-    public static final int                GRID_ELEMENT_CHANNEL_VOLUME     = 1;
+    public static final int                 GRID_ELEMENT_CHANNEL_VOLUME     = 1;
     /** Display a channel, edit panorama. */
-    public static final int                GRID_ELEMENT_CHANNEL_PAN        = 2;
+    public static final int                 GRID_ELEMENT_CHANNEL_PAN        = 2;
     /** Display a channel, edit crossfader. */
-    public static final int                GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
+    public static final int                 GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
     /** Display a channel sends. */
-    public static final int                GRID_ELEMENT_CHANNEL_SENDS      = 4;
+    public static final int                 GRID_ELEMENT_CHANNEL_SENDS      = 4;
     /** Display a channel, edit all parameters. */
-    public static final int                GRID_ELEMENT_CHANNEL_ALL        = 5;
+    public static final int                 GRID_ELEMENT_CHANNEL_ALL        = 5;
     /** Display a parameter with name and value. */
-    public static final int                GRID_ELEMENT_PARAMETERS         = 6;
+    public static final int                 GRID_ELEMENT_PARAMETERS         = 6;
     /** Display options on top and bottom. */
-    public static final int                GRID_ELEMENT_OPTIONS            = 7;
+    public static final int                 GRID_ELEMENT_OPTIONS            = 7;
     /** Display a list. */
-    public static final int                GRID_ELEMENT_LIST               = 8;
+    public static final int                 GRID_ELEMENT_LIST               = 8;
 
     /** Timeout for displaying the notification message. */
-    private static final int               TIMEOUT                         = 2;
+    private static final int                TIMEOUT                         = 2;
 
-    private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
+    private final AtomicInteger             counter                         = new AtomicInteger ();
+    private final ScheduledExecutorService  executor                        = Executors.newSingleThreadScheduledExecutor ();
 
-    private final List<IComponent>         columns                         = new ArrayList<> (8);
-    private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
-    private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private final List<IComponent>          columns                         = new ArrayList<> (8);
+    private final AtomicReference<String>   notificationMessage             = new AtomicReference<> ();
+    private ModelInfo                       info                            = new ModelInfo (null, Collections.emptyList ());
+    private ModelInfo                       pendingInfo;
 
-    protected final IHost                  host;
-    protected final IGraphicsConfiguration configuration;
-    protected final IGraphicsDimensions    dimensions;
-    private final IBitmap                  image;
+    protected final IHost                   host;
+    protected final IGraphicsConfiguration  configuration;
+    protected final IGraphicsDimensions     dimensions;
+    private final IBitmap                   image;
 
-    private IHwGraphicsDisplay             hardwareDisplay;
+    private IHwGraphicsDisplay              hardwareDisplay;
+    private boolean                         imageChanged;
+
+    private final LatencyHistogram          renderLatency                   = new LatencyHistogram ();
+    private final LatencyHistogram          sendLatency                     = new LatencyHistogram ();
+    private final Map<String, LongSupplier> counters                        = new LinkedHashMap<> ();
 
 
     /**
@@ -97,6 +110,21 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
      * @param windowTitle The window title
      */
     public AbstractGraphicDisplay (final IHost host, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final String windowTitle)
+    {
+        this (host, configuration, dimensions, windowTitle, host.createBitmap (dimensions.getWidth (), dimensions.getHeight ()));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param configuration The configuration
+     * @param dimensions The pre-calculated dimensions
+     * @param windowTitle The window title
+     * @param image The bitmap to render into, e.g. a monochrome bitmap for small displays
+     */
+    protected AbstractGraphicDisplay (final IHost host, final IGraphicsConfiguration configuration, final IGraphicsDimensions dimensions, final String windowTitle, final IBitmap image)
     {
         this.host = host;
         this.configuration = configuration;
@@ -104,9 +132,13 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
         ResourceHandler.init (host);
 
-        this.image = host.createBitmap (dimensions.getWidth (), dimensions.getHeight ());
+        this.image = image;
         this.image.setDisplayWindowTitle (windowTitle);
 
+        final TextMetricsCache textMetricsCache = this.image.getTextMetricsCache ();
+        this.addCounter ("TEXT_CACHE_HITS", textMetricsCache::getHits);
+        this.addCounter ("TEXT_CACHE_MISSES", textMetricsCache::getMisses);
+
         // Manage notification message display time
         this.executor.scheduleAtFixedRate ( () -> {
             int c = this.counter.get ();
@@ -159,21 +191,97 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
         try
         {
-            final ModelInfo newInfo = new ModelInfo (this.notificationMessage.get (), this.columns);
-
-            // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
-            {
-                this.info = newInfo;
-                this.renderImage ();
-            }
+            this.pendingInfo = new ModelInfo (this.notificationMessage.get (), this.columns);
         }
         finally
         {
             this.columns.clear ();
         }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        if (this.executor.isShutdown ())
+            return;
 
+        ModelInfo newInfo = this.pendingInfo;
+        if (newInfo == null)
+        {
+            // Modes which did not change are not redrawn, but a notification might have been shown
+            // or timed out in the meantime
+            final String notification = this.notificationMessage.get ();
+            if (Objects.equals (notification, this.info.getNotification ()))
+                return;
+            newInfo = new ModelInfo (notification, this.info.getComponents ());
+        }
+        this.pendingInfo = null;
+
+        // Only render image if there is a change in the data
+        if (!this.info.equals (newInfo))
+        {
+            final ModelInfo previousInfo = this.info;
+            this.info = newInfo;
+            final long start = System.nanoTime ();
+            this.renderImage (previousInfo);
+            this.renderLatency.record (System.nanoTime () - start);
+            this.imageChanged = true;
+        }
+
+        final long start = System.nanoTime ();
         this.send (this.image);
+        this.sendLatency.record (System.nanoTime () - start);
+        this.imageChanged = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public LatencyHistogram getRenderLatency ()
+    {
+        return this.renderLatency;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public LatencyHistogram getSendLatency ()
+    {
+        return this.sendLatency;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, LongSupplier> getCounters ()
+    {
+        return this.counters;
+    }
+
+
+    /**
+     * Add a counter of the display, e.g. the number of sent frames.
+     *
+     * @param name The name of the counter
+     * @param counter Provides the current value of the counter
+     */
+    protected void addCounter (final String name, final LongSupplier counter)
+    {
+        this.counters.put (name, counter);
+    }
+
+
+    /**
+     * Check if the image was rendered again since the last time it was sent. Can be used in
+     * {@link #send(IBitmap)} to skip sending unchanged images.
+     *
+     * @return True if the image has changed
+     */
+    protected boolean isImageChanged ()
+    {
+        return this.imageChanged;
     }
 
 
@@ -407,39 +515,164 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
-    private void renderImage ()
+    /**
+     * Render the changed columns. If the number of columns or the notification has changed, the
+     * whole image is rendered.
+     *
+     * @param previousInfo The information from which the current image was rendered
+     */
+    private void renderImage (final ModelInfo previousInfo)
     {
         this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
-            final int width = this.dimensions.getWidth ();
-            final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
-
-            // Clear display
-            final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
-
             final List<IComponent> elements = this.info.getComponents ();
+            final List<IComponent> previousElements = previousInfo.getComponents ();
             final int size = elements.size ();
             if (size == 0)
+            {
+                // Clear display
+                gc.fillRectangle (0, 0, this.dimensions.getWidth (), this.dimensions.getHeight (), this.configuration.getColorBorder ());
                 return;
-            final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
+            }
 
-            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
-            for (int i = 0; i < size; i++)
+            if (size != previousElements.size () || !Objects.equals (this.info.getNotification (), previousInfo.getNotification ()))
             {
-                final IComponent component = elements.get (i);
-                if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+                this.renderColumns (gc, 0, size - 1);
+                return;
             }
 
-            final String notification = this.info.getNotification ();
-            if (notification == null)
-                return;
+            // Render each range of adjacent changed columns
+            int first = 0;
+            while (first < size)
+            {
+                if (Objects.equals (elements.get (first), previousElements.get (first)))
+                {
+                    first++;
+                    continue;
+                }
+                int last = first;
+                boolean isOverflowChanged = isOverflowing (elements.get (first)) || isOverflowing (previousElements.get (first));
+                while (last + 1 < size && !Objects.equals (elements.get (last + 1), previousElements.get (last + 1)))
+                {
+                    last++;
+                    isOverflowChanged |= isOverflowing (elements.get (last)) || isOverflowing (previousElements.get (last));
+                }
+
+                // The old and new text of an overflowing component might reach up to the last
+                // column
+                if (isOverflowChanged)
+                    last = size - 1;
+                // A single changed column might be able to draw only its changes, but not if
+                // a component on its left draws into it
+                else if (first == last && this.info.getNotification () == null && !hasOverflow (elements, first) && this.renderUpdate (gc, first, previousElements.get (first)))
+                {
+                    first++;
+                    continue;
+                }
+                this.renderColumns (gc, first, last);
+                first = last + 1;
+            }
+        });
+    }
+
+
+    /**
+     * Let the component of a column draw only its changes. Drawing is clipped to the area of the
+     * column.
+     *
+     * @param gc The graphics context
+     * @param index The index of the column
+     * @param previous The component from which the column was rendered
+     * @return True if the component has drawn its changes
+     */
+    private boolean renderUpdate (final IGraphicsContext gc, final int index, final IComponent previous)
+    {
+        final IComponent component = this.info.getComponents ().get (index);
+        if (component == null)
+            return false;
+
+        final int height = this.dimensions.getHeight ();
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        final int gridWidth = this.dimensions.getWidth () / this.info.getComponents ().size ();
+
+        gc.setClip (index * gridWidth, 0, gridWidth, height);
+        final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+        final boolean isDrawn = component.drawUpdate (graphicsInfo.withBounds (index * gridWidth + separatorSize / 2.0, 0, gridWidth - separatorSize, height), previous);
+        gc.resetClip ();
+        return isDrawn;
+    }
+
+
+    /**
+     * Render a range of columns and the notification on top. Drawing is clipped to the area of the
+     * columns. Since components may paint into the separator space of their neighbours, the
+     * neighbouring columns are drawn as well. Overflowing components further on the left are drawn
+     * too, since their text might reach into the range.
+     *
+     * @param gc The graphics context
+     * @param first The index of the first column to render
+     * @param last The index of the last column to render
+     */
+    private void renderColumns (final IGraphicsContext gc, final int first, final int last)
+    {
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+
+        final List<IComponent> elements = this.info.getComponents ();
+        final int size = elements.size ();
+        final int gridWidth = width / size;
+        final double paintWidth = gridWidth - separatorSize;
+        final double offsetX = separatorSize / 2.0;
+
+        // The last column also covers the remaining pixels on the right
+        final int left = first * gridWidth;
+        final int right = last == size - 1 ? width : (last + 1) * gridWidth;
+        gc.setClip (left, 0, right - left, height);
+
+        // Clear the area
+        final ColorEx colorBorder = this.configuration.getColorBorder ();
+        gc.fillRectangle (left, 0, right - left, height, colorBorder);
+
+        final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+        final int end = Math.min (size - 1, last + 1);
+        for (int i = 0; i <= end; i++)
+        {
+            final IComponent component = elements.get (i);
+            if (component != null && (i >= first - 1 || component.isOverflowing ()))
+                component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+        }
 
+        final String notification = this.info.getNotification ();
+        if (notification != null)
+        {
             final ColorEx colorText = this.configuration.getColorText ();
             gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
-        });
+        }
+
+        gc.resetClip ();
+    }
+
+
+    /**
+     * Check if one of the components on the left of a column draws into it.
+     *
+     * @param elements The components of all columns
+     * @param index The index of the column
+     * @return True if an overflowing component is on the left
+     */
+    private static boolean hasOverflow (final List<IComponent> elements, final int index)
+    {
+        for (int i = 0; i < index; i++)
+        {
+            if (isOverflowing (elements.get (i)))
+                return true;
+        }
+        return false;
+    }
+
+
+    private static boolean isOverflowing (final IComponent component)
+    {
+        return component != null && component.isOverflowing ();
     }
 }
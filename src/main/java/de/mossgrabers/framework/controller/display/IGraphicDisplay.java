@@ -14,9 +14,12 @@ import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.canvas.component.IComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
+import de.mossgrabers.framework.utils.LatencyHistogram;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
 
 
 /**
@@ -33,11 +36,42 @@ public interface IGraphicDisplay extends IDisplay
 
 
     /**
-     * Send the message to the display process.
+     * Get the latencies of rendering the image.
+     *
+     * @return The latencies
+     */
+    LatencyHistogram getRenderLatency ();
+
+
+    /**
+     * Get the latencies of sending the image to the device.
+     *
+     * @return The latencies
+     */
+    LatencyHistogram getSendLatency ();
+
+
+    /**
+     * Get additional counters of the display, e.g. the number of sent frames.
+     *
+     * @return The counters by their name
+     */
+    Map<String, LongSupplier> getCounters ();
+
+
+    /**
+     * Take over the elements which were added since the last call. The image is rendered and sent
+     * to the display with the next call to {@link #flush()}.
      */
     void send ();
 
 
+    /**
+     * Render the image, if the data has changed since the last time, and send it to the display.
+     */
+    void flush ();
+
+
     /**
      * Set a notification message on the display, which overlays the current content.
      *
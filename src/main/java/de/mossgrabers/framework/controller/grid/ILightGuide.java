@@ -105,6 +105,17 @@ public interface ILightGuide
     LightInfo getLightInfo (int note);
 
 
+    /**
+     * Get the color and blink states of a LED encoded as one integer, see
+     * {@link LightInfo#getEncoded()}. Other than {@link #getLightInfo(int)} this does not create
+     * an object, therefore use it when polling the states of all LEDs.
+     *
+     * @param note The LED of the note (0-127)
+     * @return The encoded state
+     */
+    int getEncodedState (int note);
+
+
     /**
      * Set the state to the controller.
      *
@@ -7,6 +7,8 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+
 
 /**
  * Implementation of a grid of pads.
@@ -15,18 +17,21 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class PadGridImpl implements IPadGrid
 {
-    protected static final int   NUM_NOTES = 128;
+    protected static final int   NUM_NOTES          = 128;
 
     protected final IMidiOutput  output;
     protected final ColorManager colorManager;
 
-    protected LightInfo []       padStates;
+    protected final PadStates    padStates          = new PadStates (NUM_NOTES);
 
     protected int                rows;
     protected int                cols;
     protected int                startNote;
     protected int                endNote;
 
+    private final int []         controllerChannels = new int [NUM_NOTES];
+    private final int []         controllerNotes    = new int [NUM_NOTES];
+
 
     /**
      * Constructor.
@@ -60,9 +65,7 @@ public class PadGridImpl implements IPadGrid
 
         // Note: Even if the grid contains less than 128 pads it is more efficient to use
         // the 128 note values the pads understand
-        this.padStates = new LightInfo [NUM_NOTES];
-        for (int i = 0; i < NUM_NOTES; i++)
-            this.padStates[i] = new LightInfo ();
+        this.clearControllerAddresses ();
     }
 
 
@@ -141,7 +144,12 @@ public class PadGridImpl implements IPadGrid
      */
     protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
     {
-        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
+        final int blink = blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF);
+        if (color < 0 || color > 127)
+            throw new RuntimeException ("color must be in the range of 0..127");
+        if (blink < 0 || blink > 127)
+            throw new RuntimeException ("blinkColor must be in the range of 0..127");
+        this.padStates.set (note, PadStates.encode (color, blink, fast));
     }
 
 
@@ -149,7 +157,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void forceFlush (final int note)
     {
-        this.padStates[note].setColors (0, 0, false);
+        this.padStates.set (note, 0);
     }
 
 
@@ -158,7 +166,7 @@ public class PadGridImpl implements IPadGrid
     public void forceFlush ()
     {
         for (int i = this.startNote; i <= this.endNote; i++)
-            this.padStates[i].setColors (0, 0, false);
+            this.padStates.set (i, 0);
     }
 
 
@@ -166,7 +174,18 @@ public class PadGridImpl implements IPadGrid
     @Override
     public LightInfo getLightInfo (final int note)
     {
-        return this.padStates[note];
+        final int state = this.padStates.get (note);
+        final LightInfo info = new LightInfo ();
+        info.setColors (PadStates.getColor (state), PadStates.getBlinkColor (state), PadStates.isFast (state));
+        return info;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getEncodedState (final int note)
+    {
+        return this.padStates.get (note);
     }
 
 
@@ -174,13 +193,44 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void sendState (final int note)
     {
-        final LightInfo state = note < this.padStates.length ? this.padStates[note] : new LightInfo ();
-        final int [] translated = this.translateToController (note);
-        final int color = state.getColor ();
-        this.sendNoteState (translated[0], translated[1], color < 0 ? 0 : color);
-        final int blinkColor = state.getBlinkColor ();
+        final int channel;
+        final int controllerNote;
+        final int state;
+        if (note < NUM_NOTES)
+        {
+            if (this.controllerChannels[note] < 0)
+            {
+                final int [] translated = this.translateToController (note);
+                this.controllerNotes[note] = translated[1];
+                this.controllerChannels[note] = translated[0];
+            }
+            channel = this.controllerChannels[note];
+            controllerNote = this.controllerNotes[note];
+            state = this.padStates.get (note);
+        }
+        else
+        {
+            final int [] translated = this.translateToController (note);
+            channel = translated[0];
+            controllerNote = translated[1];
+            state = 0;
+        }
+
+        this.sendNoteState (channel, controllerNote, PadStates.getColor (state));
+        final int blinkColor = PadStates.getBlinkColor (state);
         if (blinkColor > 0 && blinkColor < 128)
-            this.sendBlinkState (translated[0], translated[1], blinkColor, state.isFast ());
+            this.sendBlinkState (channel, controllerNote, blinkColor, PadStates.isFast (state));
+    }
+
+
+    /**
+     * The controller addresses of the pads are translated only once and then looked up. Call this
+     * method if the result of {@link #translateToController(int)} has changed, e.g. after
+     * switching to a different pad layout.
+     */
+    protected void clearControllerAddresses ()
+    {
+        Arrays.fill (this.controllerChannels, -1);
     }
 
 
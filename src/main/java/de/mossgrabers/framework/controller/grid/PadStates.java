@@ -0,0 +1,191 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import java.util.Arrays;
+
+
+/**
+ * Stores the color and blink states of pads packed into one integer per pad. The encoding is the
+ * same as {@link LightInfo#getEncoded()}: bits 0-7 contain the color, bits 8-15 the blink color and
+ * bit 16 is set for fast blinking. Pads whose state has changed are marked in a dirty bitset, which
+ * can be iterated in ascending order with {@link #nextDirty(int)}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PadStates
+{
+    private static final int FAST_FLAG = 1 << 16;
+
+    private final int []     states;
+    private final long []    dirty;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The number of pads
+     */
+    public PadStates (final int size)
+    {
+        this.states = new int [size];
+        this.dirty = new long [(size + 63) / 64];
+    }
+
+
+    /**
+     * Encode the color and blink states of a pad.
+     *
+     * @param color The color (0-127)
+     * @param blinkColor The blink color (0-127)
+     * @param fast True to blink fast
+     * @return The encoded state
+     */
+    public static int encode (final int color, final int blinkColor, final boolean fast)
+    {
+        return (fast ? FAST_FLAG : 0) | blinkColor << 8 | color;
+    }
+
+
+    /**
+     * Get the color of an encoded state.
+     *
+     * @param state The encoded state
+     * @return The color
+     */
+    public static int getColor (final int state)
+    {
+        return state & 0xFF;
+    }
+
+
+    /**
+     * Get the blink color of an encoded state.
+     *
+     * @param state The encoded state
+     * @return The blink color
+     */
+    public static int getBlinkColor (final int state)
+    {
+        return state >> 8 & 0xFF;
+    }
+
+
+    /**
+     * Get the blink speed of an encoded state.
+     *
+     * @param state The encoded state
+     * @return True if fast
+     */
+    public static boolean isFast (final int state)
+    {
+        return (state & FAST_FLAG) != 0;
+    }
+
+
+    /**
+     * Get the encoded state of a pad.
+     *
+     * @param pad The index of the pad
+     * @return The encoded state
+     */
+    public int get (final int pad)
+    {
+        return this.states[pad];
+    }
+
+
+    /**
+     * Set the encoded state of a pad. The pad is marked as dirty if the state has changed.
+     *
+     * @param pad The index of the pad
+     * @param state The encoded state
+     * @return True if the state has changed
+     */
+    public boolean set (final int pad, final int state)
+    {
+        if (this.states[pad] == state)
+            return false;
+        this.states[pad] = state;
+        this.dirty[pad >> 6] |= 1L << pad;
+        return true;
+    }
+
+
+    /**
+     * Set the color of a pad and remove its blink state. The pad is marked as dirty.
+     *
+     * @param pad The index of the pad
+     * @param color The color
+     */
+    public void setColor (final int pad, final int color)
+    {
+        this.states[pad] = color & 0xFF;
+        this.dirty[pad >> 6] |= 1L << pad;
+    }
+
+
+    /**
+     * Set the blink state of a pad and keep its color. The pad is marked as dirty.
+     *
+     * @param pad The index of the pad
+     * @param blinkColor The blink color
+     * @param fast True to blink fast
+     */
+    public void setBlink (final int pad, final int blinkColor, final boolean fast)
+    {
+        this.states[pad] = encode (getColor (this.states[pad]), blinkColor & 0xFF, fast);
+        this.dirty[pad >> 6] |= 1L << pad;
+    }
+
+
+    /**
+     * Check if any pad is dirty.
+     *
+     * @return True if at least one pad is dirty
+     */
+    public boolean hasDirty ()
+    {
+        for (final long bits: this.dirty)
+        {
+            if (bits != 0)
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Get the next dirty pad.
+     *
+     * @param from The index of the pad from which to start the search (inclusive)
+     * @return The index of the next dirty pad or -1 if there is none
+     */
+    public int nextDirty (final int from)
+    {
+        int word = from >> 6;
+        if (word >= this.dirty.length)
+            return -1;
+
+        long bits = this.dirty[word] & -1L << from;
+        while (bits == 0)
+        {
+            word++;
+            if (word == this.dirty.length)
+                return -1;
+            bits = this.dirty[word];
+        }
+        return word * 64 + Long.numberOfTrailingZeros (bits);
+    }
+
+
+    /**
+     * Remove the dirty mark of all pads.
+     */
+    public void clearDirty ()
+    {
+        Arrays.fill (this.dirty, 0);
+    }
+}
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+
 /**
  * An abstract implementation for a midi output
  *
@@ -11,11 +14,18 @@ package de.mossgrabers.framework.daw.midi;
  */
 public abstract class AbstractMidiOutputImpl implements IMidiOutput
 {
+    private final ThreadLocal<SysexBuilder> sysexBuilders        = ThreadLocal.withInitial ( () -> new SysexBuilder (this));
+    private final AtomicLong                sentMessages         = new AtomicLong ();
+    private final AtomicLong                sentSysexBytes       = new AtomicLong ();
+    private volatile MidiOutputQueue        queue;
+    private MidiAddressFunction             queueAddressFunction = MidiOutputQueue::getAddress;
+
+
     /** {@inheritDoc} */
     @Override
     public void sendCC (final int cc, final int value)
     {
-        this.sendMidiShort (0xB0, cc, value);
+        this.queueMidiShort (0xB0, cc, value);
     }
 
 
@@ -23,7 +33,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendCCEx (final int channel, final int cc, final int value)
     {
-        this.sendMidiShort (0xB0 + channel, cc, value);
+        this.queueMidiShort (0xB0 + channel, cc, value);
     }
 
 
@@ -31,7 +41,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendNote (final int note, final int velocity)
     {
-        this.sendMidiShort (0x90, note, velocity);
+        this.queueMidiShort (0x90, note, velocity);
     }
 
 
@@ -39,7 +49,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendNoteEx (final int channel, final int note, final int velocity)
     {
-        this.sendMidiShort (0x90 + channel, note, velocity);
+        this.queueMidiShort (0x90 + channel, note, velocity);
     }
 
 
@@ -47,7 +57,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (0xA0, data1, data2);
+        this.queueMidiShort (0xA0, data1, data2);
     }
 
 
@@ -55,7 +65,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPolyphonicAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xA0 + channel, data1, data2);
+        this.queueMidiShort (0xA0 + channel, data1, data2);
     }
 
 
@@ -63,7 +73,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int data1, final int data2)
     {
-        this.sendMidiShort (0xD0, data1, data2);
+        this.queueMidiShort (0xD0, data1, data2);
     }
 
 
@@ -71,7 +81,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendChannelAftertouch (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xD0 + channel, data1, data2);
+        this.queueMidiShort (0xD0 + channel, data1, data2);
     }
 
 
@@ -79,7 +89,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPitchbend (final int data1, final int data2)
     {
-        this.sendMidiShort (0xE0, data1, data2);
+        this.queueMidiShort (0xE0, data1, data2);
     }
 
 
@@ -87,7 +97,7 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     @Override
     public void sendPitchbend (final int channel, final int data1, final int data2)
     {
-        this.sendMidiShort (0xE0 + channel, data1, data2);
+        this.queueMidiShort (0xE0 + channel, data1, data2);
     }
 
 
@@ -105,7 +115,79 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
     {
         this.sendCCEx (channel, 0, bankMSB);
         this.sendCCEx (channel, 32, bankLSB);
-        this.sendMidiShort (0xC0 + channel, value, 0);
+        this.queueMidiShort (0xC0 + channel, value, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public SysexBuilder startSysex ()
+    {
+        return this.sysexBuilders.get ().start ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setQueueLimit (final int bytesPerSecond)
+    {
+        final MidiOutputQueue oldQueue = this.queue;
+        this.queue = bytesPerSecond < 0 ? null : new MidiOutputQueue (bytesPerSecond, this.queueAddressFunction);
+        if (oldQueue != null)
+            oldQueue.flushAll (this::sendMidiShort);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setQueueAddressFunction (final MidiAddressFunction addressFunction)
+    {
+        this.queueAddressFunction = addressFunction;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean flushQueue ()
+    {
+        final MidiOutputQueue outputQueue = this.queue;
+        return outputQueue != null && outputQueue.flush (this::sendMidiShort);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getMergedMessages ()
+    {
+        final MidiOutputQueue outputQueue = this.queue;
+        return outputQueue == null ? 0 : outputQueue.getMergedMessages ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getDeferredMessages ()
+    {
+        final MidiOutputQueue outputQueue = this.queue;
+        return outputQueue == null ? 0 : outputQueue.getDeferredMessages ();
+    }
+
+
+    /**
+     * Adds a MIDI message to the queue, if queueing is enabled, otherwise the message is sent
+     * immediately.
+     *
+     * @param status the status byte of the MIDI message
+     * @param data1 the data1 part of the MIDI message
+     * @param data2 the data2 part of the MIDI message
+     */
+    private void queueMidiShort (final int status, final int data1, final int data2)
+    {
+        final MidiOutputQueue outputQueue = this.queue;
+        if (outputQueue == null)
+            this.sendMidiShort (status, data1, data2);
+        else
+            outputQueue.add (status, data1, data2);
     }
 
 
@@ -117,4 +199,68 @@ public abstract class AbstractMidiOutputImpl implements IMidiOutput
      * @param data2 the data2 part of the MIDI message
      */
     protected abstract void sendMidiShort (final int status, final int data1, final int data2);
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSentMessages ()
+    {
+        return this.sentMessages.get ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSentSysexBytes ()
+    {
+        return this.sentSysexBytes.get ();
+    }
+
+
+    /**
+     * Count a sent short MIDI message.
+     */
+    protected void countMessage ()
+    {
+        this.sentMessages.incrementAndGet ();
+    }
+
+
+    /**
+     * Must be called before a system exclusive message is sent. Counts the message and sends all
+     * queued short messages first, since system exclusive messages are not queued but the device
+     * must receive all messages in the order in which they were created. The bytes of the message
+     * are taken from the budget of the queue.
+     *
+     * @param length The number of bytes of the message
+     */
+    protected void prepareSysex (final int length)
+    {
+        this.sentMessages.incrementAndGet ();
+        this.sentSysexBytes.addAndGet (length);
+
+        final MidiOutputQueue outputQueue = this.queue;
+        if (outputQueue != null)
+        {
+            outputQueue.flushAll (this::sendMidiShort);
+            outputQueue.consume (length);
+        }
+    }
+
+
+    /**
+     * Must be called before a system exclusive message is sent, see {@link #prepareSysex(int)}.
+     *
+     * @param data The message formatted as a hex string, e.g. F0 7E 7F 06 01 F7
+     */
+    protected void prepareSysex (final String data)
+    {
+        int digits = 0;
+        for (int i = 0; i < data.length (); i++)
+        {
+            if (data.charAt (i) != ' ')
+                digits++;
+        }
+        this.prepareSysex (digits / 2);
+    }
 }
\ No newline at end of file
@@ -141,4 +141,81 @@ public interface IMidiOutput
      * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
      */
     void sendSysex (String data);
+
+
+    /**
+     * Start a system exclusive message which is built byte by byte and sent as a byte array with
+     * {@link SysexBuilder#send()}. Prefer this over formatting a hex string for messages which are
+     * sent often. The builder is reused for all messages sent from the same thread.
+     *
+     * @return The builder with the start byte (F0) already added
+     */
+    SysexBuilder startSysex ();
+
+
+    /**
+     * Configure queueing of the short messages for slow devices. Queued messages to the same
+     * address (status and first data byte) are coalesced and only the latest value is sent with
+     * {@link #flushQueue()}. Messages which are still queued when queueing is reconfigured are sent
+     * immediately.
+     *
+     * @param bytesPerSecond -1 to send all messages immediately (the default), 0 to only coalesce
+     *            the messages, otherwise the maximum number of bytes to send per second
+     */
+    void setQueueLimit (int bytesPerSecond);
+
+
+    /**
+     * Set the function which calculates the address of a queued message. Use it if the protocol of
+     * a device uses the data bytes differently, e.g. to address several values with channel
+     * aftertouch. Must be called before queueing is enabled with {@link #setQueueLimit(int)}.
+     *
+     * @param addressFunction The function, by default the address is the status and first data
+     *            byte, see {@link MidiOutputQueue#getAddress(int, int)}
+     */
+    void setQueueAddressFunction (MidiAddressFunction addressFunction);
+
+
+    /**
+     * Send the queued messages as far as the limit of bytes per second allows.
+     *
+     * @return True if messages are left in the queue
+     */
+    boolean flushQueue ();
+
+
+    /**
+     * Get the number of queued messages which were replaced by a newer message to the same address
+     * before they were sent.
+     *
+     * @return The number of messages
+     */
+    long getMergedMessages ();
+
+
+    /**
+     * Get the number of times a queued message could not be sent since the limit of bytes per
+     * second was reached.
+     *
+     * @return The number of deferrals
+     */
+    long getDeferredMessages ();
+
+
+    /**
+     * Get the number of messages (including system exclusive messages) which have been sent since
+     * the creation of the output.
+     *
+     * @return The number of messages
+     */
+    long getSentMessages ();
+
+
+    /**
+     * Get the number of system exclusive bytes which have been sent since the creation of the
+     * output.
+     *
+     * @return The number of bytes
+     */
+    long getSentSysexBytes ();
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Calculates the address of a short MIDI message. Queued messages with the same address are
+ * coalesced.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface MidiAddressFunction
+{
+    /**
+     * Get the address of a short MIDI message.
+     *
+     * @param status The status byte including the MIDI channel, in the range of 0x80 to 0xEF
+     * @param data1 The first data byte
+     * @return The address in the range of 0 to {@link MidiOutputQueue#NUM_ADDRESSES} - 1
+     */
+    int getAddress (int status, int data1);
+}
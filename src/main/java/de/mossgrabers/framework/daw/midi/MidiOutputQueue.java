@@ -0,0 +1,216 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Queues short MIDI messages before they are sent to a slow device. Messages to the same address
+ * are coalesced, only the latest value is sent. The address is calculated by a function, which
+ * can be provided by a surface whose protocol uses the data bytes differently. By default, the
+ * address is the status and first data byte, see {@link #getAddress(int, int)}.
+ * Messages are sent in the order in which their address was first queued.
+ *
+ * Optionally, the number of bytes sent per second is limited. Messages which exceed the budget stay
+ * in the queue until the next call to {@link #flush(MidiShortCallback)}. System exclusive messages
+ * are not queued, therefore the queue needs to be emptied with
+ * {@link #flushAll(MidiShortCallback)} before one is sent. Their bytes are taken from the budget as
+ * well.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiOutputQueue
+{
+    /** The number of addresses of all status bytes from 0x80 to 0xEF. */
+    public static final int           NUM_ADDRESSES    = 0x70 * 128;
+
+    /** The number of bytes of a short message (running status is not used). */
+    private static final int          MESSAGE_SIZE     = 3;
+    private static final int          EMPTY            = -1;
+
+    private final int []              pending          = new int [NUM_ADDRESSES];
+    private final int []              order            = new int [NUM_ADDRESSES];
+    private final int                 bytesPerSecond;
+    private final double              maxBudget;
+    private final MidiAddressFunction addressFunction;
+    private int                       head;
+    private int                       size;
+    private double                    budget;
+    private long                      lastRefill;
+    private long                      mergedMessages;
+    private long                      deferredMessages;
+
+
+    /**
+     * Constructor.
+     *
+     * @param bytesPerSecond The maximum number of bytes to send per second, 0 to only coalesce the
+     *            messages
+     * @param addressFunction Calculates the address of a message
+     */
+    public MidiOutputQueue (final int bytesPerSecond, final MidiAddressFunction addressFunction)
+    {
+        this.bytesPerSecond = bytesPerSecond;
+        this.addressFunction = addressFunction;
+        // Allow bursts of up to 100ms
+        this.maxBudget = Math.max (MESSAGE_SIZE, bytesPerSecond / 10.0);
+        this.budget = this.maxBudget;
+        this.lastRefill = System.nanoTime ();
+
+        Arrays.fill (this.pending, EMPTY);
+    }
+
+
+    /**
+     * Add a message to the queue. If a message with the same address is already queued, it is
+     * replaced.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public synchronized void add (final int status, final int data1, final int data2)
+    {
+        final int address = this.addressFunction.getAddress (status, data1);
+        final int message = (status & 0xFF) << 16 | (data1 & 0x7F) << 8 | data2 & 0x7F;
+        if (this.pending[address] == EMPTY)
+        {
+            this.order[(this.head + this.size) % NUM_ADDRESSES] = address;
+            this.size++;
+        }
+        else
+            this.mergedMessages++;
+        this.pending[address] = message;
+    }
+
+
+    /**
+     * Take the bytes of a message which was sent bypassing the queue from the budget.
+     *
+     * @param length The number of bytes
+     */
+    public synchronized void consume (final int length)
+    {
+        if (this.bytesPerSecond > 0)
+        {
+            this.refill ();
+            this.budget -= length;
+        }
+    }
+
+
+    /**
+     * Send the queued messages as far as the budget allows.
+     *
+     * @param sender Sends a message to the device
+     * @return True if messages are left in the queue
+     */
+    public synchronized boolean flush (final MidiShortCallback sender)
+    {
+        if (this.bytesPerSecond > 0)
+            this.refill ();
+
+        while (this.size > 0)
+        {
+            if (this.bytesPerSecond > 0)
+            {
+                if (this.budget < MESSAGE_SIZE)
+                {
+                    this.deferredMessages += this.size;
+                    return true;
+                }
+                this.budget -= MESSAGE_SIZE;
+            }
+            this.sendNext (sender);
+        }
+        return false;
+    }
+
+
+    /**
+     * Send all queued messages ignoring the budget. The bytes of the messages are still taken from
+     * the budget, which delays the following messages.
+     *
+     * @param sender Sends a message to the device
+     */
+    public synchronized void flushAll (final MidiShortCallback sender)
+    {
+        if (this.bytesPerSecond > 0 && this.size > 0)
+        {
+            this.refill ();
+            this.budget -= this.size * MESSAGE_SIZE;
+        }
+
+        while (this.size > 0)
+            this.sendNext (sender);
+    }
+
+
+    /**
+     * Get the number of messages which were replaced by a newer message to the same address.
+     *
+     * @return The number of messages
+     */
+    public synchronized long getMergedMessages ()
+    {
+        return this.mergedMessages;
+    }
+
+
+    /**
+     * Get the number of times a message could not be sent since the budget was used up. A message
+     * is counted on each flush it has to wait for.
+     *
+     * @return The number of deferrals
+     */
+    public synchronized long getDeferredMessages ()
+    {
+        return this.deferredMessages;
+    }
+
+
+    /**
+     * Get the default address of a short MIDI message. Note off and note on share an address.
+     * Program change, channel aftertouch and pitchbend have one address per MIDI channel since their
+     * first data byte is a value.
+     *
+     * @param status The status byte including the MIDI channel, must be in the range of 0x80 to
+     *            0xEF
+     * @param data1 The first data byte
+     * @return The address in the range of 0 to {@link #NUM_ADDRESSES} - 1
+     */
+    public static int getAddress (final int status, final int data1)
+    {
+        int code = status & 0xF0;
+        // Note off and note on address the same note
+        if (code == 0x80)
+            code = 0x90;
+        final int channel = status & 0x0F;
+        // Program change, channel aftertouch and pitchbend have no address in the first data byte
+        final int number = code >= 0xC0 ? 0 : data1 & 0x7F;
+        return (code - 0x80 + channel) * 128 + number;
+    }
+
+
+    private void sendNext (final MidiShortCallback sender)
+    {
+        final int address = this.order[this.head];
+        final int message = this.pending[address];
+        this.pending[address] = EMPTY;
+        this.head = (this.head + 1) % NUM_ADDRESSES;
+        this.size--;
+
+        sender.handleMidi (message >> 16, message >> 8 & 0x7F, message & 0x7F);
+    }
+
+
+    private void refill ()
+    {
+        final long now = System.nanoTime ();
+        this.budget = Math.min (this.maxBudget, this.budget + (now - this.lastRefill) * this.bytesPerSecond / 1000000000.0);
+        this.lastRefill = now;
+    }
+}
@@ -0,0 +1,163 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds a system exclusive message byte by byte and sends it to a MIDI output. Since the DAW only
+ * accepts byte arrays of the exact length of the message, an array is kept for each message length
+ * and reused, which makes building and sending the typical display and LED messages free of
+ * allocations. A builder must only be used by one thread and for one message at a time, get it
+ * with {@link IMidiOutput#startSysex()}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    /** Messages longer than this are sent with a newly allocated array. */
+    private static final int  MAX_POOLED_LENGTH = 512;
+
+    private final IMidiOutput output;
+    private final byte [] []  messages          = new byte [MAX_POOLED_LENGTH + 1] [];
+    private byte []           buffer            = new byte [256];
+    private int               length;
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The output to which to send the messages
+     */
+    public SysexBuilder (final IMidiOutput output)
+    {
+        this.output = output;
+    }
+
+
+    /**
+     * Discard the current content and start a new message with the system exclusive start byte
+     * (F0).
+     *
+     * @return The builder
+     */
+    public SysexBuilder start ()
+    {
+        this.length = 0;
+        return this.add (0xF0);
+    }
+
+
+    /**
+     * Add a byte.
+     *
+     * @param value The byte to add, only the lower 8 bits are used
+     * @return The builder
+     */
+    public SysexBuilder add (final int value)
+    {
+        if (this.length == this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, this.buffer.length * 2);
+        this.buffer[this.length++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param values The bytes to add, only the lower 8 bits of each value are used
+     * @return The builder
+     */
+    public SysexBuilder add (final int [] values)
+    {
+        for (final int value: values)
+            this.add (value);
+        return this;
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param values The bytes to add
+     * @return The builder
+     */
+    public SysexBuilder add (final byte [] values)
+    {
+        return this.add (values, 0, values.length);
+    }
+
+
+    /**
+     * Add a part of a byte array.
+     *
+     * @param values The bytes to add
+     * @param offset The index of the first byte to add
+     * @param count The number of bytes to add
+     * @return The builder
+     */
+    public SysexBuilder add (final byte [] values, final int offset, final int count)
+    {
+        if (this.length + count > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (this.buffer.length * 2, this.length + count));
+        System.arraycopy (values, offset, this.buffer, this.length, count);
+        this.length += count;
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text, one byte per character. Only the lower 7 bits of a character
+     * are added, therefore umlauts and other non-ASCII characters should be replaced before, e.g.
+     * with {@link de.mossgrabers.framework.utils.StringUtils#fixASCII(String)}.
+     *
+     * @param text The text to add
+     * @return The builder
+     */
+    public SysexBuilder addText (final String text)
+    {
+        final int textLength = text.length ();
+        for (int i = 0; i < textLength; i++)
+            this.add (text.charAt (i) & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Get the number of bytes added since the start of the message.
+     *
+     * @return The number of bytes
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Finish the message with the system exclusive end byte (F7) and send it.
+     */
+    public void send ()
+    {
+        this.add (0xF7);
+
+        byte [] message;
+        if (this.length > MAX_POOLED_LENGTH)
+            message = new byte [this.length];
+        else
+        {
+            message = this.messages[this.length];
+            if (message == null)
+            {
+                message = new byte [this.length];
+                this.messages[this.length] = message;
+            }
+        }
+        System.arraycopy (this.buffer, 0, message, 0, this.length);
+        this.output.sendSysex (message);
+    }
+}
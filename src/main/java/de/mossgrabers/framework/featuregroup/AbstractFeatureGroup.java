@@ -34,6 +34,9 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     protected final ColorManager   colorManager;
     protected final MVHelper<S, C> mvHelper;
 
+    private boolean                tracksDependencies;
+    private volatile boolean       isDirty          = true;
+
 
     /**
      * Constructor.
@@ -69,6 +72,69 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDirty ()
+    {
+        return !this.tracksDependencies || this.isDirty;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidate ()
+    {
+        this.isDirty = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearDirty ()
+    {
+        this.isDirty = false;
+    }
+
+
+    /**
+     * Check if the feature group declared the settings it depends on.
+     *
+     * @return True if dependencies are tracked
+     */
+    protected boolean isTrackingDependencies ()
+    {
+        return this.tracksDependencies;
+    }
+
+
+    /**
+     * Enable the dependency tracking of the feature group. From now on the feature group is only
+     * redrawn if it is invalidated. Therefore, it can only be used by feature groups which read
+     * nothing from the model and declare all settings they read with
+     * {@link #dependsOnSettings(Integer...)}. Calling only this method declares a feature group with
+     * static content.
+     */
+    protected void enableDependencyTracking ()
+    {
+        this.tracksDependencies = true;
+    }
+
+
+    /**
+     * Declare that the feature group reads the given settings.
+     *
+     * @param settingIDs The IDs of the settings
+     */
+    protected void dependsOnSettings (final Integer... settingIDs)
+    {
+        this.enableDependencyTracking ();
+
+        final C configuration = this.surface.getConfiguration ();
+        for (final Integer settingID: settingIDs)
+            configuration.addSettingObserver (settingID, this::invalidate);
+    }
+
+
     /**
      * Get the color ID for a button, which is controlled by the feature group.
      *
@@ -32,6 +32,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     protected final KeyManager    keyManager;
 
     private AftertouchCommand     aftertouchCommand;
+    private volatile boolean      isGridDirty = true;
 
     protected boolean             canScrollLeft;
     protected boolean             canScrollRight;
@@ -84,13 +85,40 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void invalidate ()
+    {
+        super.invalidate ();
+        this.isGridDirty = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isGridDirty ()
+    {
+        return !this.isTrackingDependencies () || this.isGridDirty;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearGridDirty ()
+    {
+        this.isGridDirty = false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateControlSurface ()
     {
         final IMode m = this.surface.getModeManager ().getActive ();
-        if (m != null)
-            m.updateDisplay ();
+        if (m == null || !m.isDirty ())
+            return;
+        m.clearDirty ();
+        m.updateDisplay ();
     }
 
 
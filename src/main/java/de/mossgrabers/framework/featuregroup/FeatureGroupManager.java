@@ -349,6 +349,15 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     }
 
 
+    /**
+     * Mark all registered feature groups as dirty to force a full redraw.
+     */
+    public void invalidateAll ()
+    {
+        this.featureGroups.values ().forEach (IFeatureGroup::invalidate);
+    }
+
+
     /**
      * Register another manager. If a feature group changes all states are synchronized to the
      * registered siblings.
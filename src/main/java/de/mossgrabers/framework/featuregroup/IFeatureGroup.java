@@ -42,4 +42,27 @@ public interface IFeatureGroup
      * @return A color index
      */
     int getButtonColor (ButtonID buttonID);
+
+
+    /**
+     * Check if the controls (e.g. LEDs) and the display of the feature group need to be updated. A
+     * feature group which did not declare the settings it depends on is always dirty. The pad grid
+     * of a view has its own dirty flag, see {@link IView#isGridDirty()}.
+     *
+     * @return True if a redraw is required
+     */
+    boolean isDirty ();
+
+
+    /**
+     * Mark the feature group as dirty, which forces a redraw on the next flush.
+     */
+    void invalidate ();
+
+
+    /**
+     * Called before the controls and the display of the feature group are updated. Changes which
+     * happen while drawing mark the feature group dirty again.
+     */
+    void clearDirty ();
 }
@@ -40,6 +40,22 @@ public interface IView extends IFeatureGroup
     void drawGrid ();
 
 
+    /**
+     * Check if the pad grid needs to be redrawn. A view which did not declare the settings it
+     * depends on is always dirty.
+     *
+     * @return True if a redraw is required
+     */
+    boolean isGridDirty ();
+
+
+    /**
+     * Called before the pad grid is redrawn. Changes which happen while drawing mark the grid dirty
+     * again.
+     */
+    void clearGridDirty ();
+
+
     /**
      * A pad has been pressed or released.
      *
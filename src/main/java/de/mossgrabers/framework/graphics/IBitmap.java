@@ -40,4 +40,12 @@ public interface IBitmap
      * @param encoder The encoder to use
      */
     void encode (IEncoder encoder);
+
+
+    /**
+     * Get the cache for the text measurements of the graphics contexts of this bitmap.
+     *
+     * @return The cache
+     */
+    TextMetricsCache getTextMetricsCache ();
 }
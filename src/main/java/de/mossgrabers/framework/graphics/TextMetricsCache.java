@@ -0,0 +1,272 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import de.mossgrabers.framework.utils.LruCache;
+
+
+/**
+ * Caches the measurements of texts. Since the font of a bitmap does not change, the width of a
+ * text only depends on the text and the font size. The cache is kept by the bitmap and therefore
+ * outlives the graphics context of a single render call. To not create garbage on each lookup,
+ * the lookups use a reusable probe key and the measured value is stored in the key of the entry.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextMetricsCache
+{
+    private static final int                         MAX_WIDTHS     = 1024;
+    private static final int                         MAX_HEIGHTS    = 64;
+    private static final int                         MAX_FONT_SIZES = 256;
+
+    private final LruCache<MeasureKey, MeasureKey>   widths         = new LruCache<> (MAX_WIDTHS);
+    private final LruCache<MeasureKey, MeasureKey>   heights        = new LruCache<> (MAX_HEIGHTS);
+    private final LruCache<FontSizeKey, FontSizeKey> fontSizes      = new LruCache<> (MAX_FONT_SIZES);
+    private final MeasureKey                         measureProbe   = new MeasureKey ();
+    private final FontSizeKey                        fontSizeProbe  = new FontSizeKey ();
+
+
+    /**
+     * Get the width of a text.
+     *
+     * @param text The text
+     * @param fontSize The size of the font
+     * @param measurer Measures the text if it is not in the cache
+     * @return The width
+     */
+    public synchronized double getTextWidth (final String text, final double fontSize, final ITextMeasurer measurer)
+    {
+        final MeasureKey width = this.widths.get (this.measureProbe.set (text, fontSize));
+        if (width != null)
+            return width.value;
+        final double w = measurer.getTextWidth (text, fontSize);
+        final MeasureKey key = new MeasureKey ().set (text, fontSize);
+        key.value = w;
+        this.widths.put (key, key);
+        return w;
+    }
+
+
+    /**
+     * Get the height of a text.
+     *
+     * @param text The text
+     * @param fontSize The size of the font
+     * @param measurer Measures the text if it is not in the cache
+     * @return The height
+     */
+    public synchronized double getTextHeight (final String text, final double fontSize, final ITextMeasurer measurer)
+    {
+        final MeasureKey height = this.heights.get (this.measureProbe.set (text, fontSize));
+        if (height != null)
+            return height.value;
+        final double h = measurer.getTextHeight (text, fontSize);
+        final MeasureKey key = new MeasureKey ().set (text, fontSize);
+        key.value = h;
+        this.heights.put (key, key);
+        return h;
+    }
+
+
+    /**
+     * Calculates the maximum font size which fits the text into the given bounds. The font size
+     * is increased in steps of 1.
+     *
+     * @param text The text
+     * @param maxHeight The maximum height of the text, the font size stays below it
+     * @param maxWidth The maximum width of the text
+     * @param minimumFontSize The minimum font size
+     * @param measurer Measures the text if it is not in the cache
+     * @return The font size or -1 if even the minimum font size does not fit
+     */
+    public synchronized double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize, final ITextMeasurer measurer)
+    {
+        final FontSizeKey cached = this.fontSizes.get (this.fontSizeProbe.set (text, maxHeight, maxWidth, minimumFontSize));
+        if (cached != null)
+            return cached.value;
+
+        double size = minimumFontSize;
+        double fittingSize = -1;
+        while (size < maxHeight)
+        {
+            if (this.getTextWidth (text, size, measurer) > maxWidth)
+                break;
+            fittingSize = size;
+            size += 1.0;
+        }
+
+        final FontSizeKey key = new FontSizeKey ().set (text, maxHeight, maxWidth, minimumFontSize);
+        key.value = fittingSize;
+        this.fontSizes.put (key, key);
+        return fittingSize;
+    }
+
+
+    /**
+     * Get the number of lookups which were answered from the cache.
+     *
+     * @return The number of hits
+     */
+    public long getHits ()
+    {
+        return this.widths.getHits () + this.heights.getHits () + this.fontSizes.getHits ();
+    }
+
+
+    /**
+     * Get the number of lookups which required a measurement.
+     *
+     * @return The number of misses
+     */
+    public long getMisses ()
+    {
+        return this.widths.getMisses () + this.heights.getMisses () + this.fontSizes.getMisses ();
+    }
+
+
+    /**
+     * Get the number of entries which were removed since the cache was full.
+     *
+     * @return The number of evictions
+     */
+    public long getEvictions ()
+    {
+        return this.widths.getEvictions () + this.heights.getEvictions () + this.fontSizes.getEvictions ();
+    }
+
+
+    /**
+     * Measures a text with the font of a graphics context.
+     */
+    public interface ITextMeasurer
+    {
+        /**
+         * Measure the width of a text.
+         *
+         * @param text The text
+         * @param fontSize The size of the font
+         * @return The width
+         */
+        double getTextWidth (String text, double fontSize);
+
+
+        /**
+         * Measure the height of a text.
+         *
+         * @param text The text
+         * @param fontSize The size of the font
+         * @return The height
+         */
+        double getTextHeight (String text, double fontSize);
+    }
+
+
+    /**
+     * Key for the measurement of a text in a font size. The key of a cache entry also stores the
+     * measured value, which is not part of the identity of the key.
+     */
+    private static class MeasureKey
+    {
+        private String text;
+        private double fontSize;
+        private double value;
+
+
+        MeasureKey set (final String text, final double fontSize)
+        {
+            this.text = text;
+            this.fontSize = fontSize;
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            final int prime = 31;
+            int result = 1;
+            final long temp = Double.doubleToLongBits (this.fontSize);
+            result = prime * result + (int) (temp ^ temp >>> 32);
+            result = prime * result + (this.text == null ? 0 : this.text.hashCode ());
+            return result;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final MeasureKey other = (MeasureKey) obj;
+            if (Double.doubleToLongBits (this.fontSize) != Double.doubleToLongBits (other.fontSize))
+                return false;
+            if (this.text == null)
+                return other.text == null;
+            return this.text.equals (other.text);
+        }
+    }
+
+
+    /**
+     * Key for the fitting font size of a text in bounds. The key of a cache entry also stores the
+     * calculated font size, which is not part of the identity of the key.
+     */
+    private static class FontSizeKey
+    {
+        private String text;
+        private double maxHeight;
+        private double maxWidth;
+        private double minimumFontSize;
+        private double value;
+
+
+        FontSizeKey set (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+        {
+            this.text = text;
+            this.maxHeight = maxHeight;
+            this.maxWidth = maxWidth;
+            this.minimumFontSize = minimumFontSize;
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            final int prime = 31;
+            int result = 1;
+            long temp = Double.doubleToLongBits (this.maxHeight);
+            result = prime * result + (int) (temp ^ temp >>> 32);
+            temp = Double.doubleToLongBits (this.maxWidth);
+            result = prime * result + (int) (temp ^ temp >>> 32);
+            temp = Double.doubleToLongBits (this.minimumFontSize);
+            result = prime * result + (int) (temp ^ temp >>> 32);
+            result = prime * result + (this.text == null ? 0 : this.text.hashCode ());
+            return result;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final FontSizeKey other = (FontSizeKey) obj;
+            if (Double.doubleToLongBits (this.maxHeight) != Double.doubleToLongBits (other.maxHeight) || Double.doubleToLongBits (this.maxWidth) != Double.doubleToLongBits (other.maxWidth) || Double.doubleToLongBits (this.minimumFontSize) != Double.doubleToLongBits (other.minimumFontSize))
+                return false;
+            if (this.text == null)
+                return other.text == null;
+            return this.text.equals (other.text);
+        }
+    }
+}
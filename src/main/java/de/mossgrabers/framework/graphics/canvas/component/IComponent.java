@@ -20,4 +20,30 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Draw only the parts which have changed compared to the previous component at the same
+     * position, which is already drawn. The default implementation draws nothing.
+     *
+     * @param info All necessary information to draw the component
+     * @param previous The previously drawn component, might be null
+     * @return True if the changes were drawn, false if the whole component needs to be drawn
+     */
+    default boolean drawUpdate (final IGraphicsInfo info, final IComponent previous)
+    {
+        return false;
+    }
+
+
+    /**
+     * Check if the component draws beyond its bounds into the following columns, e.g. a long
+     * header text. The default implementation returns false.
+     *
+     * @return True if the component might draw into the following columns
+     */
+    default boolean isOverflowing ()
+    {
+        return false;
+    }
 }
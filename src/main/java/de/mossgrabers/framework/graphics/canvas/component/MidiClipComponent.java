@@ -6,6 +6,7 @@ package de.mossgrabers.framework.graphics.canvas.component;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.IStepInfo;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
@@ -13,16 +14,35 @@ import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
- * A component which displays the notes of a midi clip.
+ * A component which displays the notes of a midi clip. The visible state of the clip is copied
+ * when the component is created, therefore the component can be compared with the one of the
+ * previous flush. The notes of each row are stored as runs of steps.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class MidiClipComponent implements IComponent
 {
-    private final INoteClip clip;
-    private int             quartersPerMeasure;
+    /** The number of values of a run: row, first step, last step, channel and the start flag. */
+    private static final int RUN_SIZE = 5;
+
+    private final ColorEx    color;
+    private final int        quartersPerMeasure;
+    private final int        numSteps;
+    private final double     stepLength;
+    private final int        editPage;
+    private final boolean    isLoopEnabled;
+    private final double     loopStart;
+    private final double     loopLength;
+    private final double     playStart;
+    private final double     playEnd;
+    private final int        lowerRowWithData;
+    private final int        range;
+    private final int []     runs;
+    private final int        playStep;
 
 
     /**
@@ -33,8 +53,28 @@ public class MidiClipComponent implements IComponent
      */
     public MidiClipComponent (final INoteClip clip, final int quartersPerMeasure)
     {
-        this.clip = clip;
+        this.color = clip.getColor ();
         this.quartersPerMeasure = quartersPerMeasure;
+        this.numSteps = clip.getNumSteps ();
+        this.stepLength = clip.getStepLength ();
+        this.editPage = clip.getEditPage ();
+        this.isLoopEnabled = clip.isLoopEnabled ();
+        this.loopStart = clip.getLoopStart ();
+        this.loopLength = clip.getLoopLength ();
+        this.playStart = clip.getPlayStart ();
+        this.playEnd = clip.getPlayEnd ();
+        this.playStep = clip.getCurrentStep ();
+
+        this.lowerRowWithData = clip.getLowerRowWithData ();
+        if (this.lowerRowWithData == -1)
+        {
+            this.range = 0;
+            this.runs = new int [0];
+            return;
+        }
+        // Display at least 4 rows
+        this.range = Math.max (4, 1 + clip.getUpperRowWithData () - this.lowerRowWithData);
+        this.runs = createRuns (clip, this.lowerRowWithData, this.range, this.numSteps);
     }
 
 
@@ -49,7 +89,7 @@ public class MidiClipComponent implements IComponent
 
         final ColorEx dividersColor = configuration.getColorBackgroundDarker ();
 
-        final ColorEx noteColor = this.clip.getColor ();
+        final ColorEx noteColor = this.color;
         final ColorEx noteGridLoopColor = configuration.getColorBackground ();
         final ColorEx noteBorderColor = ColorEx.BLACK;
 
@@ -65,22 +105,17 @@ public class MidiClipComponent implements IComponent
         gc.fillRectangle (left, top, width, noteAreaHeight, gridBackground);
 
         // Draw the loop, if any and ...
-        final int numSteps = this.clip.getNumSteps ();
-        final double stepLength = this.clip.getStepLength ();
-        final double pageLength = numSteps * stepLength;
-        final int editPage = this.clip.getEditPage ();
-        final double startPos = editPage * pageLength;
-        final double endPos = (editPage + 1) * pageLength;
+        final double pageLength = this.numSteps * this.stepLength;
+        final double startPos = this.editPage * pageLength;
+        final double endPos = (this.editPage + 1) * pageLength;
         final int len = top - 1;
-        if (this.clip.isLoopEnabled ())
+        if (this.isLoopEnabled)
         {
-            final double loopStart = this.clip.getLoopStart ();
-            final double loopLength = this.clip.getLoopLength ();
             // ... the loop is visible in the current page
-            if (loopStart < endPos && loopStart + loopLength > startPos)
+            if (this.loopStart < endPos && this.loopStart + this.loopLength > startPos)
             {
-                final double start = Math.max (0, loopStart - startPos);
-                final double end = Math.min (endPos, loopStart + loopLength) - startPos;
+                final double start = Math.max (0, this.loopStart - startPos);
+                final double end = Math.min (endPos, this.loopStart + this.loopLength) - startPos;
                 final double x = width * start / pageLength;
                 final double w = width * end / pageLength - x;
                 // The header loop
@@ -91,27 +126,25 @@ public class MidiClipComponent implements IComponent
             }
         }
         // Draw play start in header
-        final double playStart = this.clip.getPlayStart ();
-        if (playStart >= startPos && playStart <= endPos)
+        if (this.playStart >= startPos && this.playStart <= endPos)
         {
-            final double start = playStart - startPos;
+            final double start = this.playStart - startPos;
             final double x = width * start / pageLength;
             gc.fillTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, noteColor);
             gc.strokeTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, ColorEx.evenDarker (noteColor));
         }
         // Draw play end in header
-        final double playEnd = this.clip.getPlayEnd ();
-        if (playEnd >= startPos && playEnd <= endPos)
+        if (this.playEnd >= startPos && this.playEnd <= endPos)
         {
-            final double end = playEnd - startPos;
+            final double end = this.playEnd - startPos;
             final double x = width * end / pageLength;
             gc.fillTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, noteColor);
             gc.strokeTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, ColorEx.evenDarker (noteColor));
         }
 
         // Draw dividers
-        final double stepWidth = width / numSteps;
-        for (int step = 0; step <= numSteps; step++)
+        final double stepWidth = width / this.numSteps;
+        for (int step = 0; step <= this.numSteps; step++)
         {
             final double x = left + step * stepWidth;
             gc.fillRectangle (x, top, 1, noteAreaHeight, dividersColor);
@@ -119,63 +152,221 @@ public class MidiClipComponent implements IComponent
             // Draw measure texts
             if (step % 4 == 0)
             {
-                final double time = startPos + step * stepLength;
+                final double time = startPos + step * this.stepLength;
                 final String measureText = StringUtils.formatMeasures (this.quartersPerMeasure, time, 1, false);
                 gc.drawTextInHeight (measureText, x, 0, top - 1.0, measureTextColor, top);
             }
         }
 
         // Draw the notes
-        final int lowerRowWithData = this.clip.getLowerRowWithData ();
-        if (lowerRowWithData == -1)
+        if (this.lowerRowWithData != -1)
+        {
+            final double stepHeight = noteAreaHeight / this.range;
+            final double fontSize = gc.calculateFontSize ("G#5", stepHeight, stepWidth, 12.0);
+            final ColorEx textColor = ColorEx.calcContrastColor (noteColor);
+
+            for (int row = 0; row < this.range; row++)
+                gc.fillRectangle (left, top + (this.range - row - 1) * stepHeight, width, 1, dividersColor);
+
+            for (int i = 0; i < this.runs.length; i += RUN_SIZE)
+            {
+                final int row = this.runs[i];
+                final int firstStep = this.runs[i + 1];
+                final int lastStep = this.runs[i + 2];
+                final int channel = this.runs[i + 3];
+                final boolean isStart = this.runs[i + 4] == 1;
+
+                // A note which started on a previous page overlaps the divider of its first step
+                final double x = left + firstStep * stepWidth + (isStart ? 1 : -1);
+                final double w = left + (lastStep + 1) * stepWidth + 1 - x;
+                final double y = top + (this.range - row - 1) * stepHeight + 2;
+
+                gc.strokeRectangle (x, y, w, stepHeight - 2, noteBorderColor);
+                gc.fillRectangle (x, y, w - 1, stepHeight - 3, noteColor);
+
+                if (isStart && fontSize > 0)
+                {
+                    final String text = channel + 1 + ": " + Scales.formatDrumNote (this.lowerRowWithData + row);
+                    gc.drawTextInBounds (text, x, y, stepWidth - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
+                }
+            }
+        }
+
+        // Draw the play cursor
+        if (this.playStep >= 0)
+            gc.fillRectangle (left + this.playStep * stepWidth - 1, 0, 3, height, measureTextColor);
+    }
+
+
+    /**
+     * If only the play cursor has moved, the areas of the previous and the new play cursor are
+     * drawn again.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean drawUpdate (final IGraphicsInfo info, final IComponent previous)
+    {
+        if (previous == null || this.getClass () != previous.getClass () || !this.isSameContent ((MidiClipComponent) previous))
+            return false;
+
+        this.drawPlayCursorArea (info, ((MidiClipComponent) previous).playStep);
+        this.drawPlayCursorArea (info, this.playStep);
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = 1;
+        long temp;
+        result = prime * result + (this.color == null ? 0 : this.color.hashCode ());
+        result = prime * result + this.quartersPerMeasure;
+        result = prime * result + this.numSteps;
+        temp = Double.doubleToLongBits (this.stepLength);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        result = prime * result + this.editPage;
+        result = prime * result + (this.isLoopEnabled ? 1231 : 1237);
+        temp = Double.doubleToLongBits (this.loopStart);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        temp = Double.doubleToLongBits (this.loopLength);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        temp = Double.doubleToLongBits (this.playStart);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        temp = Double.doubleToLongBits (this.playEnd);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        result = prime * result + this.lowerRowWithData;
+        result = prime * result + this.range;
+        result = prime * result + Arrays.hashCode (this.runs);
+        result = prime * result + this.playStep;
+        return result;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (this.getClass () != obj.getClass ())
+            return false;
+        final MidiClipComponent other = (MidiClipComponent) obj;
+        return this.playStep == other.playStep && this.isSameContent (other);
+    }
+
+
+    /**
+     * Compares everything but the play cursor.
+     *
+     * @param other The other component
+     * @return True if equal
+     */
+    private boolean isSameContent (final MidiClipComponent other)
+    {
+        if (this.color == null)
+        {
+            if (other.color != null)
+                return false;
+        }
+        else if (!this.color.equals (other.color))
+            return false;
+        if (this.quartersPerMeasure != other.quartersPerMeasure || this.numSteps != other.numSteps || this.editPage != other.editPage || this.isLoopEnabled != other.isLoopEnabled)
+            return false;
+        if (Double.doubleToLongBits (this.stepLength) != Double.doubleToLongBits (other.stepLength))
+            return false;
+        if (Double.doubleToLongBits (this.loopStart) != Double.doubleToLongBits (other.loopStart) || Double.doubleToLongBits (this.loopLength) != Double.doubleToLongBits (other.loopLength))
+            return false;
+        if (Double.doubleToLongBits (this.playStart) != Double.doubleToLongBits (other.playStart) || Double.doubleToLongBits (this.playEnd) != Double.doubleToLongBits (other.playEnd))
+            return false;
+        return this.lowerRowWithData == other.lowerRowWithData && this.range == other.range && Arrays.equals (this.runs, other.runs);
+    }
+
+
+    /**
+     * Draw the component again clipped to the area of the play cursor at the given step.
+     *
+     * @param info The graphics information
+     * @param step The step of the play cursor, nothing is drawn if it is negative
+     */
+    private void drawPlayCursorArea (final IGraphicsInfo info, final int step)
+    {
+        if (step < 0)
             return;
-        final int upperRowWithData = this.clip.getUpperRowWithData ();
-        // Display at least 4 rows
-        final int range = Math.max (4, 1 + upperRowWithData - lowerRowWithData);
-        final double stepHeight = noteAreaHeight / range;
 
-        final double fontSize = gc.calculateFontSize ("G#5", stepHeight, stepWidth, 12.0);
+        final double left = info.getBounds ().getLeft ();
+        final double width = info.getBounds ().getWidth ();
+        final double stepWidth = width / this.numSteps;
+
+        // The cursor is 3 pixels wide, add 1 pixel on both sides for anti-aliasing but stay in
+        // the separator space. Whole pixels are used to fully cover the anti-aliased pixels.
+        final double x = Math.max (left - 1, Math.floor (left + step * stepWidth - 2));
+        final double right = Math.min (left + width + 1, Math.ceil (left + step * stepWidth + 3));
+        final double height = info.getBounds ().getHeight ();
+        final IGraphicsContext gc = info.getContext ();
+        gc.setClip (x, 0, right - x, height);
+        // The header is not covered by the background
+        gc.fillRectangle (x, 0, right - x, height, info.getConfiguration ().getColorBorder ());
+        this.draw (info);
+    }
+
+
+    /**
+     * Collects the runs of steps of all notes in the visible rows and steps.
+     *
+     * @param clip The clip
+     * @param lowerRow The lowest row to display
+     * @param range The number of rows to display
+     * @param numSteps The number of steps of a page
+     * @return The runs, each run consists of {@link #RUN_SIZE} values
+     */
+    private static int [] createRuns (final INoteClip clip, final int lowerRow, final int range, final int numSteps)
+    {
+        int [] runs = new int [16 * RUN_SIZE];
+        int size = 0;
 
         for (int row = 0; row < range; row++)
         {
-            gc.fillRectangle (left, top + (range - row - 1) * stepHeight, width, 1, dividersColor);
-
-            for (int step = 0; step < numSteps; step++)
+            final int note = lowerRow + row;
+            for (int channel = 0; channel < 16; channel++)
             {
-                final int note = lowerRowWithData + row;
+                if (!clip.hasRowData (channel, note))
+                    continue;
 
-                // Get step, check for length
-                for (int channel = 0; channel < 16; channel++)
+                int firstStep = -1;
+                boolean isStart = false;
+                for (int step = 0; step <= numSteps; step++)
                 {
-                    final int stepState = this.clip.getStep (channel, step, note).getState ();
-                    if (stepState == 0)
-                        continue;
-
-                    double x = left + step * stepWidth - 1;
-                    double w = stepWidth + 2;
-                    final boolean isStart = stepState == 2;
-                    if (isStart)
+                    final int state = step == numSteps ? IStepInfo.NOTE_OFF : clip.getStep (channel, step, note).getState ();
+
+                    // Close the open run if the note ends or a new note starts
+                    if (firstStep >= 0 && state != IStepInfo.NOTE_CONTINUE)
                     {
-                        x += 2;
-                        w -= 2;
+                        if (size + RUN_SIZE > runs.length)
+                            runs = Arrays.copyOf (runs, runs.length * 2);
+                        runs[size] = row;
+                        runs[size + 1] = firstStep;
+                        runs[size + 2] = step - 1;
+                        runs[size + 3] = channel;
+                        runs[size + 4] = isStart ? 1 : 0;
+                        size += RUN_SIZE;
+                        firstStep = -1;
                     }
 
-                    gc.strokeRectangle (x, top + (range - row - 1) * stepHeight + 2, w, stepHeight - 2, noteBorderColor);
-                    gc.fillRectangle (x + (isStart ? 0 : -2), top + (range - row - 1) * stepHeight + 2, w - 1 + (isStart ? 0 : 2), stepHeight - 3, noteColor);
-
-                    if (isStart && fontSize > 0)
+                    if (firstStep < 0 && state != IStepInfo.NOTE_OFF)
                     {
-                        final String text = channel + 1 + ": " + Scales.formatDrumNote (note);
-                        final ColorEx textColor = ColorEx.calcContrastColor (noteColor);
-                        gc.drawTextInBounds (text, x, top + (range - row - 1) * stepHeight + 2, w - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
+                        firstStep = step;
+                        isStart = state == IStepInfo.NOTE_START;
                     }
                 }
             }
         }
 
-        // Draw the play cursor
-        final int playStep = this.clip.getCurrentStep ();
-        if (playStep >= 0)
-            gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, measureTextColor);
+        return Arrays.copyOf (runs, size);
     }
 }
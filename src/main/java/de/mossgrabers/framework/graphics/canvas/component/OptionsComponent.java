@@ -94,6 +94,15 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isOverflowing ()
+    {
+        // The headers are not limited to the width of the component
+        return this.headerTop != null && !this.headerTop.isEmpty () || this.headerBottom != null && !this.headerBottom.isEmpty ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
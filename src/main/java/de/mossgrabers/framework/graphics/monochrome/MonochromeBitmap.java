@@ -0,0 +1,226 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.monochrome;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+import de.mossgrabers.framework.graphics.TextMetricsCache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * A bitmap with 1 bit per pixel for small monochrome displays. Each row is packed into longs, the
+ * leftmost pixel of a long is its lowest bit. Drawing is done by a {@link MonochromeGraphicsContext}
+ * without any support of the host.
+ *
+ * The pixels can be mirrored into a bitmap of the host, which shows them in the display window and
+ * on the hardware simulator. Only the changed rows are copied into the memory of the host bitmap
+ * after each render.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MonochromeBitmap implements IBitmap
+{
+    private static final int       COLOR_ON         = 0xFFFFFFFF;
+    private static final int       COLOR_OFF        = 0xFF000000;
+
+    private final int              width;
+    private final int              height;
+    private final int              wordsPerRow;
+    private final long []          pixels;
+    private final long []          previewPixels;
+    private final IBitmap          preview;
+    private final TextMetricsCache textMetricsCache = new TextMetricsCache ();
+    private ByteBuffer             memory;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     * @param preview A bitmap of the host into which the pixels are mirrored, might be null
+     */
+    public MonochromeBitmap (final int width, final int height, final IBitmap preview)
+    {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) / 64;
+        this.pixels = new long [this.wordsPerRow * height];
+        this.previewPixels = new long [this.pixels.length];
+        this.preview = preview;
+
+        // Clear the host bitmap since only changed rows are copied
+        if (this.preview != null)
+        {
+            this.preview.encode ( (imageBuffer, w, h) -> {
+                final ByteBuffer buffer = imageBuffer.order (ByteOrder.LITTLE_ENDIAN);
+                for (int i = 0; i < w * h; i++)
+                    buffer.putInt (i * 4, COLOR_OFF);
+            });
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        if (this.preview != null)
+            this.preview.setDisplayWindowTitle (title);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        if (this.preview != null)
+            this.preview.showDisplayWindow ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void render (final boolean enableAntialias, final IRenderer renderer)
+    {
+        renderer.render (new MonochromeGraphicsContext (this));
+
+        if (this.preview != null)
+            this.preview.encode (this::updatePreview);
+    }
+
+
+    /**
+     * Encodes the pixels into the ARGB32 layout of the host bitmaps (blue, green, red, alpha). Use
+     * {@link #getPixels()} to access the bits directly.
+     *
+     * @param encoder The encoder to use
+     */
+    @Override
+    public void encode (final IEncoder encoder)
+    {
+        if (this.memory == null)
+            this.memory = ByteBuffer.allocateDirect (this.width * this.height * 4).order (ByteOrder.LITTLE_ENDIAN);
+        for (int y = 0; y < this.height; y++)
+            this.copyRow (this.memory, y);
+        encoder.encode (this.memory.duplicate ().clear (), this.width, this.height);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public TextMetricsCache getTextMetricsCache ()
+    {
+        return this.textMetricsCache;
+    }
+
+
+    /**
+     * Get the width of the bitmap.
+     *
+     * @return The width in pixels
+     */
+    public int getWidth ()
+    {
+        return this.width;
+    }
+
+
+    /**
+     * Get the height of the bitmap.
+     *
+     * @return The height in pixels
+     */
+    public int getHeight ()
+    {
+        return this.height;
+    }
+
+
+    /**
+     * Get the number of longs of a row.
+     *
+     * @return The number of longs
+     */
+    public int getWordsPerRow ()
+    {
+        return this.wordsPerRow;
+    }
+
+
+    /**
+     * Get the packed pixels. The pixel x of row y is the bit (x % 64) of the long at index (y *
+     * wordsPerRow + x / 64).
+     *
+     * @return The pixels, not a copy
+     */
+    public long [] getPixels ()
+    {
+        return this.pixels;
+    }
+
+
+    /**
+     * Get the bitmap of the host into which the pixels are mirrored.
+     *
+     * @return The bitmap, might be null
+     */
+    public IBitmap getPreview ()
+    {
+        return this.preview;
+    }
+
+
+    /**
+     * Check if a pixel is set.
+     *
+     * @param x The horizontal position of the pixel
+     * @param y The vertical position of the pixel
+     * @return True if set
+     */
+    public boolean isSet (final int x, final int y)
+    {
+        return (this.pixels[y * this.wordsPerRow + (x >> 6)] & 1L << x) != 0;
+    }
+
+
+    private void updatePreview (final ByteBuffer imageBuffer, final int w, final int h)
+    {
+        final ByteBuffer buffer = imageBuffer.order (ByteOrder.LITTLE_ENDIAN);
+        for (int y = 0; y < this.height; y++)
+        {
+            final int offset = y * this.wordsPerRow;
+            boolean changed = false;
+            for (int i = 0; i < this.wordsPerRow; i++)
+            {
+                if (this.pixels[offset + i] != this.previewPixels[offset + i])
+                {
+                    changed = true;
+                    break;
+                }
+            }
+            if (!changed)
+                continue;
+            System.arraycopy (this.pixels, offset, this.previewPixels, offset, this.wordsPerRow);
+            this.copyRow (buffer, y);
+        }
+    }
+
+
+    private void copyRow (final ByteBuffer buffer, final int y)
+    {
+        final int offset = y * this.wordsPerRow;
+        final int rowStart = y * this.width * 4;
+        for (int x = 0; x < this.width; x++)
+        {
+            final boolean isOn = (this.pixels[offset + (x >> 6)] & 1L << x) != 0;
+            buffer.putInt (rowStart + x * 4, isOn ? COLOR_ON : COLOR_OFF);
+        }
+    }
+}
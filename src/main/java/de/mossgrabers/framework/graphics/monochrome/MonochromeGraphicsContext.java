@@ -0,0 +1,452 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.monochrome;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * Implementation for the graphics context which draws directly into the bits of a
+ * {@link MonochromeBitmap}. Colors are reduced to on (bright colors) and off (dark colors). There
+ * is no anti-aliasing, a pixel is set if its center is inside of a shape. Text is drawn with the
+ * {@link BitmapFont} which is scaled by integer factors to approximate the font size.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MonochromeGraphicsContext implements IGraphicsContext
+{
+    private final long [] pixels;
+    private final int     wordsPerRow;
+    private final int     width;
+    private final int     height;
+
+    private int           clipLeft;
+    private int           clipTop;
+    private int           clipRight;
+    private int           clipBottom;
+
+
+    /**
+     * Constructor.
+     *
+     * @param bitmap The bitmap to draw into
+     */
+    public MonochromeGraphicsContext (final MonochromeBitmap bitmap)
+    {
+        this.pixels = bitmap.getPixels ();
+        this.wordsPerRow = bitmap.getWordsPerRow ();
+        this.width = bitmap.getWidth ();
+        this.height = bitmap.getHeight ();
+
+        this.resetClip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawLine (final double x1, final double y1, final double x2, final double y2, final ColorEx color)
+    {
+        final boolean isOn = isOn (color);
+
+        // Bresenham
+        int x = toPixel (x1);
+        int y = toPixel (y1);
+        final int endX = toPixel (x2);
+        final int endY = toPixel (y2);
+        final int dx = Math.abs (endX - x);
+        final int dy = -Math.abs (endY - y);
+        final int stepX = x < endX ? 1 : -1;
+        final int stepY = y < endY ? 1 : -1;
+        int error = dx + dy;
+        while (true)
+        {
+            this.fillSpan (y, x, x + 1, isOn);
+            if (x == endX && y == endY)
+                break;
+            final int e2 = 2 * error;
+            if (e2 >= dy)
+            {
+                error += dy;
+                x += stepX;
+            }
+            if (e2 <= dx)
+            {
+                error += dx;
+                y += stepY;
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRectangle (final double x, final double y, final double width, final double height, final ColorEx color)
+    {
+        this.fillRect (toPixel (x), toPixel (y), toPixel (x + width), toPixel (y + height), isOn (color));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.strokeRectangle (left, top, width, height, color, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color, final double lineWidth)
+    {
+        final boolean isOn = isOn (color);
+        final int lw = Math.max (1, (int) Math.round (lineWidth));
+        final int x0 = toPixel (left);
+        final int y0 = toPixel (top);
+        final int x1 = toPixel (left + width);
+        final int y1 = toPixel (top + height);
+
+        this.fillRect (x0, y0, x1, y0 + lw, isOn);
+        this.fillRect (x0, y1 - lw, x1, y1, isOn);
+        this.fillRect (x0, y0, x0 + lw, y1, isOn);
+        this.fillRect (x1 - lw, y0, x1, y1, isOn);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx backgroundColor)
+    {
+        final boolean isOn = isOn (backgroundColor);
+        final double r = Math.max (0, Math.min (radius, Math.min (width, height) / 2));
+        final double bottom = top + height;
+        final int y1 = toPixel (bottom);
+        for (int y = toPixel (top); y < y1; y++)
+        {
+            // Distance of the center of the row into the area of the rounded corners
+            final double center = y + 0.5;
+            double d = 0;
+            if (center < top + r)
+                d = top + r - center;
+            else if (center > bottom - r)
+                d = center - (bottom - r);
+            final double inset = r - Math.sqrt (Math.max (0, r * r - d * d));
+            this.fillSpan (y, toPixel (left + inset), toPixel (left + width - inset), isOn);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillGradientRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx color1, final ColorEx color2)
+    {
+        // There are no shades, use the average of both colors
+        final ColorEx color = new ColorEx ((color1.getRed () + color2.getRed ()) / 2, (color1.getGreen () + color2.getGreen ()) / 2, (color1.getBlue () + color2.getBlue ()) / 2);
+        this.fillRoundedRectangle (left, top, width, height, radius, color);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx fillColor)
+    {
+        final boolean isOn = isOn (fillColor);
+        final int top = toPixel (Math.min (y1, Math.min (y2, y3)));
+        final int bottom = toPixel (Math.max (y1, Math.max (y2, y3)));
+        final double [] xs = new double [2];
+        for (int y = top; y < bottom; y++)
+        {
+            final double center = y + 0.5;
+            xs[0] = Double.MAX_VALUE;
+            xs[1] = -Double.MAX_VALUE;
+            intersect (x1, y1, x2, y2, center, xs);
+            intersect (x2, y2, x3, y3, center, xs);
+            intersect (x3, y3, x1, y1, center, xs);
+            if (xs[0] <= xs[1])
+                this.fillSpan (y, toPixel (xs[0]), toPixel (xs[1]), isOn);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx lineColor)
+    {
+        this.drawLine (x1, y1, x2, y2, lineColor);
+        this.drawLine (x2, y2, x3, y3, lineColor);
+        this.drawLine (x3, y3, x1, y1, lineColor);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillCircle (final double x, final double y, final double radius, final ColorEx fillColor)
+    {
+        final boolean isOn = isOn (fillColor);
+        final double r = Math.max (0, radius);
+        final int bottom = toPixel (y + r);
+        for (int row = toPixel (y - r); row < bottom; row++)
+        {
+            final double dy = row + 0.5 - y;
+            final double half = Math.sqrt (Math.max (0, r * r - dy * dy));
+            this.fillSpan (row, toPixel (x - half), toPixel (x + half), isOn);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInBounds (text, x, y, width, height, alignment, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+
+        final int scale = BitmapFont.getScale (fontSize);
+        final double h = (double) BitmapFont.GLYPH_HEIGHT * scale;
+        final double w = BitmapFont.getTextWidth (txt, scale);
+        final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
+        final double posY = y + (height + h) / 2;
+
+        final int oldLeft = this.clipLeft;
+        final int oldTop = this.clipTop;
+        final int oldRight = this.clipRight;
+        final int oldBottom = this.clipBottom;
+        this.clipLeft = Math.max (oldLeft, toPixel (x));
+        this.clipTop = Math.max (oldTop, toPixel (y));
+        this.clipRight = Math.min (oldRight, toPixel (x + width));
+        this.clipBottom = Math.min (oldBottom, toPixel (y + height));
+
+        if (backgroundColor != null)
+        {
+            final double inset = 12.0;
+            this.fillRoundedRectangle (posX - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.drawText (txt, toPixel (posX), toPixel (posY), scale, isOn (color));
+
+        this.clipLeft = oldLeft;
+        this.clipTop = oldTop;
+        this.clipRight = oldRight;
+        this.clipBottom = oldBottom;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInHeight (text, x, y, height, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final String txt = StringUtils.fixFontCharacters (text);
+
+        final int scale = BitmapFont.getScale (fontSize);
+        final double h = (double) BitmapFont.GLYPH_HEIGHT * scale;
+        final double posY = y + (height + h) / 2;
+
+        if (backgroundColor != null)
+        {
+            final double w = BitmapFont.getTextWidth (txt, scale);
+            final double inset = 12.0;
+            this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.drawText (txt, toPixel (x), toPixel (posY), scale, isOn (color));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawImage (final IImage icon, final double x, final double y)
+    {
+        // Icons of the host cannot be drawn into the bits
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
+    {
+        // Icons of the host cannot be drawn into the bits
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+    {
+        double size = minimumFontSize;
+        double fittingSize = -1;
+        while (size < maxHeight)
+        {
+            if (BitmapFont.getTextWidth (text, BitmapFont.getScale (size)) > maxWidth)
+                break;
+            fittingSize = size;
+            size += 1.0;
+        }
+        return fittingSize;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final double left, final double top, final double width, final double height)
+    {
+        this.clipLeft = Math.max (0, toPixel (left));
+        this.clipTop = Math.max (0, toPixel (top));
+        this.clipRight = Math.min (this.width, toPixel (left + width));
+        this.clipBottom = Math.min (this.height, toPixel (top + height));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.clipLeft = 0;
+        this.clipTop = 0;
+        this.clipRight = this.width;
+        this.clipBottom = this.height;
+    }
+
+
+    /**
+     * Draw a text with the bitmap font.
+     *
+     * @param text The text
+     * @param x The left edge of the first glyph
+     * @param baseline The vertical position of the baseline
+     * @param scale The scaling factor of the glyphs
+     * @param isOn True to set the pixels, false to clear them
+     */
+    private void drawText (final String text, final int x, final int baseline, final int scale, final boolean isOn)
+    {
+        final int top = baseline - BitmapFont.GLYPH_HEIGHT * scale;
+        int left = x;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final int [] glyph = BitmapFont.getGlyph (text.charAt (i));
+            for (int column = 0; column < BitmapFont.GLYPH_WIDTH; column++)
+            {
+                final int bits = glyph[column];
+                final int columnLeft = left + column * scale;
+                for (int row = 0; row < BitmapFont.GLYPH_HEIGHT; row++)
+                {
+                    if ((bits & 1 << row) != 0)
+                        this.fillRect (columnLeft, top + row * scale, columnLeft + scale, top + (row + 1) * scale, isOn);
+                }
+            }
+            left += BitmapFont.ADVANCE * scale;
+        }
+    }
+
+
+    /**
+     * Set or clear the pixels of a rectangle.
+     *
+     * @param left The left edge
+     * @param top The top edge
+     * @param right The right edge (exclusive)
+     * @param bottom The bottom edge (exclusive)
+     * @param isOn True to set the pixels, false to clear them
+     */
+    private void fillRect (final int left, final int top, final int right, final int bottom, final boolean isOn)
+    {
+        final int y0 = Math.max (top, this.clipTop);
+        final int y1 = Math.min (bottom, this.clipBottom);
+        for (int y = y0; y < y1; y++)
+            this.fillSpan (y, left, right, isOn);
+    }
+
+
+    /**
+     * Set or clear a horizontal span of pixels. Whole longs are set at once.
+     *
+     * @param y The row
+     * @param left The first pixel
+     * @param right The pixel after the last one
+     * @param isOn True to set the pixels, false to clear them
+     */
+    private void fillSpan (final int y, final int left, final int right, final boolean isOn)
+    {
+        if (y < this.clipTop || y >= this.clipBottom)
+            return;
+        final int x1 = Math.min (right, this.clipRight);
+        int x = Math.max (left, this.clipLeft);
+        final int offset = y * this.wordsPerRow;
+        while (x < x1)
+        {
+            final int word = x >> 6;
+            final int end = Math.min (x1, (word + 1) << 6);
+            final int count = end - x;
+            final long mask = (count == 64 ? -1L : (1L << count) - 1) << x;
+            if (isOn)
+                this.pixels[offset + word] |= mask;
+            else
+                this.pixels[offset + word] &= ~mask;
+            x = end;
+        }
+    }
+
+
+    /**
+     * Extends the horizontal range with the intersection of a line and a row.
+     *
+     * @param x1 The horizontal start of the line
+     * @param y1 The vertical start of the line
+     * @param x2 The horizontal end of the line
+     * @param y2 The vertical end of the line
+     * @param y The vertical position of the row
+     * @param xs The minimum and maximum of the horizontal range
+     */
+    private static void intersect (final double x1, final double y1, final double x2, final double y2, final double y, final double [] xs)
+    {
+        if (y1 <= y && y < y2 || y2 <= y && y < y1)
+        {
+            final double x = x1 + (y - y1) * (x2 - x1) / (y2 - y1);
+            xs[0] = Math.min (xs[0], x);
+            xs[1] = Math.max (xs[1], x);
+        }
+    }
+
+
+    /**
+     * Get the pixel whose center is the first one at or after a position.
+     *
+     * @param position The position
+     * @return The index of the pixel
+     */
+    private static int toPixel (final double position)
+    {
+        return (int) Math.ceil (position - 0.5);
+    }
+
+
+    private static boolean isOn (final ColorEx color)
+    {
+        return color.getRed () + color.getGreen () + color.getBlue () >= 1.5;
+    }
+}
@@ -0,0 +1,301 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.utils.LatencyHistogram;
+import de.mossgrabers.framework.utils.LatestTaskExecutor;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Sends the output reports of a HID device from a dedicated thread. The content of a report is
+ * updated from the flush thread. Only reports whose content has changed are marked as dirty. A
+ * flush wakes up the writer which sends all dirty reports. If a report is updated several times
+ * before the writer gets to it, only the latest content is sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HidReportWriter
+{
+    private final IHost              host;
+    private final IHidDevice         hidDevice;
+    private final List<Report>       reports          = new ArrayList<> ();
+    private final LatestTaskExecutor executor         = new LatestTaskExecutor ();
+    private final LatencyHistogram   sendLatency      = new LatencyHistogram ();
+    private final AtomicLong         sentReports      = new AtomicLong ();
+    private final AtomicLong         coalescedReports = new AtomicLong ();
+    private final AtomicLong         failedReports    = new AtomicLong ();
+    private boolean                  isFailing;
+    private volatile boolean         hasUnsentReports;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param hidDevice The HID device to which to send the reports
+     */
+    public HidReportWriter (final IHost host, final IHidDevice hidDevice)
+    {
+        this.host = host;
+        this.hidDevice = hidDevice;
+    }
+
+
+    /**
+     * Add an output report. Several reports may use the same report ID, e.g. for different parts
+     * of a display. The dirty reports are sent in the order in which they were added.
+     *
+     * @param reportID The ID of the report
+     * @param size The size of the report in bytes
+     * @return The report
+     */
+    public Report addReport (final byte reportID, final int size)
+    {
+        final Report report = new Report (reportID, this.host.createMemoryBlock (size));
+        synchronized (this.reports)
+        {
+            this.reports.add (report);
+        }
+        return report;
+    }
+
+
+    /**
+     * Wake up the writer to send all dirty reports.
+     */
+    public void flush ()
+    {
+        if (!this.executor.isShutdown ())
+            this.executor.execute (this::sendDirtyReports);
+    }
+
+
+    /**
+     * Check if sending a report failed. The report is sent again with the next flush.
+     *
+     * @return True if there are reports which could not be sent
+     */
+    public boolean hasUnsentReports ()
+    {
+        return this.hasUnsentReports;
+    }
+
+
+    /**
+     * Send the dirty reports and stop the writer.
+     */
+    public void shutdown ()
+    {
+        this.flush ();
+        this.executor.shutdown ();
+        try
+        {
+            if (!this.executor.awaitTermination (1, TimeUnit.SECONDS))
+                this.host.error ("HID writer did not end in 1 second.");
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    /**
+     * Get the latencies of sending a report.
+     *
+     * @return The latency histogram
+     */
+    public LatencyHistogram getSendLatency ()
+    {
+        return this.sendLatency;
+    }
+
+
+    /**
+     * Get the number of reports sent to the device.
+     *
+     * @return The number of reports
+     */
+    public long getSentReports ()
+    {
+        return this.sentReports.get ();
+    }
+
+
+    /**
+     * Get the number of report updates which replaced content which was not yet sent.
+     *
+     * @return The number of updates
+     */
+    public long getCoalescedReports ()
+    {
+        return this.coalescedReports.get ();
+    }
+
+
+    /**
+     * Get the number of reports which the device did not accept.
+     *
+     * @return The number of reports
+     */
+    public long getFailedReports ()
+    {
+        return this.failedReports.get ();
+    }
+
+
+    /**
+     * Send all dirty reports. Runs on the writer thread, which is the only one accessing the memory
+     * blocks of the reports.
+     */
+    private void sendDirtyReports ()
+    {
+        final Report [] dirtyReports;
+        synchronized (this.reports)
+        {
+            dirtyReports = this.reports.toArray (new Report [this.reports.size ()]);
+        }
+
+        boolean hasFailed = false;
+        for (final Report report: dirtyReports)
+        {
+            if (!report.copyToMemoryBlock ())
+                continue;
+
+            final long start = System.nanoTime ();
+            final int result = this.hidDevice.sendOutputReport (report.reportID, report.memoryBlock);
+            this.sendLatency.record (System.nanoTime () - start);
+
+            if (result < 0)
+            {
+                // Send the content again with the next flush
+                report.markUnsent ();
+                hasFailed = true;
+                this.failedReports.incrementAndGet ();
+                // Only log the first of a series of failures
+                if (!this.isFailing)
+                    this.host.error ("Could not send HID output report " + Integer.toHexString (Byte.toUnsignedInt (report.reportID)) + ".");
+                this.isFailing = true;
+            }
+            else
+            {
+                this.sentReports.incrementAndGet ();
+                this.isFailing = false;
+            }
+        }
+        this.hasUnsentReports = hasFailed;
+    }
+
+
+    /**
+     * An output report with its content.
+     */
+    public class Report
+    {
+        private final byte         reportID;
+        private final IMemoryBlock memoryBlock;
+        private final byte []      content;
+        private boolean            isDirty;
+
+
+        /**
+         * Constructor.
+         *
+         * @param reportID The ID of the report
+         * @param memoryBlock The memory block from which the report is sent
+         */
+        Report (final byte reportID, final IMemoryBlock memoryBlock)
+        {
+            this.reportID = reportID;
+            this.memoryBlock = memoryBlock;
+            this.content = new byte [memoryBlock.createByteBuffer ().capacity ()];
+        }
+
+
+        /**
+         * Update the content of the report. The report is marked as dirty if the content has
+         * changed. Content shorter than the report is padded with zeros.
+         *
+         * @param data The new content
+         * @param length The number of bytes of the new content to use
+         * @return True if the content has changed
+         */
+        public synchronized boolean update (final byte [] data, final int length)
+        {
+            final int size = Math.min (length, this.content.length);
+            if (Arrays.equals (this.content, 0, size, data, 0, size) && isZero (this.content, size))
+                return false;
+
+            System.arraycopy (data, 0, this.content, 0, size);
+            Arrays.fill (this.content, size, this.content.length, (byte) 0);
+            this.markDirty ();
+            return true;
+        }
+
+
+        /**
+         * Send the report with the next flush even if its content has not changed.
+         */
+        public synchronized void invalidate ()
+        {
+            this.markDirty ();
+        }
+
+
+        private void markDirty ()
+        {
+            if (this.isDirty)
+                HidReportWriter.this.coalescedReports.incrementAndGet ();
+            this.isDirty = true;
+        }
+
+
+        /**
+         * Copy the content into the memory block if the report is dirty.
+         *
+         * @return True if the report is dirty and needs to be sent
+         */
+        synchronized boolean copyToMemoryBlock ()
+        {
+            if (!this.isDirty)
+                return false;
+            this.isDirty = false;
+
+            final ByteBuffer buffer = this.memoryBlock.createByteBuffer ();
+            buffer.clear ();
+            buffer.put (this.content);
+            return true;
+        }
+
+
+        /**
+         * Mark the report as dirty again since sending its content failed.
+         */
+        synchronized void markUnsent ()
+        {
+            this.isDirty = true;
+        }
+    }
+
+
+    private static boolean isZero (final byte [] data, final int from)
+    {
+        for (int i = from; i < data.length; i++)
+        {
+            if (data[i] != 0)
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * A histogram of latencies with fixed buckets. Recording a value does not allocate any memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LatencyHistogram
+{
+    /** The upper bounds of the buckets in microseconds. The last bucket takes all larger values. */
+    private static final long [] BUCKET_BOUNDS =
+    {
+        100,
+        250,
+        500,
+        1000,
+        2000,
+        5000,
+        10000,
+        20000,
+        50000
+    };
+
+    private final long []        buckets       = new long [BUCKET_BOUNDS.length + 1];
+    private long                 count;
+    private long                 total;
+    private long                 max;
+
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos The latency in nanoseconds
+     */
+    public synchronized void record (final long nanos)
+    {
+        final long micros = nanos / 1000;
+
+        int index = 0;
+        while (index < BUCKET_BOUNDS.length && micros >= BUCKET_BOUNDS[index])
+            index++;
+        this.buckets[index]++;
+
+        this.count++;
+        this.total += micros;
+        if (micros > this.max)
+            this.max = micros;
+    }
+
+
+    /**
+     * Get the number of recorded latencies.
+     *
+     * @return The number
+     */
+    public synchronized long getCount ()
+    {
+        return this.count;
+    }
+
+
+    /**
+     * Get the average of all recorded latencies.
+     *
+     * @return The average in microseconds
+     */
+    public synchronized long getAverage ()
+    {
+        return this.count == 0 ? 0 : this.total / this.count;
+    }
+
+
+    /**
+     * Get the maximum of all recorded latencies.
+     *
+     * @return The maximum in microseconds
+     */
+    public synchronized long getMax ()
+    {
+        return this.max;
+    }
+
+
+    /**
+     * Get the upper bound of the bucket which contains the given percentile.
+     *
+     * @param percentile The percentile in the range of [0..100]
+     * @return The upper bound in microseconds but not more than the maximum, 0 if no latency was
+     *         recorded
+     */
+    public synchronized long getPercentile (final int percentile)
+    {
+        if (this.count == 0)
+            return 0;
+
+        final long limit = (this.count * percentile + 99) / 100;
+        long sum = 0;
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++)
+        {
+            sum += this.buckets[i];
+            if (sum >= limit)
+                return Math.min (BUCKET_BOUNDS[i], this.max);
+        }
+        return this.max;
+    }
+
+
+    /**
+     * Clear all recorded latencies.
+     */
+    public synchronized void reset ()
+    {
+        for (int i = 0; i < this.buckets.length; i++)
+            this.buckets[i] = 0;
+        this.count = 0;
+        this.total = 0;
+        this.max = 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized String toString ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        sb.append ("n=").append (this.count).append (" avg=").append (this.getAverage ()).append ("us p95<=").append (this.getPercentile (95)).append ("us max=").append (this.max).append ("us [");
+        for (int i = 0; i < this.buckets.length; i++)
+        {
+            if (i > 0)
+                sb.append (' ');
+            sb.append (i < BUCKET_BOUNDS.length ? "<" + BUCKET_BOUNDS[i] : ">=" + BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1]).append (':').append (this.buckets[i]);
+        }
+        return sb.append (']').toString ();
+    }
+}
@@ -0,0 +1,133 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A map with a maximum number of entries. If the map is full, the entry which was not accessed for
+ * the longest time is removed. The hits and misses of the lookups are counted.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LruCache<K, V>
+{
+    private final Map<K, V> entries;
+    private long            hits;
+    private long            misses;
+    private long            evictions;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize The maximum number of entries
+     */
+    public LruCache (final int maxSize)
+    {
+        this.entries = new LinkedHashMap<> (16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<K, V> eldest)
+            {
+                if (this.size () <= maxSize)
+                    return false;
+                LruCache.this.evictions++;
+                return true;
+            }
+        };
+    }
+
+
+    /**
+     * Get the value of a key.
+     *
+     * @param key The key
+     * @return The value or null if the key is not in the cache
+     */
+    public synchronized V get (final K key)
+    {
+        final V value = this.entries.get (key);
+        if (value == null)
+            this.misses++;
+        else
+            this.hits++;
+        return value;
+    }
+
+
+    /**
+     * Add a value to the cache. Removes the least recently used entry if the cache is full.
+     *
+     * @param key The key
+     * @param value The value, must not be null
+     */
+    public synchronized void put (final K key, final V value)
+    {
+        this.entries.put (key, value);
+    }
+
+
+    /**
+     * Remove all entries. The counters are not reset.
+     */
+    public synchronized void clear ()
+    {
+        this.entries.clear ();
+    }
+
+
+    /**
+     * Get the number of entries.
+     *
+     * @return The number of entries
+     */
+    public synchronized int size ()
+    {
+        return this.entries.size ();
+    }
+
+
+    /**
+     * Get the number of lookups which found a value.
+     *
+     * @return The number of hits
+     */
+    public synchronized long getHits ()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Get the number of lookups which did not find a value.
+     *
+     * @return The number of misses
+     */
+    public synchronized long getMisses ()
+    {
+        return this.misses;
+    }
+
+
+    /**
+     * Get the number of entries which were removed since the cache was full.
+     *
+     * @return The number of evictions
+     */
+    public synchronized long getEvictions ()
+    {
+        return this.evictions;
+    }
+}
@@ -98,46 +98,7 @@ public class StringUtils
         {
             final char c = text.charAt (i);
             if (c > 127)
-            {
-                switch (c)
-                {
-                    case 'Ä':
-                        str.append ("Ae");
-                        break;
-                    case 'ä':
-                        str.append ("ae");
-                        break;
-                    case 'Ö':
-                    case '\u0152':
-                        str.append ("Oe");
-                        break;
-                    case 'ö':
-                    case '\u0153':
-                        str.append ("oe");
-                        break;
-                    case 'Ü':
-                        str.append ("Ue");
-                        break;
-                    case 'ü':
-                        str.append ("ue");
-                        break;
-                    case 'ß':
-                        str.append ("ss");
-                        break;
-                    case 'é':
-                        str.append ("e");
-                        break;
-                    case '→':
-                        str.append ("->");
-                        break;
-                    case '♯':
-                        str.append ("#");
-                        break;
-                    default:
-                        str.append ("?");
-                        break;
-                }
-            }
+                str.append (fixASCII (c));
             else
                 str.append (c);
         }
@@ -145,6 +106,44 @@ public class StringUtils
     }
 
 
+    /**
+     * Get the alternative writing of an umlaut or other non-ASCII character.
+     *
+     * @param c The non-ASCII character
+     * @return The replacement, might be longer than 1 character
+     */
+    public static String fixASCII (final char c)
+    {
+        switch (c)
+        {
+            case 'Ä':
+                return "Ae";
+            case 'ä':
+                return "ae";
+            case 'Ö':
+            case '\u0152':
+                return "Oe";
+            case 'ö':
+            case '\u0153':
+                return "oe";
+            case 'Ü':
+                return "Ue";
+            case 'ü':
+                return "ue";
+            case 'ß':
+                return "ss";
+            case 'é':
+                return "e";
+            case '→':
+                return "->";
+            case '♯':
+                return "#";
+            default:
+                return "?";
+        }
+    }
+
+
     /**
      * Replaces some non-ASCII characters which are not in the default font which is used for
      * drawing text on graphics displays.